@@ -14,10 +14,14 @@ import de.mossgrabers.framework.daw.DataSetup;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ModelSetup;
 import de.mossgrabers.framework.daw.midi.IMidiAccess;
+import de.mossgrabers.framework.daw.midi.MidiCaptureRecorder;
 import de.mossgrabers.framework.scale.Scales;
 
 import com.bitwig.extension.controller.api.ControllerHost;
 
+import java.io.File;
+import java.io.IOException;
+
 
 /**
  * Factory for creating Bitwig objects.
@@ -26,7 +30,14 @@ import com.bitwig.extension.controller.api.ControllerHost;
  */
 public class BitwigSetupFactory implements ISetupFactory
 {
-    private ControllerHost controllerHost;
+    /**
+     * If this system property contains a folder, all midi events of the controller are recorded
+     * into a capture file in this folder.
+     */
+    public static final String  CAPTURE_PROPERTY = "de.mossgrabers.midi.capture";
+
+    private ControllerHost      controllerHost;
+    private MidiCaptureRecorder recorder;
 
 
     /**
@@ -53,6 +64,39 @@ public class BitwigSetupFactory implements ISetupFactory
     @Override
     public IMidiAccess createMidiAccess ()
     {
-        return new MidiDeviceImpl (this.controllerHost);
+        final IMidiAccess midiAccess = new MidiDeviceImpl (this.controllerHost);
+
+        final String captureFolder = System.getProperty (CAPTURE_PROPERTY);
+        if (captureFolder == null || captureFolder.isEmpty ())
+            return midiAccess;
+
+        // All midi accesses of the controller are recorded into the same file
+        if (this.recorder == null)
+        {
+            final HostImpl host = new HostImpl (this.controllerHost);
+            final File file = new File (captureFolder, "capture-" + System.currentTimeMillis () + ".midc");
+            try
+            {
+                this.recorder = new MidiCaptureRecorder (host, file);
+                host.println ("Capturing midi to " + file.getAbsolutePath ());
+            }
+            catch (final IOException ex)
+            {
+                host.error ("Could not create midi capture file.", ex);
+                return midiAccess;
+            }
+        }
+        return this.recorder.wrap (midiAccess);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void close ()
+    {
+        if (this.recorder == null)
+            return;
+        this.recorder.close ();
+        this.recorder = null;
     }
 }
@@ -87,7 +87,7 @@ public class BrowserImpl extends AbstractBrowser
     @Override
     public void enableObservers (final boolean enable)
     {
-        this.browser.exists ().setIsSubscribed (enable);
+        // Exists stays subscribed to detect when a browser session is started
         this.browser.selectedContentTypeIndex ().setIsSubscribed (enable);
         this.browser.selectedContentTypeName ().setIsSubscribed (enable);
         this.browser.contentTypeNames ().setIsSubscribed (enable);
@@ -5,14 +5,15 @@
 package de.mossgrabers.bitwig.framework.daw;
 
 import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.INoteClip;
+import de.mossgrabers.framework.daw.clip.IStepStorage;
+import de.mossgrabers.framework.daw.clip.StepStorageFactory;
 
 import com.bitwig.extension.controller.api.Clip;
 import com.bitwig.extension.controller.api.ControllerHost;
 import com.bitwig.extension.controller.api.SettableColorValue;
 
-import java.util.Arrays;
-
 
 /**
  * Proxy to the Bitwig Cursor clip.
@@ -26,12 +27,13 @@ public class CursorClipImpl implements INoteClip
     private int                  numSteps;
     private int                  numRows;
 
-    private final int [] []      launcherData;
-    private final int [] []      arrangerData;
+    private final IStepStorage   launcherData;
+    private final IStepStorage   arrangerData;
     private Clip                 launcherClip;
     private Clip                 arrangerClip;
     private int                  editPage = 0;
     private double               stepLength;
+    private volatile int         stepDataVersion;
 
 
     /**
@@ -51,26 +53,16 @@ public class CursorClipImpl implements INoteClip
         this.numRows = numRows;
         this.stepLength = 1.0 / 4.0; // 16th
 
-        this.launcherData = new int [this.numSteps] [];
-        for (int step = 0; step < this.numSteps; step++)
-        {
-            this.launcherData[step] = new int [this.numRows];
-            Arrays.fill (this.launcherData[step], 0);
-        }
-
-        this.arrangerData = new int [this.numSteps] [];
-        for (int step = 0; step < this.numSteps; step++)
-        {
-            this.arrangerData[step] = new int [this.numRows];
-            Arrays.fill (this.arrangerData[step], 0);
-        }
+        this.launcherData = StepStorageFactory.create (this.numSteps, this.numRows);
+        this.arrangerData = StepStorageFactory.create (this.numSteps, this.numRows);
 
         // TODO Bugfix required: https://github.com/teotigraphix/Framework4Bitwig/issues/140
         this.launcherClip = host.createLauncherCursorClip (this.numSteps, this.numRows);
 
         this.launcherClip.addStepDataObserver (this::handleStepData);
 
-        this.launcherClip.exists ().markInterested ();
+        // The step data of the arranger clip is used if the launcher clip does not exist
+        this.launcherClip.exists ().addValueObserver (exists -> this.stepDataVersion++);
         this.launcherClip.playingStep ().markInterested ();
         this.launcherClip.getPlayStart ().markInterested ();
         this.launcherClip.getPlayStop ().markInterested ();
@@ -164,6 +156,15 @@ public class CursorClipImpl implements INoteClip
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getColorARGB ()
+    {
+        final SettableColorValue color = this.getClip ().color ();
+        return ColorEx.toARGB (color.red (), color.green (), color.blue ());
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public double getPlayStart ()
@@ -372,7 +373,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getStep (final int step, final int row)
     {
-        return row < 0 ? 0 : this.getData ()[step][row];
+        return row < 0 ? 0 : this.getData ().getStep (step, row);
     }
 
 
@@ -412,13 +413,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public boolean hasRowData (final int row)
     {
-        final int [] [] data = this.getData ();
-        for (int step = 0; step < this.numSteps; step++)
-        {
-            if (data[step][row] > 0)
-                return true;
-        }
-        return false;
+        return this.getData ().hasRowData (row);
     }
 
 
@@ -444,6 +439,14 @@ public class CursorClipImpl implements INoteClip
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getStepDataVersion ()
+    {
+        return this.stepDataVersion;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setStepLength (final double length)
@@ -553,21 +556,24 @@ public class CursorClipImpl implements INoteClip
 
     private void handleStepData (final int col, final int row, final int state)
     {
-        final int [] [] data = this.getData ();
+        final IStepStorage data = this.getData ();
 
-        if (col >= data.length)
+        if (col >= data.getNumSteps ())
         {
             this.host.errorln ("Step data was sent for column " + col + " (zero based) but only " + this.numSteps + " were requested.");
             return;
         }
-        if (row >= data[col].length)
+        if (row >= data.getNumRows ())
         {
             this.host.errorln ("Step data was sent for row " + row + " (zero based) but only " + this.numRows + " were requested.");
             return;
         }
 
         // state: step is empty (0) or a note continues playing (1) or starts playing (2)
-        data[col][row] = state;
+        if (data.getStep (col, row) == state)
+            return;
+        data.setStep (col, row, state);
+        this.stepDataVersion++;
     }
 
 
@@ -577,7 +583,7 @@ public class CursorClipImpl implements INoteClip
     }
 
 
-    private int [] [] getData ()
+    private IStepStorage getData ()
     {
         return this.launcherClip.exists ().get () ? this.launcherData : this.arrangerData;
     }
@@ -7,6 +7,7 @@ package de.mossgrabers.bitwig.framework.daw;
 import de.mossgrabers.bitwig.framework.daw.data.DrumPadImpl;
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.DAWColors;
+import de.mossgrabers.framework.daw.DrumPadBankSnapshot;
 import de.mossgrabers.framework.daw.IDrumPadBank;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.data.IDrumPad;
@@ -23,7 +24,8 @@ import com.bitwig.extension.controller.api.DrumPadBank;
  */
 public class DrumPadBankImpl extends AbstractChannelBankImpl<DrumPadBank, IDrumPad> implements IDrumPadBank
 {
-    private int numDevices;
+    private int                       numDevices;
+    private final DrumPadBankSnapshot snapshot;
 
 
     /**
@@ -41,6 +43,7 @@ public class DrumPadBankImpl extends AbstractChannelBankImpl<DrumPadBank, IDrumP
         super (host, valueChanger, layerBank, numLayers, 0, numSends);
 
         this.numDevices = numDevices;
+        this.snapshot = new DrumPadBankSnapshot (numLayers);
 
         this.initItems ();
     }
@@ -54,10 +57,25 @@ public class DrumPadBankImpl extends AbstractChannelBankImpl<DrumPadBank, IDrumP
         {
             final DrumPad deviceLayer = this.bank.getItemAt (i);
             this.items.add (new DrumPadImpl (this.host, this.valueChanger, deviceLayer, i, this.numSends, this.numDevices));
+
+            final int index = i;
+            deviceLayer.exists ().addValueObserver (value -> this.snapshot.setFlag (index, DrumPadBankSnapshot.EXISTS, value));
+            deviceLayer.isActivated ().addValueObserver (value -> this.snapshot.setFlag (index, DrumPadBankSnapshot.ACTIVATED, value));
+            deviceLayer.mute ().addValueObserver (value -> this.snapshot.setFlag (index, DrumPadBankSnapshot.MUTE, value));
+            deviceLayer.solo ().addValueObserver (value -> this.snapshot.setFlag (index, DrumPadBankSnapshot.SOLO, value));
+            deviceLayer.color ().addValueObserver ( (red, green, blue) -> this.snapshot.setColor (index, red, green, blue));
         }
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public DrumPadBankSnapshot getSnapshot ()
+    {
+        return this.snapshot;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void enableObservers (final boolean enable)
@@ -120,6 +120,14 @@ public class HostImpl implements IHost
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public long getCurrentTime ()
+    {
+        return System.nanoTime () / 1000000L;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void error (final String text)
@@ -206,7 +206,10 @@ public class ModelImpl extends AbstractModel
     @Override
     public INoteClip getNoteClip (final int cols, final int rows)
     {
-        return (INoteClip) this.cursorClips.computeIfAbsent (cols + "-" + rows, k -> new CursorClipImpl (this.controllerHost, this.valueChanger, cols, rows));
+        return (INoteClip) this.cursorClips.computeIfAbsent (cols + "-" + rows, k -> {
+            final INoteClip compatibleClip = this.getCompatibleClip (cols, rows);
+            return compatibleClip == null ? new CursorClipImpl (this.controllerHost, this.valueChanger, cols, rows) : compatibleClip;
+        });
     }
 
 
@@ -226,4 +229,22 @@ public class ModelImpl extends AbstractModel
     {
         this.getNoteClip (0, 0);
     }
+
+
+    /**
+     * Find an already created cursor clip which can serve the requested size. A request without
+     * any steps or rows (e.g. the clip view or ensureClip) does not monitor note data and therefore
+     * can use any existing clip. Clips of other sizes cannot be shared since the page scrolling and
+     * the row based queries depend on the number of steps and rows.
+     *
+     * @param cols The number of steps
+     * @param rows The number of rows
+     * @return The compatible clip or null if none exists
+     */
+    private INoteClip getCompatibleClip (final int cols, final int rows)
+    {
+        if (cols != 0 && rows != 0 || this.cursorClips.isEmpty ())
+            return null;
+        return (INoteClip) this.cursorClips.values ().iterator ().next ();
+    }
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ package de.mossgrabers.bitwig.framework.daw.data;
 
 import de.mossgrabers.bitwig.framework.daw.SendBankImpl;
 import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ISendBank;
 import de.mossgrabers.framework.daw.data.IChannel;
@@ -334,6 +335,15 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getColorARGB ()
+    {
+        final SettableColorValue color = this.deviceChain.color ();
+        return ColorEx.toARGB (color.red (), color.green (), color.blue ());
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setColor (final double red, final double green, final double blue)
@@ -4,6 +4,7 @@
 
 package de.mossgrabers.bitwig.framework.daw.data;
 
+import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.data.AbstractItemImpl;
 import de.mossgrabers.framework.daw.data.IScene;
 import de.mossgrabers.framework.observer.IValueObserver;
@@ -107,6 +108,15 @@ public class SceneImpl extends AbstractItemImpl implements IScene
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getColorARGB ()
+    {
+        final SettableColorValue color = this.scene.color ();
+        return ColorEx.toARGB (color.red (), color.green (), color.blue ());
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setColor (final double red, final double green, final double blue)
@@ -4,6 +4,7 @@
 
 package de.mossgrabers.bitwig.framework.daw.data;
 
+import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.data.AbstractItemImpl;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
@@ -191,6 +192,18 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getColorARGB ()
+    {
+        if (this.track.isGroup ())
+            return this.track.getColorARGB ();
+
+        final ColorValue color = this.slot.color ();
+        return ColorEx.toARGB (color.red (), color.green (), color.blue ());
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setColor (final double red, final double green, final double blue)
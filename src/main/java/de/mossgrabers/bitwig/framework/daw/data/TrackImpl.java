@@ -377,25 +377,22 @@ public class TrackImpl extends ChannelImpl implements ITrack
      */
     private void handleNotes (final PlayingNote [] notes)
     {
-        synchronized (this.noteCache)
+        // Only called on the host thread, the flush thread does not read the note cache
+        for (final PlayingNote note: notes)
         {
-            // Send the new notes
-            for (final PlayingNote note: notes)
-            {
-                final int pitch = note.pitch ();
-                this.noteCache[pitch] = NOTE_ON_NEW;
-                this.notifyNoteObservers (pitch, note.velocity ());
-            }
-            // Send note offs
-            for (int i = 0; i < this.noteCache.length; i++)
+            final int pitch = note.pitch ();
+            this.noteCache[pitch] = NOTE_ON_NEW;
+            this.notifyNoteObservers (pitch, note.velocity ());
+        }
+        // Send note offs
+        for (int i = 0; i < this.noteCache.length; i++)
+        {
+            if (this.noteCache[i] == NOTE_ON_NEW)
+                this.noteCache[i] = NOTE_ON;
+            else if (this.noteCache[i] == NOTE_ON)
             {
-                if (this.noteCache[i] == NOTE_ON_NEW)
-                    this.noteCache[i] = NOTE_ON;
-                else if (this.noteCache[i] == NOTE_ON)
-                {
-                    this.noteCache[i] = NOTE_OFF;
-                    this.notifyNoteObservers (i, 0);
-                }
+                this.noteCache[i] = NOTE_OFF;
+                this.notifyNoteObservers (i, 0);
             }
         }
     }
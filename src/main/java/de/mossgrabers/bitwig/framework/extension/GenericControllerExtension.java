@@ -40,11 +40,7 @@ public class GenericControllerExtension extends ControllerExtension
     public void init ()
     {
         this.setup.init ();
-        final ControllerHost host = this.getHost ();
-        host.scheduleTask ( () -> {
-            this.setup.startup ();
-            host.println ("Running.");
-        }, 1000);
+        this.setup.getStartupOrchestrator ().start ();
     }
 
 
@@ -34,6 +34,33 @@ public class BitmapImpl implements IBitmap
     }
 
 
+    /**
+     * Get the encapsulated Bitwig bitmap.
+     *
+     * @return The bitmap
+     */
+    public Bitmap getBitmap ()
+    {
+        return this.bitmap;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getWidth ()
+    {
+        return this.bitmap.getWidth ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getHeight ()
+    {
+        return this.bitmap.getHeight ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setDisplayWindowTitle (final String title)
@@ -57,6 +57,16 @@ public class GraphicsContextImpl implements IGraphicsContext
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void fillRectangle (final double x, final double y, final double width, final double height, final int argb)
+    {
+        this.setColor (argb);
+        this.gc.rectangle (x, y, Math.max (0, width), Math.max (0, height));
+        this.gc.fill ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void strokeRectangle (final double left, final double top, final double width, final double height, final ColorEx color)
@@ -65,6 +75,14 @@ public class GraphicsContextImpl implements IGraphicsContext
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void strokeRectangle (final double left, final double top, final double width, final double height, final int argb)
+    {
+        this.strokeRectangle (left, top, width, height, ColorEx.fromARGB (argb), 1);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void strokeRectangle (final double left, final double top, final double width, final double height, final ColorEx color, final double lineWidth)
@@ -156,8 +174,8 @@ public class GraphicsContextImpl implements IGraphicsContext
 
         // We need to calculate the text height from a character which has no ascent, since showText
         // always draws the text on the baseline of the font!
-        final double h = this.gc.getTextExtents ("T").getHeight ();
-        final double w = this.gc.getTextExtents (text).getWidth ();
+        final double h = TextMetricsCache.getCapHeight (this.gc, fontSize);
+        final double w = TextMetricsCache.getTextWidth (this.gc, text, fontSize);
         final double posX = alignment == Align.CENTER ? x + (width - w) / 2.0 : x;
         final double posY = y + (height + h) / 2;
 
@@ -198,12 +216,12 @@ public class GraphicsContextImpl implements IGraphicsContext
 
         // We need to calculate the text height from a character which has no ascent, since showText
         // always draws the text on the baseline of the font!
-        final double h = this.gc.getTextExtents ("T").getHeight ();
+        final double h = TextMetricsCache.getCapHeight (this.gc, fontSize);
         final double posY = y + (height + h) / 2;
 
         if (backgroundColor != null)
         {
-            final double w = this.gc.getTextExtents (text).getWidth ();
+            final double w = TextMetricsCache.getTextWidth (this.gc, text, fontSize);
             final double inset = 12.0;
             this.fillRoundedRectangle (x - inset, posY - h - inset, w + 2 * inset, h + 2 * inset, inset, backgroundColor);
         }
@@ -219,7 +237,10 @@ public class GraphicsContextImpl implements IGraphicsContext
     @Override
     public void drawImage (final IImage icon, final double x, final double y)
     {
-        this.gc.drawImage (((ImageImpl) icon).getImage (), x, y);
+        if (icon instanceof BitmapImpl)
+            this.gc.drawImage (((BitmapImpl) icon).getBitmap (), x, y);
+        else
+            this.gc.drawImage (((ImageImpl) icon).getImage (), x, y);
     }
 
 
@@ -237,21 +258,7 @@ public class GraphicsContextImpl implements IGraphicsContext
     @Override
     public double calculateFontSize (final double maxHeight, final double maxWidth)
     {
-        final String maxString = "G#5";
-        final double minSize = 12.0;
-
-        double size = minSize;
-        double fittingSize = -1;
-        while (size < maxHeight)
-        {
-            this.gc.setFontSize (size);
-            final double width = this.gc.getTextExtents (maxString).getWidth ();
-            if (width > maxWidth)
-                break;
-            fittingSize = size;
-            size += 1.0;
-        }
-        return fittingSize;
+        return TextMetricsCache.calculateFontSize (this.gc, maxHeight, maxWidth);
     }
 
 
@@ -259,4 +266,10 @@ public class GraphicsContextImpl implements IGraphicsContext
     {
         this.gc.setColor (color.getRed (), color.getGreen (), color.getBlue ());
     }
+
+
+    protected void setColor (final int argb)
+    {
+        this.gc.setColor (ColorEx.getRed (argb), ColorEx.getGreen (argb), ColorEx.getBlue (argb));
+    }
 }
@@ -0,0 +1,196 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.graphics;
+
+import com.bitwig.extension.api.graphics.GraphicsOutput;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Caches the measured widths of texts per font size, the height of capital letters per font size
+ * and the results of the font size calculation. The text widths are limited to a maximum number of
+ * entries, the least recently used ones are removed first. Lookups of cached values do not allocate
+ * any objects. All displays use the same default font, therefore the cache is shared.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public final class TextMetricsCache
+{
+    /** The maximum number of cached text widths. */
+    public static final int               MAX_TEXT_ENTRIES = 2048;
+
+    private static final Map<Key, Double> TEXT_WIDTHS      = new LruMap ();
+    private static final Map<Key, Double> CAP_HEIGHTS      = new HashMap<> ();
+    private static final Map<Key, Double> FONT_SIZES       = new HashMap<> ();
+    private static final Key              PROBE            = new Key ();
+
+
+    /**
+     * Get the width of a text.
+     *
+     * @param gc The graphics output to measure the text if it is not cached yet
+     * @param text The text
+     * @param fontSize The font size, must be the font size which is currently set on the graphics
+     *            output
+     * @return The width
+     */
+    public static synchronized double getTextWidth (final GraphicsOutput gc, final String text, final double fontSize)
+    {
+        final Double width = TEXT_WIDTHS.get (PROBE.set (fontSize, 0, text));
+        if (width != null)
+            return width.doubleValue ();
+        final double w = gc.getTextExtents (text).getWidth ();
+        TEXT_WIDTHS.put (new Key ().set (fontSize, 0, text), Double.valueOf (w));
+        return w;
+    }
+
+
+    /**
+     * Get the height of a capital letter without descent, which is required to calculate the
+     * baseline for vertically centered text.
+     *
+     * @param gc The graphics output to measure the text if it is not cached yet
+     * @param fontSize The font size, must be the font size which is currently set on the graphics
+     *            output
+     * @return The height
+     */
+    public static synchronized double getCapHeight (final GraphicsOutput gc, final double fontSize)
+    {
+        final Double height = CAP_HEIGHTS.get (PROBE.set (fontSize, 0, null));
+        if (height != null)
+            return height.doubleValue ();
+        final double h = gc.getTextExtents ("T").getHeight ();
+        CAP_HEIGHTS.put (new Key ().set (fontSize, 0, null), Double.valueOf (h));
+        return h;
+    }
+
+
+    /**
+     * Get the largest font size with which the text "G#5" fits into the given bounds.
+     *
+     * @param gc The graphics output to measure the text if it is not cached yet, the font size of
+     *            the graphics output might get changed
+     * @param maxHeight The maximum height of the text
+     * @param maxWidth The maximum width of the text
+     * @return The font size or -1 if even the minimum size does not fit
+     */
+    public static synchronized double calculateFontSize (final GraphicsOutput gc, final double maxHeight, final double maxWidth)
+    {
+        final Double fontSize = FONT_SIZES.get (PROBE.set (maxHeight, maxWidth, null));
+        if (fontSize != null)
+            return fontSize.doubleValue ();
+
+        final String maxString = "G#5";
+        final double minSize = 12.0;
+
+        double size = minSize;
+        double fittingSize = -1;
+        while (size < maxHeight)
+        {
+            gc.setFontSize (size);
+            final double width = getTextWidth (gc, maxString, size);
+            if (width > maxWidth)
+                break;
+            fittingSize = size;
+            size += 1.0;
+        }
+
+        FONT_SIZES.put (new Key ().set (maxHeight, maxWidth, null), Double.valueOf (fittingSize));
+        return fittingSize;
+    }
+
+
+    /**
+     * Private due to helper class.
+     */
+    private TextMetricsCache ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * A map which removes the least recently used entry if it gets too large.
+     */
+    private static class LruMap extends LinkedHashMap<Key, Double>
+    {
+        private static final long serialVersionUID = 1L;
+
+
+        /**
+         * Constructor.
+         */
+        public LruMap ()
+        {
+            super (256, 0.75f, true);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        protected boolean removeEldestEntry (final Map.Entry<Key, Double> eldest)
+        {
+            return this.size () > MAX_TEXT_ENTRIES;
+        }
+    }
+
+
+    /**
+     * A mutable key of two numbers and an optional text. Cached keys are never modified, the probe
+     * key is re-used for lookups.
+     */
+    private static class Key
+    {
+        private double value1;
+        private double value2;
+        private String text;
+        private int    hash;
+
+
+        /**
+         * Set the values of the key.
+         *
+         * @param value1 The first value
+         * @param value2 The second value
+         * @param text The text, may be null
+         * @return The key
+         */
+        public Key set (final double value1, final double value2, final String text)
+        {
+            this.value1 = value1;
+            this.value2 = value2;
+            this.text = text;
+            final long bits = Double.doubleToLongBits (value1) * 31 + Double.doubleToLongBits (value2);
+            this.hash = 31 * (int) (bits ^ bits >>> 32) + (text == null ? 0 : text.hashCode ());
+            return this;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode ()
+        {
+            return this.hash;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals (final Object obj)
+        {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof Key))
+                return false;
+            final Key other = (Key) obj;
+            if (Double.doubleToLongBits (this.value1) != Double.doubleToLongBits (other.value1) || Double.doubleToLongBits (this.value2) != Double.doubleToLongBits (other.value2))
+                return false;
+            return this.text == null ? other.text == null : this.text.equals (other.text);
+        }
+    }
+}
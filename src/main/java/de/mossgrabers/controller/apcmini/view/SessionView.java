@@ -8,10 +8,8 @@ import de.mossgrabers.controller.apcmini.APCminiConfiguration;
 import de.mossgrabers.controller.apcmini.controller.APCminiColors;
 import de.mossgrabers.controller.apcmini.controller.APCminiControlSurface;
 import de.mossgrabers.framework.daw.IModel;
-import de.mossgrabers.framework.daw.ISlotBank;
-import de.mossgrabers.framework.daw.ITrackBank;
+import de.mossgrabers.framework.daw.SessionSnapshot;
 import de.mossgrabers.framework.daw.data.ISlot;
-import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.view.AbstractSessionView;
 
@@ -51,13 +49,15 @@ public class SessionView extends AbstractSessionView<APCminiControlSurface, APCm
     @Override
     public void drawGrid ()
     {
-        final ITrackBank tb = this.model.getCurrentTrackBank ();
-        for (int x = 0; x < 8; x++)
+        final SessionSnapshot snapshot = this.getSessionSnapshot ();
+        if (snapshot == null)
+            return;
+        final int numTracks = Math.min (8, snapshot.getNumTracks ());
+        final int numSlots = Math.min (8, snapshot.getNumSlots ());
+        for (int x = 0; x < numTracks; x++)
         {
-            final ITrack t = tb.getItem (x);
-            final ISlotBank slotBank = t.getSlotBank ();
-            for (int y = 0; y < 8; y++)
-                this.drawPad (slotBank.getItem (y), x, y, t.isRecArm ());
+            for (int y = 0; y < numSlots; y++)
+                this.drawPad (snapshot.getSlot (x, y), x, y, snapshot.isRecArm (x));
         }
     }
 
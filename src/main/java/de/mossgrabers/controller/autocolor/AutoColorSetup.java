@@ -9,6 +9,7 @@ import de.mossgrabers.framework.controller.AbstractControllerSetup;
 import de.mossgrabers.framework.controller.DefaultValueChanger;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.ISetupFactory;
+import de.mossgrabers.framework.controller.StartupSignal;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ITrackBank;
@@ -52,7 +53,7 @@ public class AutoColorSetup extends AbstractControllerSetup<IControlSurface<Auto
     @Override
     public void flush ()
     {
-        // Intentionally empty
+        this.startupOrchestrator.signal (StartupSignal.FIRST_FLUSH);
     }
 
 
@@ -61,5 +61,6 @@ public class BeatstepConfiguration extends AbstractConfiguration
         // Pad Sensitivity
 
         this.activateConvertAftertouchSetting (globalSettings);
+        this.activateVelocityCurveSettings (globalSettings);
     }
 }
@@ -148,6 +148,7 @@ public class BeatstepControllerSetup extends AbstractControllerSetup<BeatstepCon
     {
         this.getSurface ().getViewManager ().addViewChangeListener ( (previousViewId, activeViewId) -> this.updateIndication (null));
         this.createScaleObservers (this.configuration);
+        this.createVelocityCurveObservers (this.configuration);
     }
 
 
@@ -5,6 +5,7 @@
 package de.mossgrabers.controller.beatstep.controller;
 
 import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.grid.GridFrame;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.utils.StringUtils;
@@ -54,15 +55,15 @@ public class BeatstepPadGrid extends PadGridImpl
 
     /** {@inheritDoc} */
     @Override
-    public void flush ()
+    protected void transmit (final GridFrame frame)
     {
         for (int i = 36; i < 52; i++)
         {
-            final int note = this.translateToController (i);
-            if (this.currentButtonColors[i] != this.buttonColors[i])
+            final int color = frame.getColor (i);
+            if (frame.isForced (i) || this.currentButtonColors[i] != color)
             {
-                this.currentButtonColors[i] = this.buttonColors[i];
-                this.sendNoteState (note, this.buttonColors[i]);
+                this.currentButtonColors[i] = color;
+                this.sendNoteState (this.translateToController (i), color);
             }
         }
     }
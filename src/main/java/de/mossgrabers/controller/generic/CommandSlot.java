@@ -8,8 +8,8 @@ import de.mossgrabers.controller.generic.controller.FlexiCommand;
 
 
 /**
- * A command slot, which contains a button, knob or slider configuration triggered from CC, a note
- * or program change.
+ * A command slot, which contains a button, knob or slider configuration triggered from CC, a note,
+ * program change, pitch bend, MMC, 14-bit CC, NRPN or RPN.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
@@ -27,6 +27,12 @@ public class CommandSlot
     public static final int TYPE_PITCH_BEND     = 3;
     /** The MMC type. */
     public static final int TYPE_MMC            = 4;
+    /** The 14-bit CC type. The number is the CC of the MSB (0-31), the LSB is on number + 32. */
+    public static final int TYPE_CC_14BIT       = 5;
+    /** The NRPN type. The number is the 14-bit parameter number. */
+    public static final int TYPE_NRPN           = 6;
+    /** The RPN type. The number is the 14-bit parameter number. */
+    public static final int TYPE_RPN            = 7;
 
     private int             type                = -1;
     private int             number              = 0;
@@ -175,4 +181,56 @@ public class CommandSlot
     {
         this.sendValue = value;
     }
+
+
+    /**
+     * Set all settings from another slot.
+     *
+     * @param slot The slot to copy from
+     */
+    public void set (final CommandSlot slot)
+    {
+        this.type = slot.type;
+        this.number = slot.number;
+        this.midiChannel = slot.midiChannel;
+        this.knobMode = slot.knobMode;
+        this.sendValue = slot.sendValue;
+        this.command = slot.command;
+    }
+
+
+    /**
+     * Test if another slot has the same settings.
+     *
+     * @param slot The other slot
+     * @return True if all settings are equal
+     */
+    public boolean isEqual (final CommandSlot slot)
+    {
+        return this.type == slot.type && this.number == slot.number && this.midiChannel == slot.midiChannel && this.knobMode == slot.knobMode && this.sendValue == slot.sendValue && this.command == slot.command;
+    }
+
+
+    /**
+     * Does the type use a 14-bit parameter number instead of a 7-bit number?
+     *
+     * @param type The type
+     * @return True for NRPN and RPN
+     */
+    public static boolean hasParameterNumber (final int type)
+    {
+        return type == TYPE_NRPN || type == TYPE_RPN;
+    }
+
+
+    /**
+     * Does the type receive and send 14-bit values?
+     *
+     * @param type The type
+     * @return True for pitch bend, 14-bit CC, NRPN and RPN
+     */
+    public static boolean isHighResolution (final int type)
+    {
+        return type == TYPE_PITCH_BEND || type >= TYPE_CC_14BIT;
+    }
 }
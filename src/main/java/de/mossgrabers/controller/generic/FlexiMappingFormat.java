@@ -0,0 +1,235 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.generic;
+
+import de.mossgrabers.controller.generic.controller.FlexiCommand;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+
+/**
+ * Reads and writes the mapping of the command slots. The mapping is stored in a compact binary
+ * format:
+ *
+ * <pre>
+ * int     Magic "GFLX"
+ * short   Version
+ * short   Number of slots
+ * short   Number of command names, followed by the names (modified UTF-8)
+ * Per slot:
+ *   byte  Type
+ *   short Number
+ *   byte  Midi channel
+ *   byte  Knob mode
+ *   byte  Flags (bit 0: send value)
+ *   short Index of the command name
+ * </pre>
+ *
+ * The commands are stored by their name, since the order of the commands changes between releases.
+ * Files in the older properties format can still be read and written.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class FlexiMappingFormat
+{
+    /** The file extension of the binary format. */
+    public static final String EXTENSION       = "gflexi";
+    /** The file extension of the older properties format. */
+    public static final String OLD_EXTENSION   = "properties";
+
+    private static final int   MAGIC           = 0x47464C58;
+    private static final int   VERSION         = 1;
+    private static final int   FLAG_SEND_VALUE = 1;
+
+
+    /**
+     * Private due to utility class.
+     */
+    private FlexiMappingFormat ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Read a mapping. The format (binary or properties) is detected from the content.
+     *
+     * @param file The file to read
+     * @param numSlots The number of slots to read, missing slots are off
+     * @return The slots
+     * @throws IOException Could not read the file or it is not a mapping
+     */
+    public static CommandSlot [] read (final File file, final int numSlots) throws IOException
+    {
+        final byte [] data = Files.readAllBytes (file.toPath ());
+
+        final CommandSlot [] slots = new CommandSlot [numSlots];
+        for (int i = 0; i < numSlots; i++)
+            slots[i] = new CommandSlot ();
+
+        try
+        {
+            if (data.length >= 4 && ByteBuffer.wrap (data).getInt () == MAGIC)
+                readBinary (data, slots);
+            else
+                readProperties (data, slots);
+        }
+        catch (final NumberFormatException | IndexOutOfBoundsException ex)
+        {
+            throw new IOException ("Not a Generic Flexi configuration: " + file, ex);
+        }
+        return slots;
+    }
+
+
+    /**
+     * Write a mapping. Files with the extension of the older properties format are written in
+     * that format to keep them readable by older versions, all others in the binary format.
+     *
+     * @param file The file to write, gets overwritten
+     * @param slots The slots to write
+     * @throws IOException Could not write the file
+     */
+    public static void write (final File file, final CommandSlot [] slots) throws IOException
+    {
+        if (file.getName ().endsWith ("." + OLD_EXTENSION))
+            writeProperties (file, slots);
+        else
+            writeBinary (file, slots);
+    }
+
+
+    private static void writeBinary (final File file, final CommandSlot [] slots) throws IOException
+    {
+        final Map<FlexiCommand, Integer> commandIndices = new LinkedHashMap<> ();
+        for (final CommandSlot slot: slots)
+            commandIndices.computeIfAbsent (slot.getCommand (), command -> Integer.valueOf (commandIndices.size ()));
+
+        try (final DataOutputStream out = new DataOutputStream (new BufferedOutputStream (new FileOutputStream (file))))
+        {
+            out.writeInt (MAGIC);
+            out.writeShort (VERSION);
+            out.writeShort (slots.length);
+            out.writeShort (commandIndices.size ());
+            for (final FlexiCommand command: commandIndices.keySet ())
+                out.writeUTF (command.getName ());
+
+            for (final CommandSlot slot: slots)
+            {
+                out.writeByte (slot.getType ());
+                out.writeShort (slot.getNumber ());
+                out.writeByte (slot.getMidiChannel ());
+                out.writeByte (slot.getKnobMode ());
+                out.writeByte (slot.isSendValue () ? FLAG_SEND_VALUE : 0);
+                out.writeShort (commandIndices.get (slot.getCommand ()).intValue ());
+            }
+        }
+    }
+
+
+    private static void writeProperties (final File file, final CommandSlot [] slots) throws IOException
+    {
+        final Properties props = new Properties ();
+        for (int i = 0; i < slots.length; i++)
+        {
+            final String slotName = "SLOT" + i + "_";
+            final CommandSlot slot = slots[i];
+            props.put (slotName + "TYPE", Integer.toString (slot.getType ()));
+            props.put (slotName + "NUMBER", Integer.toString (slot.getNumber ()));
+            props.put (slotName + "MIDI_CHANNEL", Integer.toString (slot.getMidiChannel ()));
+            props.put (slotName + "KNOB_MODE", Integer.toString (slot.getKnobMode ()));
+            props.put (slotName + "COMMAND", slot.getCommand ().getName ());
+            props.put (slotName + "SEND_VALUE", Boolean.toString (slot.isSendValue ()));
+        }
+        // The old files have been written with the default encoding
+        try (final Writer writer = new FileWriter (file))
+        {
+            props.store (writer, "Generic Flexi");
+        }
+    }
+
+
+    private static void readBinary (final byte [] data, final CommandSlot [] slots) throws IOException
+    {
+        try (final DataInputStream in = new DataInputStream (new ByteArrayInputStream (data)))
+        {
+            in.readInt ();
+            final int version = in.readUnsignedShort ();
+            if (version > VERSION)
+                throw new IOException ("The configuration has been written by a newer version (format version " + version + ").");
+
+            final int numSlots = in.readUnsignedShort ();
+            final FlexiCommand [] commands = new FlexiCommand [in.readUnsignedShort ()];
+            for (int i = 0; i < commands.length; i++)
+                commands[i] = FlexiCommand.lookupByName (in.readUTF ());
+
+            for (int i = 0; i < numSlots; i++)
+            {
+                final int type = in.readByte ();
+                final int number = in.readUnsignedShort ();
+                final int midiChannel = in.readUnsignedByte ();
+                final int knobMode = in.readUnsignedByte ();
+                final int flags = in.readUnsignedByte ();
+                final FlexiCommand command = commands[in.readUnsignedShort ()];
+                if (i >= slots.length)
+                    continue;
+
+                final CommandSlot slot = slots[i];
+                slot.setType (command == FlexiCommand.OFF ? CommandSlot.TYPE_OFF : type);
+                slot.setNumber (number);
+                slot.setMidiChannel (midiChannel);
+                slot.setKnobMode (knobMode);
+                slot.setCommand (command);
+                slot.setSendValue ((flags & FLAG_SEND_VALUE) > 0);
+            }
+        }
+    }
+
+
+    private static void readProperties (final byte [] data, final CommandSlot [] slots) throws IOException
+    {
+        final Properties props = new Properties ();
+        // The old files have been written with the default encoding
+        try (final Reader reader = new InputStreamReader (new ByteArrayInputStream (data)))
+        {
+            props.load (reader);
+        }
+
+        for (int i = 0; i < slots.length; i++)
+        {
+            final String slotName = "SLOT" + i + "_";
+            final CommandSlot slot = slots[i];
+
+            final FlexiCommand command = FlexiCommand.lookupByName (props.getProperty (slotName + "COMMAND"));
+            int type = Integer.parseInt (props.getProperty (slotName + "TYPE"));
+
+            // For backwards compatibility
+            if (command == FlexiCommand.OFF)
+                type = CommandSlot.TYPE_OFF;
+
+            slot.setType (type);
+            slot.setNumber (Integer.parseInt (props.getProperty (slotName + "NUMBER")));
+            slot.setMidiChannel (Integer.parseInt (props.getProperty (slotName + "MIDI_CHANNEL")));
+            slot.setKnobMode (Integer.parseInt (props.getProperty (slotName + "KNOB_MODE")));
+            slot.setCommand (command);
+            slot.setSendValue (Boolean.parseBoolean (props.getProperty (slotName + "SEND_VALUE")));
+        }
+    }
+}
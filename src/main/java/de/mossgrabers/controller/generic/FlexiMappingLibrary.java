@@ -0,0 +1,200 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.generic;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+
+/**
+ * A library of mapping presets, which are all mapping files in a folder. The files are read in the
+ * background, therefore switching to a preset does not need to access the disk.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class FlexiMappingLibrary
+{
+    private final IHost           host;
+    private final int             numSlots;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor (runnable -> {
+                                               final Thread thread = new Thread (runnable, "Flexi Presets");
+                                               thread.setDaemon (true);
+                                               return thread;
+                                           });
+    private volatile List<Preset> presets  = Collections.emptyList ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for logging errors
+     * @param numSlots The number of slots of a mapping
+     */
+    public FlexiMappingLibrary (final IHost host, final int numSlots)
+    {
+        this.host = host;
+        this.numSlots = numSlots;
+    }
+
+
+    /**
+     * Read all mapping files of a folder in the background. Replaces the current presets when
+     * finished.
+     *
+     * @param folder The folder
+     */
+    public void load (final File folder)
+    {
+        try
+        {
+            this.executor.execute ( () -> this.read (folder));
+        }
+        catch (final RejectedExecutionException ex)
+        {
+            // Library has been shut down
+        }
+    }
+
+
+    /**
+     * Stop reading the mapping files. Must be called when the controller exits.
+     */
+    public void shutdown ()
+    {
+        this.executor.shutdownNow ();
+    }
+
+
+    /**
+     * Read all mapping files of a folder. Runs on the background thread, errors are logged on the
+     * host thread.
+     *
+     * @param folder The folder
+     */
+    private void read (final File folder)
+    {
+        final File [] files = folder.listFiles ( (dir, name) -> name.endsWith ("." + FlexiMappingFormat.EXTENSION) || name.endsWith ("." + FlexiMappingFormat.OLD_EXTENSION));
+        if (files == null)
+            return;
+        Arrays.sort (files);
+
+        final List<Preset> loaded = new ArrayList<> (files.length);
+        final List<String> skipped = new ArrayList<> ();
+        for (final File file: files)
+        {
+            try
+            {
+                loaded.add (new Preset (file.getName (), FlexiMappingFormat.read (file, this.numSlots)));
+            }
+            catch (final IOException ex)
+            {
+                skipped.add ("Skipped preset " + file.getName () + ": " + ex.getMessage ());
+            }
+        }
+        this.presets = Collections.unmodifiableList (loaded);
+
+        if (!skipped.isEmpty ())
+            this.host.scheduleTask ( () -> skipped.forEach (this.host::println), 0);
+    }
+
+
+    /**
+     * Get the number of presets.
+     *
+     * @return The number of presets
+     */
+    public int getSize ()
+    {
+        return this.presets.size ();
+    }
+
+
+    /**
+     * Get a preset.
+     *
+     * @param index The index of the preset, wraps around
+     * @return The preset or null if there are no presets
+     */
+    public Preset getPreset (final int index)
+    {
+        final List<Preset> current = this.presets;
+        if (current.isEmpty ())
+            return null;
+        final int size = current.size ();
+        return current.get ((index % size + size) % size);
+    }
+
+
+    /**
+     * Get the index of a preset.
+     *
+     * @param name The name of the preset
+     * @return The index or -1 if there is no preset with the name
+     */
+    public int lookupIndex (final String name)
+    {
+        final List<Preset> current = this.presets;
+        for (int i = 0; i < current.size (); i++)
+        {
+            if (current.get (i).getName ().equals (name))
+                return i;
+        }
+        return -1;
+    }
+
+
+    /**
+     * A loaded mapping preset.
+     */
+    public static class Preset
+    {
+        private final String         name;
+        private final CommandSlot [] slots;
+
+
+        /**
+         * Constructor.
+         *
+         * @param name The name of the preset
+         * @param slots The mapping
+         */
+        Preset (final String name, final CommandSlot [] slots)
+        {
+            this.name = name;
+            this.slots = slots;
+        }
+
+
+        /**
+         * Get the name of the preset.
+         *
+         * @return The name
+         */
+        public String getName ()
+        {
+            return this.name;
+        }
+
+
+        /**
+         * Get the mapping. Must not be modified.
+         *
+         * @return The slots
+         */
+        public CommandSlot [] getSlots ()
+        {
+            return this.slots;
+        }
+    }
+}
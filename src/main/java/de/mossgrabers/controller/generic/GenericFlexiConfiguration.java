@@ -9,6 +9,7 @@ import de.mossgrabers.controller.generic.controller.FlexiCommand;
 import de.mossgrabers.controller.generic.flexihandler.AbstractHandler;
 import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.configuration.IEnumSetting;
+import de.mossgrabers.framework.configuration.IIntegerSetting;
 import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.configuration.IStringSetting;
 import de.mossgrabers.framework.controller.IValueChanger;
@@ -21,17 +22,12 @@ import de.mossgrabers.nativefiledialogs.NativeFileDialogsFactory;
 import de.mossgrabers.nativefiledialogs.PlatformNotSupported;
 
 import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.io.Reader;
-import java.io.Writer;
 import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -44,17 +40,17 @@ import java.util.concurrent.atomic.AtomicBoolean;
 public class GenericFlexiConfiguration extends AbstractConfiguration
 {
     /** Export signal. */
-    public static final Integer    BUTTON_EXPORT        = Integer.valueOf (50);
+    public static final Integer                      BUTTON_EXPORT         = Integer.valueOf (50);
     /** Import signal. */
-    public static final Integer    BUTTON_IMPORT        = Integer.valueOf (51);
+    public static final Integer                      BUTTON_IMPORT         = Integer.valueOf (51);
     /** Enable MMC. */
-    public static final Integer    ENABLE_MMC           = Integer.valueOf (52);
+    public static final Integer                      ENABLE_MMC            = Integer.valueOf (52);
     /** The selected mode. */
-    public static final Integer    SELECTED_MODE        = Integer.valueOf (53);
+    public static final Integer                      SELECTED_MODE         = Integer.valueOf (53);
 
-    private static final String [] NAMES                = FlexiCommand.getNames ();
+    private static final String []                   NAMES                 = FlexiCommand.getNames ();
 
-    private static final String [] OPTIONS_KNOBMODE     =
+    private static final String []                   OPTIONS_KNOBMODE      =
     {
         "Absolute (push button: Button down > 0, button up = 0)",
         "Relative (1-64 increments, 127-65 decrements)",
@@ -64,17 +60,20 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     };
 
     /** The types. */
-    public static final String []  OPTIONS_TYPE         =
+    public static final String []                    OPTIONS_TYPE          =
     {
         "Off",
         "CC",
         "Note",
         "Program Change",
         "Pitchbend",
-        "MMC"
+        "MMC",
+        "CC 14-bit (0-31)",
+        "NRPN",
+        "RPN"
     };
 
-    static final String []         NUMBER_NAMES         =
+    static final String []                           NUMBER_NAMES          =
     {
         "0  CC Bank Select",
         "1  MMC Stop, CC Modulation",
@@ -207,8 +206,8 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     };
 
     /** The midi channel options. */
-    private static final String [] OPTIONS_MIDI_CHANNEL = new String [16];
-    private static final String [] MODES                =
+    private static final String []                   OPTIONS_MIDI_CHANNEL  = new String [16];
+    private static final String []                   MODES                 =
     {
         "Track",
         "Volume",
@@ -239,6 +238,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     private IEnumSetting                             slotSelectionSetting;
     private IEnumSetting                             typeSetting;
     private IEnumSetting                             numberSetting;
+    private IIntegerSetting                          parameterSetting;
     private IEnumSetting                             midiChannelSetting;
     private IEnumSetting                             knobModeSetting;
     private IEnumSetting                             sendValueSetting;
@@ -246,23 +246,29 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     private final Map<CommandCategory, IEnumSetting> functionSettingsMap   = new EnumMap<> (CommandCategory.class);
     private IEnumSetting                             learnTypeSetting;
     private IEnumSetting                             learnNumberSetting;
+    private IIntegerSetting                          learnParameterSetting;
     private IEnumSetting                             learnMidiChannelSetting;
     private IEnumSetting                             selectedModeSetting;
+    private IStringSetting                           presetSetting;
 
     private CommandSlot []                           commandSlots          = new CommandSlot [NUM_SLOTS];
+    private final FlexiMappingLibrary                library;
 
     private IValueObserver<FlexiCommand>             commandObserver;
     private String                                   filename;
     private Object                                   syncMapUpdate         = new Object ();
     private int []                                   keyMap;
     private int                                      seleIndexctedSlot     = 0;
+    private int                                      presetIndex           = -1;
     private String                                   learnTypeValue        = null;
     private String                                   learnNumberValue      = null;
+    private int                                      learnParameterValue   = 0;
     private String                                   learnMidiChannelValue = null;
     private AtomicBoolean                            doNotFire             = new AtomicBoolean (false);
     private AtomicBoolean                            commandIsUpdating     = new AtomicBoolean (false);
 
     private String                                   selectedMode          = MODES[0];
+    private int                                      feedbackPause         = 400;
 
     private NativeFileDialogs                        dialogs;
 
@@ -276,6 +282,8 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     public GenericFlexiConfiguration (final IHost host, final IValueChanger valueChanger)
     {
         super (host, valueChanger);
+
+        this.library = new FlexiMappingLibrary (host, NUM_SLOTS);
     }
 
 
@@ -311,6 +319,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
 
         this.typeSetting = globalSettings.getEnumSetting ("Type:", category, OPTIONS_TYPE, OPTIONS_TYPE[0]);
         this.numberSetting = globalSettings.getEnumSetting ("Number:", category, NUMBER_NAMES, NUMBER_NAMES[0]);
+        this.parameterSetting = globalSettings.getRangeSetting ("Parameter (NRPN/RPN):", category, 0, 16383, 1, "", 0);
         this.midiChannelSetting = globalSettings.getEnumSetting ("Midi Channel:", category, OPTIONS_MIDI_CHANNEL, OPTIONS_MIDI_CHANNEL[0]);
         this.knobModeSetting = globalSettings.getEnumSetting ("Knob Mode:", category, OPTIONS_KNOBMODE, OPTIONS_KNOBMODE[0]);
         this.sendValueSetting = globalSettings.getEnumSetting ("Send value to device:", category, AbstractConfiguration.ON_OFF_OPTIONS, AbstractConfiguration.ON_OFF_OPTIONS[1]);
@@ -336,16 +345,22 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
 
         this.learnTypeSetting = globalSettings.getEnumSetting ("Type:", category, OPTIONS_TYPE, OPTIONS_TYPE[0]);
         this.learnNumberSetting = globalSettings.getEnumSetting ("Number:", category, NUMBER_NAMES, NUMBER_NAMES[0]);
+        this.learnParameterSetting = globalSettings.getRangeSetting ("Parameter:", category, 0, 16383, 1, "", 0);
         this.learnMidiChannelSetting = globalSettings.getEnumSetting ("Midi channel:", category, OPTIONS_MIDI_CHANNEL, OPTIONS_MIDI_CHANNEL[0]);
         this.learnTypeSetting.setEnabled (false);
         this.learnNumberSetting.setEnabled (false);
+        this.learnParameterSetting.setEnabled (false);
+        this.learnParameterSetting.setVisible (false);
         this.learnMidiChannelSetting.setEnabled (false);
 
         globalSettings.getSignalSetting (" ", category, "Set").addValueObserver (value -> {
             if (this.learnTypeValue == null)
                 return;
             this.typeSetting.set (this.learnTypeValue);
-            this.numberSetting.set (this.learnNumberValue);
+            if (CommandSlot.hasParameterNumber (AbstractConfiguration.lookupIndex (OPTIONS_TYPE, this.learnTypeValue) - 1))
+                this.parameterSetting.set (this.learnParameterValue);
+            else
+                this.numberSetting.set (this.learnNumberValue);
             this.midiChannelSetting.set (this.learnMidiChannelValue);
         });
 
@@ -356,7 +371,10 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
 
         // The Setlist file to auto-load
         final IStringSetting fileSetting = globalSettings.getStringSetting ("Filename to ex-/import:", category, -1, "");
-        fileSetting.addValueObserver (value -> this.filename = value);
+        fileSetting.addValueObserver (value -> {
+            this.filename = value;
+            this.loadPresets ();
+        });
 
         globalSettings.getSignalSetting (" ", category, "Select").addValueObserver (value -> {
             if (this.filename != null)
@@ -368,7 +386,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
 
             try
             {
-                final File fn = this.dialogs.selectFile (new FileFilter ("Configuration", "properties"), new FileFilter ("All files", "*"));
+                final File fn = this.dialogs.selectFile (new FileFilter ("Configuration", FlexiMappingFormat.EXTENSION), new FileFilter ("Configuration (old format)", FlexiMappingFormat.OLD_EXTENSION), new FileFilter ("All files", "*"));
                 if (fn != null)
                     fileSetting.set (fn.getAbsolutePath ());
             }
@@ -381,30 +399,73 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         globalSettings.getSignalSetting ("  ", category, "Export").addValueObserver (value -> this.notifyObservers (BUTTON_EXPORT));
         globalSettings.getSignalSetting ("   ", category, "Import").addValueObserver (value -> this.notifyObservers (BUTTON_IMPORT));
 
+        ///////////////////////////////////////////////
+        // Presets section
+
+        category = "Presets (all configurations in the folder of the ex-/import file)";
+
+        this.presetSetting = globalSettings.getStringSetting ("Active:", category, -1, "");
+        this.presetSetting.setEnabled (false);
+        globalSettings.getSignalSetting (" ", category, "Previous").addValueObserver (value -> this.selectPreviousPreset ());
+        globalSettings.getSignalSetting ("  ", category, "Next").addValueObserver (value -> this.selectNextPreset ());
+        globalSettings.getSignalSetting ("   ", category, "Rescan folder").addValueObserver (value -> this.loadPresets ());
+
         this.learnTypeSetting.set (OPTIONS_TYPE[0]);
 
         this.typeSetting.addValueObserver (value ->
 
         {
-            final int index = AbstractConfiguration.lookupIndex (OPTIONS_TYPE, value);
-            this.getSelectedSlot ().setType (index - 1);
-            this.sendValueSetting.setVisible (index == CommandSlot.TYPE_CC);
+            final int type = AbstractConfiguration.lookupIndex (OPTIONS_TYPE, value) - 1;
+            this.updateVisibility (type);
+            // The settings also change when a slot is selected, only rebind if the slot changes
+            final CommandSlot slot = this.getSelectedSlot ();
+            if (slot.getType () == type)
+                return;
+            slot.setType (type);
+            // Parameter numbers of NRPN and RPN do not fit into the number of the other types
+            this.setNumber (slot.getNumber ());
             this.clearNoteMap ();
-            this.updateVisibility (!OPTIONS_TYPE[0].equals (value));
         });
         this.numberSetting.addValueObserver (value -> {
-            this.getSelectedSlot ().setNumber (AbstractConfiguration.lookupIndex (NUMBER_NAMES, value));
+            final CommandSlot slot = this.getSelectedSlot ();
+            final int number = AbstractConfiguration.lookupIndex (NUMBER_NAMES, value);
+            if (CommandSlot.hasParameterNumber (slot.getType ()) || slot.getNumber () == number)
+                return;
+            slot.setNumber (number);
+            this.clearNoteMap ();
+        });
+        this.parameterSetting.addValueObserver (value -> {
+            final CommandSlot slot = this.getSelectedSlot ();
+            if (!CommandSlot.hasParameterNumber (slot.getType ()) || slot.getNumber () == value.intValue ())
+                return;
+            slot.setNumber (value.intValue ());
             this.clearNoteMap ();
         });
         this.midiChannelSetting.addValueObserver (value -> {
-            this.getSelectedSlot ().setMidiChannel (AbstractConfiguration.lookupIndex (OPTIONS_MIDI_CHANNEL, value));
+            final CommandSlot slot = this.getSelectedSlot ();
+            final int midiChannel = AbstractConfiguration.lookupIndex (OPTIONS_MIDI_CHANNEL, value);
+            if (slot.getMidiChannel () == midiChannel)
+                return;
+            slot.setMidiChannel (midiChannel);
             this.clearNoteMap ();
         });
         this.knobModeSetting.addValueObserver (value -> {
-            this.getSelectedSlot ().setKnobMode (AbstractConfiguration.lookupIndex (OPTIONS_KNOBMODE, value));
+            final CommandSlot slot = this.getSelectedSlot ();
+            final int knobMode = AbstractConfiguration.lookupIndex (OPTIONS_KNOBMODE, value);
+            if (slot.getKnobMode () == knobMode)
+                return;
+            slot.setKnobMode (knobMode);
             this.fixKnobMode ();
+            this.notifyObservers (SLOT_CHANGE);
+        });
+        this.sendValueSetting.addValueObserver (value -> {
+            final CommandSlot slot = this.getSelectedSlot ();
+            final boolean sendValue = AbstractConfiguration.lookupIndex (AbstractConfiguration.ON_OFF_OPTIONS, value) > 0;
+            if (slot.isSendValue () == sendValue)
+                return;
+            slot.setSendValue (sendValue);
+            this.notifyObservers (SLOT_CHANGE);
         });
-        this.sendValueSetting.addValueObserver (value -> this.getSelectedSlot ().setSendValue (AbstractConfiguration.lookupIndex (AbstractConfiguration.ON_OFF_OPTIONS, value) > 0));
 
         ///////////////////////////////////////////////
         // Options
@@ -415,6 +476,9 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
             this.notifyObservers (SELECTED_MODE);
         });
 
+        final IIntegerSetting feedbackPauseSetting = globalSettings.getRangeSetting ("Pause feedback after change", "Options", 0, 2000, 10, "ms", 400);
+        feedbackPauseSetting.addValueObserver (value -> this.feedbackPause = value.intValue ());
+
         this.activateKnobSpeedSetting (globalSettings, 6);
 
         // Load last configuration
@@ -460,6 +524,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         selectedSlot.setCommand (newCommand);
 
         this.fixKnobMode ();
+        this.clearNoteMap ();
         this.notifyCommandObserver ();
 
         final CommandCategory oldCategory = oldCommand.getCategory ();
@@ -506,27 +571,30 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
 
         this.learnTypeSetting.set (type);
         this.learnNumberSetting.set (this.learnNumberValue);
+        this.learnNumberSetting.setVisible (true);
+        this.learnParameterSetting.setVisible (false);
         this.learnMidiChannelSetting.set (this.learnMidiChannelValue);
     }
 
 
     /**
-     * Get a matching configured slot command, if available.
+     * Set a received NRPN or RPN.
      *
-     * @param type The type
-     * @param number The number
+     * @param type NRPN or RPN
+     * @param parameter The 14-bit parameter number
      * @param midiChannel The midi channel
-     * @return The slot index or -1 if not found
      */
-    public int getSlotCommand (final int type, final int number, final int midiChannel)
+    public void setLearnParameter (final String type, final int parameter, final int midiChannel)
     {
-        for (int i = 0; i < this.commandSlots.length; i++)
-        {
-            final CommandSlot slot = this.commandSlots[i];
-            if (slot.getCommand () != FlexiCommand.OFF && slot.getType () == type && slot.getMidiChannel () == midiChannel && (type == CommandSlot.TYPE_PITCH_BEND || slot.getNumber () == number))
-                return i;
-        }
-        return -1;
+        this.learnTypeValue = type;
+        this.learnParameterValue = parameter;
+        this.learnMidiChannelValue = Integer.toString (midiChannel + 1);
+
+        this.learnTypeSetting.set (type);
+        this.learnParameterSetting.set (parameter);
+        this.learnNumberSetting.setVisible (false);
+        this.learnParameterSetting.setVisible (true);
+        this.learnMidiChannelSetting.set (this.learnMidiChannelValue);
     }
 
 
@@ -607,79 +675,124 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
 
 
     /**
-     * Export the configuration to the given file.
+     * Export the configuration to the given file. The format is selected by the file extension.
      *
      * @param exportFile Where to export to
      * @throws IOException Could not save the file
      */
     public void exportTo (final File exportFile) throws IOException
     {
-        final Properties props = new Properties ();
-        for (int i = 0; i < this.commandSlots.length; i++)
-        {
-            final String slotName = "SLOT" + i + "_";
-            final CommandSlot slot = this.commandSlots[i];
-            props.put (slotName + "TYPE", Integer.toString (slot.getType ()));
-            props.put (slotName + "NUMBER", Integer.toString (slot.getNumber ()));
-            props.put (slotName + "MIDI_CHANNEL", Integer.toString (slot.getMidiChannel ()));
-            props.put (slotName + "KNOB_MODE", Integer.toString (slot.getKnobMode ()));
-            props.put (slotName + "COMMAND", slot.getCommand ().getName ());
-            props.put (slotName + "SEND_VALUE", Boolean.toString (slot.isSendValue ()));
-        }
-        try (final Writer writer = new FileWriter (exportFile))
-        {
-            props.store (writer, "Generic Flexi");
-        }
+        FlexiMappingFormat.write (exportFile, this.commandSlots);
     }
 
 
     /**
-     * Import the configuration from the given file.
+     * Import the configuration from the given file. Only the slots which differ from the current
+     * configuration are changed.
      *
      * @param importFile Where to import from
      * @throws IOException Could not save the file
      */
     public void importFrom (final File importFile) throws IOException
     {
+        final CommandSlot [] slots;
         try
         {
-            final Properties props = new Properties ();
-            try (final Reader reader = new FileReader (importFile))
-            {
-                props.load (reader);
-            }
-
-            for (int i = 0; i < this.commandSlots.length; i++)
-            {
-                final String slotName = "SLOT" + i + "_";
-                final CommandSlot slot = this.commandSlots[i];
-
-                final FlexiCommand command = FlexiCommand.lookupByName (props.getProperty (slotName + "COMMAND"));
-                int type = Integer.parseInt (props.getProperty (slotName + "TYPE"));
-
-                // For backwards compatibility
-                if (command == FlexiCommand.OFF)
-                    type = CommandSlot.TYPE_OFF;
-
-                slot.setType (type);
-                slot.setNumber (Integer.parseInt (props.getProperty (slotName + "NUMBER")));
-                slot.setMidiChannel (Integer.parseInt (props.getProperty (slotName + "MIDI_CHANNEL")));
-                slot.setKnobMode (Integer.parseInt (props.getProperty (slotName + "KNOB_MODE")));
-                slot.setCommand (command);
-                slot.setSendValue (Boolean.parseBoolean (props.getProperty (slotName + "SEND_VALUE")));
-            }
+            slots = FlexiMappingFormat.read (importFile, NUM_SLOTS);
         }
-        catch (final IOException | NumberFormatException ex)
+        catch (final IOException ex)
         {
             this.host.error ("Could not import from file.", ex);
             this.host.showNotification ("Could not import from file. Check Script Console for detailed error.");
             return;
         }
 
+        this.applySlots (slots);
+    }
+
+
+    /**
+     * Stop reading the presets of the folder of the ex-/import file.
+     */
+    public void shutdown ()
+    {
+        this.library.shutdown ();
+    }
+
+
+    /**
+     * Activate the previous preset of the folder of the ex-/import file.
+     */
+    public void selectPreviousPreset ()
+    {
+        // Start with the last preset if none has been selected yet, -1 wraps around
+        this.selectPreset (this.presetIndex < 0 ? -1 : this.presetIndex - 1);
+    }
+
+
+    /**
+     * Activate the next preset of the folder of the ex-/import file.
+     */
+    public void selectNextPreset ()
+    {
+        this.selectPreset (this.presetIndex + 1);
+    }
+
+
+    private void selectPreset (final int index)
+    {
+        final FlexiMappingLibrary.Preset preset = this.library.getPreset (index);
+        if (preset == null)
+        {
+            this.host.showNotification ("No presets found.");
+            return;
+        }
+
+        this.presetIndex = this.library.lookupIndex (preset.getName ());
+        this.applySlots (preset.getSlots ());
+        this.presetSetting.set (preset.getName ());
+        this.host.showNotification ("Preset: " + preset.getName ());
+    }
+
+
+    private void loadPresets ()
+    {
+        if (this.filename == null || this.filename.isEmpty ())
+            return;
+        final File folder = new File (this.filename).getAbsoluteFile ().getParentFile ();
+        if (folder != null)
+            this.library.load (folder);
+    }
+
+
+    /**
+     * Change all slots, which differ from the given ones. The bindings and the note map are
+     * updated once afterwards.
+     *
+     * @param slots The new slots
+     */
+    private void applySlots (final CommandSlot [] slots)
+    {
+        boolean hasChanged = false;
+        boolean hasSelectedChanged = false;
+        for (int i = 0; i < this.commandSlots.length; i++)
+        {
+            if (this.commandSlots[i].isEqual (slots[i]))
+                continue;
+            this.commandSlots[i].set (slots[i]);
+            hasChanged = true;
+            if (i == this.seleIndexctedSlot)
+                hasSelectedChanged = true;
+        }
+        if (!hasChanged)
+            return;
+
         this.clearNoteMap ();
+        this.notifyCommandObserver ();
 
-        this.slotSelectionSetting.set ("1");
-        this.selectSlot ("1");
+        // The settings only show the selected slot
+        if (hasSelectedChanged)
+            this.selectSlot (Integer.toString (this.seleIndexctedSlot + 1));
     }
 
 
@@ -705,6 +818,18 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     }
 
 
+    /**
+     * Get the time after a received change of a slot during which no feedback is sent back for
+     * this slot.
+     *
+     * @return The time in milliseconds
+     */
+    public int getFeedbackPause ()
+    {
+        return this.feedbackPause;
+    }
+
+
     /**
      * Set the selected mode.
      *
@@ -730,9 +855,12 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     }
 
 
-    private void updateVisibility (final boolean visible)
+    private void updateVisibility (final int type)
     {
-        this.numberSetting.setVisible (visible);
+        final boolean visible = type != CommandSlot.TYPE_OFF;
+        final boolean hasParameterNumber = CommandSlot.hasParameterNumber (type);
+        this.numberSetting.setVisible (visible && !hasParameterNumber);
+        this.parameterSetting.setVisible (hasParameterNumber);
         this.midiChannelSetting.setVisible (visible);
         this.knobModeSetting.setVisible (visible);
         this.sendValueSetting.setVisible (visible);
@@ -755,11 +883,14 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     /**
      * Set the number.
      *
-     * @param value The number
+     * @param value The number, the 14-bit parameter number for NRPN and RPN
      */
     private void setNumber (final int value)
     {
-        this.numberSetting.set (NUMBER_NAMES[value]);
+        if (CommandSlot.hasParameterNumber (this.getSelectedSlot ().getType ()))
+            this.parameterSetting.set (value);
+        else
+            this.numberSetting.set (NUMBER_NAMES[value & 0x7F]);
     }
 
 
@@ -6,6 +6,7 @@ package de.mossgrabers.controller.generic;
 
 import de.mossgrabers.controller.generic.controller.FlexiCommand;
 import de.mossgrabers.controller.generic.controller.GenericFlexiControlSurface;
+import de.mossgrabers.controller.generic.flexihandler.FlexiBinding;
 import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.controller.AbstractControllerSetup;
@@ -55,7 +56,8 @@ public class GenericFlexiControllerSetup extends AbstractControllerSetup<Generic
     {
         super (factory, host, globalSettings, documentSettings);
         this.colorManager = new ColorManager ();
-        this.valueChanger = new DefaultValueChanger (128, 6, 1);
+        // Use the full resolution of 14-bit slots, 7-bit values are scaled up
+        this.valueChanger = new DefaultValueChanger (FlexiBinding.HIGH_RES_RANGE, 768, 128);
         this.configuration = new GenericFlexiConfiguration (host, this.valueChanger);
     }
 
@@ -117,6 +119,7 @@ public class GenericFlexiControllerSetup extends AbstractControllerSetup<Generic
     {
         final GenericFlexiControlSurface surface = this.getSurface ();
         this.configuration.addSettingObserver (GenericFlexiConfiguration.SLOT_CHANGE, surface::updateKeyTranslation);
+        this.configuration.addSettingObserver (GenericFlexiConfiguration.SLOT_CHANGE, surface::updateBindings);
         this.configuration.addSettingObserver (GenericFlexiConfiguration.SELECTED_MODE, this::selectMode);
 
         this.configuration.addSettingObserver (AbstractConfiguration.KNOB_SPEED_NORMAL, this.getSurface ()::updateKnobSpeeds);
@@ -143,6 +146,15 @@ public class GenericFlexiControllerSetup extends AbstractControllerSetup<Generic
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void exit ()
+    {
+        this.configuration.shutdown ();
+        super.exit ();
+    }
+
+
     /**
      * Handle a track selection change.
      *
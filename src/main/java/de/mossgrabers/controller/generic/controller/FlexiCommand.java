@@ -24,6 +24,8 @@ public enum FlexiCommand
     GLOBAL_NEXT_PROJECT(CommandCategory.GLOBAL, "Global: Next Project", true),
     GLOBAL_TOGGLE_AUDIO_ENGINE(CommandCategory.GLOBAL, "Global: Toggle Audio Engine", true),
     GLOBAL_SHIFT_BUTTON(CommandCategory.GLOBAL, "Global: Shift Button", true),
+    GLOBAL_PREVIOUS_PRESET(CommandCategory.GLOBAL, "Global: Previous Flexi Preset", true),
+    GLOBAL_NEXT_PRESET(CommandCategory.GLOBAL, "Global: Next Flexi Preset", true),
 
     TRANSPORT_PLAY(CommandCategory.TRANSPORT, "Transport: Play", true),
     TRANSPORT_STOP(CommandCategory.TRANSPORT, "Transport: Stop", true),
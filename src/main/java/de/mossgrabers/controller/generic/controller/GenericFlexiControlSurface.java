@@ -6,9 +6,11 @@ package de.mossgrabers.controller.generic.controller;
 
 import de.mossgrabers.controller.generic.CommandSlot;
 import de.mossgrabers.controller.generic.GenericFlexiConfiguration;
+import de.mossgrabers.controller.generic.flexihandler.AbstractHandler;
 import de.mossgrabers.controller.generic.flexihandler.BrowserHandler;
 import de.mossgrabers.controller.generic.flexihandler.ClipHandler;
 import de.mossgrabers.controller.generic.flexihandler.DeviceHandler;
+import de.mossgrabers.controller.generic.flexihandler.FlexiBinding;
 import de.mossgrabers.controller.generic.flexihandler.FxTrackHandler;
 import de.mossgrabers.controller.generic.flexihandler.GlobalHandler;
 import de.mossgrabers.controller.generic.flexihandler.IFlexiCommandHandler;
@@ -36,8 +38,11 @@ import de.mossgrabers.framework.utils.StringUtils;
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.IntConsumer;
 
 
 /**
@@ -47,15 +52,23 @@ import java.util.Map;
  */
 public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFlexiConfiguration>
 {
-    private final IValueChanger                           relative2ValueChanger = new Relative2ValueChanger (128, 6, 1);
-    private final IValueChanger                           relative3ValueChanger = new Relative3ValueChanger (128, 6, 1);
+    /** The types which are looked up by a 7-bit number. */
+    private static final int                              NUM_TYPES             = CommandSlot.TYPE_CC_14BIT + 1;
+
+    private final IValueChanger                           relative2ValueChanger = new Relative2ValueChanger (FlexiBinding.HIGH_RES_RANGE, 768, 128);
+    private final IValueChanger                           relative3ValueChanger = new Relative3ValueChanger (FlexiBinding.HIGH_RES_RANGE, 768, 128);
 
     private final IModel                                  model;
+    private final HighResInput                            highResInput          = new HighResInput (this::handleHighResValue);
     private final int []                                  valueCache            = new int [GenericFlexiConfiguration.NUM_SLOTS];
+    private final long []                                 lastChange            = new long [GenericFlexiConfiguration.NUM_SLOTS];
+    private final int []                                  pendingValues         = new int [GenericFlexiConfiguration.NUM_SLOTS];
+    private final int []                                  pendingSlots          = new int [GenericFlexiConfiguration.NUM_SLOTS];
     private final Map<FlexiCommand, IFlexiCommandHandler> handlers              = new EnumMap<> (FlexiCommand.class);
 
     private boolean                                       isShiftPressed        = false;
-    private boolean                                       isUpdatingValue       = false;
+    private BoundSlots                                    boundSlots            = new BoundSlots ();
+    private int                                           numPending            = 0;
 
 
     /**
@@ -74,6 +87,9 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
 
         this.model = model;
 
+        // The host clock has no defined origin, no control has been moved yet
+        Arrays.fill (this.lastChange, Long.MIN_VALUE);
+
         this.registerHandler (new GlobalHandler (model, this, configuration, this.relative2ValueChanger, this.relative3ValueChanger));
         this.registerHandler (new TransportHandler (model, this, configuration, this.relative2ValueChanger, this.relative3ValueChanger));
         this.registerHandler (new LayoutHandler (model, this, configuration, this.relative2ValueChanger, this.relative3ValueChanger));
@@ -90,7 +106,7 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         if (host.hasUserParameters ())
             this.registerHandler (new UserHandler (model, this, configuration, this.relative2ValueChanger, this.relative3ValueChanger));
 
-        Arrays.fill (this.valueCache, -1);
+        this.updateBindings ();
 
         this.configuration.addSettingObserver (GenericFlexiConfiguration.BUTTON_EXPORT, this::importFile);
         this.configuration.addSettingObserver (GenericFlexiConfiguration.BUTTON_IMPORT, this::exportFile);
@@ -103,21 +119,54 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     @Override
     public void flush ()
     {
-        if (this.isUpdatingValue)
-            return;
+        this.applyPendingValues ();
 
-        final CommandSlot [] slots = this.configuration.getCommandSlots ();
-        for (int i = 0; i < slots.length; i++)
+        final long pauseStart = this.host.getCurrentTime () - this.configuration.getFeedbackPause ();
+        for (final BoundSlot slot: this.boundSlots.feedbackSlots)
         {
-            final FlexiCommand command = slots[i].getCommand ();
-            if (command == FlexiCommand.OFF || !slots[i].isSendValue ())
+            final int value = slot.getValue ();
+            if (this.valueCache[slot.index] == value)
+                continue;
+            this.valueCache[slot.index] = value;
+            // Do not send the value back while the control is still moved, it would jump
+            if (this.lastChange[slot.index] > pauseStart)
                 continue;
-            final int value = this.getCommandValue (command);
-            if (this.valueCache[i] == value)
+            if (value >= 0 && value < slot.upperBound)
+                slot.feedback.accept (value);
+        }
+    }
+
+
+    /**
+     * Bind the commands of all slots to their handlers. Must be called if the configuration of a
+     * slot has changed.
+     */
+    public void updateBindings ()
+    {
+        final BoundSlots slots = new BoundSlots ();
+        final List<BoundSlot> feedbackSlots = new ArrayList<> ();
+        final CommandSlot [] commandSlots = this.configuration.getCommandSlots ();
+        // Go backwards, so that the first of several slots with the same midi message wins
+        for (int i = commandSlots.length - 1; i >= 0; i--)
+        {
+            final CommandSlot commandSlot = commandSlots[i];
+            final FlexiCommand command = commandSlot.getCommand ();
+            final int type = commandSlot.getType ();
+            if (command == FlexiCommand.OFF || !slots.add (i, commandSlot))
                 continue;
-            this.valueCache[i] = value;
-            this.reflectValue (slots[i], value);
+
+            final int knobMode = commandSlot.getKnobMode ();
+            final BoundSlot slot = new BoundSlot (i, type, knobMode, this.handlers.get (command).bind (command, knobMode), this.createFeedback (commandSlot));
+            slots.slots[i] = slot;
+            if (slot.feedback != null)
+                feedbackSlots.add (0, slot);
         }
+        slots.feedbackSlots = feedbackSlots.toArray (new BoundSlot [feedbackSlots.size ()]);
+
+        Arrays.fill (this.valueCache, -1);
+        Arrays.fill (this.pendingValues, -1);
+        this.numPending = 0;
+        this.boundSlots = slots;
     }
 
 
@@ -147,12 +196,13 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
      */
     public void updateKnobSpeeds ()
     {
-        final double fraction = 128 * this.configuration.getKnobSpeedNormal () / 100.0;
+        final int upperBound = this.model.getValueChanger ().getUpperBound ();
+        final double fraction = upperBound * this.configuration.getKnobSpeedNormal () / 100.0;
         this.model.getValueChanger ().setFractionValue (fraction);
         this.relative2ValueChanger.setFractionValue (fraction);
         this.relative3ValueChanger.setFractionValue (fraction);
 
-        final double slowFraction = 128 * this.configuration.getKnobSpeedSlow () / 100.0;
+        final double slowFraction = upperBound * this.configuration.getKnobSpeedSlow () / 100.0;
         this.model.getValueChanger ().setSlowFractionValue (slowFraction);
         this.relative2ValueChanger.setSlowFractionValue (slowFraction);
         this.relative3ValueChanger.setSlowFractionValue (slowFraction);
@@ -213,26 +263,27 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
             // Note on/off
             case 0x90:
                 this.configuration.setLearnValues (GenericFlexiConfiguration.OPTIONS_TYPE[CommandSlot.TYPE_NOTE + 1], data1, channel);
-                slotIndex = this.configuration.getSlotCommand (CommandSlot.TYPE_NOTE, data1, channel);
+                slotIndex = this.boundSlots.getSlotIndex (CommandSlot.TYPE_NOTE, channel, data1);
                 break;
 
             // Program Change
             case 0xC0:
                 this.configuration.setLearnValues (GenericFlexiConfiguration.OPTIONS_TYPE[CommandSlot.TYPE_PROGRAM_CHANGE + 1], data1, channel);
-                slotIndex = this.configuration.getSlotCommand (CommandSlot.TYPE_PROGRAM_CHANGE, data1, channel);
+                slotIndex = this.boundSlots.getSlotIndex (CommandSlot.TYPE_PROGRAM_CHANGE, channel, data1);
                 value = 127;
                 break;
 
             // CC
             case 0xB0:
                 this.configuration.setLearnValues (GenericFlexiConfiguration.OPTIONS_TYPE[CommandSlot.TYPE_CC + 1], data1, channel);
-                slotIndex = this.configuration.getSlotCommand (CommandSlot.TYPE_CC, data1, channel);
+                slotIndex = this.boundSlots.getSlotIndex (CommandSlot.TYPE_CC, channel, data1);
+                this.highResInput.handleCC (channel, data1, data2);
                 break;
 
             // Pitchbend
             case 0xE0:
-                this.configuration.setLearnValues (GenericFlexiConfiguration.OPTIONS_TYPE[CommandSlot.TYPE_PITCH_BEND + 1], data1, channel);
-                slotIndex = this.configuration.getSlotCommand (CommandSlot.TYPE_PITCH_BEND, data1, channel);
+                this.configuration.setLearnValues (GenericFlexiConfiguration.OPTIONS_TYPE[CommandSlot.TYPE_PITCH_BEND + 1], 0, channel);
+                this.handleHighResCommand (this.boundSlots.getSlotIndex (CommandSlot.TYPE_PITCH_BEND, channel, 0), data2 << 7 | data1);
                 break;
 
             default:
@@ -245,6 +296,22 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     }
 
 
+    /**
+     * Handle a 14-bit value assembled from CC messages.
+     *
+     * @param type TYPE_CC_14BIT, TYPE_NRPN or TYPE_RPN
+     * @param midiChannel The midi channel
+     * @param number The MSB CC number or the parameter number
+     * @param value The 14-bit value
+     */
+    private void handleHighResValue (final int type, final int midiChannel, final int number, final int value)
+    {
+        if (CommandSlot.hasParameterNumber (type))
+            this.configuration.setLearnParameter (GenericFlexiConfiguration.OPTIONS_TYPE[type + 1], number, midiChannel);
+        this.handleHighResCommand (this.boundSlots.getSlotIndex (type, midiChannel, number), value);
+    }
+
+
     /**
      * Handle sysex for MMC commands.
      *
@@ -261,7 +328,7 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         final int number = data[4];
 
         this.configuration.setLearnValues (GenericFlexiConfiguration.OPTIONS_TYPE[CommandSlot.TYPE_MMC + 1], number, channel);
-        final int slotIndex = this.configuration.getSlotCommand (CommandSlot.TYPE_MMC, number, channel);
+        final int slotIndex = this.boundSlots.getSlotIndex (CommandSlot.TYPE_MMC, channel, number);
         if (slotIndex == -1)
             return;
         this.handleCommand (slotIndex, 127);
@@ -332,67 +399,129 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
 
 
     /**
-     * Get the current value of a command.
+     * Handle a command.
      *
-     * @param command The command
-     * @return The value or -1
+     * @param slotIndex The slot index where the command is stored
+     * @param value The received parameter value to handle
      */
-    private int getCommandValue (final FlexiCommand command)
+    private void handleCommand (final int slotIndex, final int value)
     {
-        return this.handlers.get (command).getCommandValue (command);
+        final BoundSlot slot = this.boundSlots.slots[slotIndex];
+        if (slot == null)
+            return;
+
+        this.lastChange[slotIndex] = this.host.getCurrentTime ();
+        slot.binding.handle (value);
     }
 
 
     /**
-     * Handle a command.
+     * Handle a command of a slot with a 14-bit type. Absolute values are only stored and applied
+     * on the next flush, so that a burst of values (e.g. MSB and LSB, a fast fader movement) is
+     * sent as a single parameter update to the DAW. Relative values are applied immediately since
+     * each is a step.
      *
-     * @param slotIndex The slot index where the command is stored
-     * @param value The received parameter value to handle
+     * @param slotIndex The slot index where the command is stored, -1 if none
+     * @param value The received 14-bit value
      */
-    private void handleCommand (final int slotIndex, final int value)
+    private void handleHighResCommand (final int slotIndex, final int value)
     {
-        final CommandSlot commandSlot = this.configuration.getCommandSlots ()[slotIndex];
-        final FlexiCommand command = commandSlot.getCommand ();
-        if (command == FlexiCommand.OFF)
+        if (slotIndex == -1)
+            return;
+        final BoundSlot slot = this.boundSlots.slots[slotIndex];
+        if (slot == null)
+            return;
+
+        this.lastChange[slotIndex] = this.host.getCurrentTime ();
+        if (!slot.isCoalesced)
+        {
+            slot.binding.handleHighRes (value);
             return;
+        }
+
+        if (this.pendingValues[slotIndex] == -1)
+            this.pendingSlots[this.numPending++] = slotIndex;
+        this.pendingValues[slotIndex] = value;
+    }
 
-        this.isUpdatingValue = true;
-        this.handlers.get (command).handle (command, commandSlot.getKnobMode (), value);
 
-        this.host.scheduleTask ( () -> {
-            this.valueCache[slotIndex] = this.getCommandValue (command);
-            this.isUpdatingValue = false;
-        }, 400);
+    /**
+     * Apply the latest received value of all slots, which received values since the last flush.
+     */
+    private void applyPendingValues ()
+    {
+        for (int i = 0; i < this.numPending; i++)
+        {
+            final int slotIndex = this.pendingSlots[i];
+            final int value = this.pendingValues[slotIndex];
+            this.pendingValues[slotIndex] = -1;
+            this.boundSlots.slots[slotIndex].binding.handleHighRes (value);
+        }
+        this.numPending = 0;
     }
 
 
     /**
-     * Send back the current value type of a command slot to the device.
+     * Create the function which sends back the current value of a command slot to the device.
      *
      * @param slot The slot
-     * @param value The value to reflect
+     * @return The function or null if the value of the slot should not be sent or the type of the
+     *         slot does not support it
      */
-    private void reflectValue (final CommandSlot slot, final int value)
+    private IntConsumer createFeedback (final CommandSlot slot)
     {
+        if (!slot.isSendValue ())
+            return null;
+
+        final IMidiOutput output = this.getOutput ();
+        final int midiChannel = slot.getMidiChannel ();
+        final int number = slot.getNumber ();
         switch (slot.getType ())
         {
             case CommandSlot.TYPE_CC:
-                if (value >= 0 && value <= 127)
-                    this.getOutput ().sendCCEx (slot.getMidiChannel (), slot.getNumber (), value);
-                break;
+                return value -> output.sendCCEx (midiChannel, number, value);
 
             case CommandSlot.TYPE_PITCH_BEND:
-                if (value >= 0 && value <= 127)
-                    this.getOutput ().sendPitchbend (slot.getMidiChannel (), 0, value);
-                break;
+                return value -> output.sendPitchbend (midiChannel, value & 0x7F, value >> 7);
+
+            case CommandSlot.TYPE_CC_14BIT:
+                return value -> {
+                    output.sendCCEx (midiChannel, number, value >> 7);
+                    output.sendCCEx (midiChannel, number + 32, value & 0x7F);
+                };
+
+            case CommandSlot.TYPE_NRPN:
+                return value -> sendParameter (output, midiChannel, 99, 98, number, value);
+
+            case CommandSlot.TYPE_RPN:
+                return value -> sendParameter (output, midiChannel, 101, 100, number, value);
 
             default:
                 // Other types not supported
-                break;
+                return null;
         }
     }
 
 
+    /**
+     * Send the value of a NRPN or RPN.
+     *
+     * @param output The output to send to
+     * @param midiChannel The midi channel
+     * @param msbCC The CC to select the MSB of the parameter number
+     * @param lsbCC The CC to select the LSB of the parameter number
+     * @param parameter The parameter number
+     * @param value The 14-bit value
+     */
+    private static void sendParameter (final IMidiOutput output, final int midiChannel, final int msbCC, final int lsbCC, final int parameter, final int value)
+    {
+        output.sendCCEx (midiChannel, msbCC, parameter >> 7);
+        output.sendCCEx (midiChannel, lsbCC, parameter & 0x7F);
+        output.sendCCEx (midiChannel, 6, value >> 7);
+        output.sendCCEx (midiChannel, 38, value & 0x7F);
+    }
+
+
     /**
      * Register a flexi command handler.
      *
@@ -402,4 +531,133 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     {
         Arrays.asList (handler.getSupportedCommands ()).forEach (command -> this.handlers.put (command, handler));
     }
+
+
+    /**
+     * A slot with a bound command.
+     */
+    private static class BoundSlot
+    {
+        final int          index;
+        final FlexiBinding binding;
+        final IntConsumer  feedback;
+        final boolean      isHighRes;
+        final boolean      isCoalesced;
+        final int          upperBound;
+
+
+        /**
+         * Constructor.
+         *
+         * @param index The index of the slot
+         * @param type The type of the slot
+         * @param knobMode The knob mode of the slot
+         * @param binding The bound command
+         * @param feedback Sends the value of the command to the device, null if not sent
+         */
+        BoundSlot (final int index, final int type, final int knobMode, final FlexiBinding binding, final IntConsumer feedback)
+        {
+            this.index = index;
+            this.binding = binding;
+            this.feedback = feedback;
+            this.isHighRes = CommandSlot.isHighResolution (type);
+            this.isCoalesced = this.isHighRes && AbstractHandler.isAbsolute (knobMode);
+            this.upperBound = this.isHighRes ? FlexiBinding.HIGH_RES_RANGE : 128;
+        }
+
+
+        /**
+         * Get the current value of the command in the resolution of the slot.
+         *
+         * @return The value or -1
+         */
+        int getValue ()
+        {
+            return this.isHighRes ? this.binding.getHighResValue () : this.binding.getValue ();
+        }
+    }
+
+
+    /**
+     * The bound commands of all slots and lookup tables from the midi messages to the slots.
+     * Rebuilt as a whole if a slot changes. The tables for the 14-bit parameter numbers of NRPN
+     * and RPN are only created for the channels which use them.
+     */
+    private static class BoundSlots
+    {
+        final BoundSlot [] slots           = new BoundSlot [GenericFlexiConfiguration.NUM_SLOTS];
+        final int []       lookup          = new int [NUM_TYPES * 16 * 128];
+        final int [] []    parameterLookup = new int [2 * 16] [];
+        BoundSlot []       feedbackSlots   = new BoundSlot [0];
+
+
+        /**
+         * Constructor.
+         */
+        BoundSlots ()
+        {
+            Arrays.fill (this.lookup, -1);
+        }
+
+
+        /**
+         * Add the midi message of a slot to the lookup tables.
+         *
+         * @param index The index of the slot
+         * @param slot The slot
+         * @return False if the type or number of the slot is not valid
+         */
+        boolean add (final int index, final CommandSlot slot)
+        {
+            final int type = slot.getType ();
+            final int midiChannel = slot.getMidiChannel ();
+            // Pitch bend has no number
+            final int number = type == CommandSlot.TYPE_PITCH_BEND ? 0 : slot.getNumber ();
+            if (type < 0 || midiChannel < 0 || midiChannel > 15 || number < 0)
+                return false;
+
+            if (CommandSlot.hasParameterNumber (type))
+            {
+                if (number >= FlexiBinding.HIGH_RES_RANGE)
+                    return false;
+                final int tableIndex = getParameterTableIndex (type, midiChannel);
+                if (this.parameterLookup[tableIndex] == null)
+                {
+                    this.parameterLookup[tableIndex] = new int [FlexiBinding.HIGH_RES_RANGE];
+                    Arrays.fill (this.parameterLookup[tableIndex], -1);
+                }
+                this.parameterLookup[tableIndex][number] = index;
+                return true;
+            }
+
+            // The LSB of 14-bit CCs is on number + 32
+            if (type >= NUM_TYPES || number >= (type == CommandSlot.TYPE_CC_14BIT ? 32 : 128))
+                return false;
+            this.lookup[(type * 16 + midiChannel) * 128 + number] = index;
+            return true;
+        }
+
+
+        /**
+         * Get the index of the slot which is mapped to a midi message.
+         *
+         * @param type The type of the midi message, one of the types of CommandSlot
+         * @param midiChannel The midi channel
+         * @param number The number of the CC, note, NRPN, etc.
+         * @return The index of the slot or -1 if none is mapped
+         */
+        int getSlotIndex (final int type, final int midiChannel, final int number)
+        {
+            if (!CommandSlot.hasParameterNumber (type))
+                return this.lookup[(type * 16 + midiChannel) * 128 + number];
+            final int [] table = this.parameterLookup[getParameterTableIndex (type, midiChannel)];
+            return table == null ? -1 : table[number];
+        }
+
+
+        private static int getParameterTableIndex (final int type, final int midiChannel)
+        {
+            return (type - CommandSlot.TYPE_NRPN) * 16 + midiChannel;
+        }
+    }
 }
\ No newline at end of file
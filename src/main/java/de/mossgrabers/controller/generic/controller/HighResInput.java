@@ -0,0 +1,131 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.generic.controller;
+
+import de.mossgrabers.controller.generic.CommandSlot;
+
+import java.util.Arrays;
+
+
+/**
+ * Assembles 14-bit values from CC messages: 14-bit CCs (MSB on CC 0-31, LSB on CC 32-63), NRPN
+ * (parameter selected with CC 99/98) and RPN (parameter selected with CC 101/100), both with data
+ * entry on CC 6 (MSB) and CC 38 (LSB). A value is reported when its MSB and again when its LSB is
+ * received, since the LSB is optional.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HighResInput
+{
+    /**
+     * Gets notified about assembled 14-bit values.
+     */
+    public interface Listener
+    {
+        /**
+         * Handle an assembled value.
+         *
+         * @param type TYPE_CC_14BIT, TYPE_NRPN or TYPE_RPN of CommandSlot
+         * @param midiChannel The midi channel
+         * @param number The number of the MSB CC or the 14-bit parameter number
+         * @param value The 14-bit value
+         */
+        void handleValue (int type, int midiChannel, int number, int value);
+    }
+
+
+    private static final int NO_PARAMETER  = -1;
+    private static final int RPN_NULL      = 0x3FFF;
+
+    private static final int CC_DATA_MSB   = 6;
+    private static final int CC_DATA_LSB   = 38;
+    private static final int CC_NRPN_LSB   = 98;
+    private static final int CC_NRPN_MSB   = 99;
+    private static final int CC_RPN_LSB    = 100;
+    private static final int CC_RPN_MSB    = 101;
+
+    private final Listener   listener;
+    private final int []     ccMsb         = new int [16 * 32];
+    private final int []     parameterType = new int [16];
+    private final int []     parameter     = new int [16];
+    private final int []     dataMsb       = new int [16];
+
+
+    /**
+     * Constructor.
+     *
+     * @param listener Gets notified about the assembled values
+     */
+    public HighResInput (final Listener listener)
+    {
+        this.listener = listener;
+
+        Arrays.fill (this.parameterType, NO_PARAMETER);
+    }
+
+
+    /**
+     * Handle a received CC message.
+     *
+     * @param midiChannel The midi channel
+     * @param cc The number of the CC
+     * @param value The value of the CC
+     */
+    public void handleCC (final int midiChannel, final int cc, final int value)
+    {
+        if (cc < 32)
+        {
+            this.ccMsb[midiChannel * 32 + cc] = value;
+            this.listener.handleValue (CommandSlot.TYPE_CC_14BIT, midiChannel, cc, value << 7);
+        }
+        else if (cc < 64)
+            this.listener.handleValue (CommandSlot.TYPE_CC_14BIT, midiChannel, cc - 32, this.ccMsb[midiChannel * 32 + cc - 32] << 7 | value);
+
+        switch (cc)
+        {
+            case CC_DATA_MSB:
+                this.dataMsb[midiChannel] = value;
+                this.notifyParameter (midiChannel, value << 7);
+                break;
+
+            case CC_DATA_LSB:
+                this.notifyParameter (midiChannel, this.dataMsb[midiChannel] << 7 | value);
+                break;
+
+            case CC_NRPN_MSB:
+            case CC_RPN_MSB:
+                this.selectParameter (midiChannel, cc == CC_NRPN_MSB ? CommandSlot.TYPE_NRPN : CommandSlot.TYPE_RPN, value, true);
+                break;
+
+            case CC_NRPN_LSB:
+            case CC_RPN_LSB:
+                this.selectParameter (midiChannel, cc == CC_NRPN_LSB ? CommandSlot.TYPE_NRPN : CommandSlot.TYPE_RPN, value, false);
+                break;
+
+            default:
+                // No parameter message
+                break;
+        }
+    }
+
+
+    private void selectParameter (final int midiChannel, final int type, final int value, final boolean isMsb)
+    {
+        // Switching between NRPN and RPN starts a new parameter number
+        int number = this.parameterType[midiChannel] == type ? this.parameter[midiChannel] : 0;
+        number = isMsb ? value << 7 | number & 0x7F : number & 0x3F80 | value;
+
+        this.parameter[midiChannel] = number;
+        this.parameterType[midiChannel] = type == CommandSlot.TYPE_RPN && number == RPN_NULL ? NO_PARAMETER : type;
+    }
+
+
+    private void notifyParameter (final int midiChannel, final int value)
+    {
+        final int type = this.parameterType[midiChannel];
+        if (type != NO_PARAMETER)
+            this.listener.handleValue (type, midiChannel, this.parameter[midiChannel], value);
+    }
+}
@@ -5,10 +5,20 @@
 package de.mossgrabers.controller.generic.flexihandler;
 
 import de.mossgrabers.controller.generic.GenericFlexiConfiguration;
+import de.mossgrabers.controller.generic.controller.FlexiCommand;
 import de.mossgrabers.controller.generic.controller.GenericFlexiControlSurface;
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.IModel;
 
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
 
 /**
  * Abstract implementation for flexi handlers.
@@ -54,6 +64,156 @@ public abstract class AbstractHandler implements IFlexiCommandHandler
     }
 
 
+    /**
+     * Binds the command to calls of {@link #getCommandValue(FlexiCommand)} and
+     * {@link #handle(FlexiCommand, int, int)}. Overwrite to resolve the command already when it is
+     * bound.
+     *
+     * @param command The command to bind
+     * @param knobMode The knob mode of the slot
+     * @return The binding
+     */
+    @Override
+    public FlexiBinding bind (final FlexiCommand command, final int knobMode)
+    {
+        return new FlexiBinding ( () -> this.getCommandValue (command), value -> this.handle (command, knobMode, value));
+    }
+
+
+    /**
+     * Get the current value of a command. Only used by the default binding.
+     *
+     * @param command The command
+     * @return The value or -1
+     */
+    public int getCommandValue (final FlexiCommand command)
+    {
+        return -1;
+    }
+
+
+    /**
+     * Execute the given command. Only used by the default binding.
+     *
+     * @param command The command to execute
+     * @param knobMode If a knob is mapped this is the type of the knob (relative, absolute, ...)
+     * @param value The knob or button value
+     */
+    public void handle (final FlexiCommand command, final int knobMode, final int value)
+    {
+        throw new FlexiHandlerException (command);
+    }
+
+
+    /**
+     * Bind a button command. The action is only executed if the button is pressed, see
+     * {@link #isButtonPressed(int, int)}.
+     *
+     * @param knobMode The knob mode of the slot
+     * @param valueGetter Gets the current value of the command
+     * @param action The action to execute, gets the received value
+     * @return The binding
+     */
+    protected FlexiBinding bindButton (final int knobMode, final IntSupplier valueGetter, final IntConsumer action)
+    {
+        switch (knobMode)
+        {
+            case KNOB_MODE_ABSOLUTE_TOGGLE:
+                return new FlexiBinding (valueGetter, action);
+            case KNOB_MODE_ABSOLUTE:
+                return new FlexiBinding (valueGetter, value -> {
+                    if (value > 0)
+                        action.accept (value);
+                });
+            default:
+                return new FlexiBinding (valueGetter, value -> {
+                    // Relative knobs cannot press a button
+                });
+        }
+    }
+
+
+    /**
+     * Bind a button command, which toggles an on/off state of an object.
+     *
+     * @param knobMode The knob mode of the slot
+     * @param target Gets the object
+     * @param state Gets the state of the object
+     * @param toggle Toggles the state of the object
+     * @param <T> The type of the object
+     * @return The binding
+     */
+    protected <T> FlexiBinding bindToggle (final int knobMode, final Supplier<T> target, final Predicate<T> state, final Consumer<T> toggle)
+    {
+        return this.bindButton (knobMode, () -> state.test (target.get ()) ? 127 : 0, value -> toggle.accept (target.get ()));
+    }
+
+
+    /**
+     * Bind a button command, which sets an on/off state of an object. The state is set to on for
+     * values larger than 0.
+     *
+     * @param knobMode The knob mode of the slot
+     * @param target Gets the object
+     * @param state Gets the state of the object
+     * @param setter Sets the state of the object
+     * @param <T> The type of the object
+     * @return The binding
+     */
+    protected <T> FlexiBinding bindSet (final int knobMode, final Supplier<T> target, final Predicate<T> state, final BiConsumer<T, Boolean> setter)
+    {
+        return this.bindButton (knobMode, () -> state.test (target.get ()) ? 127 : 0, value -> setter.accept (target.get (), Boolean.valueOf (value > 0)));
+    }
+
+
+    /**
+     * Bind a knob command, which changes a value of an object. The value changer of the knob mode
+     * is resolved here. The binding is a high resolution one, absolute 7-bit values are scaled to
+     * the range of the model.
+     *
+     * @param knobMode The knob mode of the slot
+     * @param target Gets the object
+     * @param getter Gets the value of the object
+     * @param setter Sets the value of the object
+     * @param <T> The type of the object
+     * @return The binding
+     */
+    protected <T> FlexiBinding bindValue (final int knobMode, final Supplier<T> target, final ToIntFunction<T> getter, final ObjIntConsumer<T> setter)
+    {
+        final IntSupplier valueGetter = () -> getter.applyAsInt (target.get ());
+        if (isAbsolute (knobMode))
+            return new FlexiBinding (valueGetter, value -> setter.accept (target.get (), FlexiBinding.toHighRes (value)), value -> setter.accept (target.get (), value));
+
+        final IValueChanger valueChanger = this.getValueChanger (knobMode);
+        final IntConsumer action = value -> {
+            final T object = target.get ();
+            setter.accept (object, this.limit (getter.applyAsInt (object) + valueChanger.calcKnobSpeed (value)));
+        };
+        // Relative values are 7-bit increments, which are received in the upper 7 bits
+        return new FlexiBinding (valueGetter, action, value -> action.accept (value >> 7));
+    }
+
+
+    /**
+     * Get the value changer for a relative knob mode.
+     *
+     * @param knobMode The knob mode
+     * @return The value changer
+     */
+    protected IValueChanger getValueChanger (final int knobMode)
+    {
+        switch (knobMode)
+        {
+            case KNOB_MODE_RELATIVE2:
+                return this.relative2ValueChanger;
+            case KNOB_MODE_RELATIVE3:
+                return this.relative3ValueChanger;
+            default:
+                return this.model.getValueChanger ();
+        }
+    }
+
+
     protected double getRelativeSpeed (final int knobMode, final int value)
     {
         switch (knobMode)
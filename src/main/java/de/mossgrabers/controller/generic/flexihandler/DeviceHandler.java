@@ -13,6 +13,8 @@ import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.IParameterBank;
 import de.mossgrabers.framework.daw.data.IParameter;
 
+import java.util.function.Supplier;
+
 
 /**
  * The handler for device commands.
@@ -69,110 +71,51 @@ public class DeviceHandler extends AbstractHandler
 
     /** {@inheritDoc} */
     @Override
-    public int getCommandValue (final FlexiCommand command)
-    {
-        final ICursorDevice cursorDevice = this.model.getCursorDevice ();
-
-        switch (command)
-        {
-            case DEVICE_TOGGLE_WINDOW:
-                return cursorDevice.isWindowOpen () ? 127 : 0;
-
-            case DEVICE_BYPASS:
-                return cursorDevice.isEnabled () ? 0 : 127;
-
-            case DEVICE_EXPAND:
-                return cursorDevice.isExpanded () ? 127 : 0;
-
-            case DEVICE_TOGGLE_PARAMETERS:
-                return cursorDevice.isParameterPageSectionVisible () ? 127 : 0;
-
-            case DEVICE_SET_PARAMETER_1:
-            case DEVICE_SET_PARAMETER_2:
-            case DEVICE_SET_PARAMETER_3:
-            case DEVICE_SET_PARAMETER_4:
-            case DEVICE_SET_PARAMETER_5:
-            case DEVICE_SET_PARAMETER_6:
-            case DEVICE_SET_PARAMETER_7:
-            case DEVICE_SET_PARAMETER_8:
-                return cursorDevice.getParameterBank ().getItem (command.ordinal () - FlexiCommand.DEVICE_SET_PARAMETER_1.ordinal ()).getValue ();
-
-            default:
-                return -1;
-        }
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void handle (final FlexiCommand command, final int knobMode, final int value)
+    public FlexiBinding bind (final FlexiCommand command, final int knobMode)
     {
         final ICursorDevice cursorDevice = this.model.getCursorDevice ();
-        final boolean isButtonPressed = this.isButtonPressed (knobMode, value);
+        final Supplier<ICursorDevice> device = () -> cursorDevice;
 
         switch (command)
         {
             // Device: Toggle Window
             case DEVICE_TOGGLE_WINDOW:
-                if (isButtonPressed)
-                    cursorDevice.toggleWindowOpen ();
-                break;
+                return this.bindToggle (knobMode, device, ICursorDevice::isWindowOpen, ICursorDevice::toggleWindowOpen);
             // Device: Bypass
             case DEVICE_BYPASS:
-                if (isButtonPressed)
-                    cursorDevice.toggleEnabledState ();
-                break;
+                return this.bindToggle (knobMode, device, d -> !d.isEnabled (), ICursorDevice::toggleEnabledState);
             // Device: Expand
             case DEVICE_EXPAND:
-                if (isButtonPressed)
-                    cursorDevice.toggleExpanded ();
-                break;
+                return this.bindToggle (knobMode, device, ICursorDevice::isExpanded, ICursorDevice::toggleExpanded);
             // Device: Parameters
             case DEVICE_TOGGLE_PARAMETERS:
-                if (isButtonPressed)
-                    cursorDevice.toggleParameterPageSectionVisible ();
-                break;
+                return this.bindToggle (knobMode, device, ICursorDevice::isParameterPageSectionVisible, ICursorDevice::toggleParameterPageSectionVisible);
             // Device: Select Previous
             case DEVICE_SELECT_PREVIOUS:
-                if (isButtonPressed)
-                    cursorDevice.selectPrevious ();
-                break;
+                return this.bindButton (knobMode, FlexiBinding::noValue, value -> cursorDevice.selectPrevious ());
             // Device: Select Next
             case DEVICE_SELECT_NEXT:
-                if (isButtonPressed)
-                    cursorDevice.selectNext ();
-                break;
+                return this.bindButton (knobMode, FlexiBinding::noValue, value -> cursorDevice.selectNext ());
 
             case DEVICE_SCROLL_DEVICES:
-                this.scrollDevice (knobMode, value);
-                break;
+                return new FlexiBinding (FlexiBinding::noValue, value -> this.scrollDevice (knobMode, value));
 
             case DEVICE_SELECT_PREVIOUS_PARAMETER_PAGE:
-                if (isButtonPressed)
-                    cursorDevice.getParameterBank ().scrollBackwards ();
-                break;
+                return this.bindButton (knobMode, FlexiBinding::noValue, value -> cursorDevice.getParameterBank ().scrollBackwards ());
             case DEVICE_SELECT_NEXT_PARAMETER_PAGE:
-                if (isButtonPressed)
-                    cursorDevice.getParameterBank ().scrollForwards ();
-                break;
+                return this.bindButton (knobMode, FlexiBinding::noValue, value -> cursorDevice.getParameterBank ().scrollForwards ());
             case DEVICE_SCROLL_PARAMETER_PAGES:
-                this.scrollParameterPage (knobMode, value);
-                break;
+                return new FlexiBinding (FlexiBinding::noValue, value -> this.scrollParameterPage (knobMode, value));
 
             // Device: Select Previous Parameter Bank
             case DEVICE_SELECT_PREVIOUS_PARAMETER_BANK:
-                if (isButtonPressed)
-                    cursorDevice.getParameterBank ().selectPreviousPage ();
-                break;
+                return this.bindButton (knobMode, FlexiBinding::noValue, value -> cursorDevice.getParameterBank ().selectPreviousPage ());
             // Device: Select Next Parameter Bank
             case DEVICE_SELECT_NEXT_PARAMETER_BANK:
-                if (isButtonPressed)
-                    cursorDevice.getParameterBank ().selectNextPage ();
-                break;
+                return this.bindButton (knobMode, FlexiBinding::noValue, value -> cursorDevice.getParameterBank ().selectNextPage ());
 
             case DEVICE_SCROLL_PARAMETER_BANKS:
-                this.scrollParameterBank (knobMode, value);
-                break;
+                return new FlexiBinding (FlexiBinding::noValue, value -> this.scrollParameterBank (knobMode, value));
 
             // Device: Set Parameter 1-8
             case DEVICE_SET_PARAMETER_1:
@@ -183,8 +126,8 @@ public class DeviceHandler extends AbstractHandler
             case DEVICE_SET_PARAMETER_6:
             case DEVICE_SET_PARAMETER_7:
             case DEVICE_SET_PARAMETER_8:
-                this.handleParameter (knobMode, command.ordinal () - FlexiCommand.DEVICE_SET_PARAMETER_1.ordinal (), value);
-                break;
+                final IParameter parameter = cursorDevice.getParameterBank ().getItem (command.ordinal () - FlexiCommand.DEVICE_SET_PARAMETER_1.ordinal ());
+                return this.bindValue (knobMode, () -> parameter, IParameter::getValue, IParameter::setValue);
 
             default:
                 throw new FlexiHandlerException (command);
@@ -228,16 +171,6 @@ public class DeviceHandler extends AbstractHandler
     }
 
 
-    private void handleParameter (final int knobMode, final int index, final int value)
-    {
-        final IParameter fxParam = this.model.getCursorDevice ().getParameterBank ().getItem (index);
-        if (isAbsolute (knobMode))
-            fxParam.setValue (value);
-        else
-            fxParam.setValue (this.limit (fxParam.getValue () + this.getRelativeSpeed (knobMode, value)));
-    }
-
-
     private void scrollDevice (final int knobMode, final int value)
     {
         if (isAbsolute (knobMode))
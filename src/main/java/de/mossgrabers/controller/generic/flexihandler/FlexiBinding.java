@@ -0,0 +1,140 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.generic.flexihandler;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+
+
+/**
+ * A flexi command bound to a command slot. Everything which depends only on the command and the
+ * knob mode of the slot (e.g. the index of the track, the value changer to use) is resolved when
+ * the binding is created. Therefore, handling a value and getting the feedback value do not need to
+ * look up the command again.<br/>
+ * Bindings of commands which change a parameter use the 14-bit values of the model, all others use
+ * 7-bit values. Both can be used by 7-bit (e.g. CC) and 14-bit (e.g. NRPN) slots.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class FlexiBinding
+{
+    /** The range of high resolution (14-bit) values. */
+    public static final int          HIGH_RES_RANGE = 16384;
+
+    /** A binding which does nothing and has no value. */
+    public static final FlexiBinding NONE           = new FlexiBinding (FlexiBinding::noValue, FlexiBinding::ignore);
+
+    private final IntSupplier        valueGetter;
+    private final IntConsumer        action;
+    private final IntConsumer        highResAction;
+    private final boolean            isHighRes;
+
+
+    /**
+     * Constructor for a binding with 7-bit values.
+     *
+     * @param valueGetter Gets the current 7-bit value of the command, -1 if it has no value
+     * @param action Executes the command with the received 7-bit value
+     */
+    public FlexiBinding (final IntSupplier valueGetter, final IntConsumer action)
+    {
+        this.valueGetter = valueGetter;
+        this.action = action;
+        // Values above 0 must stay above 0, e.g. to not miss button presses
+        this.highResAction = value -> action.accept (value == 0 ? 0 : Math.max (1, value >> 7));
+        this.isHighRes = false;
+    }
+
+
+    /**
+     * Constructor for a binding with 14-bit values.
+     *
+     * @param valueGetter Gets the current 14-bit value of the command, -1 if it has no value
+     * @param action Executes the command with a received 7-bit value
+     * @param highResAction Executes the command with a received 14-bit value
+     */
+    public FlexiBinding (final IntSupplier valueGetter, final IntConsumer action, final IntConsumer highResAction)
+    {
+        this.valueGetter = valueGetter;
+        this.action = action;
+        this.highResAction = highResAction;
+        this.isHighRes = true;
+    }
+
+
+    /**
+     * Get the current 7-bit value of the command.
+     *
+     * @return The value or -1
+     */
+    public int getValue ()
+    {
+        final int value = this.valueGetter.getAsInt ();
+        return this.isHighRes && value > 0 ? value >> 7 : value;
+    }
+
+
+    /**
+     * Get the current 14-bit value of the command.
+     *
+     * @return The value or -1
+     */
+    public int getHighResValue ()
+    {
+        final int value = this.valueGetter.getAsInt ();
+        return this.isHighRes || value < 0 ? value : toHighRes (value);
+    }
+
+
+    /**
+     * Execute the command with a 7-bit value.
+     *
+     * @param value The knob or button value
+     */
+    public void handle (final int value)
+    {
+        this.action.accept (value);
+    }
+
+
+    /**
+     * Execute the command with a 14-bit value.
+     *
+     * @param value The knob or button value
+     */
+    public void handleHighRes (final int value)
+    {
+        this.highResAction.accept (value);
+    }
+
+
+    /**
+     * A value getter for commands which have no value.
+     *
+     * @return Always -1
+     */
+    public static int noValue ()
+    {
+        return -1;
+    }
+
+
+    /**
+     * Scale a 7-bit value to 14-bit. 0 stays 0 and 127 becomes 16383.
+     *
+     * @param value The 7-bit value
+     * @return The 14-bit value
+     */
+    public static int toHighRes (final int value)
+    {
+        return value << 7 | value;
+    }
+
+
+    private static void ignore (final int value)
+    {
+        // Intentionally empty
+    }
+}
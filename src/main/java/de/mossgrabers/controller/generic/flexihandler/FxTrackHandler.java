@@ -12,6 +12,8 @@ import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ITrackBank;
 import de.mossgrabers.framework.daw.data.ITrack;
 
+import java.util.function.Supplier;
+
 
 /**
  * The handler for effect track commands.
@@ -172,200 +174,28 @@ public class FxTrackHandler extends AbstractHandler
 
     /** {@inheritDoc} */
     @Override
-    public int getCommandValue (final FlexiCommand command)
-    {
-        final ITrackBank effectTrackBank = this.model.getEffectTrackBank ();
-        if (effectTrackBank == null)
-            return -1;
-
-        switch (command)
-        {
-            case FX_TRACK_1_SELECT:
-            case FX_TRACK_2_SELECT:
-            case FX_TRACK_3_SELECT:
-            case FX_TRACK_4_SELECT:
-            case FX_TRACK_5_SELECT:
-            case FX_TRACK_6_SELECT:
-            case FX_TRACK_7_SELECT:
-            case FX_TRACK_8_SELECT:
-                return effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_SELECT.ordinal ()).isSelected () ? 127 : 0;
-
-            case FX_TRACK_1_TOGGLE_ACTIVE:
-            case FX_TRACK_2_TOGGLE_ACTIVE:
-            case FX_TRACK_3_TOGGLE_ACTIVE:
-            case FX_TRACK_4_TOGGLE_ACTIVE:
-            case FX_TRACK_5_TOGGLE_ACTIVE:
-            case FX_TRACK_6_TOGGLE_ACTIVE:
-            case FX_TRACK_7_TOGGLE_ACTIVE:
-            case FX_TRACK_8_TOGGLE_ACTIVE:
-                return effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_TOGGLE_ACTIVE.ordinal ()).isActivated () ? 127 : 0;
-            case FX_TRACK_1_SET_ACTIVE:
-            case FX_TRACK_2_SET_ACTIVE:
-            case FX_TRACK_3_SET_ACTIVE:
-            case FX_TRACK_4_SET_ACTIVE:
-            case FX_TRACK_5_SET_ACTIVE:
-            case FX_TRACK_6_SET_ACTIVE:
-            case FX_TRACK_7_SET_ACTIVE:
-            case FX_TRACK_8_SET_ACTIVE:
-                return effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_SET_ACTIVE.ordinal ()).isActivated () ? 127 : 0;
-
-            case FX_TRACK_1_SET_VOLUME:
-            case FX_TRACK_2_SET_VOLUME:
-            case FX_TRACK_3_SET_VOLUME:
-            case FX_TRACK_4_SET_VOLUME:
-            case FX_TRACK_5_SET_VOLUME:
-            case FX_TRACK_6_SET_VOLUME:
-            case FX_TRACK_7_SET_VOLUME:
-            case FX_TRACK_8_SET_VOLUME:
-                return effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_SET_VOLUME.ordinal ()).getVolume ();
-
-            case FX_TRACK_1_SET_PANORAMA:
-            case FX_TRACK_2_SET_PANORAMA:
-            case FX_TRACK_3_SET_PANORAMA:
-            case FX_TRACK_4_SET_PANORAMA:
-            case FX_TRACK_5_SET_PANORAMA:
-            case FX_TRACK_6_SET_PANORAMA:
-            case FX_TRACK_7_SET_PANORAMA:
-            case FX_TRACK_8_SET_PANORAMA:
-                return effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_SET_PANORAMA.ordinal ()).getPan ();
-
-            case FX_TRACK_1_TOGGLE_MUTE:
-            case FX_TRACK_2_TOGGLE_MUTE:
-            case FX_TRACK_3_TOGGLE_MUTE:
-            case FX_TRACK_4_TOGGLE_MUTE:
-            case FX_TRACK_5_TOGGLE_MUTE:
-            case FX_TRACK_6_TOGGLE_MUTE:
-            case FX_TRACK_7_TOGGLE_MUTE:
-            case FX_TRACK_8_TOGGLE_MUTE:
-                return effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_TOGGLE_MUTE.ordinal ()).isMute () ? 127 : 0;
-            case FX_TRACK_1_SET_MUTE:
-            case FX_TRACK_2_SET_MUTE:
-            case FX_TRACK_3_SET_MUTE:
-            case FX_TRACK_4_SET_MUTE:
-            case FX_TRACK_5_SET_MUTE:
-            case FX_TRACK_6_SET_MUTE:
-            case FX_TRACK_7_SET_MUTE:
-            case FX_TRACK_8_SET_MUTE:
-                return effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_SET_MUTE.ordinal ()).isMute () ? 127 : 0;
-
-            case FX_TRACK_1_TOGGLE_SOLO:
-            case FX_TRACK_2_TOGGLE_SOLO:
-            case FX_TRACK_3_TOGGLE_SOLO:
-            case FX_TRACK_4_TOGGLE_SOLO:
-            case FX_TRACK_5_TOGGLE_SOLO:
-            case FX_TRACK_6_TOGGLE_SOLO:
-            case FX_TRACK_7_TOGGLE_SOLO:
-            case FX_TRACK_8_TOGGLE_SOLO:
-                return effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_TOGGLE_SOLO.ordinal ()).isSolo () ? 127 : 0;
-            case FX_TRACK_1_SET_SOLO:
-            case FX_TRACK_2_SET_SOLO:
-            case FX_TRACK_3_SET_SOLO:
-            case FX_TRACK_4_SET_SOLO:
-            case FX_TRACK_5_SET_SOLO:
-            case FX_TRACK_6_SET_SOLO:
-            case FX_TRACK_7_SET_SOLO:
-            case FX_TRACK_8_SET_SOLO:
-                return effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_SET_SOLO.ordinal ()).isSolo () ? 127 : 0;
-
-            case FX_TRACK_1_TOGGLE_ARM:
-            case FX_TRACK_2_TOGGLE_ARM:
-            case FX_TRACK_3_TOGGLE_ARM:
-            case FX_TRACK_4_TOGGLE_ARM:
-            case FX_TRACK_5_TOGGLE_ARM:
-            case FX_TRACK_6_TOGGLE_ARM:
-            case FX_TRACK_7_TOGGLE_ARM:
-            case FX_TRACK_8_TOGGLE_ARM:
-                return effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_TOGGLE_ARM.ordinal ()).isRecArm () ? 127 : 0;
-            case FX_TRACK_1_SET_ARM:
-            case FX_TRACK_2_SET_ARM:
-            case FX_TRACK_3_SET_ARM:
-            case FX_TRACK_4_SET_ARM:
-            case FX_TRACK_5_SET_ARM:
-            case FX_TRACK_6_SET_ARM:
-            case FX_TRACK_7_SET_ARM:
-            case FX_TRACK_8_SET_ARM:
-                return effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_SET_ARM.ordinal ()).isRecArm () ? 127 : 0;
-
-            case FX_TRACK_1_TOGGLE_MONITOR:
-            case FX_TRACK_2_TOGGLE_MONITOR:
-            case FX_TRACK_3_TOGGLE_MONITOR:
-            case FX_TRACK_4_TOGGLE_MONITOR:
-            case FX_TRACK_5_TOGGLE_MONITOR:
-            case FX_TRACK_6_TOGGLE_MONITOR:
-            case FX_TRACK_7_TOGGLE_MONITOR:
-            case FX_TRACK_8_TOGGLE_MONITOR:
-                return effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_TOGGLE_MONITOR.ordinal ()).isMonitor () ? 127 : 0;
-            case FX_TRACK_1_SET_MONITOR:
-            case FX_TRACK_2_SET_MONITOR:
-            case FX_TRACK_3_SET_MONITOR:
-            case FX_TRACK_4_SET_MONITOR:
-            case FX_TRACK_5_SET_MONITOR:
-            case FX_TRACK_6_SET_MONITOR:
-            case FX_TRACK_7_SET_MONITOR:
-            case FX_TRACK_8_SET_MONITOR:
-                return effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_SET_MONITOR.ordinal ()).isMonitor () ? 127 : 0;
-
-            case FX_TRACK_1_TOGGLE_AUTO_MONITOR:
-            case FX_TRACK_2_TOGGLE_AUTO_MONITOR:
-            case FX_TRACK_3_TOGGLE_AUTO_MONITOR:
-            case FX_TRACK_4_TOGGLE_AUTO_MONITOR:
-            case FX_TRACK_5_TOGGLE_AUTO_MONITOR:
-            case FX_TRACK_6_TOGGLE_AUTO_MONITOR:
-            case FX_TRACK_7_TOGGLE_AUTO_MONITOR:
-            case FX_TRACK_8_TOGGLE_AUTO_MONITOR:
-                return effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_TOGGLE_AUTO_MONITOR.ordinal ()).isAutoMonitor () ? 127 : 0;
-            case FX_TRACK_1_SET_AUTO_MONITOR:
-            case FX_TRACK_2_SET_AUTO_MONITOR:
-            case FX_TRACK_3_SET_AUTO_MONITOR:
-            case FX_TRACK_4_SET_AUTO_MONITOR:
-            case FX_TRACK_5_SET_AUTO_MONITOR:
-            case FX_TRACK_6_SET_AUTO_MONITOR:
-            case FX_TRACK_7_SET_AUTO_MONITOR:
-            case FX_TRACK_8_SET_AUTO_MONITOR:
-                return effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_SET_AUTO_MONITOR.ordinal ()).isAutoMonitor () ? 127 : 0;
-
-            default:
-                return -1;
-        }
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void handle (final FlexiCommand command, final int knobMode, final int value)
+    public FlexiBinding bind (final FlexiCommand command, final int knobMode)
     {
-        final ITrackBank effectTrackBank = this.model.getEffectTrackBank ();
-        if (effectTrackBank == null)
-            return;
-
-        final boolean isButtonPressed = this.isButtonPressed (knobMode, value);
+        if (this.model.getEffectTrackBank () == null)
+            return FlexiBinding.NONE;
 
         switch (command)
         {
             // Track: Select Previous Bank Page
             case FX_TRACK_SELECT_PREVIOUS_BANK_PAGE:
-                if (isButtonPressed)
-                    this.scrollTrackLeft (true);
-                break;
+                return this.bindButton (knobMode, FlexiBinding::noValue, value -> this.scrollTrackLeft (true));
             // Track: Select Next Bank Page
             case FX_TRACK_SELECT_NEXT_BANK_PAGE:
-                if (isButtonPressed)
-                    this.scrollTrackRight (true);
-                break;
+                return this.bindButton (knobMode, FlexiBinding::noValue, value -> this.scrollTrackRight (true));
             // Track: Select Previous Track
             case FX_TRACK_SELECT_PREVIOUS_TRACK:
-                if (isButtonPressed)
-                    this.scrollTrackLeft (false);
-                break;
+                return this.bindButton (knobMode, FlexiBinding::noValue, value -> this.scrollTrackLeft (false));
             // Track: Select Next Track
             case FX_TRACK_SELECT_NEXT_TRACK:
-                if (isButtonPressed)
-                    this.scrollTrackRight (false);
-                break;
+                return this.bindButton (knobMode, FlexiBinding::noValue, value -> this.scrollTrackRight (false));
 
             case FX_TRACK_SCROLL_TRACKS:
-                this.scrollTrack (knobMode, value);
-                break;
+                return new FlexiBinding (FlexiBinding::noValue, value -> this.scrollTrack (knobMode, value));
 
             // Track 1-8: Select
             case FX_TRACK_1_SELECT:
@@ -376,13 +206,7 @@ public class FxTrackHandler extends AbstractHandler
             case FX_TRACK_6_SELECT:
             case FX_TRACK_7_SELECT:
             case FX_TRACK_8_SELECT:
-                if (isButtonPressed)
-                {
-                    final ITrack track = effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_SELECT.ordinal ());
-                    track.select ();
-                    this.surface.getDisplay ().notify (track.getName ());
-                }
-                break;
+                return this.bindToggle (knobMode, this.getTrackSupplier (command.ordinal () - FlexiCommand.FX_TRACK_1_SELECT.ordinal ()), ITrack::isSelected, this::selectTrack);
 
             // Track 1-8: Toggle Active
             case FX_TRACK_1_TOGGLE_ACTIVE:
@@ -393,9 +217,7 @@ public class FxTrackHandler extends AbstractHandler
             case FX_TRACK_6_TOGGLE_ACTIVE:
             case FX_TRACK_7_TOGGLE_ACTIVE:
             case FX_TRACK_8_TOGGLE_ACTIVE:
-                if (isButtonPressed)
-                    effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_TOGGLE_ACTIVE.ordinal ()).toggleIsActivated ();
-                break;
+                return this.bindToggle (knobMode, this.getTrackSupplier (command.ordinal () - FlexiCommand.FX_TRACK_1_TOGGLE_ACTIVE.ordinal ()), ITrack::isActivated, ITrack::toggleIsActivated);
             // Track 1-8: Set Active
             case FX_TRACK_1_SET_ACTIVE:
             case FX_TRACK_2_SET_ACTIVE:
@@ -405,9 +227,7 @@ public class FxTrackHandler extends AbstractHandler
             case FX_TRACK_6_SET_ACTIVE:
             case FX_TRACK_7_SET_ACTIVE:
             case FX_TRACK_8_SET_ACTIVE:
-                if (isButtonPressed)
-                    effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_SET_ACTIVE.ordinal ()).setIsActivated (value > 0);
-                break;
+                return this.bindSet (knobMode, this.getTrackSupplier (command.ordinal () - FlexiCommand.FX_TRACK_1_SET_ACTIVE.ordinal ()), ITrack::isActivated, ITrack::setIsActivated);
 
             // Track 1-8: Set Volume
             case FX_TRACK_1_SET_VOLUME:
@@ -418,8 +238,7 @@ public class FxTrackHandler extends AbstractHandler
             case FX_TRACK_6_SET_VOLUME:
             case FX_TRACK_7_SET_VOLUME:
             case FX_TRACK_8_SET_VOLUME:
-                this.changeTrackVolume (knobMode, command.ordinal () - FlexiCommand.FX_TRACK_1_SET_VOLUME.ordinal (), value);
-                break;
+                return this.bindValue (knobMode, this.getTrackSupplier (command.ordinal () - FlexiCommand.FX_TRACK_1_SET_VOLUME.ordinal ()), ITrack::getVolume, ITrack::setVolume);
 
             // Track 1-8: Set Panorama
             case FX_TRACK_1_SET_PANORAMA:
@@ -430,8 +249,7 @@ public class FxTrackHandler extends AbstractHandler
             case FX_TRACK_6_SET_PANORAMA:
             case FX_TRACK_7_SET_PANORAMA:
             case FX_TRACK_8_SET_PANORAMA:
-                this.changeTrackPanorama (knobMode, command.ordinal () - FlexiCommand.FX_TRACK_1_SET_PANORAMA.ordinal (), value);
-                break;
+                return this.bindValue (knobMode, this.getTrackSupplier (command.ordinal () - FlexiCommand.FX_TRACK_1_SET_PANORAMA.ordinal ()), ITrack::getPan, ITrack::setPan);
 
             // Track 1-8: Toggle Mute
             case FX_TRACK_1_TOGGLE_MUTE:
@@ -442,9 +260,7 @@ public class FxTrackHandler extends AbstractHandler
             case FX_TRACK_6_TOGGLE_MUTE:
             case FX_TRACK_7_TOGGLE_MUTE:
             case FX_TRACK_8_TOGGLE_MUTE:
-                if (isButtonPressed)
-                    effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_TOGGLE_MUTE.ordinal ()).toggleMute ();
-                break;
+                return this.bindToggle (knobMode, this.getTrackSupplier (command.ordinal () - FlexiCommand.FX_TRACK_1_TOGGLE_MUTE.ordinal ()), ITrack::isMute, ITrack::toggleMute);
             // Track 1-8: Set Mute
             case FX_TRACK_1_SET_MUTE:
             case FX_TRACK_2_SET_MUTE:
@@ -454,9 +270,7 @@ public class FxTrackHandler extends AbstractHandler
             case FX_TRACK_6_SET_MUTE:
             case FX_TRACK_7_SET_MUTE:
             case FX_TRACK_8_SET_MUTE:
-                if (isButtonPressed)
-                    effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_SET_MUTE.ordinal ()).setMute (value > 0);
-                break;
+                return this.bindSet (knobMode, this.getTrackSupplier (command.ordinal () - FlexiCommand.FX_TRACK_1_SET_MUTE.ordinal ()), ITrack::isMute, ITrack::setMute);
 
             // Track 1-8: Toggle Solo
             case FX_TRACK_1_TOGGLE_SOLO:
@@ -467,9 +281,7 @@ public class FxTrackHandler extends AbstractHandler
             case FX_TRACK_6_TOGGLE_SOLO:
             case FX_TRACK_7_TOGGLE_SOLO:
             case FX_TRACK_8_TOGGLE_SOLO:
-                if (isButtonPressed)
-                    effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_TOGGLE_SOLO.ordinal ()).toggleSolo ();
-                break;
+                return this.bindToggle (knobMode, this.getTrackSupplier (command.ordinal () - FlexiCommand.FX_TRACK_1_TOGGLE_SOLO.ordinal ()), ITrack::isSolo, ITrack::toggleSolo);
             // Track 1-8: Set Solo
             case FX_TRACK_1_SET_SOLO:
             case FX_TRACK_2_SET_SOLO:
@@ -479,9 +291,7 @@ public class FxTrackHandler extends AbstractHandler
             case FX_TRACK_6_SET_SOLO:
             case FX_TRACK_7_SET_SOLO:
             case FX_TRACK_8_SET_SOLO:
-                if (isButtonPressed)
-                    effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_SET_SOLO.ordinal ()).setSolo (value > 0);
-                break;
+                return this.bindSet (knobMode, this.getTrackSupplier (command.ordinal () - FlexiCommand.FX_TRACK_1_SET_SOLO.ordinal ()), ITrack::isSolo, ITrack::setSolo);
 
             // Track 1-8: Toggle Arm
             case FX_TRACK_1_TOGGLE_ARM:
@@ -492,9 +302,7 @@ public class FxTrackHandler extends AbstractHandler
             case FX_TRACK_6_TOGGLE_ARM:
             case FX_TRACK_7_TOGGLE_ARM:
             case FX_TRACK_8_TOGGLE_ARM:
-                if (isButtonPressed)
-                    effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_TOGGLE_ARM.ordinal ()).toggleRecArm ();
-                break;
+                return this.bindToggle (knobMode, this.getTrackSupplier (command.ordinal () - FlexiCommand.FX_TRACK_1_TOGGLE_ARM.ordinal ()), ITrack::isRecArm, ITrack::toggleRecArm);
             // Track 1-8: Set Arm
             case FX_TRACK_1_SET_ARM:
             case FX_TRACK_2_SET_ARM:
@@ -504,9 +312,7 @@ public class FxTrackHandler extends AbstractHandler
             case FX_TRACK_6_SET_ARM:
             case FX_TRACK_7_SET_ARM:
             case FX_TRACK_8_SET_ARM:
-                if (isButtonPressed)
-                    effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_SET_ARM.ordinal ()).setRecArm (value > 0);
-                break;
+                return this.bindSet (knobMode, this.getTrackSupplier (command.ordinal () - FlexiCommand.FX_TRACK_1_SET_ARM.ordinal ()), ITrack::isRecArm, ITrack::setRecArm);
 
             // Track 1-8: Toggle Monitor
             case FX_TRACK_1_TOGGLE_MONITOR:
@@ -517,9 +323,7 @@ public class FxTrackHandler extends AbstractHandler
             case FX_TRACK_6_TOGGLE_MONITOR:
             case FX_TRACK_7_TOGGLE_MONITOR:
             case FX_TRACK_8_TOGGLE_MONITOR:
-                if (isButtonPressed)
-                    effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_TOGGLE_MONITOR.ordinal ()).toggleMonitor ();
-                break;
+                return this.bindToggle (knobMode, this.getTrackSupplier (command.ordinal () - FlexiCommand.FX_TRACK_1_TOGGLE_MONITOR.ordinal ()), ITrack::isMonitor, ITrack::toggleMonitor);
             // Track 1-8: Set Monitor
             case FX_TRACK_1_SET_MONITOR:
             case FX_TRACK_2_SET_MONITOR:
@@ -529,11 +333,9 @@ public class FxTrackHandler extends AbstractHandler
             case FX_TRACK_6_SET_MONITOR:
             case FX_TRACK_7_SET_MONITOR:
             case FX_TRACK_8_SET_MONITOR:
-                if (isButtonPressed)
-                    effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_SET_MONITOR.ordinal ()).setMonitor (value > 0);
-                break;
+                return this.bindSet (knobMode, this.getTrackSupplier (command.ordinal () - FlexiCommand.FX_TRACK_1_SET_MONITOR.ordinal ()), ITrack::isMonitor, ITrack::setMonitor);
 
-            // Track 1: Toggle Auto Monitor
+            // Track 1-8: Toggle Auto Monitor
             case FX_TRACK_1_TOGGLE_AUTO_MONITOR:
             case FX_TRACK_2_TOGGLE_AUTO_MONITOR:
             case FX_TRACK_3_TOGGLE_AUTO_MONITOR:
@@ -542,10 +344,8 @@ public class FxTrackHandler extends AbstractHandler
             case FX_TRACK_6_TOGGLE_AUTO_MONITOR:
             case FX_TRACK_7_TOGGLE_AUTO_MONITOR:
             case FX_TRACK_8_TOGGLE_AUTO_MONITOR:
-                if (isButtonPressed)
-                    effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_TOGGLE_AUTO_MONITOR.ordinal ()).toggleAutoMonitor ();
-                break;
-            // Track 1: Set Auto Monitor
+                return this.bindToggle (knobMode, this.getTrackSupplier (command.ordinal () - FlexiCommand.FX_TRACK_1_TOGGLE_AUTO_MONITOR.ordinal ()), ITrack::isAutoMonitor, ITrack::toggleAutoMonitor);
+            // Track 1-8: Set Auto Monitor
             case FX_TRACK_1_SET_AUTO_MONITOR:
             case FX_TRACK_2_SET_AUTO_MONITOR:
             case FX_TRACK_3_SET_AUTO_MONITOR:
@@ -554,9 +354,7 @@ public class FxTrackHandler extends AbstractHandler
             case FX_TRACK_6_SET_AUTO_MONITOR:
             case FX_TRACK_7_SET_AUTO_MONITOR:
             case FX_TRACK_8_SET_AUTO_MONITOR:
-                if (isButtonPressed)
-                    effectTrackBank.getItem (command.ordinal () - FlexiCommand.FX_TRACK_1_SET_AUTO_MONITOR.ordinal ()).setAutoMonitor (value > 0);
-                break;
+                return this.bindSet (knobMode, this.getTrackSupplier (command.ordinal () - FlexiCommand.FX_TRACK_1_SET_AUTO_MONITOR.ordinal ()), ITrack::isAutoMonitor, ITrack::setAutoMonitor);
 
             default:
                 throw new FlexiHandlerException (command);
@@ -564,30 +362,24 @@ public class FxTrackHandler extends AbstractHandler
     }
 
 
-    private ITrack getTrack (final int trackIndex)
-    {
-        final ITrackBank tb = this.model.getEffectTrackBank ();
-        return trackIndex < 0 ? tb.getSelectedItem () : tb.getItem (trackIndex);
-    }
-
-
-    private void changeTrackVolume (final int knobMode, final int trackIndex, final int value)
+    /**
+     * The effect track bank has a fixed size, therefore the track can already be resolved when the
+     * command is bound.
+     *
+     * @param trackIndex The index of the track in the effect track bank
+     * @return Supplies the track
+     */
+    private Supplier<ITrack> getTrackSupplier (final int trackIndex)
     {
-        final ITrack track = this.getTrack (trackIndex);
-        if (isAbsolute (knobMode))
-            track.setVolume (value);
-        else
-            track.setVolume (this.limit (track.getVolume () + this.getRelativeSpeed (knobMode, value)));
+        final ITrack track = this.model.getEffectTrackBank ().getItem (trackIndex);
+        return () -> track;
     }
 
 
-    private void changeTrackPanorama (final int knobMode, final int trackIndex, final int value)
+    private void selectTrack (final ITrack track)
     {
-        final ITrack track = this.getTrack (trackIndex);
-        if (isAbsolute (knobMode))
-            track.setPan (value);
-        else
-            track.setPan (this.limit (track.getPan () + this.getRelativeSpeed (knobMode, value)));
+        track.select ();
+        this.surface.getDisplay ().notify (track.getName ());
     }
 
 
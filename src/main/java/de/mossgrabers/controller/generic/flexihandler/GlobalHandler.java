@@ -51,7 +51,9 @@ public class GlobalHandler extends AbstractHandler
             FlexiCommand.GLOBAL_PREVIOUS_PROJECT,
             FlexiCommand.GLOBAL_NEXT_PROJECT,
             FlexiCommand.GLOBAL_TOGGLE_AUDIO_ENGINE,
-            FlexiCommand.GLOBAL_SHIFT_BUTTON
+            FlexiCommand.GLOBAL_SHIFT_BUTTON,
+            FlexiCommand.GLOBAL_PREVIOUS_PRESET,
+            FlexiCommand.GLOBAL_NEXT_PRESET
         };
     }
 
@@ -112,6 +114,16 @@ public class GlobalHandler extends AbstractHandler
                 this.surface.setShiftPressed (isButtonPressed);
                 this.knobSpeedCommand.execute (isButtonPressed ? ButtonEvent.DOWN : ButtonEvent.UP);
                 break;
+            // Global: Previous Flexi Preset
+            case GLOBAL_PREVIOUS_PRESET:
+                if (isButtonPressed)
+                    this.configuration.selectPreviousPreset ();
+                break;
+            // Global: Next Flexi Preset
+            case GLOBAL_NEXT_PRESET:
+                if (isButtonPressed)
+                    this.configuration.selectNextPreset ();
+                break;
 
             default:
                 throw new FlexiHandlerException (command);
@@ -23,20 +23,11 @@ public interface IFlexiCommandHandler
 
 
     /**
-     * Get the current value of a command.
+     * Bind a command to a slot. Called only if the configuration of a slot has changed.
      *
-     * @param command The command
-     * @return The value or -1
-     */
-    int getCommandValue (FlexiCommand command);
-
-
-    /**
-     * Execute the given command (if supported).
-     *
-     * @param command The command to execute
+     * @param command The command to bind
      * @param knobMode If a knob is mapped this is the type of the knob (relative, absolute, ...)
-     * @param value The knob or button value
+     * @return The binding, which gets the value and executes the command
      */
-    void handle (FlexiCommand command, int knobMode, int value);
+    FlexiBinding bind (FlexiCommand command, int knobMode);
 }
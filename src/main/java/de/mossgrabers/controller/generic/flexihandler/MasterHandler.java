@@ -13,6 +13,8 @@ import de.mossgrabers.framework.daw.ITransport;
 import de.mossgrabers.framework.daw.data.IMasterTrack;
 import de.mossgrabers.framework.daw.data.ITrack;
 
+import java.util.function.Supplier;
+
 
 /**
  * The handler for master channel commands.
@@ -57,129 +59,52 @@ public class MasterHandler extends AbstractHandler
 
     /** {@inheritDoc} */
     @Override
-    public int getCommandValue (final FlexiCommand command)
+    public FlexiBinding bind (final FlexiCommand command, final int knobMode)
     {
         final IMasterTrack masterTrack = this.model.getMasterTrack ();
-
-        switch (command)
-        {
-            case MASTER_SET_VOLUME:
-                return masterTrack.getVolume ();
-
-            case MASTER_SET_PANORAMA:
-                return masterTrack.getPan ();
-
-            case MASTER_TOGGLE_MUTE:
-            case MASTER_SET_MUTE:
-                return masterTrack.isMute () ? 127 : 0;
-
-            case MASTER_TOGGLE_SOLO:
-            case MASTER_SET_SOLO:
-                return masterTrack.isSolo () ? 127 : 0;
-
-            case MASTER_TOGGLE_ARM:
-            case MASTER_SET_ARM:
-                return masterTrack.isRecArm () ? 127 : 0;
-
-            case MASTER_CROSSFADER:
-                return this.model.getTransport ().getCrossfade ();
-
-            default:
-                return -1;
-        }
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void handle (final FlexiCommand command, final int knobMode, final int value)
-    {
-        final boolean isButtonPressed = this.isButtonPressed (knobMode, value);
+        final Supplier<ITrack> track = () -> masterTrack;
 
         switch (command)
         {
             // Master: Set Volume
             case MASTER_SET_VOLUME:
-                this.changeMasterVolume (knobMode, value);
-                break;
+                return this.bindValue (knobMode, track, ITrack::getVolume, ITrack::setVolume);
 
             // Master: Set Panorama
             case MASTER_SET_PANORAMA:
-                this.changeMasterPanorama (knobMode, value);
-                break;
+                return this.bindValue (knobMode, track, ITrack::getPan, ITrack::setPan);
 
             // Master: Toggle Mute
             case MASTER_TOGGLE_MUTE:
-                if (isButtonPressed)
-                    this.model.getMasterTrack ().toggleMute ();
-                break;
+                return this.bindToggle (knobMode, track, ITrack::isMute, ITrack::toggleMute);
 
             // Master: Set Mute
             case MASTER_SET_MUTE:
-                if (isButtonPressed)
-                    this.model.getMasterTrack ().setMute (value > 0);
-                break;
+                return this.bindSet (knobMode, track, ITrack::isMute, ITrack::setMute);
 
             // Master: Toggle Solo
             case MASTER_TOGGLE_SOLO:
-                if (isButtonPressed)
-                    this.model.getMasterTrack ().toggleSolo ();
-                break;
+                return this.bindToggle (knobMode, track, ITrack::isSolo, ITrack::toggleSolo);
 
             // Master: Set Solo
             case MASTER_SET_SOLO:
-                if (isButtonPressed)
-                    this.model.getMasterTrack ().setSolo (value > 0);
-                break;
+                return this.bindSet (knobMode, track, ITrack::isSolo, ITrack::setSolo);
+
             // Master: Toggle Arm
             case MASTER_TOGGLE_ARM:
-                if (isButtonPressed)
-                    this.model.getMasterTrack ().toggleRecArm ();
-                break;
+                return this.bindToggle (knobMode, track, ITrack::isRecArm, ITrack::toggleRecArm);
 
             // Master: Set Arm
             case MASTER_SET_ARM:
-                if (isButtonPressed)
-                    this.model.getMasterTrack ().setRecArm (value > 0);
-                break;
+                return this.bindSet (knobMode, track, ITrack::isRecArm, ITrack::setRecArm);
 
             // Master: Crossfader
             case MASTER_CROSSFADER:
-                this.changeMasterCrossfader (knobMode, value);
-                break;
+                final ITransport transport = this.model.getTransport ();
+                return this.bindValue (knobMode, () -> transport, ITransport::getCrossfade, ITransport::setCrossfade);
 
             default:
                 throw new FlexiHandlerException (command);
         }
     }
-
-
-    private void changeMasterVolume (final int knobMode, final int value)
-    {
-        final ITrack track = this.model.getMasterTrack ();
-        if (isAbsolute (knobMode))
-            track.setVolume (value);
-        else
-            track.setVolume (this.limit (track.getVolume () + this.getRelativeSpeed (knobMode, value)));
-    }
-
-
-    private void changeMasterPanorama (final int knobMode, final int value)
-    {
-        final ITrack track = this.model.getMasterTrack ();
-        if (isAbsolute (knobMode))
-            track.setPan (value);
-        else
-            track.setPan (this.limit (track.getPan () + this.getRelativeSpeed (knobMode, value)));
-    }
-
-
-    private void changeMasterCrossfader (final int knobMode, final int value)
-    {
-        final ITransport transport = this.model.getTransport ();
-        if (isAbsolute (knobMode))
-            transport.setCrossfade (value);
-        else
-            transport.setCrossfade (this.limit (transport.getCrossfade () + this.getRelativeSpeed (knobMode, value)));
-    }
 }
@@ -17,6 +17,7 @@ import de.mossgrabers.framework.mode.Modes;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.IntSupplier;
 
 
 /**
@@ -113,31 +114,22 @@ public class ModesHandler extends AbstractHandler
 
     /** {@inheritDoc} */
     @Override
-    public int getCommandValue (final FlexiCommand command)
+    public FlexiBinding bind (final FlexiCommand command, final int knobMode)
     {
-        final Mode mode = this.modeManager.getActiveOrTempMode ();
-
         switch (command)
         {
             case MODES_KNOB1:
-                return mode == null ? 0 : mode.getKnobValue (0);
             case MODES_KNOB2:
-                return mode == null ? 0 : mode.getKnobValue (1);
             case MODES_KNOB3:
-                return mode == null ? 0 : mode.getKnobValue (2);
             case MODES_KNOB4:
-                return mode == null ? 0 : mode.getKnobValue (3);
             case MODES_KNOB5:
-                return mode == null ? 0 : mode.getKnobValue (4);
             case MODES_KNOB6:
-                return mode == null ? 0 : mode.getKnobValue (5);
             case MODES_KNOB7:
-                return mode == null ? 0 : mode.getKnobValue (6);
             case MODES_KNOB8:
-                return mode == null ? 0 : mode.getKnobValue (7);
+                return this.bindKnob (knobMode, command.ordinal () - FlexiCommand.MODES_KNOB1.ordinal ());
 
             default:
-                return -1;
+                return super.bind (command, knobMode);
         }
     }
 
@@ -154,17 +146,6 @@ public class ModesHandler extends AbstractHandler
 
         switch (command)
         {
-            case MODES_KNOB1:
-            case MODES_KNOB2:
-            case MODES_KNOB3:
-            case MODES_KNOB4:
-            case MODES_KNOB5:
-            case MODES_KNOB6:
-            case MODES_KNOB7:
-            case MODES_KNOB8:
-                this.changeModeValue (knobMode, command.ordinal () - FlexiCommand.MODES_KNOB1.ordinal (), value);
-                break;
-
             case MODES_BUTTON1:
             case MODES_BUTTON2:
             case MODES_BUTTON3:
@@ -278,17 +259,41 @@ public class ModesHandler extends AbstractHandler
     }
 
 
-    private void changeModeValue (final int knobMode, final int knobIndex, final int value)
+    /**
+     * Bind a knob of the active mode. Knobs of modes use the 14-bit values of the model.
+     *
+     * @param knobMode The knob mode of the slot
+     * @param knobIndex The index of the knob
+     * @return The binding
+     */
+    private FlexiBinding bindKnob (final int knobMode, final int knobIndex)
     {
-        final Mode mode = this.modeManager.getActiveOrTempMode ();
+        final IntSupplier valueGetter = () -> {
+            final Mode mode = this.modeManager.getActiveOrTempMode ();
+            return mode == null ? 0 : mode.getKnobValue (knobIndex);
+        };
         if (isAbsolute (knobMode))
+            return new FlexiBinding (valueGetter, value -> this.setModeValue (knobIndex, FlexiBinding.toHighRes (value)), value -> this.setModeValue (knobIndex, value));
+        return new FlexiBinding (valueGetter, value -> this.changeModeValue (knobMode, knobIndex, value), value -> this.changeModeValue (knobMode, knobIndex, value >> 7));
+    }
+
+
+    private void setModeValue (final int knobIndex, final int value)
+    {
+        final Mode mode = this.modeManager.getActiveOrTempMode ();
+        if (mode != null)
             mode.onKnobValue (knobIndex, value);
-        else
-        {
-            final int knobValue = mode.getKnobValue (knobIndex);
-            final int relativeSpeed = (int) Math.round (this.getRelativeSpeed (knobMode, value));
-            mode.onKnobValue (knobIndex, knobValue == -1 ? relativeSpeed : (int) this.limit ((double) knobValue + relativeSpeed));
-        }
+    }
+
+
+    private void changeModeValue (final int knobMode, final int knobIndex, final int value)
+    {
+        final Mode mode = this.modeManager.getActiveOrTempMode ();
+        if (mode == null)
+            return;
+        final int knobValue = mode.getKnobValue (knobIndex);
+        final int relativeSpeed = (int) Math.round (this.getRelativeSpeed (knobMode, value));
+        mode.onKnobValue (knobIndex, knobValue == -1 ? relativeSpeed : (int) this.limit ((double) knobValue + relativeSpeed));
     }
 
 
@@ -15,9 +15,12 @@ import de.mossgrabers.framework.daw.ISendBank;
 import de.mossgrabers.framework.daw.ITrackBank;
 import de.mossgrabers.framework.daw.data.ISend;
 import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.daw.data.empty.EmptySend;
 import de.mossgrabers.framework.daw.data.empty.EmptyTrack;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
+import java.util.function.Supplier;
+
 
 /**
  * The handler for track commands.
@@ -273,347 +276,36 @@ public class TrackHandler extends AbstractHandler
 
     /** {@inheritDoc} */
     @Override
-    public int getCommandValue (final FlexiCommand command)
+    public FlexiBinding bind (final FlexiCommand command, final int knobMode)
     {
-        final ITrackBank trackBank = this.model.getCurrentTrackBank ();
-        if (trackBank == null)
-            return -1;
-
-        switch (command)
-        {
-            case TRACK_1_SELECT:
-            case TRACK_2_SELECT:
-            case TRACK_3_SELECT:
-            case TRACK_4_SELECT:
-            case TRACK_5_SELECT:
-            case TRACK_6_SELECT:
-            case TRACK_7_SELECT:
-            case TRACK_8_SELECT:
-                return trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_SELECT.ordinal ()).isSelected () ? 127 : 0;
-
-            case TRACK_1_TOGGLE_ACTIVE:
-            case TRACK_2_TOGGLE_ACTIVE:
-            case TRACK_3_TOGGLE_ACTIVE:
-            case TRACK_4_TOGGLE_ACTIVE:
-            case TRACK_5_TOGGLE_ACTIVE:
-            case TRACK_6_TOGGLE_ACTIVE:
-            case TRACK_7_TOGGLE_ACTIVE:
-            case TRACK_8_TOGGLE_ACTIVE:
-                return trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_TOGGLE_ACTIVE.ordinal ()).isActivated () ? 127 : 0;
-            case TRACK_1_SET_ACTIVE:
-            case TRACK_2_SET_ACTIVE:
-            case TRACK_3_SET_ACTIVE:
-            case TRACK_4_SET_ACTIVE:
-            case TRACK_5_SET_ACTIVE:
-            case TRACK_6_SET_ACTIVE:
-            case TRACK_7_SET_ACTIVE:
-            case TRACK_8_SET_ACTIVE:
-                return trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_SET_ACTIVE.ordinal ()).isActivated () ? 127 : 0;
-
-            case TRACK_SELECTED_TOGGLE_ACTIVE:
-            case TRACK_SELECTED_SET_ACTIVE:
-                final ITrack selectedTrack = this.model.getSelectedTrack ();
-                return selectedTrack != null && selectedTrack.isActivated () ? 127 : 0;
-
-            case TRACK_1_SET_VOLUME:
-            case TRACK_2_SET_VOLUME:
-            case TRACK_3_SET_VOLUME:
-            case TRACK_4_SET_VOLUME:
-            case TRACK_5_SET_VOLUME:
-            case TRACK_6_SET_VOLUME:
-            case TRACK_7_SET_VOLUME:
-            case TRACK_8_SET_VOLUME:
-                return trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_SET_VOLUME.ordinal ()).getVolume ();
-
-            case TRACK_SELECTED_SET_VOLUME_TRACK:
-                final ITrack sel = this.model.getSelectedTrack ();
-                return sel == null ? 0 : sel.getVolume ();
-
-            case TRACK_1_SET_PANORAMA:
-            case TRACK_2_SET_PANORAMA:
-            case TRACK_3_SET_PANORAMA:
-            case TRACK_4_SET_PANORAMA:
-            case TRACK_5_SET_PANORAMA:
-            case TRACK_6_SET_PANORAMA:
-            case TRACK_7_SET_PANORAMA:
-            case TRACK_8_SET_PANORAMA:
-                return trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_SET_PANORAMA.ordinal ()).getPan ();
-
-            case TRACK_SELECTED_SET_PANORAMA:
-                final ITrack selTrack = this.model.getSelectedTrack ();
-                return selTrack == null ? 0 : selTrack.getPan ();
-
-            case TRACK_1_TOGGLE_MUTE:
-            case TRACK_2_TOGGLE_MUTE:
-            case TRACK_3_TOGGLE_MUTE:
-            case TRACK_4_TOGGLE_MUTE:
-            case TRACK_5_TOGGLE_MUTE:
-            case TRACK_6_TOGGLE_MUTE:
-            case TRACK_7_TOGGLE_MUTE:
-            case TRACK_8_TOGGLE_MUTE:
-                return trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_TOGGLE_MUTE.ordinal ()).isMute () ? 127 : 0;
-            case TRACK_1_SET_MUTE:
-            case TRACK_2_SET_MUTE:
-            case TRACK_3_SET_MUTE:
-            case TRACK_4_SET_MUTE:
-            case TRACK_5_SET_MUTE:
-            case TRACK_6_SET_MUTE:
-            case TRACK_7_SET_MUTE:
-            case TRACK_8_SET_MUTE:
-                return trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_SET_MUTE.ordinal ()).isMute () ? 127 : 0;
-
-            case TRACK_SELECTED_TOGGLE_MUTE:
-            case TRACK_SELECTED_SET_MUTE:
-                final ITrack track = this.model.getSelectedTrack ();
-                return track != null && track.isMute () ? 127 : 0;
-
-            case TRACK_1_TOGGLE_SOLO:
-            case TRACK_2_TOGGLE_SOLO:
-            case TRACK_3_TOGGLE_SOLO:
-            case TRACK_4_TOGGLE_SOLO:
-            case TRACK_5_TOGGLE_SOLO:
-            case TRACK_6_TOGGLE_SOLO:
-            case TRACK_7_TOGGLE_SOLO:
-            case TRACK_8_TOGGLE_SOLO:
-                return trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_TOGGLE_SOLO.ordinal ()).isSolo () ? 127 : 0;
-            case TRACK_1_SET_SOLO:
-            case TRACK_2_SET_SOLO:
-            case TRACK_3_SET_SOLO:
-            case TRACK_4_SET_SOLO:
-            case TRACK_5_SET_SOLO:
-            case TRACK_6_SET_SOLO:
-            case TRACK_7_SET_SOLO:
-            case TRACK_8_SET_SOLO:
-                return trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_SET_SOLO.ordinal ()).isSolo () ? 127 : 0;
-
-            case TRACK_SELECTED_TOGGLE_SOLO:
-            case TRACK_SELECTED_SET_SOLO:
-                final ITrack track2 = this.model.getSelectedTrack ();
-                return track2 != null && track2.isSolo () ? 127 : 0;
-
-            case TRACK_1_TOGGLE_ARM:
-            case TRACK_2_TOGGLE_ARM:
-            case TRACK_3_TOGGLE_ARM:
-            case TRACK_4_TOGGLE_ARM:
-            case TRACK_5_TOGGLE_ARM:
-            case TRACK_6_TOGGLE_ARM:
-            case TRACK_7_TOGGLE_ARM:
-            case TRACK_8_TOGGLE_ARM:
-                return trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_TOGGLE_ARM.ordinal ()).isRecArm () ? 127 : 0;
-            case TRACK_1_SET_ARM:
-            case TRACK_2_SET_ARM:
-            case TRACK_3_SET_ARM:
-            case TRACK_4_SET_ARM:
-            case TRACK_5_SET_ARM:
-            case TRACK_6_SET_ARM:
-            case TRACK_7_SET_ARM:
-            case TRACK_8_SET_ARM:
-                return trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_SET_ARM.ordinal ()).isRecArm () ? 127 : 0;
-
-            case TRACK_SELECTED_TOGGLE_ARM:
-            case TRACK_SELECTED_SET_ARM:
-                final ITrack track3 = this.model.getSelectedTrack ();
-                return track3 != null && track3.isRecArm () ? 127 : 0;
-
-            case TRACK_1_TOGGLE_MONITOR:
-            case TRACK_2_TOGGLE_MONITOR:
-            case TRACK_3_TOGGLE_MONITOR:
-            case TRACK_4_TOGGLE_MONITOR:
-            case TRACK_5_TOGGLE_MONITOR:
-            case TRACK_6_TOGGLE_MONITOR:
-            case TRACK_7_TOGGLE_MONITOR:
-            case TRACK_8_TOGGLE_MONITOR:
-                return trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_TOGGLE_MONITOR.ordinal ()).isMonitor () ? 127 : 0;
-            case TRACK_1_SET_MONITOR:
-            case TRACK_2_SET_MONITOR:
-            case TRACK_3_SET_MONITOR:
-            case TRACK_4_SET_MONITOR:
-            case TRACK_5_SET_MONITOR:
-            case TRACK_6_SET_MONITOR:
-            case TRACK_7_SET_MONITOR:
-            case TRACK_8_SET_MONITOR:
-                return trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_SET_MONITOR.ordinal ()).isMonitor () ? 127 : 0;
-
-            case TRACK_SELECTED_TOGGLE_MONITOR:
-            case TRACK_SELECTED_SET_MONITOR:
-                final ITrack track4 = this.model.getSelectedTrack ();
-                return track4 != null && track4.isMonitor () ? 127 : 0;
-
-            case TRACK_1_TOGGLE_AUTO_MONITOR:
-            case TRACK_2_TOGGLE_AUTO_MONITOR:
-            case TRACK_3_TOGGLE_AUTO_MONITOR:
-            case TRACK_4_TOGGLE_AUTO_MONITOR:
-            case TRACK_5_TOGGLE_AUTO_MONITOR:
-            case TRACK_6_TOGGLE_AUTO_MONITOR:
-            case TRACK_7_TOGGLE_AUTO_MONITOR:
-            case TRACK_8_TOGGLE_AUTO_MONITOR:
-                return trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_TOGGLE_AUTO_MONITOR.ordinal ()).isAutoMonitor () ? 127 : 0;
-            case TRACK_1_SET_AUTO_MONITOR:
-            case TRACK_2_SET_AUTO_MONITOR:
-            case TRACK_3_SET_AUTO_MONITOR:
-            case TRACK_4_SET_AUTO_MONITOR:
-            case TRACK_5_SET_AUTO_MONITOR:
-            case TRACK_6_SET_AUTO_MONITOR:
-            case TRACK_7_SET_AUTO_MONITOR:
-            case TRACK_8_SET_AUTO_MONITOR:
-                return trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_SET_AUTO_MONITOR.ordinal ()).isAutoMonitor () ? 127 : 0;
-
-            case TRACK_SELECTED_TOGGLE_AUTO_MONITOR:
-            case TRACK_SELECTED_SET_AUTO_MONITOR:
-                final ITrack track5 = this.model.getSelectedTrack ();
-                return track5 != null && track5.isAutoMonitor () ? 127 : 0;
-
-            case TRACK_1_SET_SEND_1:
-            case TRACK_2_SET_SEND_1:
-            case TRACK_3_SET_SEND_1:
-            case TRACK_4_SET_SEND_1:
-            case TRACK_5_SET_SEND_1:
-            case TRACK_6_SET_SEND_1:
-            case TRACK_7_SET_SEND_1:
-            case TRACK_8_SET_SEND_1:
-                return this.getSendValue (command.ordinal () - FlexiCommand.TRACK_1_SET_SEND_1.ordinal (), 0);
-
-            case TRACK_1_SET_SEND_2:
-            case TRACK_2_SET_SEND_2:
-            case TRACK_3_SET_SEND_2:
-            case TRACK_4_SET_SEND_2:
-            case TRACK_5_SET_SEND_2:
-            case TRACK_6_SET_SEND_2:
-            case TRACK_7_SET_SEND_2:
-            case TRACK_8_SET_SEND_2:
-                return this.getSendValue (command.ordinal () - FlexiCommand.TRACK_1_SET_SEND_2.ordinal (), 1);
-
-            case TRACK_1_SET_SEND_3:
-            case TRACK_2_SET_SEND_3:
-            case TRACK_3_SET_SEND_3:
-            case TRACK_4_SET_SEND_3:
-            case TRACK_5_SET_SEND_3:
-            case TRACK_6_SET_SEND_3:
-            case TRACK_7_SET_SEND_3:
-            case TRACK_8_SET_SEND_3:
-                return this.getSendValue (command.ordinal () - FlexiCommand.TRACK_1_SET_SEND_3.ordinal (), 2);
-
-            case TRACK_1_SET_SEND_4:
-            case TRACK_2_SET_SEND_4:
-            case TRACK_3_SET_SEND_4:
-            case TRACK_4_SET_SEND_4:
-            case TRACK_5_SET_SEND_4:
-            case TRACK_6_SET_SEND_4:
-            case TRACK_7_SET_SEND_4:
-            case TRACK_8_SET_SEND_4:
-                return this.getSendValue (command.ordinal () - FlexiCommand.TRACK_1_SET_SEND_4.ordinal (), 3);
-
-            case TRACK_1_SET_SEND_5:
-            case TRACK_2_SET_SEND_5:
-            case TRACK_3_SET_SEND_5:
-            case TRACK_4_SET_SEND_5:
-            case TRACK_5_SET_SEND_5:
-            case TRACK_6_SET_SEND_5:
-            case TRACK_7_SET_SEND_5:
-            case TRACK_8_SET_SEND_5:
-                return this.getSendValue (command.ordinal () - FlexiCommand.TRACK_1_SET_SEND_5.ordinal (), 4);
-
-            case TRACK_1_SET_SEND_6:
-            case TRACK_2_SET_SEND_6:
-            case TRACK_3_SET_SEND_6:
-            case TRACK_4_SET_SEND_6:
-            case TRACK_5_SET_SEND_6:
-            case TRACK_6_SET_SEND_6:
-            case TRACK_7_SET_SEND_6:
-            case TRACK_8_SET_SEND_6:
-                return this.getSendValue (command.ordinal () - FlexiCommand.TRACK_1_SET_SEND_6.ordinal (), 5);
-
-            case TRACK_1_SET_SEND_7:
-            case TRACK_2_SET_SEND_7:
-            case TRACK_3_SET_SEND_7:
-            case TRACK_4_SET_SEND_7:
-            case TRACK_5_SET_SEND_7:
-            case TRACK_6_SET_SEND_7:
-            case TRACK_7_SET_SEND_7:
-            case TRACK_8_SET_SEND_7:
-                return this.getSendValue (command.ordinal () - FlexiCommand.TRACK_1_SET_SEND_7.ordinal (), 6);
-
-            case TRACK_1_SET_SEND_8:
-            case TRACK_2_SET_SEND_8:
-            case TRACK_3_SET_SEND_8:
-            case TRACK_4_SET_SEND_8:
-            case TRACK_5_SET_SEND_8:
-            case TRACK_6_SET_SEND_8:
-            case TRACK_7_SET_SEND_8:
-            case TRACK_8_SET_SEND_8:
-                return this.getSendValue (command.ordinal () - FlexiCommand.TRACK_1_SET_SEND_8.ordinal (), 7);
-
-            case TRACK_SELECTED_SET_SEND_1:
-            case TRACK_SELECTED_SET_SEND_2:
-            case TRACK_SELECTED_SET_SEND_3:
-            case TRACK_SELECTED_SET_SEND_4:
-            case TRACK_SELECTED_SET_SEND_5:
-            case TRACK_SELECTED_SET_SEND_6:
-            case TRACK_SELECTED_SET_SEND_7:
-            case TRACK_SELECTED_SET_SEND_8:
-                return this.getSendValue (-1, command.ordinal () - FlexiCommand.TRACK_SELECTED_SET_SEND_1.ordinal ());
-
-            default:
-                return -1;
-        }
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void handle (final FlexiCommand command, final int knobMode, final int value)
-    {
-        final ITrackBank trackBank = this.model.getCurrentTrackBank ();
-        if (trackBank == null)
-            return;
-
-        final boolean isButtonPressed = this.isButtonPressed (knobMode, value);
-
         switch (command)
         {
             case TRACK_TOGGLE_TRACK_BANK:
-                if (isButtonPressed)
-                    this.toggleTrackBankCommand.execute (ButtonEvent.DOWN);
-                break;
+                return this.bindButton (knobMode, FlexiBinding::noValue, value -> this.toggleTrackBankCommand.execute (ButtonEvent.DOWN));
             // Track: Add Audio Track
             case TRACK_ADD_AUDIO_TRACK:
-                if (isButtonPressed)
-                    this.model.getApplication ().addAudioTrack ();
-                break;
+                return this.bindButton (knobMode, FlexiBinding::noValue, value -> this.model.getApplication ().addAudioTrack ());
             // Track: Add Effect Track
             case TRACK_ADD_EFFECT_TRACK:
-                if (isButtonPressed)
-                    this.model.getApplication ().addEffectTrack ();
-                break;
+                return this.bindButton (knobMode, FlexiBinding::noValue, value -> this.model.getApplication ().addEffectTrack ());
             // Track: Add Instrument Track
             case TRACK_ADD_INSTRUMENT_TRACK:
-                if (isButtonPressed)
-                    this.model.getApplication ().addInstrumentTrack ();
-                break;
+                return this.bindButton (knobMode, FlexiBinding::noValue, value -> this.model.getApplication ().addInstrumentTrack ());
             // Track: Select Previous Bank Page
             case TRACK_SELECT_PREVIOUS_BANK_PAGE:
-                if (isButtonPressed)
-                    this.scrollTrackLeft (true);
-                break;
+                return this.bindButton (knobMode, FlexiBinding::noValue, value -> this.scrollTrackLeft (true));
             // Track: Select Next Bank Page
             case TRACK_SELECT_NEXT_BANK_PAGE:
-                if (isButtonPressed)
-                    this.scrollTrackRight (true);
-                break;
+                return this.bindButton (knobMode, FlexiBinding::noValue, value -> this.scrollTrackRight (true));
             // Track: Select Previous Track
             case TRACK_SELECT_PREVIOUS_TRACK:
-                if (isButtonPressed)
-                    this.scrollTrackLeft (false);
-                break;
+                return this.bindButton (knobMode, FlexiBinding::noValue, value -> this.scrollTrackLeft (false));
             // Track: Select Next Track
             case TRACK_SELECT_NEXT_TRACK:
-                if (isButtonPressed)
-                    this.scrollTrackRight (false);
-                break;
+                return this.bindButton (knobMode, FlexiBinding::noValue, value -> this.scrollTrackRight (false));
 
             case TRACK_SCROLL_TRACKS:
-                this.scrollTrack (knobMode, value);
-                break;
+                return new FlexiBinding (FlexiBinding::noValue, value -> this.scrollTrack (knobMode, value));
 
             // Track 1-8: Select
             case TRACK_1_SELECT:
@@ -624,13 +316,7 @@ public class TrackHandler extends AbstractHandler
             case TRACK_6_SELECT:
             case TRACK_7_SELECT:
             case TRACK_8_SELECT:
-                if (isButtonPressed)
-                {
-                    final ITrack track = trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_SELECT.ordinal ());
-                    track.select ();
-                    this.surface.getDisplay ().notify (track.getName ());
-                }
-                break;
+                return this.bindToggle (knobMode, this.getTrackSupplier (command.ordinal () - FlexiCommand.TRACK_1_SELECT.ordinal ()), ITrack::isSelected, this::selectTrack);
 
             // Track 1-8: Toggle Active
             case TRACK_1_TOGGLE_ACTIVE:
@@ -641,9 +327,7 @@ public class TrackHandler extends AbstractHandler
             case TRACK_6_TOGGLE_ACTIVE:
             case TRACK_7_TOGGLE_ACTIVE:
             case TRACK_8_TOGGLE_ACTIVE:
-                if (isButtonPressed)
-                    trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_TOGGLE_ACTIVE.ordinal ()).toggleIsActivated ();
-                break;
+                return this.bindToggle (knobMode, this.getTrackSupplier (command.ordinal () - FlexiCommand.TRACK_1_TOGGLE_ACTIVE.ordinal ()), ITrack::isActivated, ITrack::toggleIsActivated);
             // Track 1-8: Set Active
             case TRACK_1_SET_ACTIVE:
             case TRACK_2_SET_ACTIVE:
@@ -653,25 +337,13 @@ public class TrackHandler extends AbstractHandler
             case TRACK_6_SET_ACTIVE:
             case TRACK_7_SET_ACTIVE:
             case TRACK_8_SET_ACTIVE:
-                if (isButtonPressed)
-                    trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_SET_ACTIVE.ordinal ()).setIsActivated (value > 0);
-                break;
+                return this.bindSet (knobMode, this.getTrackSupplier (command.ordinal () - FlexiCommand.TRACK_1_SET_ACTIVE.ordinal ()), ITrack::isActivated, ITrack::setIsActivated);
+            // Track Selected: Toggle Active
             case TRACK_SELECTED_TOGGLE_ACTIVE:
-                if (isButtonPressed)
-                {
-                    final ITrack selectedTrack = this.model.getSelectedTrack ();
-                    if (selectedTrack != null)
-                        selectedTrack.toggleIsActivated ();
-                }
-                break;
+                return this.bindToggle (knobMode, this::getSelectedTrack, ITrack::isActivated, ITrack::toggleIsActivated);
+            // Track Selected: Set Active
             case TRACK_SELECTED_SET_ACTIVE:
-                if (isButtonPressed)
-                {
-                    final ITrack selectedTrack = this.model.getSelectedTrack ();
-                    if (selectedTrack != null)
-                        selectedTrack.setIsActivated (value > 0);
-                }
-                break;
+                return this.bindSet (knobMode, this::getSelectedTrack, ITrack::isActivated, ITrack::setIsActivated);
 
             // Track 1-8: Set Volume
             case TRACK_1_SET_VOLUME:
@@ -682,12 +354,10 @@ public class TrackHandler extends AbstractHandler
             case TRACK_6_SET_VOLUME:
             case TRACK_7_SET_VOLUME:
             case TRACK_8_SET_VOLUME:
-                this.changeTrackVolume (knobMode, command.ordinal () - FlexiCommand.TRACK_1_SET_VOLUME.ordinal (), value);
-                break;
+                return this.bindValue (knobMode, this.getTrackSupplier (command.ordinal () - FlexiCommand.TRACK_1_SET_VOLUME.ordinal ()), ITrack::getVolume, ITrack::setVolume);
             // Track Selected: Set Volume Track
             case TRACK_SELECTED_SET_VOLUME_TRACK:
-                this.changeTrackVolume (knobMode, -1, value);
-                break;
+                return this.bindValue (knobMode, this.getTrackSupplier (-1), ITrack::getVolume, ITrack::setVolume);
 
             // Track 1-8: Set Panorama
             case TRACK_1_SET_PANORAMA:
@@ -698,12 +368,10 @@ public class TrackHandler extends AbstractHandler
             case TRACK_6_SET_PANORAMA:
             case TRACK_7_SET_PANORAMA:
             case TRACK_8_SET_PANORAMA:
-                this.changeTrackPanorama (knobMode, command.ordinal () - FlexiCommand.TRACK_1_SET_PANORAMA.ordinal (), value);
-                break;
+                return this.bindValue (knobMode, this.getTrackSupplier (command.ordinal () - FlexiCommand.TRACK_1_SET_PANORAMA.ordinal ()), ITrack::getPan, ITrack::setPan);
             // Track Selected: Set Panorama
             case TRACK_SELECTED_SET_PANORAMA:
-                this.changeTrackPanorama (knobMode, -1, value);
-                break;
+                return this.bindValue (knobMode, this.getTrackSupplier (-1), ITrack::getPan, ITrack::setPan);
 
             // Track 1-8: Toggle Mute
             case TRACK_1_TOGGLE_MUTE:
@@ -714,9 +382,7 @@ public class TrackHandler extends AbstractHandler
             case TRACK_6_TOGGLE_MUTE:
             case TRACK_7_TOGGLE_MUTE:
             case TRACK_8_TOGGLE_MUTE:
-                if (isButtonPressed)
-                    trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_TOGGLE_MUTE.ordinal ()).toggleMute ();
-                break;
+                return this.bindToggle (knobMode, this.getTrackSupplier (command.ordinal () - FlexiCommand.TRACK_1_TOGGLE_MUTE.ordinal ()), ITrack::isMute, ITrack::toggleMute);
             // Track 1-8: Set Mute
             case TRACK_1_SET_MUTE:
             case TRACK_2_SET_MUTE:
@@ -726,27 +392,13 @@ public class TrackHandler extends AbstractHandler
             case TRACK_6_SET_MUTE:
             case TRACK_7_SET_MUTE:
             case TRACK_8_SET_MUTE:
-                if (isButtonPressed)
-                    trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_SET_MUTE.ordinal ()).setMute (value > 0);
-                break;
+                return this.bindSet (knobMode, this.getTrackSupplier (command.ordinal () - FlexiCommand.TRACK_1_SET_MUTE.ordinal ()), ITrack::isMute, ITrack::setMute);
             // Track Selected: Toggle Mute
             case TRACK_SELECTED_TOGGLE_MUTE:
-                if (isButtonPressed)
-                {
-                    final ITrack selectedTrack = this.model.getSelectedTrack ();
-                    if (selectedTrack != null)
-                        selectedTrack.toggleMute ();
-                }
-                break;
+                return this.bindToggle (knobMode, this::getSelectedTrack, ITrack::isMute, ITrack::toggleMute);
             // Track Selected: Set Mute
             case TRACK_SELECTED_SET_MUTE:
-                if (isButtonPressed)
-                {
-                    final ITrack selectedTrack = this.model.getSelectedTrack ();
-                    if (selectedTrack != null)
-                        selectedTrack.setMute (value > 0);
-                }
-                break;
+                return this.bindSet (knobMode, this::getSelectedTrack, ITrack::isMute, ITrack::setMute);
 
             // Track 1-8: Toggle Solo
             case TRACK_1_TOGGLE_SOLO:
@@ -757,9 +409,7 @@ public class TrackHandler extends AbstractHandler
             case TRACK_6_TOGGLE_SOLO:
             case TRACK_7_TOGGLE_SOLO:
             case TRACK_8_TOGGLE_SOLO:
-                if (isButtonPressed)
-                    trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_TOGGLE_SOLO.ordinal ()).toggleSolo ();
-                break;
+                return this.bindToggle (knobMode, this.getTrackSupplier (command.ordinal () - FlexiCommand.TRACK_1_TOGGLE_SOLO.ordinal ()), ITrack::isSolo, ITrack::toggleSolo);
             // Track 1-8: Set Solo
             case TRACK_1_SET_SOLO:
             case TRACK_2_SET_SOLO:
@@ -769,27 +419,13 @@ public class TrackHandler extends AbstractHandler
             case TRACK_6_SET_SOLO:
             case TRACK_7_SET_SOLO:
             case TRACK_8_SET_SOLO:
-                if (isButtonPressed)
-                    trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_SET_SOLO.ordinal ()).setSolo (value > 0);
-                break;
+                return this.bindSet (knobMode, this.getTrackSupplier (command.ordinal () - FlexiCommand.TRACK_1_SET_SOLO.ordinal ()), ITrack::isSolo, ITrack::setSolo);
             // Track Selected: Toggle Solo
             case TRACK_SELECTED_TOGGLE_SOLO:
-                if (isButtonPressed)
-                {
-                    final ITrack selectedTrack = this.model.getSelectedTrack ();
-                    if (selectedTrack != null)
-                        selectedTrack.toggleSolo ();
-                }
-                break;
+                return this.bindToggle (knobMode, this::getSelectedTrack, ITrack::isSolo, ITrack::toggleSolo);
             // Track Selected: Set Solo
             case TRACK_SELECTED_SET_SOLO:
-                if (isButtonPressed)
-                {
-                    final ITrack selectedTrack = this.model.getSelectedTrack ();
-                    if (selectedTrack != null)
-                        selectedTrack.setSolo (value > 0);
-                }
-                break;
+                return this.bindSet (knobMode, this::getSelectedTrack, ITrack::isSolo, ITrack::setSolo);
 
             // Track 1-8: Toggle Arm
             case TRACK_1_TOGGLE_ARM:
@@ -800,9 +436,7 @@ public class TrackHandler extends AbstractHandler
             case TRACK_6_TOGGLE_ARM:
             case TRACK_7_TOGGLE_ARM:
             case TRACK_8_TOGGLE_ARM:
-                if (isButtonPressed)
-                    trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_TOGGLE_ARM.ordinal ()).toggleRecArm ();
-                break;
+                return this.bindToggle (knobMode, this.getTrackSupplier (command.ordinal () - FlexiCommand.TRACK_1_TOGGLE_ARM.ordinal ()), ITrack::isRecArm, ITrack::toggleRecArm);
             // Track 1-8: Set Arm
             case TRACK_1_SET_ARM:
             case TRACK_2_SET_ARM:
@@ -812,27 +446,13 @@ public class TrackHandler extends AbstractHandler
             case TRACK_6_SET_ARM:
             case TRACK_7_SET_ARM:
             case TRACK_8_SET_ARM:
-                if (isButtonPressed)
-                    trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_SET_ARM.ordinal ()).setRecArm (value > 0);
-                break;
+                return this.bindSet (knobMode, this.getTrackSupplier (command.ordinal () - FlexiCommand.TRACK_1_SET_ARM.ordinal ()), ITrack::isRecArm, ITrack::setRecArm);
             // Track Selected: Toggle Arm
             case TRACK_SELECTED_TOGGLE_ARM:
-                if (isButtonPressed)
-                {
-                    final ITrack selectedTrack = this.model.getSelectedTrack ();
-                    if (selectedTrack != null)
-                        selectedTrack.toggleRecArm ();
-                }
-                break;
+                return this.bindToggle (knobMode, this::getSelectedTrack, ITrack::isRecArm, ITrack::toggleRecArm);
             // Track Selected: Set Arm
             case TRACK_SELECTED_SET_ARM:
-                if (isButtonPressed)
-                {
-                    final ITrack selectedTrack = this.model.getSelectedTrack ();
-                    if (selectedTrack != null)
-                        selectedTrack.setRecArm (value > 0);
-                }
-                break;
+                return this.bindSet (knobMode, this::getSelectedTrack, ITrack::isRecArm, ITrack::setRecArm);
 
             // Track 1-8: Toggle Monitor
             case TRACK_1_TOGGLE_MONITOR:
@@ -843,9 +463,7 @@ public class TrackHandler extends AbstractHandler
             case TRACK_6_TOGGLE_MONITOR:
             case TRACK_7_TOGGLE_MONITOR:
             case TRACK_8_TOGGLE_MONITOR:
-                if (isButtonPressed)
-                    trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_TOGGLE_MONITOR.ordinal ()).toggleMonitor ();
-                break;
+                return this.bindToggle (knobMode, this.getTrackSupplier (command.ordinal () - FlexiCommand.TRACK_1_TOGGLE_MONITOR.ordinal ()), ITrack::isMonitor, ITrack::toggleMonitor);
             // Track 1-8: Set Monitor
             case TRACK_1_SET_MONITOR:
             case TRACK_2_SET_MONITOR:
@@ -855,29 +473,15 @@ public class TrackHandler extends AbstractHandler
             case TRACK_6_SET_MONITOR:
             case TRACK_7_SET_MONITOR:
             case TRACK_8_SET_MONITOR:
-                if (isButtonPressed)
-                    trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_SET_MONITOR.ordinal ()).setMonitor (value > 0);
-                break;
+                return this.bindSet (knobMode, this.getTrackSupplier (command.ordinal () - FlexiCommand.TRACK_1_SET_MONITOR.ordinal ()), ITrack::isMonitor, ITrack::setMonitor);
             // Track Selected: Toggle Monitor
             case TRACK_SELECTED_TOGGLE_MONITOR:
-                if (isButtonPressed)
-                {
-                    final ITrack selectedTrack = this.model.getSelectedTrack ();
-                    if (selectedTrack != null)
-                        selectedTrack.toggleMonitor ();
-                }
-                break;
+                return this.bindToggle (knobMode, this::getSelectedTrack, ITrack::isMonitor, ITrack::toggleMonitor);
             // Track Selected: Set Monitor
             case TRACK_SELECTED_SET_MONITOR:
-                if (isButtonPressed)
-                {
-                    final ITrack selectedTrack = this.model.getSelectedTrack ();
-                    if (selectedTrack != null)
-                        selectedTrack.setMonitor (value > 0);
-                }
-                break;
+                return this.bindSet (knobMode, this::getSelectedTrack, ITrack::isMonitor, ITrack::setMonitor);
 
-            // Track 1: Toggle Auto Monitor
+            // Track 1-8: Toggle Auto Monitor
             case TRACK_1_TOGGLE_AUTO_MONITOR:
             case TRACK_2_TOGGLE_AUTO_MONITOR:
             case TRACK_3_TOGGLE_AUTO_MONITOR:
@@ -886,10 +490,8 @@ public class TrackHandler extends AbstractHandler
             case TRACK_6_TOGGLE_AUTO_MONITOR:
             case TRACK_7_TOGGLE_AUTO_MONITOR:
             case TRACK_8_TOGGLE_AUTO_MONITOR:
-                if (isButtonPressed)
-                    trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_TOGGLE_AUTO_MONITOR.ordinal ()).toggleAutoMonitor ();
-                break;
-            // Track 1: Set Auto Monitor
+                return this.bindToggle (knobMode, this.getTrackSupplier (command.ordinal () - FlexiCommand.TRACK_1_TOGGLE_AUTO_MONITOR.ordinal ()), ITrack::isAutoMonitor, ITrack::toggleAutoMonitor);
+            // Track 1-8: Set Auto Monitor
             case TRACK_1_SET_AUTO_MONITOR:
             case TRACK_2_SET_AUTO_MONITOR:
             case TRACK_3_SET_AUTO_MONITOR:
@@ -898,27 +500,13 @@ public class TrackHandler extends AbstractHandler
             case TRACK_6_SET_AUTO_MONITOR:
             case TRACK_7_SET_AUTO_MONITOR:
             case TRACK_8_SET_AUTO_MONITOR:
-                if (isButtonPressed)
-                    trackBank.getItem (command.ordinal () - FlexiCommand.TRACK_1_SET_AUTO_MONITOR.ordinal ()).setAutoMonitor (value > 0);
-                break;
+                return this.bindSet (knobMode, this.getTrackSupplier (command.ordinal () - FlexiCommand.TRACK_1_SET_AUTO_MONITOR.ordinal ()), ITrack::isAutoMonitor, ITrack::setAutoMonitor);
             // Track Selected: Toggle Auto Monitor
             case TRACK_SELECTED_TOGGLE_AUTO_MONITOR:
-                if (isButtonPressed)
-                {
-                    final ITrack selectedTrack = this.model.getSelectedTrack ();
-                    if (selectedTrack != null)
-                        selectedTrack.toggleAutoMonitor ();
-                }
-                break;
+                return this.bindToggle (knobMode, this::getSelectedTrack, ITrack::isAutoMonitor, ITrack::toggleAutoMonitor);
             // Track Selected: Set Auto Monitor
             case TRACK_SELECTED_SET_AUTO_MONITOR:
-                if (isButtonPressed)
-                {
-                    final ITrack selectedTrack = this.model.getSelectedTrack ();
-                    if (selectedTrack != null)
-                        selectedTrack.setAutoMonitor (value > 0);
-                }
-                break;
+                return this.bindSet (knobMode, this::getSelectedTrack, ITrack::isAutoMonitor, ITrack::setAutoMonitor);
 
             // Track 1-8: Set Send 1
             case TRACK_1_SET_SEND_1:
@@ -929,8 +517,7 @@ public class TrackHandler extends AbstractHandler
             case TRACK_6_SET_SEND_1:
             case TRACK_7_SET_SEND_1:
             case TRACK_8_SET_SEND_1:
-                this.changeSendVolume (command.ordinal () - FlexiCommand.TRACK_1_SET_SEND_1.ordinal (), 0, knobMode, value);
-                break;
+                return this.bindValue (knobMode, this.getSendSupplier (command.ordinal () - FlexiCommand.TRACK_1_SET_SEND_1.ordinal (), 0), ISend::getValue, ISend::setValue);
 
             // Track 1-8: Set Send 2
             case TRACK_1_SET_SEND_2:
@@ -941,8 +528,7 @@ public class TrackHandler extends AbstractHandler
             case TRACK_6_SET_SEND_2:
             case TRACK_7_SET_SEND_2:
             case TRACK_8_SET_SEND_2:
-                this.changeSendVolume (command.ordinal () - FlexiCommand.TRACK_1_SET_SEND_2.ordinal (), 1, knobMode, value);
-                break;
+                return this.bindValue (knobMode, this.getSendSupplier (command.ordinal () - FlexiCommand.TRACK_1_SET_SEND_2.ordinal (), 1), ISend::getValue, ISend::setValue);
 
             // Track 1-8: Set Send 3
             case TRACK_1_SET_SEND_3:
@@ -953,8 +539,7 @@ public class TrackHandler extends AbstractHandler
             case TRACK_6_SET_SEND_3:
             case TRACK_7_SET_SEND_3:
             case TRACK_8_SET_SEND_3:
-                this.changeSendVolume (command.ordinal () - FlexiCommand.TRACK_1_SET_SEND_3.ordinal (), 2, knobMode, value);
-                break;
+                return this.bindValue (knobMode, this.getSendSupplier (command.ordinal () - FlexiCommand.TRACK_1_SET_SEND_3.ordinal (), 2), ISend::getValue, ISend::setValue);
 
             // Track 1-8: Set Send 4
             case TRACK_1_SET_SEND_4:
@@ -965,10 +550,9 @@ public class TrackHandler extends AbstractHandler
             case TRACK_6_SET_SEND_4:
             case TRACK_7_SET_SEND_4:
             case TRACK_8_SET_SEND_4:
-                this.changeSendVolume (command.ordinal () - FlexiCommand.TRACK_1_SET_SEND_4.ordinal (), 3, knobMode, value);
-                break;
+                return this.bindValue (knobMode, this.getSendSupplier (command.ordinal () - FlexiCommand.TRACK_1_SET_SEND_4.ordinal (), 3), ISend::getValue, ISend::setValue);
 
-            // Track 1: Set Send 5
+            // Track 1-8: Set Send 5
             case TRACK_1_SET_SEND_5:
             case TRACK_2_SET_SEND_5:
             case TRACK_3_SET_SEND_5:
@@ -977,10 +561,9 @@ public class TrackHandler extends AbstractHandler
             case TRACK_6_SET_SEND_5:
             case TRACK_7_SET_SEND_5:
             case TRACK_8_SET_SEND_5:
-                this.changeSendVolume (command.ordinal () - FlexiCommand.TRACK_1_SET_SEND_5.ordinal (), 4, knobMode, value);
-                break;
+                return this.bindValue (knobMode, this.getSendSupplier (command.ordinal () - FlexiCommand.TRACK_1_SET_SEND_5.ordinal (), 4), ISend::getValue, ISend::setValue);
 
-            // Track 1: Set Send 6
+            // Track 1-8: Set Send 6
             case TRACK_1_SET_SEND_6:
             case TRACK_2_SET_SEND_6:
             case TRACK_3_SET_SEND_6:
@@ -989,8 +572,7 @@ public class TrackHandler extends AbstractHandler
             case TRACK_6_SET_SEND_6:
             case TRACK_7_SET_SEND_6:
             case TRACK_8_SET_SEND_6:
-                this.changeSendVolume (command.ordinal () - FlexiCommand.TRACK_1_SET_SEND_6.ordinal (), 5, knobMode, value);
-                break;
+                return this.bindValue (knobMode, this.getSendSupplier (command.ordinal () - FlexiCommand.TRACK_1_SET_SEND_6.ordinal (), 5), ISend::getValue, ISend::setValue);
 
             // Track 1-8: Set Send 7
             case TRACK_1_SET_SEND_7:
@@ -1001,8 +583,7 @@ public class TrackHandler extends AbstractHandler
             case TRACK_6_SET_SEND_7:
             case TRACK_7_SET_SEND_7:
             case TRACK_8_SET_SEND_7:
-                this.changeSendVolume (command.ordinal () - FlexiCommand.TRACK_1_SET_SEND_7.ordinal (), 6, knobMode, value);
-                break;
+                return this.bindValue (knobMode, this.getSendSupplier (command.ordinal () - FlexiCommand.TRACK_1_SET_SEND_7.ordinal (), 6), ISend::getValue, ISend::setValue);
 
             // Track 1-8: Set Send 8
             case TRACK_1_SET_SEND_8:
@@ -1013,8 +594,7 @@ public class TrackHandler extends AbstractHandler
             case TRACK_6_SET_SEND_8:
             case TRACK_7_SET_SEND_8:
             case TRACK_8_SET_SEND_8:
-                this.changeSendVolume (command.ordinal () - FlexiCommand.TRACK_1_SET_SEND_8.ordinal (), 7, knobMode, value);
-                break;
+                return this.bindValue (knobMode, this.getSendSupplier (command.ordinal () - FlexiCommand.TRACK_1_SET_SEND_8.ordinal (), 7), ISend::getValue, ISend::setValue);
 
             // Track Selected: Set Send 1-8
             case TRACK_SELECTED_SET_SEND_1:
@@ -1025,8 +605,7 @@ public class TrackHandler extends AbstractHandler
             case TRACK_SELECTED_SET_SEND_6:
             case TRACK_SELECTED_SET_SEND_7:
             case TRACK_SELECTED_SET_SEND_8:
-                this.changeSendVolume (-1, command.ordinal () - FlexiCommand.TRACK_SELECTED_SET_SEND_1.ordinal (), knobMode, value);
-                break;
+                return this.bindValue (knobMode, this.getSendSupplier (-1, command.ordinal () - FlexiCommand.TRACK_SELECTED_SET_SEND_1.ordinal ()), ISend::getValue, ISend::setValue);
 
             default:
                 throw new FlexiHandlerException (command);
@@ -1034,21 +613,26 @@ public class TrackHandler extends AbstractHandler
     }
 
 
-    private int getSendValue (final int trackIndex, final int sendIndex)
+    private Supplier<ITrack> getTrackSupplier (final int trackIndex)
     {
-        final ITrack track = this.getTrack (trackIndex);
-        if (track == null)
-            return 0;
+        return () -> this.getTrack (trackIndex);
+    }
 
-        final ISendBank sendBank = track.getSendBank ();
+
+    private Supplier<ISend> getSendSupplier (final int trackIndex, final int sendIndex)
+    {
+        return () -> this.getSend (trackIndex, sendIndex);
+    }
+
+
+    private ISend getSend (final int trackIndex, final int sendIndex)
+    {
+        final ISendBank sendBank = this.getTrack (trackIndex).getSendBank ();
         if (sendIndex >= sendBank.getPageSize ())
-            return 0;
+            return EmptySend.INSTANCE;
 
         final ISend send = sendBank.getItem (sendIndex);
-        if (send == null)
-            return 0;
-
-        return send.getValue ();
+        return send == null ? EmptySend.INSTANCE : send;
     }
 
 
@@ -1057,48 +641,22 @@ public class TrackHandler extends AbstractHandler
         final ITrackBank tb = this.model.getCurrentTrackBank ();
         if (tb == null)
             return EmptyTrack.INSTANCE;
-        return trackIndex < 0 ? tb.getSelectedItem () : tb.getItem (trackIndex);
-    }
-
-
-    private void changeTrackVolume (final int knobMode, final int trackIndex, final int value)
-    {
-        final ITrack track = this.getTrack (trackIndex);
-        if (isAbsolute (knobMode))
-            track.setVolume (value);
-        else
-            track.setVolume (this.limit (track.getVolume () + this.getRelativeSpeed (knobMode, value)));
+        final ITrack track = trackIndex < 0 ? tb.getSelectedItem () : tb.getItem (trackIndex);
+        return track == null ? EmptyTrack.INSTANCE : track;
     }
 
 
-    private void changeTrackPanorama (final int knobMode, final int trackIndex, final int value)
+    private ITrack getSelectedTrack ()
     {
-        final ITrack track = this.getTrack (trackIndex);
-        if (isAbsolute (knobMode))
-            track.setPan (value);
-        else
-            track.setPan (this.limit (track.getPan () + this.getRelativeSpeed (knobMode, value)));
+        final ITrack track = this.model.getSelectedTrack ();
+        return track == null ? EmptyTrack.INSTANCE : track;
     }
 
 
-    private void changeSendVolume (final int trackIndex, final int sendIndex, final int knobMode, final int value)
+    private void selectTrack (final ITrack track)
     {
-        final ITrack track = this.getTrack (trackIndex);
-        if (track == null)
-            return;
-
-        final ISendBank sendBank = track.getSendBank ();
-        if (sendIndex >= sendBank.getPageSize ())
-            return;
-
-        final ISend send = sendBank.getItem (sendIndex);
-        if (send == null)
-            return;
-
-        if (isAbsolute (knobMode))
-            send.setValue (value);
-        else
-            send.setValue (this.limit (send.getValue () + this.getRelativeSpeed (knobMode, value)));
+        track.select ();
+        this.surface.getDisplay ().notify (track.getName ());
     }
 
 
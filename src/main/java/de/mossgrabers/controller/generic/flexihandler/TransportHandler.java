@@ -79,6 +79,16 @@ public class TransportHandler extends AbstractHandler
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public FlexiBinding bind (final FlexiCommand command, final int knobMode)
+    {
+        if (command == FlexiCommand.TRANSPORT_SET_METRONOME_VOLUME)
+            return this.bindValue (knobMode, this.model::getTransport, ITransport::getMetronomeVolume, ITransport::setMetronomeVolume);
+        return super.bind (command, knobMode);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getCommandValue (final FlexiCommand command)
@@ -99,9 +109,6 @@ public class TransportHandler extends AbstractHandler
             case TRANSPORT_TOGGLE_METRONOME:
                 return transport.isMetronomeOn () ? 127 : 0;
 
-            case TRANSPORT_SET_METRONOME_VOLUME:
-                return transport.getMetronomeVolume ();
-
             case TRANSPORT_TOGGLE_METRONOME_IN_PREROLL:
                 return transport.isPrerollMetronomeEnabled () ? 127 : 0;
 
@@ -176,11 +183,6 @@ public class TransportHandler extends AbstractHandler
                     this.model.getTransport ().toggleMetronome ();
                 break;
 
-            // Transport: Set Metronome Volume
-            case TRANSPORT_SET_METRONOME_VOLUME:
-                this.handleMetronomeVolume (knobMode, value);
-                break;
-
             // Transport: Toggle Metronome in Pre-roll
             case TRANSPORT_TOGGLE_METRONOME_IN_PREROLL:
                 if (isButtonPressed)
@@ -286,14 +288,4 @@ public class TransportHandler extends AbstractHandler
         else
             transport.changeTempo (this.getRelativeSpeed (knobMode, value) > 0);
     }
-
-
-    private void handleMetronomeVolume (final int knobMode, final int value)
-    {
-        final ITransport transport = this.model.getTransport ();
-        if (isAbsolute (knobMode))
-            transport.setMetronomeVolume (value);
-        else
-            transport.setMetronomeVolume (this.limit (transport.getMetronomeVolume () + this.getRelativeSpeed (knobMode, value)));
-    }
 }
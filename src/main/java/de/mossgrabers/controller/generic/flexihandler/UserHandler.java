@@ -57,11 +57,11 @@ public class UserHandler extends AbstractHandler
 
     /** {@inheritDoc} */
     @Override
-    public int getCommandValue (final FlexiCommand command)
+    public FlexiBinding bind (final FlexiCommand command, final int knobMode)
     {
         final IParameterBank userParameterBank = this.model.getUserParameterBank ();
         if (userParameterBank == null)
-            return -1;
+            return FlexiBinding.NONE;
 
         switch (command)
         {
@@ -73,49 +73,20 @@ public class UserHandler extends AbstractHandler
             case USER_SET_PARAMETER_6:
             case USER_SET_PARAMETER_7:
             case USER_SET_PARAMETER_8:
-                return userParameterBank.getItem (command.ordinal () - FlexiCommand.USER_SET_PARAMETER_1.ordinal ()).getValue ();
-
-            default:
-                return -1;
-        }
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void handle (final FlexiCommand command, final int knobMode, final int value)
-    {
-        final IParameterBank userParameterBank = this.model.getUserParameterBank ();
-        if (userParameterBank == null)
-            return;
-
-        switch (command)
-        {
-            case USER_SET_PARAMETER_1:
-            case USER_SET_PARAMETER_2:
-            case USER_SET_PARAMETER_3:
-            case USER_SET_PARAMETER_4:
-            case USER_SET_PARAMETER_5:
-            case USER_SET_PARAMETER_6:
-            case USER_SET_PARAMETER_7:
-            case USER_SET_PARAMETER_8:
-                final int index = command.ordinal () - FlexiCommand.USER_SET_PARAMETER_1.ordinal ();
-                final IParameter userParam = userParameterBank.getItem (index);
-                if (isAbsolute (knobMode))
-                    userParam.setValue (value);
-                else
-                    userParam.setValue (this.limit (userParam.getValue () + this.getRelativeSpeed (knobMode, value)));
-                break;
+                final IParameter userParam = userParameterBank.getItem (command.ordinal () - FlexiCommand.USER_SET_PARAMETER_1.ordinal ());
+                return this.bindValue (knobMode, () -> userParam, IParameter::getValue, IParameter::setValue);
 
             case USER_SELECT_PREVIOUS_PAGE:
-                userParameterBank.scrollBackwards ();
-                this.displaySelectedPage (userParameterBank);
-                break;
+                return new FlexiBinding (FlexiBinding::noValue, value -> {
+                    userParameterBank.scrollBackwards ();
+                    this.displaySelectedPage (userParameterBank);
+                });
 
             case USER_SELECT_NEXT_PAGE:
-                userParameterBank.scrollForwards ();
-                this.displaySelectedPage (userParameterBank);
-                break;
+                return new FlexiBinding (FlexiBinding::noValue, value -> {
+                    userParameterBank.scrollForwards ();
+                    this.displaySelectedPage (userParameterBank);
+                });
 
             default:
                 throw new FlexiHandlerException (command);
@@ -11,6 +11,7 @@ import de.mossgrabers.controller.hui.command.trigger.ZoomCommand;
 import de.mossgrabers.controller.hui.controller.HUIControlSurface;
 import de.mossgrabers.controller.hui.controller.HUIDisplay;
 import de.mossgrabers.controller.hui.controller.HUIMainDisplay;
+import de.mossgrabers.controller.hui.controller.HUIProtocol;
 import de.mossgrabers.controller.hui.controller.HUISegmentDisplay;
 import de.mossgrabers.controller.hui.mode.track.PanMode;
 import de.mossgrabers.controller.hui.mode.track.SendMode;
@@ -41,6 +42,7 @@ import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.controller.AbstractControllerSetup;
 import de.mossgrabers.framework.controller.ISetupFactory;
 import de.mossgrabers.framework.controller.Relative4ValueChanger;
+import de.mossgrabers.framework.controller.StartupSignal;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IHost;
@@ -144,9 +146,9 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
         final IMidiInput input = midiAccess.createInput (null);
         final HUIControlSurface surface = new HUIControlSurface (this.host, this.colorManager, this.configuration, output, input, this.model);
         this.surfaces.add (surface);
-        surface.addTextDisplay (new HUIDisplay (this.host, output));
-        surface.addTextDisplay (new HUIMainDisplay (this.host, output));
-        surface.addTextDisplay (new HUISegmentDisplay (output));
+        surface.addTextDisplay (new HUIDisplay (this.host, output, surface.getProtocol ()));
+        surface.addTextDisplay (new HUIMainDisplay (this.host, output, surface.getProtocol ()));
+        surface.addTextDisplay (new HUISegmentDisplay (surface.getProtocol ()));
         surface.getModeManager ().setDefaultMode (Modes.VOLUME);
     }
 
@@ -374,6 +376,16 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected void createStartupStages ()
+    {
+        // The ping does not depend on the model, start it right away
+        this.startupOrchestrator.addStage ("Ping", () -> this.getSurface ().getProtocol ().start ());
+        this.startupOrchestrator.addStage ("Startup", this::startup, StartupSignal.FIRST_FLUSH);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void startup ()
@@ -382,15 +394,6 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
 
         surface.getViewManager ().setActiveView (Views.CONTROL);
         surface.getModeManager ().setActiveMode (Modes.PAN);
-
-        this.sendPing ();
-    }
-
-
-    private void sendPing ()
-    {
-        this.getSurface ().getOutput ().sendNote (0, 0);
-        this.host.scheduleTask (this::sendPing, 1000);
     }
 
 
@@ -448,6 +451,8 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
             surface.updateTrigger (HUIControlSurface.HUI_SOLO1 + offset, track.isSolo () ? HUI_BUTTON_STATE_ON : HUI_BUTTON_STATE_OFF);
             surface.updateTrigger (HUIControlSurface.HUI_MUTE1 + offset, track.isMute () ? HUI_BUTTON_STATE_ON : HUI_BUTTON_STATE_OFF);
         }
+
+        surface.getProtocol ().flush ();
     }
 
 
@@ -470,9 +475,7 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
         final boolean hasMotorFaders = this.configuration.hasMotorFaders ();
 
         final ITrackBank tb = this.model.getCurrentTrackBank ();
-        IMidiOutput output;
-        final HUIControlSurface surface = this.getSurface ();
-        output = surface.getOutput ();
+        final HUIProtocol protocol = this.getSurface ().getProtocol ();
         for (int channel = 0; channel < 8; channel++)
         {
             final ITrack track = tb.getItem (channel);
@@ -485,32 +488,31 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
                 {
                     this.vuValuesL[channel] = vuLeft;
                     final int scaledValue = (int) Math.floor (vuLeft * 12 / upperBound);
-                    output.sendPolyphonicAftertouch (channel, scaledValue);
+                    protocol.setVuMeter (channel, false, scaledValue);
                 }
                 final int vuRight = track.getVuRight ();
                 if (vuRight != this.vuValuesR[channel])
                 {
                     this.vuValuesR[channel] = vuRight;
                     final int scaledValue = (int) Math.floor (vuRight * 12 / upperBound);
-                    output.sendPolyphonicAftertouch (0x10 + channel, scaledValue);
+                    protocol.setVuMeter (channel, true, scaledValue);
                 }
             }
 
             // Update motor fader of channel
             if (hasMotorFaders)
-                this.updateFaders (output, channel, track);
+                this.updateFaders (protocol, channel, track);
         }
     }
 
 
-    private void updateFaders (final IMidiOutput output, final int channel, final ITrack track)
+    private void updateFaders (final HUIProtocol protocol, final int channel, final ITrack track)
     {
         final int value = track.getVolume ();
         if (value != this.faderValues[channel])
         {
             this.faderValues[channel] = value;
-            output.sendCC (channel, value / 128);
-            output.sendCC (0x20 + channel, value % 128);
+            protocol.setFader (channel, value);
         }
     }
 
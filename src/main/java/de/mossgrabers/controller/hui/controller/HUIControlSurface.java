@@ -266,8 +266,6 @@ public class HUIControlSurface extends AbstractControlSurface<HUIConfiguration>
     public static final int                                                    KNOB_LED_MODE_WRAP       = 2;
     public static final int                                                    KNOB_LED_MODE_SPREAD     = 3;
 
-    private int []                                                             knobValues               = new int [8];
-
     // The currently selected zone (area of a group of buttons)
     private int                                                                zone;
 
@@ -278,6 +276,7 @@ public class HUIControlSurface extends AbstractControlSurface<HUIConfiguration>
     private final PlayPositionCommand<HUIControlSurface, HUIConfiguration>     playPositionCommand;
 
     private final int []                                                       faderHiValues            = new int [8];
+    private final HUIProtocol                                                  protocol;
 
 
     /**
@@ -294,6 +293,8 @@ public class HUIControlSurface extends AbstractControlSurface<HUIConfiguration>
     {
         super (host, configuration, colorManager, output, input, null);
 
+        this.protocol = new HUIProtocol (output);
+
         this.setTriggerId (ButtonID.SHIFT, HUI_KEY_SHIFT_AD);
         this.setTriggerId (ButtonID.SELECT, HUI_KEY_OPTION_A);
         this.setTriggerId (ButtonID.LEFT, HUI_CURSOR_LEFT);
@@ -301,8 +302,6 @@ public class HUIControlSurface extends AbstractControlSurface<HUIConfiguration>
         this.setTriggerId (ButtonID.UP, HUI_CURSOR_UP);
         this.setTriggerId (ButtonID.DOWN, HUI_CURSOR_DOWN);
 
-        Arrays.fill (this.knobValues, -1);
-
         for (int i = 0; i < 8; i++)
         {
             this.faderCommands[i] = new FaderAbsoluteCommand<> (i, model, this);
@@ -316,10 +315,39 @@ public class HUIControlSurface extends AbstractControlSurface<HUIConfiguration>
     @Override
     public void setTrigger (final int channel, final int cc, final int value)
     {
-        // Select the zone
-        this.output.sendCC (0x0C, cc / 8);
-        // Turn on / off button
-        this.output.sendCC (0x2C, (value > 0 ? 0x40 : 0x00) + cc % 8);
+        // Zone and port are sent with the next flush of the protocol
+        this.protocol.setLed (cc, value > 0);
+    }
+
+
+    /**
+     * Get the protocol which sends the LED and display states.
+     *
+     * @return The protocol
+     */
+    public HUIProtocol getProtocol ()
+    {
+        return this.protocol;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void shutdown ()
+    {
+        super.shutdown ();
+
+        this.protocol.shutdown ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void scheduledFlush ()
+    {
+        super.scheduledFlush ();
+
+        this.protocol.flush ();
     }
 
 
@@ -353,11 +381,8 @@ public class HUIControlSurface extends AbstractControlSurface<HUIConfiguration>
             v = 0x10 * knobLEDMode + rescale + 1;
         }
 
-        if (this.knobValues[index] == v)
-            return;
-
-        this.knobValues[index] = v;
-        this.output.sendCC (0x10 + index, v);
+        // Sent with the next flush of the protocol, if it has changed
+        this.protocol.setKnobLed (index, v);
     }
 
 
@@ -366,6 +391,14 @@ public class HUIControlSurface extends AbstractControlSurface<HUIConfiguration>
     protected void handleMidi (final int status, final int data1, final int data2)
     {
         final int code = status & 0xF0;
+
+        // Reply to the ping
+        if (code == 0x90 && data1 == 0 && data2 == 0x7F)
+        {
+            this.protocol.handlePingReply ();
+            return;
+        }
+
         if (code != 0xB0)
             return;
 
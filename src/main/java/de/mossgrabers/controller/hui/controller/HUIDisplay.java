@@ -9,7 +9,6 @@ import de.mossgrabers.framework.controller.display.Format;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.LatestTaskExecutor;
 import de.mossgrabers.framework.utils.StringUtils;
 
 
@@ -22,11 +21,8 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class HUIDisplay extends AbstractTextDisplay
 {
-    private static final String      SYSEX_DISPLAY_HEADER = "F0 00 00 66 05 00 10 ";
-
-    private int                      charactersOfCell;
-
-    private final LatestTaskExecutor executor             = new LatestTaskExecutor ();
+    private final HUIProtocol protocol;
+    private int               charactersOfCell;
 
 
     /**
@@ -35,11 +31,14 @@ public class HUIDisplay extends AbstractTextDisplay
      *
      * @param host The host
      * @param output The midi output which addresses the display
+     * @param protocol The protocol which sends the changed cells
      */
-    public HUIDisplay (final IHost host, final IMidiOutput output)
+    public HUIDisplay (final IHost host, final IMidiOutput output, final HUIProtocol protocol)
     {
         super (host, output, 1 /* No of rows */, 9 /* No of cells */, 36);
 
+        this.protocol = protocol;
+
         this.charactersOfCell = this.noOfCharacters / this.noOfCells;
     }
 
@@ -111,38 +110,8 @@ public class HUIDisplay extends AbstractTextDisplay
     @Override
     public void writeLine (final int row, final String text)
     {
-        if (this.executor.isShutdown ())
-            return;
-        this.executor.execute ( () -> {
-            try
-            {
-                this.sendDisplayLine (text);
-            }
-            catch (final RuntimeException ex)
-            {
-                this.host.error ("Could not send line to HUI display.", ex);
-            }
-        });
-    }
-
-
-    /**
-     * Send a line to the display
-     *
-     * @param text The text to send
-     */
-    private void sendDisplayLine (final String text)
-    {
-        final String t = text;
-
-        final int [] array = new int [5];
-        for (int cell = 0; cell < this.noOfCells; cell++)
-        {
-            array[0] = cell;
-            for (int i = 0; i < 4; i++)
-                array[1 + i] = t.charAt (cell * 4 + i);
-            this.output.sendSysex (new StringBuilder (SYSEX_DISPLAY_HEADER).append (StringUtils.toHexStr (array)).append ("F7").toString ());
-        }
+        this.protocol.setSmallDisplayLine (text);
+        this.protocol.flush ();
     }
 
 
@@ -151,8 +120,5 @@ public class HUIDisplay extends AbstractTextDisplay
     public void shutdown ()
     {
         this.notify ("Please start " + this.host.getName () + "...");
-
-        // Prevent further sends
-        this.executor.shutdown ();
     }
 }
\ No newline at end of file
@@ -9,7 +9,6 @@ import de.mossgrabers.framework.controller.display.Format;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.LatestTaskExecutor;
 import de.mossgrabers.framework.utils.StringUtils;
 
 
@@ -20,20 +19,8 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class HUIMainDisplay extends AbstractTextDisplay
 {
-    private static final byte []        SYSEX_DISPLAY_HEADER = new byte []
-    {
-        (byte) 0xF0,
-        (byte) 0x00,
-        (byte) 0x00,
-        (byte) 0x66,
-        (byte) 0x05,
-        (byte) 0x00,
-        (byte) 0x12
-    };
-
-    private int                         charactersOfCell;
-
-    private final LatestTaskExecutor [] executors            = new LatestTaskExecutor [2];
+    private final HUIProtocol protocol;
+    private int               charactersOfCell;
 
 
     /**
@@ -41,14 +28,14 @@ public class HUIMainDisplay extends AbstractTextDisplay
      *
      * @param host The host
      * @param output The midi output which addresses the display
+     * @param protocol The protocol which sends the changed segments
      */
-    public HUIMainDisplay (final IHost host, final IMidiOutput output)
+    public HUIMainDisplay (final IHost host, final IMidiOutput output, final HUIProtocol protocol)
     {
         super (host, output, 2 /* No of rows */, 8 /* No of cells */, 40);
 
+        this.protocol = protocol;
         this.charactersOfCell = this.noOfCharacters / this.noOfCells;
-        for (int i = 0; i < this.executors.length; i++)
-            this.executors[i] = new LatestTaskExecutor ();
     }
 
 
@@ -119,47 +106,8 @@ public class HUIMainDisplay extends AbstractTextDisplay
     @Override
     public void writeLine (final int row, final String text)
     {
-        if (this.executors[row].isShutdown ())
-            return;
-        this.executors[row].execute ( () -> {
-            try
-            {
-                this.sendDisplayLine (row, text);
-            }
-            catch (final RuntimeException ex)
-            {
-                this.host.error ("Could not send line to HUI display.", ex);
-            }
-        });
-    }
-
-
-    /**
-     * Send a line to the display
-     *
-     * @param row The row
-     * @param text The text to send
-     */
-    private void sendDisplayLine (final int row, final String text)
-    {
-        final byte [] line = new byte [52];
-        System.arraycopy (SYSEX_DISPLAY_HEADER, 0, line, 0, SYSEX_DISPLAY_HEADER.length);
-        line[line.length - 1] = (byte) 0xF7;
-
-        final int pos = SYSEX_DISPLAY_HEADER.length;
-        final int offset = row * 4;
-
-        for (int i = 0; i < 4; i++)
-        {
-            final int start = 11 * i;
-            final int textStart = 10 * i;
-            final int index = pos + start;
-            line[index] = (byte) (offset + i);
-            for (int j = 0; j < 10; j++)
-                line[index + j + 1] = (byte) text.charAt (textStart + j);
-        }
-
-        this.output.sendSysex (line);
+        this.protocol.setMainDisplayLine (row, text);
+        this.protocol.flush ();
     }
 
 
@@ -168,9 +116,5 @@ public class HUIMainDisplay extends AbstractTextDisplay
     public void shutdown ()
     {
         this.notify ("Please start " + this.host.getName () + "...");
-
-        // Prevent further sends
-        for (final LatestTaskExecutor executor: this.executors)
-            executor.shutdown ();
     }
 }
\ No newline at end of file
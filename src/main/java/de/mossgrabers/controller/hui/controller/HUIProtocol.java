@@ -0,0 +1,536 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.hui.controller;
+
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+
+/**
+ * Sends the LED and display states to a HUI device. HUI is a slow legacy protocol, therefore only
+ * the states which differ from the sent ones are transmitted:
+ *
+ * The LEDs are addressed by a zone and a port. The zone select message is sent only once per zone
+ * followed by the port messages of all changed LEDs of that zone.
+ *
+ * The main display (2 rows with 4 segments of 10 characters) sends only the changed segments, all
+ * of them in one message. The small display (4 characters in each of 9 cells) sends only the
+ * changed cells. The transport display sends only the digits up to the last changed one.
+ *
+ * The knob LEDs, motor faders and VU meters are sent if their values have changed.
+ *
+ * All output to the device is sent from a single timer thread, which also sends the ping, watches
+ * the ping replies of the device (keep-alive) and transmits the changed states. If the device
+ * replies again after it was offline, all states are sent again.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HUIProtocol
+{
+    /** The time between two pings in milliseconds. */
+    public static final long               PING_INTERVAL          = 1000;
+    /** The device is considered offline if it did not reply to the ping for this time (ms). */
+    public static final long               KEEP_ALIVE_TIMEOUT     = 3000;
+    /** The minimum time between two transmissions in milliseconds. */
+    public static final long               MIN_SEND_INTERVAL      = 20;
+
+    private static final int               NUM_ZONES              = 32;
+    private static final int               NUM_PORTS              = 8;
+    private static final int               NUM_CHANNELS           = 8;
+    private static final int               NUM_DIGITS             = 8;
+    private static final int               UNKNOWN                = -1;
+
+    private static final int               MAIN_DISPLAY_ROWS      = 2;
+    private static final int               MAIN_DISPLAY_SEGMENTS  = 4;
+    private static final int               MAIN_SEGMENT_LENGTH    = 10;
+    private static final int               SMALL_DISPLAY_CELLS    = 9;
+    private static final int               SMALL_CELL_LENGTH      = 4;
+
+    private static final byte []           SYSEX_SMALL_DISPLAY    =
+    {
+        (byte) 0xF0,
+        (byte) 0x00,
+        (byte) 0x00,
+        (byte) 0x66,
+        (byte) 0x05,
+        (byte) 0x00,
+        (byte) 0x10
+    };
+
+    private static final byte []           SYSEX_MAIN_DISPLAY     =
+    {
+        (byte) 0xF0,
+        (byte) 0x00,
+        (byte) 0x00,
+        (byte) 0x66,
+        (byte) 0x05,
+        (byte) 0x00,
+        (byte) 0x12
+    };
+
+    private static final byte []           SYSEX_SEGMENT_DISPLAY  =
+    {
+        (byte) 0xF0,
+        (byte) 0x00,
+        (byte) 0x00,
+        (byte) 0x66,
+        (byte) 0x05,
+        (byte) 0x00,
+        (byte) 0x11
+    };
+
+    private final IMidiOutput              output;
+    private final ScheduledExecutorService timer;
+    private final AtomicBoolean            isSendScheduled        = new AtomicBoolean (false);
+    private volatile long                  lastSend;
+    private volatile long                  lastPingReply;
+    private volatile boolean               isOnline               = true;
+
+    private final int [] []                leds                   = new int [NUM_ZONES] [NUM_PORTS];
+    private final int [] []                sentLeds               = new int [NUM_ZONES] [NUM_PORTS];
+    private int                            dirtyZones;
+
+    private final char [] []               mainDisplay            = new char [MAIN_DISPLAY_ROWS] [MAIN_DISPLAY_SEGMENTS * MAIN_SEGMENT_LENGTH];
+    private final char [] []               sentMainDisplay        = new char [MAIN_DISPLAY_ROWS] [MAIN_DISPLAY_SEGMENTS * MAIN_SEGMENT_LENGTH];
+    private final char []                  smallDisplay           = new char [SMALL_DISPLAY_CELLS * SMALL_CELL_LENGTH];
+    private final char []                  sentSmallDisplay       = new char [SMALL_DISPLAY_CELLS * SMALL_CELL_LENGTH];
+    private final int []                   segmentDisplay         = new int [NUM_DIGITS];
+    private final int []                   sentSegmentDisplay     = new int [NUM_DIGITS];
+
+    private final int []                   knobLeds               = new int [NUM_CHANNELS];
+    private final int []                   sentKnobLeds           = new int [NUM_CHANNELS];
+    private final int []                   faders                 = new int [NUM_CHANNELS];
+    private final int []                   sentFaders             = new int [NUM_CHANNELS];
+    private final int []                   vuMeters               = new int [2 * NUM_CHANNELS];
+    private final int []                   sentVuMeters           = new int [2 * NUM_CHANNELS];
+
+
+    /**
+     * Constructor.
+     *
+     * @param output The midi output of the HUI device
+     */
+    public HUIProtocol (final IMidiOutput output)
+    {
+        this.output = output;
+        this.timer = Executors.newSingleThreadScheduledExecutor (runnable -> {
+            final Thread thread = new Thread (runnable, "HUI Protocol");
+            thread.setDaemon (true);
+            return thread;
+        });
+
+        for (final int [] zone: this.leds)
+            Arrays.fill (zone, UNKNOWN);
+        Arrays.fill (this.segmentDisplay, UNKNOWN);
+        Arrays.fill (this.knobLeds, UNKNOWN);
+        Arrays.fill (this.faders, UNKNOWN);
+        Arrays.fill (this.vuMeters, UNKNOWN);
+        this.invalidate ();
+    }
+
+
+    /**
+     * Start sending the ping.
+     */
+    public void start ()
+    {
+        this.lastPingReply = System.nanoTime ();
+        try
+        {
+            this.timer.scheduleWithFixedDelay (this::ping, 0, PING_INTERVAL, TimeUnit.MILLISECONDS);
+        }
+        catch (final RejectedExecutionException ex)
+        {
+            // Protocol has been shut down
+        }
+    }
+
+
+    /**
+     * Stop the timer and send the changed states synchronously, after a running transmission has
+     * finished.
+     */
+    public void shutdown ()
+    {
+        this.timer.shutdownNow ();
+        try
+        {
+            if (!this.timer.awaitTermination (KEEP_ALIVE_TIMEOUT, TimeUnit.MILLISECONDS))
+                return;
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread ().interrupt ();
+            return;
+        }
+        this.send ();
+    }
+
+
+    /**
+     * Set the state of a LED. Is sent with the next flush if it has changed.
+     *
+     * @param button The number of the button, zone * 8 + port
+     * @param isOn True to turn the LED on
+     */
+    public synchronized void setLed (final int button, final boolean isOn)
+    {
+        final int zone = button / NUM_PORTS;
+        this.leds[zone][button % NUM_PORTS] = isOn ? 1 : 0;
+        this.dirtyZones |= 1 << zone;
+    }
+
+
+    /**
+     * Set the text of a row of the main display. Is sent with the next flush if it has changed.
+     *
+     * @param row The row (0-1)
+     * @param text The text, must have 40 characters
+     */
+    public synchronized void setMainDisplayLine (final int row, final String text)
+    {
+        text.getChars (0, this.mainDisplay[row].length, this.mainDisplay[row], 0);
+    }
+
+
+    /**
+     * Set the text of the small display. Is sent with the next flush if it has changed.
+     *
+     * @param text The text, must have 36 characters
+     */
+    public synchronized void setSmallDisplayLine (final String text)
+    {
+        text.getChars (0, this.smallDisplay.length, this.smallDisplay, 0);
+    }
+
+
+    /**
+     * Set the digits of the transport display. Is sent with the next flush if it has changed.
+     *
+     * @param digits The 8 digits, starting with the right most, add 0x10 for a dot
+     */
+    public synchronized void setSegmentDisplay (final int [] digits)
+    {
+        System.arraycopy (digits, 0, this.segmentDisplay, 0, NUM_DIGITS);
+    }
+
+
+    /**
+     * Set the LED ring of a knob. Is sent with the next flush if it has changed.
+     *
+     * @param index The index of the knob (0-7)
+     * @param value The mode and value of the ring
+     */
+    public synchronized void setKnobLed (final int index, final int value)
+    {
+        this.knobLeds[index] = value;
+    }
+
+
+    /**
+     * Set the position of a motor fader. Is sent with the next flush if it has changed.
+     *
+     * @param index The index of the fader (0-7)
+     * @param value The position (0-16383)
+     */
+    public synchronized void setFader (final int index, final int value)
+    {
+        this.faders[index] = value;
+    }
+
+
+    /**
+     * Set the level of a VU meter. Is sent with the next flush if it has changed.
+     *
+     * @param index The index of the channel (0-7)
+     * @param isRight True for the right side, false for the left
+     * @param value The level (0-12)
+     */
+    public synchronized void setVuMeter (final int index, final boolean isRight, final int value)
+    {
+        this.vuMeters[(isRight ? NUM_CHANNELS : 0) + index] = value;
+    }
+
+
+    /**
+     * Must be called when the device replied to the ping. Sends all states again, if the device
+     * was offline.
+     */
+    public void handlePingReply ()
+    {
+        this.lastPingReply = System.nanoTime ();
+        if (this.isOnline)
+            return;
+        this.isOnline = true;
+        synchronized (this)
+        {
+            this.invalidate ();
+        }
+        this.flush ();
+    }
+
+
+    /**
+     * Schedule the transmission of the changed states. Returns immediately, the states are sent
+     * from the timer thread, at the earliest when the minimum interval since the last transmission
+     * has passed.
+     */
+    public void flush ()
+    {
+        if (!this.isSendScheduled.compareAndSet (false, true))
+            return;
+        final long elapsed = TimeUnit.NANOSECONDS.toMillis (System.nanoTime () - this.lastSend);
+        try
+        {
+            this.timer.schedule (this::send, Math.max (0, MIN_SEND_INTERVAL - elapsed), TimeUnit.MILLISECONDS);
+        }
+        catch (final RejectedExecutionException ex)
+        {
+            // Protocol has been shut down, states are sent synchronously
+        }
+    }
+
+
+    /**
+     * Send the ping and check if the device is still replying.
+     */
+    private void ping ()
+    {
+        this.output.sendNote (0, 0);
+
+        if (this.isOnline && TimeUnit.NANOSECONDS.toMillis (System.nanoTime () - this.lastPingReply) > KEEP_ALIVE_TIMEOUT)
+            this.isOnline = false;
+    }
+
+
+    /**
+     * Forget the sent states, all states are sent again with the next transmission.
+     */
+    private void invalidate ()
+    {
+        for (final int [] zone: this.sentLeds)
+            Arrays.fill (zone, UNKNOWN);
+        this.dirtyZones = -1;
+        for (final char [] row: this.sentMainDisplay)
+            Arrays.fill (row, (char) 0);
+        Arrays.fill (this.sentSmallDisplay, (char) 0);
+        Arrays.fill (this.sentSegmentDisplay, UNKNOWN);
+        Arrays.fill (this.sentKnobLeds, UNKNOWN);
+        Arrays.fill (this.sentFaders, UNKNOWN);
+        Arrays.fill (this.sentVuMeters, UNKNOWN);
+    }
+
+
+    /**
+     * Send all changed states.
+     */
+    private synchronized void send ()
+    {
+        // Reset first, states changed from now on need a new transmission
+        this.isSendScheduled.set (false);
+
+        this.sendLeds ();
+        this.sendKnobLeds ();
+        this.sendFaders ();
+        this.sendVuMeters ();
+        this.sendMainDisplay ();
+        this.sendSmallDisplay ();
+        this.sendSegmentDisplay ();
+
+        this.lastSend = System.nanoTime ();
+    }
+
+
+    /**
+     * Send the changed LEDs. The zone select message is sent once per zone followed by the port
+     * messages of the changed LEDs.
+     */
+    private void sendLeds ()
+    {
+        for (int zone = 0; zone < NUM_ZONES; zone++)
+        {
+            if ((this.dirtyZones & 1 << zone) == 0)
+                continue;
+
+            final int [] states = this.leds[zone];
+            final int [] sentStates = this.sentLeds[zone];
+            boolean isZoneSelected = false;
+            for (int port = 0; port < NUM_PORTS; port++)
+            {
+                final int state = states[port];
+                if (state == UNKNOWN || state == sentStates[port])
+                    continue;
+                if (!isZoneSelected)
+                {
+                    this.output.sendCC (0x0C, zone);
+                    isZoneSelected = true;
+                }
+                this.output.sendCC (0x2C, (state > 0 ? 0x40 : 0x00) + port);
+                sentStates[port] = state;
+            }
+        }
+        this.dirtyZones = 0;
+    }
+
+
+    /**
+     * Send the changed LED rings of the knobs.
+     */
+    private void sendKnobLeds ()
+    {
+        for (int i = 0; i < NUM_CHANNELS; i++)
+        {
+            final int value = this.knobLeds[i];
+            if (value == UNKNOWN || value == this.sentKnobLeds[i])
+                continue;
+            this.output.sendCC (0x10 + i, value);
+            this.sentKnobLeds[i] = value;
+        }
+    }
+
+
+    /**
+     * Send the changed motor faders, the high byte followed by the low byte.
+     */
+    private void sendFaders ()
+    {
+        for (int i = 0; i < NUM_CHANNELS; i++)
+        {
+            final int value = this.faders[i];
+            if (value == UNKNOWN || value == this.sentFaders[i])
+                continue;
+            this.output.sendCC (i, value / 128);
+            this.output.sendCC (0x20 + i, value % 128);
+            this.sentFaders[i] = value;
+        }
+    }
+
+
+    /**
+     * Send the changed VU meters.
+     */
+    private void sendVuMeters ()
+    {
+        for (int i = 0; i < this.vuMeters.length; i++)
+        {
+            final int value = this.vuMeters[i];
+            if (value == UNKNOWN || value == this.sentVuMeters[i])
+                continue;
+            // The right side is addressed with 0x10 + channel
+            this.output.sendPolyphonicAftertouch (i / NUM_CHANNELS * 0x10 + i % NUM_CHANNELS, value);
+            this.sentVuMeters[i] = value;
+        }
+    }
+
+
+    /**
+     * Send the changed segments of the main display, all in one message.
+     */
+    private void sendMainDisplay ()
+    {
+        final int [] changed = new int [MAIN_DISPLAY_ROWS * MAIN_DISPLAY_SEGMENTS];
+        int numChanged = 0;
+        for (int row = 0; row < MAIN_DISPLAY_ROWS; row++)
+        {
+            for (int segment = 0; segment < MAIN_DISPLAY_SEGMENTS; segment++)
+            {
+                if (hasChanged (this.mainDisplay[row], this.sentMainDisplay[row], segment * MAIN_SEGMENT_LENGTH, MAIN_SEGMENT_LENGTH))
+                    changed[numChanged++] = row * MAIN_DISPLAY_SEGMENTS + segment;
+            }
+        }
+        if (numChanged == 0)
+            return;
+
+        final int headerLength = SYSEX_MAIN_DISPLAY.length;
+        final byte [] message = new byte [headerLength + numChanged * (1 + MAIN_SEGMENT_LENGTH) + 1];
+        System.arraycopy (SYSEX_MAIN_DISPLAY, 0, message, 0, headerLength);
+        int pos = headerLength;
+        for (int i = 0; i < numChanged; i++)
+        {
+            final int row = changed[i] / MAIN_DISPLAY_SEGMENTS;
+            final int start = changed[i] % MAIN_DISPLAY_SEGMENTS * MAIN_SEGMENT_LENGTH;
+            message[pos++] = (byte) changed[i];
+            pos = copySegment (this.mainDisplay[row], this.sentMainDisplay[row], start, MAIN_SEGMENT_LENGTH, message, pos);
+        }
+        message[pos] = (byte) 0xF7;
+        this.output.sendSysex (message);
+    }
+
+
+    /**
+     * Send the changed cells of the small display, one message per cell.
+     */
+    private void sendSmallDisplay ()
+    {
+        final int headerLength = SYSEX_SMALL_DISPLAY.length;
+        for (int cell = 0; cell < SMALL_DISPLAY_CELLS; cell++)
+        {
+            final int start = cell * SMALL_CELL_LENGTH;
+            if (!hasChanged (this.smallDisplay, this.sentSmallDisplay, start, SMALL_CELL_LENGTH))
+                continue;
+
+            final byte [] message = new byte [headerLength + 1 + SMALL_CELL_LENGTH + 1];
+            System.arraycopy (SYSEX_SMALL_DISPLAY, 0, message, 0, headerLength);
+            message[headerLength] = (byte) cell;
+            final int pos = copySegment (this.smallDisplay, this.sentSmallDisplay, start, SMALL_CELL_LENGTH, message, headerLength + 1);
+            message[pos] = (byte) 0xF7;
+            this.output.sendSysex (message);
+        }
+    }
+
+
+    /**
+     * Send the digits of the transport display up to the last changed one.
+     */
+    private void sendSegmentDisplay ()
+    {
+        if (this.segmentDisplay[0] == UNKNOWN)
+            return;
+
+        int pos = NUM_DIGITS - 1;
+        while (pos >= 0 && this.segmentDisplay[pos] == this.sentSegmentDisplay[pos])
+            pos--;
+        // Nothing has changed
+        if (pos < 0)
+            return;
+
+        final int headerLength = SYSEX_SEGMENT_DISPLAY.length;
+        final byte [] message = new byte [headerLength + pos + 2];
+        System.arraycopy (SYSEX_SEGMENT_DISPLAY, 0, message, 0, headerLength);
+        for (int i = 0; i <= pos; i++)
+        {
+            message[headerLength + i] = (byte) this.segmentDisplay[i];
+            this.sentSegmentDisplay[i] = this.segmentDisplay[i];
+        }
+        message[headerLength + pos + 1] = (byte) 0xF7;
+        this.output.sendSysex (message);
+    }
+
+
+    private static boolean hasChanged (final char [] text, final char [] sentText, final int start, final int length)
+    {
+        for (int i = start; i < start + length; i++)
+        {
+            if (text[i] != sentText[i])
+                return true;
+        }
+        return false;
+    }
+
+
+    private static int copySegment (final char [] text, final char [] sentText, final int start, final int length, final byte [] message, final int pos)
+    {
+        System.arraycopy (text, start, sentText, start, length);
+        for (int i = 0; i < length; i++)
+            message[pos + i] = (byte) (text[start + i] & 0x7F);
+        return pos + length;
+    }
+}
@@ -5,38 +5,31 @@
 package de.mossgrabers.controller.hui.controller;
 
 import de.mossgrabers.framework.controller.display.DummyDisplay;
-import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
 
 import java.util.Arrays;
 
 
 /**
- * The HUI segment display.
+ * The HUI segment display. The digits are sent by the protocol.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class HUISegmentDisplay extends DummyDisplay
 {
-    private static final String SYSEX_HDR          = "F0 00 00 66 05 00 11 ";
-
-    private IMidiOutput         output;
-    private int []              transportBuffer    = new int [8];
-    private int []              oldtransportBuffer = new int [8];
+    private final HUIProtocol protocol;
+    private int []            transportBuffer = new int [8];
 
 
     /**
      * Constructor.
      *
-     * @param output The midi output which addresses the display
+     * @param protocol The protocol which sends the changed digits
      */
-    public HUISegmentDisplay (final IMidiOutput output)
+    public HUISegmentDisplay (final HUIProtocol protocol)
     {
         super (null);
 
-        this.output = output;
-
-        Arrays.fill (this.oldtransportBuffer, -1);
+        this.protocol = protocol;
     }
 
 
@@ -68,26 +61,7 @@ public class HUISegmentDisplay extends DummyDisplay
             index++;
         }
 
-        // Lookup number of changed digits
-        int pos = 7;
-        for (int i = 7; i >= 0; i--)
-        {
-            if (this.transportBuffer[i] == this.oldtransportBuffer[i])
-                pos--;
-            else
-                break;
-        }
-        // Nothing has changed
-        if (pos == -1)
-            return;
-
-        // Store the changes
-        System.arraycopy (this.transportBuffer, 0, this.oldtransportBuffer, 0, pos + 1);
-
-        // Create and send the message with changed digits
-        final int [] data = new int [pos + 1];
-        System.arraycopy (this.transportBuffer, 0, data, 0, data.length);
-        final String msg = SYSEX_HDR + StringUtils.toHexStr (data) + "F7";
-        this.output.sendSysex (msg);
+        this.protocol.setSegmentDisplay (this.transportBuffer);
+        this.protocol.flush ();
     }
 }
\ No newline at end of file
@@ -38,6 +38,7 @@ import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.controller.AbstractControllerSetup;
 import de.mossgrabers.framework.controller.DefaultValueChanger;
 import de.mossgrabers.framework.controller.ISetupFactory;
+import de.mossgrabers.framework.controller.StartupSignal;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IHost;
@@ -119,6 +120,8 @@ public class Kontrol1ControllerSetup extends AbstractControllerSetup<Kontrol1Con
     {
         final Kontrol1UsbDevice usbDevice = new Kontrol1UsbDevice (this.modelIndex, this.host);
         usbDevice.init ();
+        if (usbDevice.isOpen ())
+            this.startupOrchestrator.signal (StartupSignal.USB_OPENED);
 
         final IMidiAccess midiAccess = this.factory.createMidiAccess ();
         final IMidiInput input = midiAccess.createInput ("Komplete Kontrol 1",
@@ -245,6 +248,14 @@ public class Kontrol1ControllerSetup extends AbstractControllerSetup<Kontrol1Con
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected void createStartupStages ()
+    {
+        this.startupOrchestrator.addStage ("Startup", this::startup, StartupSignal.FIRST_FLUSH, StartupSignal.USB_OPENED);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void startup ()
@@ -0,0 +1,256 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.kontrol.mki.controller;
+
+import java.util.Arrays;
+
+
+/**
+ * Decodes the UI input reports of the Komplete Kontrol 1. Each report is compared to the previous
+ * one and only the changes are collected as events. The events of several reports are collected
+ * until they are delivered with {@link #dispatch(UIChangeCallback)}. The event records are
+ * allocated once and reused.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class Kontrol1InputDecoder
+{
+    private static final int       EVENT_BUTTON       = 0;
+    private static final int       EVENT_MAIN_ENCODER = 1;
+    private static final int       EVENT_ENCODER      = 2;
+    private static final int       EVENT_KEYBOARD     = 3;
+
+    /** The maximum number of events which can be created from one report. */
+    private static final int       MAX_REPORT_EVENTS  = 1 + 8 + 5 * 8 + 1;
+
+    private static final int [] [] BUTTON_BYTES       =
+    {
+        {
+            Kontrol1ControlSurface.BUTTON_MAIN_ENCODER,
+            Kontrol1ControlSurface.BUTTON_PRESET_UP,
+            Kontrol1ControlSurface.BUTTON_ENTER,
+            Kontrol1ControlSurface.BUTTON_PRESET_DOWN,
+            Kontrol1ControlSurface.BUTTON_BROWSE,
+            Kontrol1ControlSurface.BUTTON_INSTANCE,
+            Kontrol1ControlSurface.BUTTON_OCTAVE_DOWN,
+            Kontrol1ControlSurface.BUTTON_OCTAVE_UP
+        },
+        {
+            Kontrol1ControlSurface.BUTTON_STOP,
+            Kontrol1ControlSurface.BUTTON_REC,
+            Kontrol1ControlSurface.BUTTON_PLAY,
+            Kontrol1ControlSurface.BUTTON_NAVIGATE_RIGHT,
+            Kontrol1ControlSurface.BUTTON_NAVIGATE_DOWN,
+            Kontrol1ControlSurface.BUTTON_NAVIGATE_LEFT,
+            Kontrol1ControlSurface.BUTTON_BACK,
+            Kontrol1ControlSurface.BUTTON_NAVIGATE_UP
+        },
+        {
+            Kontrol1ControlSurface.BUTTON_SHIFT,
+            Kontrol1ControlSurface.BUTTON_SCALE,
+            Kontrol1ControlSurface.BUTTON_ARP,
+            Kontrol1ControlSurface.BUTTON_LOOP,
+            Kontrol1ControlSurface.BUTTON_PAGE_RIGHT,
+            Kontrol1ControlSurface.BUTTON_PAGE_LEFT,
+            Kontrol1ControlSurface.BUTTON_RWD,
+            Kontrol1ControlSurface.BUTTON_FWD
+        },
+        {
+            Kontrol1ControlSurface.TOUCH_ENCODER_1,
+            Kontrol1ControlSurface.TOUCH_ENCODER_2,
+            Kontrol1ControlSurface.TOUCH_ENCODER_3,
+            Kontrol1ControlSurface.TOUCH_ENCODER_4,
+            Kontrol1ControlSurface.TOUCH_ENCODER_5,
+            Kontrol1ControlSurface.TOUCH_ENCODER_6,
+            Kontrol1ControlSurface.TOUCH_ENCODER_7,
+            Kontrol1ControlSurface.TOUCH_ENCODER_8
+        },
+        {
+            Kontrol1ControlSurface.TOUCH_ENCODER_MAIN
+        }
+    };
+
+    /** The index of the first byte which contains the touch states of the encoders. */
+    private static final int       FIRST_TOUCH_BYTE   = 3;
+
+    private final int []           buttonBytes        = new int [BUTTON_BYTES.length];
+    private int                    mainEncoderValue;
+    private final int []           encoderValues      = new int [8];
+    private volatile int           firstNote          = 48;
+    private boolean                isFirstStateMsg    = true;
+
+    private int []                 eventTypes         = new int [MAX_REPORT_EVENTS];
+    private int []                 eventIndices       = new int [MAX_REPORT_EVENTS];
+    private boolean []             eventFlags         = new boolean [MAX_REPORT_EVENTS];
+    private int                    numEvents          = 0;
+
+    private int []                 dispatchTypes      = new int [MAX_REPORT_EVENTS];
+    private int []                 dispatchIndices    = new int [MAX_REPORT_EVENTS];
+    private boolean []             dispatchFlags      = new boolean [MAX_REPORT_EVENTS];
+
+
+    /**
+     * Decode an UI input report and collect the changes since the last report.
+     *
+     * @param data The data of the report
+     * @return True if there were changes
+     */
+    public synchronized boolean decode (final byte [] data)
+    {
+        this.ensureCapacity (this.numEvents + MAX_REPORT_EVENTS);
+        final int previousNumEvents = this.numEvents;
+
+        boolean encoderChange = false;
+
+        // Decode main knob
+        final int currentEncoderValue = Byte.toUnsignedInt (data[5]);
+        if (currentEncoderValue != this.mainEncoderValue)
+        {
+            final boolean valueIncreased = (this.mainEncoderValue < currentEncoderValue || this.mainEncoderValue == 0x0F && currentEncoderValue == 0) && !(this.mainEncoderValue == 0 && currentEncoderValue == 0x0F);
+            this.mainEncoderValue = currentEncoderValue;
+            if (!this.isFirstStateMsg)
+                this.addEvent (EVENT_MAIN_ENCODER, 0, valueIncreased);
+            encoderChange = true;
+        }
+
+        // Decode 8 value knobs
+        final int start = 6;
+        for (int encIndex = 0; encIndex < 8; encIndex++)
+        {
+            final int pos = start + 2 * encIndex;
+
+            final int value = Byte.toUnsignedInt (data[pos]) | Byte.toUnsignedInt (data[pos + 1]) << 8;
+            final int hValue = Byte.toUnsignedInt (data[pos + 1]);
+            if (this.encoderValues[encIndex] != value)
+            {
+                final int prevHValue = (this.encoderValues[encIndex] & 0xF00) >> 8;
+                final boolean valueIncreased = (this.encoderValues[encIndex] < value || prevHValue == 3 && hValue == 0) && !(prevHValue == 0 && hValue == 3);
+                this.encoderValues[encIndex] = value;
+                if (!this.isFirstStateMsg)
+                    this.addEvent (EVENT_ENCODER, encIndex, valueIncreased);
+                encoderChange = true;
+            }
+        }
+
+        this.isFirstStateMsg = false;
+
+        // Test the buttons, don't test touch events on encoder change to prevent flickering
+        final int numButtonBytes = encoderChange ? FIRST_TOUCH_BYTE : BUTTON_BYTES.length;
+        for (int i = 0; i < numButtonBytes; i++)
+            this.decodeButtonByte (i, Byte.toUnsignedInt (data[i]));
+
+        if (this.firstNote != data[36])
+        {
+            this.firstNote = data[36];
+            this.addEvent (EVENT_KEYBOARD, this.firstNote, false);
+        }
+
+        return this.numEvents > previousNumEvents;
+    }
+
+
+    /**
+     * Deliver all collected events to the callback. Must be called from a single thread.
+     *
+     * @param callback The callback, if null the events are dropped
+     */
+    public void dispatch (final UIChangeCallback callback)
+    {
+        final int count;
+        final int [] types;
+        final int [] indices;
+        final boolean [] flags;
+        synchronized (this)
+        {
+            // Swap the buffers, further reports can be decoded while the events are delivered
+            count = this.numEvents;
+            types = this.eventTypes;
+            indices = this.eventIndices;
+            flags = this.eventFlags;
+            this.eventTypes = this.dispatchTypes;
+            this.eventIndices = this.dispatchIndices;
+            this.eventFlags = this.dispatchFlags;
+            this.dispatchTypes = types;
+            this.dispatchIndices = indices;
+            this.dispatchFlags = flags;
+            this.numEvents = 0;
+        }
+
+        if (callback == null)
+            return;
+
+        for (int i = 0; i < count; i++)
+        {
+            final int index = indices[i];
+            final boolean flag = flags[i];
+            switch (types[i])
+            {
+                case EVENT_BUTTON:
+                    callback.buttonChange (index, flag);
+                    break;
+                case EVENT_MAIN_ENCODER:
+                    callback.mainEncoderChanged (flag);
+                    break;
+                case EVENT_ENCODER:
+                    callback.encoderChanged (index, flag);
+                    break;
+                case EVENT_KEYBOARD:
+                    callback.keyboardChanged (index);
+                    break;
+                default:
+                    // Not used
+                    break;
+            }
+        }
+    }
+
+
+    /**
+     * Get the first note on the keyboard.
+     *
+     * @return The first note
+     */
+    public int getFirstNote ()
+    {
+        return this.firstNote;
+    }
+
+
+    private void decodeButtonByte (final int byteIndex, final int value)
+    {
+        final int changed = value ^ this.buttonBytes[byteIndex];
+        if (changed == 0)
+            return;
+        this.buttonBytes[byteIndex] = value;
+
+        final int [] buttons = BUTTON_BYTES[byteIndex];
+        for (int i = 0; i < buttons.length; i++)
+        {
+            final int bit = 1 << i;
+            if ((changed & bit) > 0)
+                this.addEvent (EVENT_BUTTON, buttons[i], (value & bit) > 0);
+        }
+    }
+
+
+    private void addEvent (final int type, final int index, final boolean flag)
+    {
+        this.eventTypes[this.numEvents] = type;
+        this.eventIndices[this.numEvents] = index;
+        this.eventFlags[this.numEvents] = flag;
+        this.numEvents++;
+    }
+
+
+    private void ensureCapacity (final int size)
+    {
+        if (size <= this.eventTypes.length)
+            return;
+        final int newSize = Math.max (size, 2 * this.eventTypes.length);
+        this.eventTypes = Arrays.copyOf (this.eventTypes, newSize);
+        this.eventIndices = Arrays.copyOf (this.eventIndices, newSize);
+        this.eventFlags = Arrays.copyOf (this.eventFlags, newSize);
+    }
+}
@@ -14,6 +14,7 @@ import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 
 /**
@@ -325,71 +326,6 @@ public class Kontrol1UsbDevice
         (byte) 129
     };
 
-    private static final int []                BYTE_0                    =
-    {
-        Kontrol1ControlSurface.BUTTON_MAIN_ENCODER,
-        Kontrol1ControlSurface.BUTTON_PRESET_UP,
-        Kontrol1ControlSurface.BUTTON_ENTER,
-        Kontrol1ControlSurface.BUTTON_PRESET_DOWN,
-        Kontrol1ControlSurface.BUTTON_BROWSE,
-        Kontrol1ControlSurface.BUTTON_INSTANCE,
-        Kontrol1ControlSurface.BUTTON_OCTAVE_DOWN,
-        Kontrol1ControlSurface.BUTTON_OCTAVE_UP
-    };
-
-    private static final int []                BYTE_1                    =
-    {
-        Kontrol1ControlSurface.BUTTON_STOP,
-        Kontrol1ControlSurface.BUTTON_REC,
-        Kontrol1ControlSurface.BUTTON_PLAY,
-        Kontrol1ControlSurface.BUTTON_NAVIGATE_RIGHT,
-        Kontrol1ControlSurface.BUTTON_NAVIGATE_DOWN,
-        Kontrol1ControlSurface.BUTTON_NAVIGATE_LEFT,
-        Kontrol1ControlSurface.BUTTON_BACK,
-        Kontrol1ControlSurface.BUTTON_NAVIGATE_UP
-    };
-
-    private static final int []                BYTE_2                    =
-    {
-        Kontrol1ControlSurface.BUTTON_SHIFT,
-        Kontrol1ControlSurface.BUTTON_SCALE,
-        Kontrol1ControlSurface.BUTTON_ARP,
-        Kontrol1ControlSurface.BUTTON_LOOP,
-        Kontrol1ControlSurface.BUTTON_PAGE_RIGHT,
-        Kontrol1ControlSurface.BUTTON_PAGE_LEFT,
-        Kontrol1ControlSurface.BUTTON_RWD,
-        Kontrol1ControlSurface.BUTTON_FWD
-    };
-
-    private static final int []                BYTE_3                    =
-    {
-        Kontrol1ControlSurface.TOUCH_ENCODER_1,
-        Kontrol1ControlSurface.TOUCH_ENCODER_2,
-        Kontrol1ControlSurface.TOUCH_ENCODER_3,
-        Kontrol1ControlSurface.TOUCH_ENCODER_4,
-        Kontrol1ControlSurface.TOUCH_ENCODER_5,
-        Kontrol1ControlSurface.TOUCH_ENCODER_6,
-        Kontrol1ControlSurface.TOUCH_ENCODER_7,
-        Kontrol1ControlSurface.TOUCH_ENCODER_8
-    };
-
-    private static final int []                BYTE_4                    =
-    {
-        Kontrol1ControlSurface.TOUCH_ENCODER_MAIN
-    };
-
-    private static final int []                TEST_BITS                 =
-    {
-        0x01,
-        0x02,
-        0x04,
-        0x08,
-        0x10,
-        0x20,
-        0x40,
-        0x80
-    };
-
     private static final int []                KEY_SIZES                 =
     {
         25,
@@ -422,9 +358,8 @@ public class Kontrol1UsbDevice
 
     private UIChangeCallback                   callback;
 
-    private int                                mainEncoderValue;
-    private int []                             encoderValues             = new int [8];
-    private int                                firstNote                 = 48;
+    private final Kontrol1InputDecoder         decoder                   = new Kontrol1InputDecoder ();
+    private final AtomicBoolean                isDispatchScheduled       = new AtomicBoolean (false);
 
     private byte []                            buttonStates              = new byte [21];
     private byte []                            oldButtonStates           = new byte [21];
@@ -439,8 +374,6 @@ public class Kontrol1UsbDevice
 
     private final byte []                      line0                     = new byte [SIZE_DISPLAY];
 
-    private boolean                            isFirstStateMsg           = true;
-
     static
     {
         LED_MAPPING.put (Integer.valueOf (Kontrol1ControlSurface.BUTTON_SHIFT), Integer.valueOf (0));
@@ -526,6 +459,17 @@ public class Kontrol1UsbDevice
     }
 
 
+    /**
+     * Check if the USB/HID connection to the device could be opened.
+     *
+     * @return True if open
+     */
+    public boolean isOpen ()
+    {
+        return this.hidDevice != null;
+    }
+
+
     /**
      * Send the initialization message to the device.
      */
@@ -842,58 +786,13 @@ public class Kontrol1UsbDevice
         if (reportID != REPORT_ID_INPUT_UI)
             return;
 
-        boolean encoderChange = false;
-
-        // Decode main knob
-        final int currentEncoderValue = Byte.toUnsignedInt (data[5]);
-        if (currentEncoderValue != this.mainEncoderValue)
+        // Only changes are collected, all of them are delivered with one task
+        if (this.decoder.decode (data) && this.isDispatchScheduled.compareAndSet (false, true))
         {
-            final boolean valueIncreased = (this.mainEncoderValue < currentEncoderValue || this.mainEncoderValue == 0x0F && currentEncoderValue == 0) && !(this.mainEncoderValue == 0 && currentEncoderValue == 0x0F);
-            this.mainEncoderValue = currentEncoderValue;
-            if (!this.isFirstStateMsg)
-                this.host.scheduleTask ( () -> this.callback.mainEncoderChanged (valueIncreased), 0);
-            encoderChange = true;
-        }
-
-        // Decode 8 value knobs
-        final int start = 6;
-        for (int encIndex = 0; encIndex < 8; encIndex++)
-        {
-            final int pos = start + 2 * encIndex;
-
-            final int value = Byte.toUnsignedInt (data[pos]) | Byte.toUnsignedInt (data[pos + 1]) << 8;
-            final int hValue = Byte.toUnsignedInt (data[pos + 1]);
-            if (this.encoderValues[encIndex] != value)
-            {
-                final int prevHValue = (this.encoderValues[encIndex] & 0xF00) >> 8;
-                final boolean valueIncreased = (this.encoderValues[encIndex] < value || prevHValue == 3 && hValue == 0) && !(prevHValue == 0 && hValue == 3);
-                this.encoderValues[encIndex] = value;
-                if (!this.isFirstStateMsg)
-                {
-                    final int ei = encIndex;
-                    this.host.scheduleTask ( () -> this.callback.encoderChanged (ei, valueIncreased), 0);
-                }
-                encoderChange = true;
-            }
-        }
-
-        this.isFirstStateMsg = false;
-
-        // Test the pressed buttons
-        this.testByteForButtons (data[0], BYTE_0);
-        this.testByteForButtons (data[1], BYTE_1);
-        this.testByteForButtons (data[2], BYTE_2);
-        // Don't test touch events on encoder change to prevent flickering
-        if (!encoderChange)
-        {
-            this.testByteForButtons (data[3], BYTE_3);
-            this.testByteForButtons (data[4], BYTE_4);
-        }
-
-        if (this.firstNote != data[36])
-        {
-            this.firstNote = data[36];
-            this.host.scheduleTask ( () -> this.callback.keyboardChanged (this.firstNote), 0);
+            this.host.scheduleTask ( () -> {
+                this.isDispatchScheduled.set (false);
+                this.decoder.dispatch (this.callback);
+            }, 0);
         }
     }
 
@@ -938,21 +837,6 @@ public class Kontrol1UsbDevice
     }
 
 
-    private void testByteForButtons (final byte b, final int [] buttons)
-    {
-        if (this.callback == null)
-            return;
-
-        final int t = Byte.toUnsignedInt (b);
-        for (int i = 0; i < buttons.length; i++)
-        {
-            final int button = buttons[i];
-            final boolean isPressed = (t & TEST_BITS[i]) > 0;
-            this.host.scheduleTask ( () -> this.callback.buttonChange (button, isPressed), 0);
-        }
-    }
-
-
     /**
      * Turn off all button LEDs.
      */
@@ -971,7 +855,7 @@ public class Kontrol1UsbDevice
      */
     public int getFirstNote ()
     {
-        return this.firstNote;
+        return this.decoder.getFirstNote ();
     }
 
 
@@ -37,6 +37,7 @@ import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.controller.AbstractControllerSetup;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.ISetupFactory;
+import de.mossgrabers.framework.controller.StartupSignal;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IHost;
@@ -323,6 +324,17 @@ public class KontrolProtocolControllerSetup extends AbstractControllerSetup<Kont
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected void createStartupStages ()
+    {
+        // The handshake does not depend on the model, start it right away. The modes send their
+        // states after the handshake, the timeout starts them anyway if NIHIA does not answer
+        this.startupOrchestrator.addStage ("Handshake", this.getSurface ()::initHandshake);
+        this.startupOrchestrator.addStage ("Startup", this::startup, StartupSignal.FIRST_FLUSH, StartupSignal.HANDSHAKE);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void startup ()
@@ -330,8 +342,6 @@ public class KontrolProtocolControllerSetup extends AbstractControllerSetup<Kont
         final IControlSurface<KontrolProtocolConfiguration> surface = this.getSurface ();
         surface.getViewManager ().setActiveView (Views.CONTROL);
         surface.getModeManager ().setActiveMode (Modes.VOLUME);
-
-        this.getSurface ().initHandshake ();
     }
 
 
@@ -0,0 +1,246 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.kontrol.mkii.controller;
+
+/**
+ * Mirrors the track states which have been sent to the Komplete Kontrol. Used to send only the
+ * states which have changed. The values are compared directly, therefore, an unchanged state can be
+ * checked without creating any objects.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TrackStateMirror
+{
+    private static final int    NUM_TRACKS = 8;
+    private static final int    UNKNOWN    = -1;
+
+    private final TrackState [] tracks     = new TrackState [NUM_TRACKS];
+    private int []              vuData     = new int [0];
+    private boolean             hasVuData  = false;
+
+
+    /**
+     * Constructor.
+     */
+    public TrackStateMirror ()
+    {
+        for (int i = 0; i < NUM_TRACKS; i++)
+            this.tracks[i] = new TrackState ();
+    }
+
+
+    /**
+     * Forget all states, e.g. after a new connection. All states are sent again on the next
+     * update.
+     */
+    public void clear ()
+    {
+        for (final TrackState track: this.tracks)
+            track.clear ();
+        this.hasVuData = false;
+    }
+
+
+    /**
+     * Store a state which has only a value.
+     *
+     * @param stateID The state ID (command)
+     * @param track The track index (0-7)
+     * @param value The value
+     * @return True if the state has changed and needs to be sent, also true for states which are
+     *         not mirrored
+     */
+    public boolean updateValue (final int stateID, final int track, final int value)
+    {
+        if (track < 0 || track >= NUM_TRACKS)
+            return true;
+
+        final TrackState state = this.tracks[track];
+        final int old;
+        switch (stateID)
+        {
+            case KontrolProtocolControlSurface.KONTROL_TRACK_AVAILABLE:
+                old = state.available;
+                state.available = value;
+                break;
+            case KontrolProtocolControlSurface.KONTROL_TRACK_SELECTED:
+                old = state.selected;
+                state.selected = value;
+                break;
+            case KontrolProtocolControlSurface.KONTROL_TRACK_MUTE:
+                old = state.mute;
+                state.mute = value;
+                break;
+            case KontrolProtocolControlSurface.KONTROL_TRACK_SOLO:
+                old = state.solo;
+                state.solo = value;
+                break;
+            case KontrolProtocolControlSurface.KONTROL_TRACK_RECARM:
+                old = state.recArm;
+                state.recArm = value;
+                break;
+            case KontrolProtocolControlSurface.KONTROL_TRACK_MUTED_BY_SOLO:
+                old = state.mutedBySolo;
+                state.mutedBySolo = value;
+                break;
+            default:
+                return true;
+        }
+        return old != value;
+    }
+
+
+    /**
+     * Store a state which has a text.
+     *
+     * @param stateID The state ID (command)
+     * @param track The track index (0-7)
+     * @param value The value
+     * @param text The text
+     * @return True if the state has changed and needs to be sent, also true for states which are
+     *         not mirrored
+     */
+    public boolean updateText (final int stateID, final int track, final int value, final String text)
+    {
+        if (track < 0 || track >= NUM_TRACKS)
+            return true;
+
+        final TrackState state = this.tracks[track];
+        final TextState textState;
+        switch (stateID)
+        {
+            case KontrolProtocolControlSurface.KONTROL_TRACK_INSTANCE:
+                textState = state.instance;
+                break;
+            case KontrolProtocolControlSurface.KONTROL_TRACK_VOLUME_TEXT:
+                textState = state.volumeText;
+                break;
+            case KontrolProtocolControlSurface.KONTROL_TRACK_PAN_TEXT:
+                textState = state.panText;
+                break;
+            case KontrolProtocolControlSurface.KONTROL_TRACK_NAME:
+                textState = state.name;
+                break;
+            default:
+                return true;
+        }
+        return textState.update (value, text);
+    }
+
+
+    /**
+     * Store the VU meters of all tracks.
+     *
+     * @param value The value
+     * @param data The VU data, 2 per track
+     * @return True if the data has changed and needs to be sent
+     */
+    public boolean updateVuData (final int value, final int [] data)
+    {
+        if (this.hasVuData && this.vuData.length == data.length + 1 && this.vuData[0] == value)
+        {
+            boolean isEqual = true;
+            for (int i = 0; i < data.length; i++)
+            {
+                if (this.vuData[i + 1] != data[i])
+                {
+                    isEqual = false;
+                    break;
+                }
+            }
+            if (isEqual)
+                return false;
+        }
+
+        if (this.vuData.length != data.length + 1)
+            this.vuData = new int [data.length + 1];
+        this.vuData[0] = value;
+        System.arraycopy (data, 0, this.vuData, 1, data.length);
+        this.hasVuData = true;
+        return true;
+    }
+
+
+    /**
+     * The states of one track.
+     */
+    private static class TrackState
+    {
+        int             available;
+        int             selected;
+        int             mute;
+        int             solo;
+        int             recArm;
+        int             mutedBySolo;
+        final TextState instance   = new TextState ();
+        final TextState volumeText = new TextState ();
+        final TextState panText    = new TextState ();
+        final TextState name       = new TextState ();
+
+
+        /**
+         * Constructor.
+         */
+        TrackState ()
+        {
+            this.clear ();
+        }
+
+
+        /**
+         * Forget all states.
+         */
+        final void clear ()
+        {
+            this.available = UNKNOWN;
+            this.selected = UNKNOWN;
+            this.mute = UNKNOWN;
+            this.solo = UNKNOWN;
+            this.recArm = UNKNOWN;
+            this.mutedBySolo = UNKNOWN;
+            this.instance.clear ();
+            this.volumeText.clear ();
+            this.panText.clear ();
+            this.name.clear ();
+        }
+    }
+
+
+    /**
+     * A state with a value and a text.
+     */
+    private static class TextState
+    {
+        int    value;
+        String text;
+
+
+        /**
+         * Forget the state.
+         */
+        void clear ()
+        {
+            this.value = UNKNOWN;
+            this.text = null;
+        }
+
+
+        /**
+         * Store the state.
+         *
+         * @param value The value
+         * @param text The text
+         * @return True if the state has changed
+         */
+        boolean update (final int value, final String text)
+        {
+            if (this.value == value && text.equals (this.text))
+                return false;
+            this.value = value;
+            this.text = text;
+            return true;
+        }
+    }
+}
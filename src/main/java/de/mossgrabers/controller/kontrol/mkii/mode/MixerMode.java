@@ -63,7 +63,7 @@ public class MixerMode extends VolumeMode<KontrolProtocolControlSurface, Kontrol
             this.surface.updateContinuous (KontrolProtocolControlSurface.KONTROL_TRACK_VOLUME + i, valueChanger.toMidiValue (track.getVolume ()));
             this.surface.updateContinuous (KontrolProtocolControlSurface.KONTROL_TRACK_PAN + i, valueChanger.toMidiValue (track.getPan ()));
         }
-        this.surface.sendKontrolTrackSysEx (KontrolProtocolControlSurface.KONTROL_TRACK_VU, 2, 0, vuData);
+        this.surface.sendKontrolVuSysEx (2, vuData);
 
         final ITrack selectedTrack = bank.getSelectedItem ();
         final int scrollTracksState = (bank.canScrollBackwards () ? 1 : 0) + (bank.canScrollForwards () ? 2 : 0);
@@ -70,7 +70,7 @@ public class ParamsMode extends ParameterMode<KontrolProtocolControlSurface, Kon
             this.surface.updateContinuous (KontrolProtocolControlSurface.KONTROL_TRACK_VOLUME + i, valueChanger.toMidiValue (parameter.getValue ()));
             this.surface.updateContinuous (KontrolProtocolControlSurface.KONTROL_TRACK_PAN + i, valueChanger.toMidiValue (parameter.getValue ()));
         }
-        this.surface.sendKontrolTrackSysEx (KontrolProtocolControlSurface.KONTROL_TRACK_VU, 2, 0, vuData);
+        this.surface.sendKontrolVuSysEx (2, vuData);
 
         final int scrollTracksState = (bank.canScrollBackwards () ? 1 : 0) + (bank.canScrollForwards () ? 2 : 0);
 
@@ -77,7 +77,7 @@ public class SendMode extends AbstractTrackMode<KontrolProtocolControlSurface, K
             this.surface.updateContinuous (KontrolProtocolControlSurface.KONTROL_TRACK_VOLUME + i, valueChanger.toMidiValue (send.getValue ()));
             this.surface.updateContinuous (KontrolProtocolControlSurface.KONTROL_TRACK_PAN + i, valueChanger.toMidiValue (send.getValue ()));
         }
-        this.surface.sendKontrolTrackSysEx (KontrolProtocolControlSurface.KONTROL_TRACK_VU, 2, 0, vuData);
+        this.surface.sendKontrolVuSysEx (2, vuData);
 
         final int scrollTracksState = (sendBank != null && sendBank.canScrollPageBackwards () ? 1 : 0) + (sendBank != null && sendBank.canScrollPageForwards () ? 2 : 0);
         final int scrollScenesState = 0;
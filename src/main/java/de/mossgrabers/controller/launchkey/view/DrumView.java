@@ -8,11 +8,10 @@ import de.mossgrabers.controller.launchkey.LaunchkeyMiniMk3Configuration;
 import de.mossgrabers.controller.launchkey.controller.LaunchkeyMiniMk3Colors;
 import de.mossgrabers.controller.launchkey.controller.LaunchkeyMiniMk3ControlSurface;
 import de.mossgrabers.framework.controller.grid.PadGrid;
-import de.mossgrabers.framework.daw.DAWColors;
+import de.mossgrabers.framework.daw.DrumPadBankSnapshot;
 import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.INoteClip;
-import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.view.AbstractDrumView;
 import de.mossgrabers.framework.view.Views;
@@ -71,7 +70,7 @@ public class DrumView extends AbstractDrumView<LaunchkeyMiniMk3ControlSurface, L
     @Override
     public void updateNoteMapping ()
     {
-        this.delayedUpdateNoteMapping (this.model.canSelectedTrackHoldNotes () && this.isPlayMode ? this.scales.getDrumMatrix () : EMPTY_TABLE);
+        this.delayedUpdateNoteMapping ( () -> this.model.canSelectedTrackHoldNotes () && this.isPlayMode ? this.scales.getDrumMatrix () : EMPTY_TABLE);
     }
 
 
@@ -83,25 +82,14 @@ public class DrumView extends AbstractDrumView<LaunchkeyMiniMk3ControlSurface, L
         final ICursorDevice primary = this.model.getInstrumentDevice ();
         if (this.isPlayMode)
         {
-            final boolean hasDrumPads = primary.hasDrumPads ();
-            boolean isSoloed = false;
-            if (hasDrumPads)
-            {
-                for (int i = 0; i < 16; i++)
-                {
-                    if (primary.getDrumPadBank ().getItem (i).isSolo ())
-                    {
-                        isSoloed = true;
-                        break;
-                    }
-                }
-            }
+            final DrumPadBankSnapshot snapshot = primary.getDrumPadBank ().getSnapshot ();
+            final boolean isSoloed = primary.hasDrumPads () && snapshot.hasSolo (16);
             for (int y = 0; y < 2; y++)
             {
                 for (int x = 0; x < 8; x++)
                 {
                     final int index = 8 * y + x;
-                    padGrid.lightEx (x, 1 - y, this.getPadColor (index, primary, isSoloed, false));
+                    padGrid.lightEx (x, 1 - y, this.getPadColor (index, snapshot, isSoloed, false));
                 }
             }
             return;
@@ -140,11 +128,11 @@ public class DrumView extends AbstractDrumView<LaunchkeyMiniMk3ControlSurface, L
             return LaunchkeyMiniMk3Colors.LAUNCHKEY_COLOR_BLUE;
 
         // Exists and active?
-        final IChannel drumPad = primary.getDrumPadBank ().getItem (this.selectedPad);
-        if (!drumPad.doesExist () || !drumPad.isActivated ())
+        final DrumPadBankSnapshot snapshot = primary.getDrumPadBank ().getSnapshot ();
+        if (!DrumPadBankSnapshot.isPlayable (snapshot.getFlags (this.selectedPad)))
             return LaunchkeyMiniMk3Colors.LAUNCHKEY_COLOR_BLACK;
 
-        return this.model.getColorManager ().getColor (DAWColors.getColorIndex (drumPad.getColor ()));
+        return this.model.getColorManager ().getColor (snapshot.getColorID (this.selectedPad));
     }
 
 
@@ -68,5 +68,6 @@ public class LaunchpadConfiguration extends AbstractConfiguration
         // Pad Sensitivity
 
         this.activateConvertAftertouchSetting (globalSettings);
+        this.activateVelocityCurveSettings (globalSettings);
     }
 }
@@ -6,6 +6,7 @@ package de.mossgrabers.controller.launchpad.controller;
 
 import de.mossgrabers.controller.launchpad.definition.ILaunchpadControllerDefinition;
 import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.grid.GridFrame;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
 import de.mossgrabers.framework.controller.grid.PadInfo;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
@@ -82,11 +83,11 @@ public class LaunchpadPadGrid extends PadGridImpl
 
     /** {@inheritDoc} */
     @Override
-    public void flush ()
+    protected void transmit (final GridFrame frame)
     {
         synchronized (this.padInfos)
         {
-            super.flush ();
+            super.transmit (frame);
             if (this.padInfos.isEmpty ())
                 return;
             for (final String update: this.definition.buildLEDUpdate (this.padInfos))
@@ -159,6 +159,7 @@ public class MaschineMikroMk3ControllerSetup extends AbstractControllerSetup<Mas
         surface.getModeManager ().addModeListener ( (previousModeId, activeModeId) -> this.updateMode (activeModeId));
 
         this.createScaleObservers (this.configuration);
+        this.createVelocityCurveObservers (this.configuration);
     }
 
 
@@ -24,6 +24,7 @@ import de.mossgrabers.controller.mcu.command.trigger.TracksCommand;
 import de.mossgrabers.controller.mcu.command.trigger.ZoomCommand;
 import de.mossgrabers.controller.mcu.controller.MCUControlSurface;
 import de.mossgrabers.controller.mcu.controller.MCUDisplay;
+import de.mossgrabers.controller.mcu.controller.MCUFanOut;
 import de.mossgrabers.controller.mcu.controller.MCUSegmentDisplay;
 import de.mossgrabers.controller.mcu.mode.MarkerMode;
 import de.mossgrabers.controller.mcu.mode.device.DeviceBrowserMode;
@@ -79,6 +80,7 @@ import de.mossgrabers.framework.daw.ModelSetup;
 import de.mossgrabers.framework.daw.constants.TransportConstants;
 import de.mossgrabers.framework.daw.data.IMasterTrack;
 import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.daw.midi.CoalescingMidiQueue;
 import de.mossgrabers.framework.daw.midi.IMidiAccess;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
@@ -90,7 +92,6 @@ import de.mossgrabers.framework.view.View;
 import de.mossgrabers.framework.view.ViewManager;
 import de.mossgrabers.framework.view.Views;
 
-import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.Map;
 
@@ -129,11 +130,12 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
 
     }
 
-    private final int [] masterVuValues   = new int [2];
-    private int          masterFaderValue = -1;
-    private final int [] vuValues         = new int [36];
-    private final int [] faderValues      = new int [36];
-    private final int    numMCUDevices;
+    private final int        numMCUDevices;
+    private final MCUFanOut  fanOut;
+    private FaderValueSource faderValueSource;
+    private Modes            faderValueSourceMode;
+    private boolean          faderValueSourceUsesKnobs;
+    private boolean          isFaderUpdateScheduled;
 
 
     /**
@@ -151,12 +153,9 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
 
         this.numMCUDevices = numMCUDevices;
 
-        Arrays.fill (this.vuValues, -1);
-        Arrays.fill (this.faderValues, -1);
-        Arrays.fill (this.masterVuValues, -1);
-
         this.colorManager = new ColorManager ();
         this.valueChanger = new Relative2ValueChanger (16241 + 1, 100, 10);
+        this.fanOut = new MCUFanOut (numMCUDevices, this.valueChanger.getUpperBound () - 1);
         this.configuration = new MCUConfiguration (host, this.valueChanger);
     }
 
@@ -214,9 +213,11 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
             final IMidiInput input = midiAccess.createInput (i, null);
             final MCUControlSurface surface = new MCUControlSurface (this.surfaces, this.host, this.colorManager, this.configuration, output, input, 8 * (this.numMCUDevices - i - 1), i == 0);
             this.surfaces.add (surface);
-            surface.addTextDisplay (new MCUDisplay (this.host, output, true, false));
-            surface.addTextDisplay (new MCUDisplay (this.host, output, false, i == 0));
-            surface.addTextDisplay (new MCUSegmentDisplay (output));
+            this.fanOut.addDevice (surface);
+            final CoalescingMidiQueue outputQueue = surface.getOutputQueue ();
+            surface.addTextDisplay (new MCUDisplay (this.host, output, outputQueue, true, false));
+            surface.addTextDisplay (new MCUDisplay (this.host, output, outputQueue, false, i == 0));
+            surface.addTextDisplay (new MCUSegmentDisplay (outputQueue));
             surface.getModeManager ().setDefaultMode (Modes.VOLUME);
         }
     }
@@ -272,6 +273,8 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
             {
                 final MCUControlSurface surface = this.getSurface (index);
                 surface.switchVuMode (this.configuration.isEnableVUMeters () ? MCUControlSurface.VUMODE_LED_AND_LCD : MCUControlSurface.VUMODE_OFF);
+                // Switching resets the meters
+                this.fanOut.clear ();
                 final Mode activeMode = surface.getModeManager ().getActiveOrTempMode ();
                 if (activeMode != null)
                     activeMode.updateDisplay ();
@@ -551,6 +554,25 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
         surface.updateTrigger (MCUControlSurface.MCU_BEATS_LED, displayTicks ? MCU_BUTTON_STATE_OFF : MCU_BUTTON_STATE_ON);
 
         surface.updateTrigger (MCUControlSurface.MCU_MARKER, this.model.getArranger ().areCueMarkersVisible () ? MCU_BUTTON_STATE_ON : MCU_BUTTON_STATE_OFF);
+
+        this.flushFanOut ();
+    }
+
+
+    /**
+     * Fans out the faders and meters and flushes the queues of all devices. Updates again later
+     * if faders could not be moved yet due to their maximum update rate.
+     */
+    private void flushFanOut ()
+    {
+        if (!this.fanOut.update (this.configuration.hasMotorFaders (), this.configuration.isEnableVUMeters ()) || this.isFaderUpdateScheduled)
+            return;
+
+        this.isFaderUpdateScheduled = true;
+        this.host.scheduleTask ( () -> {
+            this.isFaderUpdateScheduled = false;
+            this.flushFanOut ();
+        }, MCUFanOut.MIN_FADER_INTERVAL);
     }
 
 
@@ -576,148 +598,117 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
     }
 
 
+    /**
+     * Set the desired state of the VU meters and motor faders of all devices.
+     *
+     * @param isShiftPressed True if shift is pressed
+     */
     private void updateVUandFaders (final boolean isShiftPressed)
     {
         final double upperBound = this.valueChanger.getUpperBound ();
         final boolean enableVUMeters = this.configuration.isEnableVUMeters ();
         final boolean hasMotorFaders = this.configuration.hasMotorFaders ();
 
+        // Only resolve the source of the fader values if the mode has changed
+        final Modes mode = this.getSurface ().getModeManager ().getActiveOrTempModeId ();
+        final boolean useFadersAsKnobs = this.configuration.useFadersAsKnobs ();
+        if (this.faderValueSource == null || mode != this.faderValueSourceMode || useFadersAsKnobs != this.faderValueSourceUsesKnobs)
+        {
+            this.faderValueSource = this.resolveFaderValueSource (mode, useFadersAsKnobs);
+            this.faderValueSourceMode = mode;
+            this.faderValueSourceUsesKnobs = useFadersAsKnobs;
+        }
+
         final ITrackBank tb = this.model.getCurrentTrackBank ();
-        IMidiOutput output;
-        for (int index = 0; index < this.numMCUDevices; index++)
+        final int numChannels = 8 * this.numMCUDevices;
+        for (int channel = 0; channel < numChannels; channel++)
         {
-            final MCUControlSurface surface = this.getSurface (index);
-            output = surface.getOutput ();
-            final int extenderOffset = surface.getExtenderOffset ();
-            for (int i = 0; i < 8; i++)
-            {
-                final int channel = extenderOffset + i;
-                final ITrack track = tb.getItem (channel);
+            final ITrack track = tb.getItem (channel);
 
-                // Update VU LEDs of channel
-                if (enableVUMeters)
-                {
-                    final int vu = track.getVu ();
-                    if (vu != this.vuValues[channel])
-                    {
-                        this.vuValues[channel] = vu;
-                        final int scaledValue = (int) Math.round (vu * 12 / upperBound);
-                        output.sendChannelAftertouch (0x10 * i + scaledValue, 0);
-                    }
-                }
+            // Update VU LEDs of channel
+            if (enableVUMeters)
+                this.fanOut.setVu (channel, (int) Math.round (track.getVu () * 12 / upperBound));
 
-                // Update motor fader of channel
-                if (hasMotorFaders)
-                    this.updateFaders (output, i, channel, track);
-            }
+            // Update motor fader of channel
+            if (hasMotorFaders)
+                this.fanOut.setFader (channel, this.faderValueSource.getValue (channel % 8, channel, track));
         }
 
         final IMasterTrack masterTrack = this.model.getMasterTrack ();
 
-        final MCUControlSurface surface = this.getSurface ();
-        output = surface.getOutput ();
-
         // Stereo VU of master channel
         if (enableVUMeters)
-        {
-            int vu = masterTrack.getVuLeft ();
-            if (vu != this.masterVuValues[0])
-            {
-                this.masterVuValues[0] = vu;
-                final int scaledValue = (int) Math.round (vu * 12 / upperBound);
-                output.sendChannelAftertouch (1, scaledValue, 0);
-            }
-
-            vu = masterTrack.getVuRight ();
-            if (vu != this.masterVuValues[1])
-            {
-                this.masterVuValues[1] = vu;
-                final int scaledValue = (int) Math.round (vu * 12 / upperBound);
-                output.sendChannelAftertouch (1, 0x10 + scaledValue, 0);
-            }
-        }
+            this.fanOut.setMasterVu ((int) Math.round (masterTrack.getVuLeft () * 12 / upperBound), (int) Math.round (masterTrack.getVuRight () * 12 / upperBound));
 
         // Update motor fader of master channel
         if (hasMotorFaders)
+            this.fanOut.setMasterFader (isShiftPressed ? this.model.getTransport ().getMetronomeVolume () : masterTrack.getVolume ());
+    }
+
+
+    /**
+     * Get the source of the fader values for a mode. Only called when the mode changes.
+     *
+     * @param mode The active or temporary mode
+     * @param useFadersAsKnobs True if the faders control the parameters of the mode
+     * @return The source
+     */
+    private FaderValueSource resolveFaderValueSource (final Modes mode, final boolean useFadersAsKnobs)
+    {
+        if (!useFadersAsKnobs || mode == null)
+            return (index, channel, track) -> track.getVolume ();
+
+        switch (mode)
         {
-            final int volume = isShiftPressed ? this.model.getTransport ().getMetronomeVolume () : masterTrack.getVolume ();
-            if (volume != this.masterFaderValue)
-            {
-                this.masterFaderValue = volume;
-                output.sendPitchbend (8, volume % 127, volume / 127);
-            }
+            case PAN:
+                return (index, channel, track) -> track.getPan ();
+            case TRACK:
+                return this::getSelectedTrackFaderValue;
+            case SEND1:
+            case SEND2:
+            case SEND3:
+            case SEND4:
+            case SEND5:
+            case SEND6:
+            case SEND7:
+            case SEND8:
+                final int sendIndex = mode.ordinal () - Modes.SEND1.ordinal ();
+                return (index, channel, track) -> track.getSendBank ().getItem (sendIndex).getValue ();
+            case DEVICE_PARAMS:
+                return (index, channel, track) -> this.model.getCursorDevice ().getParameterBank ().getItem (channel).getValue ();
+            default:
+                return (index, channel, track) -> track.getVolume ();
         }
     }
 
 
-    private void updateFaders (final IMidiOutput output, final int index, final int channel, final ITrack track)
+    private int getSelectedTrackFaderValue (final int index, final int channel, final ITrack track)
     {
-        int value = track.getVolume ();
+        final ITrack selectedTrack = this.model.getSelectedTrack ();
+        if (selectedTrack == null)
+            return 0;
 
-        if (this.configuration.useFadersAsKnobs ())
+        switch (index)
         {
-            final ModeManager modeManager = this.getSurface ().getModeManager ();
-            if (modeManager.isActiveOrTempMode (Modes.VOLUME))
-                value = track.getVolume ();
-            else if (modeManager.isActiveOrTempMode (Modes.PAN))
-                value = track.getPan ();
-            else if (modeManager.isActiveOrTempMode (Modes.TRACK))
-            {
-                final ITrack selectedTrack = this.model.getSelectedTrack ();
-                if (selectedTrack == null)
-                    value = 0;
-                else
+            case 0:
+                return selectedTrack.getVolume ();
+            case 1:
+                return selectedTrack.getPan ();
+            default:
+                final boolean effectTrackBankActive = this.model.isEffectTrackBankActive ();
+                if (index == 2)
                 {
-                    switch (index)
+                    if (this.configuration.isDisplayCrossfader ())
                     {
-                        case 0:
-                            value = selectedTrack.getVolume ();
-                            break;
-                        case 1:
-                            value = selectedTrack.getPan ();
-                            break;
-                        default:
-                            final boolean effectTrackBankActive = this.model.isEffectTrackBankActive ();
-                            if (index == 2)
-                            {
-                                if (this.configuration.isDisplayCrossfader ())
-                                {
-                                    final int crossfadeMode = selectedTrack.getCrossfadeModeAsNumber ();
-                                    value = crossfadeMode == 2 ? this.valueChanger.getUpperBound () : crossfadeMode == 1 ? this.valueChanger.getUpperBound () / 2 : 0;
-                                }
-                                else if (!effectTrackBankActive)
-                                    value = selectedTrack.getSendBank ().getItem (0).getValue ();
-                            }
-                            else if (!effectTrackBankActive)
-                                value = selectedTrack.getSendBank ().getItem (index - (this.configuration.isDisplayCrossfader () ? 3 : 2)).getValue ();
-                            break;
+                        final int crossfadeMode = selectedTrack.getCrossfadeModeAsNumber ();
+                        return crossfadeMode == 2 ? this.valueChanger.getUpperBound () : crossfadeMode == 1 ? this.valueChanger.getUpperBound () / 2 : 0;
                     }
+                    if (!effectTrackBankActive)
+                        return selectedTrack.getSendBank ().getItem (0).getValue ();
                 }
-            }
-            else if (modeManager.isActiveOrTempMode (Modes.SEND1))
-                value = track.getSendBank ().getItem (0).getValue ();
-            else if (modeManager.isActiveOrTempMode (Modes.SEND2))
-                value = track.getSendBank ().getItem (1).getValue ();
-            else if (modeManager.isActiveOrTempMode (Modes.SEND3))
-                value = track.getSendBank ().getItem (2).getValue ();
-            else if (modeManager.isActiveOrTempMode (Modes.SEND4))
-                value = track.getSendBank ().getItem (3).getValue ();
-            else if (modeManager.isActiveOrTempMode (Modes.SEND5))
-                value = track.getSendBank ().getItem (4).getValue ();
-            else if (modeManager.isActiveOrTempMode (Modes.SEND6))
-                value = track.getSendBank ().getItem (5).getValue ();
-            else if (modeManager.isActiveOrTempMode (Modes.SEND7))
-                value = track.getSendBank ().getItem (6).getValue ();
-            else if (modeManager.isActiveOrTempMode (Modes.SEND8))
-                value = track.getSendBank ().getItem (7).getValue ();
-            else if (modeManager.isActiveOrTempMode (Modes.DEVICE_PARAMS))
-                value = this.model.getCursorDevice ().getParameterBank ().getItem (channel).getValue ();
-        }
-
-        if (value != this.faderValues[channel])
-        {
-            this.faderValues[channel] = value;
-            output.sendPitchbend (index, value % 127, value / 127);
+                else if (!effectTrackBankActive)
+                    return selectedTrack.getSendBank ().getItem (index - (this.configuration.isDisplayCrossfader () ? 3 : 2)).getValue ();
+                return track.getVolume ();
         }
     }
 
@@ -794,4 +785,21 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
         if (modeManager.isActiveOrTempMode (Modes.MASTER))
             modeManager.setActiveMode (Modes.TRACK);
     }
+
+
+    /**
+     * Provides the value which is displayed by a motor fader.
+     */
+    private interface FaderValueSource
+    {
+        /**
+         * Get the value of a fader.
+         *
+         * @param index The index of the fader on its device (0-7)
+         * @param channel The channel over the whole device chain
+         * @param track The track of the channel
+         * @return The value
+         */
+        int getValue (int index, int channel, ITrack track);
+    }
 }
@@ -9,6 +9,7 @@ import de.mossgrabers.framework.controller.AbstractControlSurface;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.midi.CoalescingMidiQueue;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
@@ -196,12 +197,22 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
     public static final int         KNOB_LED_MODE_WRAP       = 2;
     public static final int         KNOB_LED_MODE_SPREAD     = 3;
 
+    /** The minimum time between two transmissions to a device in milliseconds. */
+    public static final long        MIN_SEND_INTERVAL        = 10;
+
+    // Keys of the sysex messages in the output queue, 0-3 are the display lines
+
+    public static final int         SYSEX_KEY_VU_ORIENTATION = 4;
+    public static final int         SYSEX_KEY_VU_MODE        = 5;
+
     private int                     activeVuMode             = VUMODE_LED;
     private int []                  knobValues               = new int [8];
 
     private final int               extenderOffset;
     private boolean                 isMainDevice;
     private List<MCUControlSurface> surfaces;
+    private CoalescingMidiQueue     outputQueue;
+    private MCUFanOut               fanOut;
 
 
     /**
@@ -223,6 +234,7 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
         this.surfaces = surfaces;
         this.extenderOffset = extenderOffset;
         this.isMainDevice = isMainDevice;
+        this.outputQueue = new CoalescingMidiQueue (output, "MCU Output " + (extenderOffset / 8 + 1), MIN_SEND_INTERVAL);
 
         this.setTriggerId (ButtonID.SHIFT, MCU_SHIFT);
         this.setTriggerId (ButtonID.SELECT, MCU_OPTION);
@@ -239,17 +251,19 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
     @Override
     public void shutdown ()
     {
-        final IMidiOutput output = this.getOutput ();
         for (int i = 0; i < 8; i++)
         {
-            output.sendChannelAftertouch (0x10 * i, 0);
-            output.sendPitchbend (i, 0, 0);
+            this.outputQueue.queue (0xD0, 0x10 * i, 0, i);
+            this.outputQueue.queue (0xE0 + i, 0, 0);
         }
-        output.sendChannelAftertouch (1, 0, 0);
-        output.sendChannelAftertouch (1, 0x10, 0);
-        output.sendPitchbend (8, 0, 0);
+        this.outputQueue.queue (0xD1, 0, 0, 0);
+        this.outputQueue.queue (0xD1, 0x10, 0, 1);
+        this.outputQueue.queue (0xE8, 0, 0);
 
         super.shutdown ();
+
+        // Sends all queued messages including the ones of the displays
+        this.outputQueue.shutdown ();
     }
 
 
@@ -257,7 +271,7 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
     @Override
     public void setTrigger (final int channel, final int cc, final int value)
     {
-        this.output.sendNoteEx (channel, cc, value);
+        this.outputQueue.queue (0x90 + channel, cc, value);
     }
 
 
@@ -265,7 +279,7 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
     @Override
     public void setContinuous (final int channel, final int cc, final int value)
     {
-        this.output.sendNoteEx (channel, cc, value);
+        this.outputQueue.queue (0x90 + channel, cc, value);
     }
 
 
@@ -299,7 +313,7 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
             return;
 
         this.knobValues[index] = v;
-        this.output.sendCC (0x30 + index, v);
+        this.outputQueue.queue (0xB0, 0x30 + index, v);
     }
 
 
@@ -313,6 +327,8 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
             // Note on/off
             case 0x80:
             case 0x90:
+                if (this.fanOut != null && data1 >= MCU_FADER_TOUCH1 && data1 <= MCU_FADER_MASTER)
+                    this.fanOut.setFaderTouched (this, data1 - MCU_FADER_TOUCH1, code == 0x90 && data2 > 0);
                 // Reroute all notes to CC buttons
                 this.handleCC (0, data1, data2);
                 break;
@@ -366,7 +382,7 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
     public void switchVuMode (final int mode)
     {
         // Always horizontal
-        this.output.sendSysex (new StringBuilder (SYSEX_HDR).append ("21 00 F7").toString ());
+        this.outputQueue.queueSysex (SYSEX_KEY_VU_ORIENTATION, createSysex (0x21, 0x00));
 
         if (this.activeVuMode != mode)
         {
@@ -375,44 +391,90 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
             else
                 this.activeVuMode = VUMODE_LED;
         }
-        final IMidiOutput out = this.getOutput ();
         // the mcu changes the vu-meter mode when receiving the
         // corresponding sysex message
         switch (this.activeVuMode)
         {
             case VUMODE_LED:
                 for (int i = 0; i < 8; i++)
-                {
-                    // resets the leds (and vu-meters on the display?)
-                    out.sendChannelAftertouch (0 + (i << 4), 0);
-                    out.sendSysex (SYSEX_HDR + "20 0" + i + " 01 F7");
-                }
+                    this.queueVuMode (i, 0x01);
                 break;
             case VUMODE_LED_AND_LCD:
                 for (int i = 0; i < 8; i++)
-                {
-                    out.sendChannelAftertouch (0 + (i << 4), 0);
-                    out.sendSysex (SYSEX_HDR + "20 0" + i + " 03 F7");
-                }
+                    this.queueVuMode (i, 0x03);
                 break;
             case VUMODE_LCD:
                 for (int i = 0; i < 8; i++)
-                {
-                    out.sendChannelAftertouch (0 + (i << 4), 0);
-                    out.sendSysex (SYSEX_HDR + "20 0" + i + " 06 F7");
-                }
+                    this.queueVuMode (i, 0x06);
                 break;
             case VUMODE_OFF:
                 for (int i = 0; i < 8; i++)
-                {
-                    out.sendChannelAftertouch (0 + (i << 4), 0);
-                    out.sendSysex (SYSEX_HDR + "20 0" + i + " 00 F7");
-                }
+                    this.queueVuMode (i, 0x00);
                 break;
             default:
                 // Not used
                 break;
         }
+        this.outputQueue.flush ();
+    }
+
+
+    /**
+     * Get the queue for all messages to the device.
+     *
+     * @return The output queue
+     */
+    public CoalescingMidiQueue getOutputQueue ()
+    {
+        return this.outputQueue;
+    }
+
+
+    /**
+     * Set the fan-out which sends the faders and VU meters of the device chain. Gets notified
+     * about touched faders.
+     *
+     * @param fanOut The fan-out
+     */
+    public void setFanOut (final MCUFanOut fanOut)
+    {
+        this.fanOut = fanOut;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void scheduledFlush ()
+    {
+        super.scheduledFlush ();
+
+        this.outputQueue.flush ();
+    }
+
+
+    private void queueVuMode (final int channel, final int mode)
+    {
+        // Resets the leds (and vu-meters on the display?)
+        this.outputQueue.queue (0xD0, channel << 4, 0, channel);
+        this.outputQueue.queueSysex (SYSEX_KEY_VU_MODE + channel, createSysex (0x20, channel, mode));
+    }
+
+
+    /**
+     * Create a sysex message for the device.
+     *
+     * @param data The data following the header
+     * @return The message including the header and end byte
+     */
+    public static byte [] createSysex (final int... data)
+    {
+        final byte [] message = new byte [MCU_SYSEX_HEADER.length + data.length + 1];
+        for (int i = 0; i < MCU_SYSEX_HEADER.length; i++)
+            message[i] = (byte) MCU_SYSEX_HEADER[i];
+        for (int i = 0; i < data.length; i++)
+            message[MCU_SYSEX_HEADER.length + i] = (byte) (data[i] & 0x7F);
+        message[message.length - 1] = (byte) 0xF7;
+        return message;
     }
 
 
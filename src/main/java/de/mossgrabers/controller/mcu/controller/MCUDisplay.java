@@ -8,26 +8,43 @@ import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.controller.display.Format;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.midi.CoalescingMidiQueue;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.LatestTaskExecutor;
 import de.mossgrabers.framework.utils.StringUtils;
 
 
 /**
- * The MCU main display.
+ * The MCU main display. The lines are sent via the output queue of the device, a line which is
+ * written again before it has been sent replaces the queued one.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class MCUDisplay extends AbstractTextDisplay
 {
-    private static final String         SYSEX_DISPLAY_HEADER1 = "F0 00 00 66 14 12 ";
-    private static final String         SYSEX_DISPLAY_HEADER2 = "F0 00 00 67 15 13 ";
-
-    private boolean                     isFirst;
-    private int                         charactersOfCell;
-    private boolean                     hasMaster;
+    private static final byte []      SYSEX_DISPLAY_HEADER1 =
+    {
+        (byte) 0xF0,
+        0x00,
+        0x00,
+        0x66,
+        0x14,
+        0x12
+    };
+
+    private static final byte []      SYSEX_DISPLAY_HEADER2 =
+    {
+        (byte) 0xF0,
+        0x00,
+        0x00,
+        0x67,
+        0x15,
+        0x13
+    };
 
-    private final LatestTaskExecutor [] executors             = new LatestTaskExecutor [4];
+    private final CoalescingMidiQueue outputQueue;
+    private boolean                   isFirst;
+    private int                       charactersOfCell;
+    private boolean                   hasMaster;
 
 
     /**
@@ -36,19 +53,18 @@ public class MCUDisplay extends AbstractTextDisplay
      *
      * @param host The host
      * @param output The midi output which addresses the display
+     * @param outputQueue The queue for the messages to the output
      * @param isFirst True if it is the first display, otherwise the second
      * @param hasMaster True if a 9th master cell should be added
      */
-    public MCUDisplay (final IHost host, final IMidiOutput output, final boolean isFirst, final boolean hasMaster)
+    public MCUDisplay (final IHost host, final IMidiOutput output, final CoalescingMidiQueue outputQueue, final boolean isFirst, final boolean hasMaster)
     {
         super (host, output, 2 /* No of rows */, !isFirst && hasMaster ? 9 : 8 /* No of cells */, 56);
 
+        this.outputQueue = outputQueue;
         this.isFirst = isFirst;
         this.hasMaster = hasMaster;
         this.charactersOfCell = this.noOfCharacters / this.noOfCells;
-
-        for (int i = 0; i < 4; i++)
-            this.executors[i] = new LatestTaskExecutor ();
     }
 
 
@@ -118,30 +134,6 @@ public class MCUDisplay extends AbstractTextDisplay
     /** {@inheritDoc} */
     @Override
     public void writeLine (final int row, final String text)
-    {
-        final LatestTaskExecutor executor = this.executors[row + (this.isFirst ? 0 : 2)];
-        if (executor.isShutdown ())
-            return;
-        executor.execute ( () -> {
-            try
-            {
-                this.sendDisplayLine (row, text);
-            }
-            catch (final RuntimeException ex)
-            {
-                this.host.error ("Could not send line to MCU display.", ex);
-            }
-        });
-    }
-
-
-    /**
-     * Send a line to the display
-     *
-     * @param row The row
-     * @param text The text to send
-     */
-    private void sendDisplayLine (final int row, final String text)
     {
         String t = text;
         if (!this.isFirst && this.hasMaster)
@@ -150,20 +142,18 @@ public class MCUDisplay extends AbstractTextDisplay
                 t = t.substring (0, t.length () - 1) + 'r';
             t = "  " + t;
         }
+
+        final byte [] header = this.isFirst ? SYSEX_DISPLAY_HEADER1 : SYSEX_DISPLAY_HEADER2;
         final int length = t.length ();
-        final int [] array = new int [length];
+        final byte [] message = new byte [header.length + length + 2];
+        System.arraycopy (header, 0, message, 0, header.length);
+        message[header.length] = (byte) (row == 0 ? 0x00 : 0x38);
         for (int i = 0; i < length; i++)
-            array[i] = t.charAt (i);
-        final StringBuilder code = new StringBuilder ();
-        if (this.isFirst)
-            code.append (SYSEX_DISPLAY_HEADER1);
-        else
-            code.append (SYSEX_DISPLAY_HEADER2);
-        if (row == 0)
-            code.append ("00 ");
-        else
-            code.append ("38 ");
-        this.output.sendSysex (code.append (StringUtils.toHexStr (array)).append ("F7").toString ());
+            message[header.length + 1 + i] = (byte) (t.charAt (i) & 0x7F);
+        message[message.length - 1] = (byte) 0xF7;
+
+        // The display lines use the sysex keys 0-3, sent with the next flush of the device
+        this.outputQueue.queueSysex (row + (this.isFirst ? 0 : 2), message);
     }
 
 
@@ -171,10 +161,7 @@ public class MCUDisplay extends AbstractTextDisplay
     @Override
     public void shutdown ()
     {
+        // Sent when the output queue of the device is shut down
         this.notify ("Please start " + this.host.getName () + "...");
-
-        // Prevent further sends
-        for (int i = 0; i < 4; i++)
-            this.executors[i].shutdown ();
     }
 }
\ No newline at end of file
@@ -0,0 +1,265 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.mcu.controller;
+
+import de.mossgrabers.framework.daw.midi.CoalescingMidiQueue;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Holds the desired state of the faders and VU meters of the whole chain of MCU devices (main
+ * device and extenders) and fans it out to the output queues of the devices. The channels are
+ * numbered over the whole chain, 8 per device, the master channel belongs to the main device. Only
+ * values which differ from the last queued ones are queued.
+ *
+ * The motor faders are scheduled: no feedback is sent while a fader is touched, smaller changes
+ * than the hysteresis are ignored and each fader is moved at most every 50ms. When a fader is
+ * released its final position is sent immediately.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MCUFanOut
+{
+    /** The minimum change of a fader value which moves the motor. */
+    public static final int            FADER_HYSTERESIS      = 16;
+    /** The minimum time between two moves of the same fader in milliseconds. */
+    public static final long           MIN_FADER_INTERVAL    = 50;
+
+    private static final long          MIN_FADER_INTERVAL_NS = TimeUnit.MILLISECONDS.toNanos (MIN_FADER_INTERVAL);
+
+    private final MCUControlSurface [] devices;
+    private MCUControlSurface          mainDevice;
+    private final int                  masterFader;
+    private final int                  maxFaderValue;
+
+    private final int []               faderValues;
+    private final int []               sentFaderValues;
+    private final long []              faderSendTimes;
+    private final boolean []           isFaderTouched;
+    private final int []               vuValues;
+    private final int []               sentVuValues;
+    private final int []               masterVuValues        = new int [2];
+    private final int []               sentMasterVuValues    = new int [2];
+
+
+    /**
+     * Constructor.
+     *
+     * @param numDevices The number of devices in the chain
+     * @param maxFaderValue The maximum value of a fader, always sent regardless of the hysteresis
+     */
+    public MCUFanOut (final int numDevices, final int maxFaderValue)
+    {
+        this.devices = new MCUControlSurface [numDevices];
+        this.maxFaderValue = maxFaderValue;
+
+        final int numChannels = 8 * numDevices;
+        this.masterFader = numChannels;
+        this.faderValues = new int [numChannels + 1];
+        this.sentFaderValues = new int [numChannels + 1];
+        this.faderSendTimes = new long [numChannels + 1];
+        this.isFaderTouched = new boolean [numChannels + 1];
+        this.vuValues = new int [numChannels];
+        this.sentVuValues = new int [numChannels];
+
+        this.clear ();
+    }
+
+
+    /**
+     * Add a device of the chain. The channels of the device are given by its extender offset.
+     *
+     * @param device The device
+     */
+    public void addDevice (final MCUControlSurface device)
+    {
+        this.devices[device.getExtenderOffset () / 8] = device;
+        if (device.isMainDevice ())
+            this.mainDevice = device;
+        device.setFanOut (this);
+    }
+
+
+    /**
+     * Forget the sent state, all values are queued again with the next update.
+     */
+    public synchronized void clear ()
+    {
+        Arrays.fill (this.sentFaderValues, -1);
+        Arrays.fill (this.sentVuValues, -1);
+        Arrays.fill (this.sentMasterVuValues, -1);
+    }
+
+
+    /**
+     * Set the desired position of a fader.
+     *
+     * @param channel The channel over the whole chain
+     * @param value The value (0-16383)
+     */
+    public synchronized void setFader (final int channel, final int value)
+    {
+        this.faderValues[channel] = value;
+    }
+
+
+    /**
+     * Set the desired value of a VU meter.
+     *
+     * @param channel The channel over the whole chain
+     * @param value The value (0-12)
+     */
+    public synchronized void setVu (final int channel, final int value)
+    {
+        this.vuValues[channel] = value;
+    }
+
+
+    /**
+     * Set the desired position of the master fader.
+     *
+     * @param value The value (0-16383)
+     */
+    public synchronized void setMasterFader (final int value)
+    {
+        this.faderValues[this.masterFader] = value;
+    }
+
+
+    /**
+     * Set the desired values of the master VU meters.
+     *
+     * @param left The value of the left meter (0-12)
+     * @param right The value of the right meter (0-12)
+     */
+    public synchronized void setMasterVu (final int left, final int right)
+    {
+        this.masterVuValues[0] = left;
+        this.masterVuValues[1] = right;
+    }
+
+
+    /**
+     * A fader of a device has been touched or released. No feedback is sent to a touched fader.
+     * When it is released its final position is sent immediately.
+     *
+     * @param device The device
+     * @param index The index of the fader on the device (0-7), 8 for the master fader
+     * @param isTouched True if touched, false if released
+     */
+    public synchronized void setFaderTouched (final MCUControlSurface device, final int index, final boolean isTouched)
+    {
+        final int fader;
+        if (index < 8)
+            fader = device.getExtenderOffset () + index;
+        else if (device.isMainDevice ())
+            fader = this.masterFader;
+        else
+            return;
+
+        this.isFaderTouched[fader] = isTouched;
+        if (isTouched)
+            return;
+
+        // The motor has not followed while touched, therefore always send the final position
+        this.sentFaderValues[fader] = -1;
+        this.faderSendTimes[fader] = 0;
+        final CoalescingMidiQueue queue = device.getOutputQueue ();
+        this.queueFader (queue, fader, index, System.nanoTime ());
+        queue.flush ();
+    }
+
+
+    /**
+     * Queue the changed values to the devices and flush the queues of all devices.
+     *
+     * @param updateFaders Update the faders
+     * @param updateVu Update the VU meters
+     * @return True if there are faders which could not be moved yet due to the minimum interval,
+     *         update again later
+     */
+    public synchronized boolean update (final boolean updateFaders, final boolean updateVu)
+    {
+        final long now = System.nanoTime ();
+        boolean hasPendingFaders = false;
+
+        for (final MCUControlSurface device: this.devices)
+        {
+            if (device == null)
+                continue;
+
+            final CoalescingMidiQueue queue = device.getOutputQueue ();
+            final int offset = device.getExtenderOffset ();
+            for (int i = 0; i < 8; i++)
+            {
+                final int channel = offset + i;
+                if (updateVu && this.vuValues[channel] != this.sentVuValues[channel])
+                {
+                    this.sentVuValues[channel] = this.vuValues[channel];
+                    queue.queue (0xD0, 0x10 * i + this.vuValues[channel], 0, i);
+                }
+                if (updateFaders)
+                    hasPendingFaders |= this.queueFader (queue, channel, i, now);
+            }
+        }
+
+        if (this.mainDevice != null)
+        {
+            final CoalescingMidiQueue queue = this.mainDevice.getOutputQueue ();
+            if (updateVu)
+            {
+                for (int i = 0; i < 2; i++)
+                {
+                    if (this.masterVuValues[i] == this.sentMasterVuValues[i])
+                        continue;
+                    this.sentMasterVuValues[i] = this.masterVuValues[i];
+                    queue.queue (0xD1, 0x10 * i + this.masterVuValues[i], 0, i);
+                }
+            }
+            if (updateFaders)
+                hasPendingFaders |= this.queueFader (queue, this.masterFader, 8, now);
+        }
+
+        for (final MCUControlSurface device: this.devices)
+        {
+            if (device != null)
+                device.getOutputQueue ().flush ();
+        }
+        return hasPendingFaders;
+    }
+
+
+    /**
+     * Queue the position of a fader if it is not touched, has changed more than the hysteresis
+     * and was not moved within the minimum interval.
+     *
+     * @param queue The queue of the device of the fader
+     * @param fader The index of the fader over the whole chain
+     * @param index The index of the fader on the device, 8 for the master fader
+     * @param now The current time in nanoseconds
+     * @return True if the fader needs to be moved but the minimum interval has not passed yet
+     */
+    private boolean queueFader (final CoalescingMidiQueue queue, final int fader, final int index, final long now)
+    {
+        final int value = this.faderValues[fader];
+        final int sentValue = this.sentFaderValues[fader];
+        if (value == sentValue || this.isFaderTouched[fader])
+            return false;
+
+        // The end positions are always reached
+        if (sentValue >= 0 && Math.abs (value - sentValue) < FADER_HYSTERESIS && value > 0 && value < this.maxFaderValue)
+            return false;
+
+        if (sentValue >= 0 && now - this.faderSendTimes[fader] < MIN_FADER_INTERVAL_NS)
+            return true;
+
+        this.sentFaderValues[fader] = value;
+        this.faderSendTimes[fader] = now;
+        queue.queue (0xE0 + index, value % 127, value / 127);
+        return false;
+    }
+}
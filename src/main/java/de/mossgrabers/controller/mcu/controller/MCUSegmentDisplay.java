@@ -5,7 +5,7 @@
 package de.mossgrabers.controller.mcu.controller;
 
 import de.mossgrabers.framework.controller.display.DummyDisplay;
-import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.CoalescingMidiQueue;
 
 
 /**
@@ -15,21 +15,21 @@ import de.mossgrabers.framework.daw.midi.IMidiOutput;
  */
 public class MCUSegmentDisplay extends DummyDisplay
 {
-    private IMidiOutput output;
-    private int []      transportBuffer  = new int [10];
-    private int []      assignmentBuffer = new int [2];
+    private final CoalescingMidiQueue outputQueue;
+    private int []                    transportBuffer  = new int [10];
+    private int []                    assignmentBuffer = new int [2];
 
 
     /**
      * Constructor.
      *
-     * @param output The midi output which addresses the display
+     * @param outputQueue The queue for the messages to the output which addresses the display
      */
-    public MCUSegmentDisplay (final IMidiOutput output)
+    public MCUSegmentDisplay (final CoalescingMidiQueue outputQueue)
     {
         super (null);
 
-        this.output = output;
+        this.outputQueue = outputQueue;
     }
 
 
@@ -64,7 +64,7 @@ public class MCUSegmentDisplay extends DummyDisplay
 
             if (c != this.transportBuffer[i])
             {
-                this.output.sendCC (0x40 + i, c);
+                this.outputQueue.queue (0xB0, 0x40 + i, c);
                 this.transportBuffer[i] = c;
             }
             i++;
@@ -86,7 +86,7 @@ public class MCUSegmentDisplay extends DummyDisplay
             if (this.assignmentBuffer[i] != c)
             {
                 final int value = c >= 0x40 ? c - 0x40 : c;
-                this.output.sendCC (0x4B - i, value);
+                this.outputQueue.queue (0xB0, 0x4B - i, value);
                 this.assignmentBuffer[i] = c;
             }
         }
@@ -99,6 +99,6 @@ public class MCUSegmentDisplay extends DummyDisplay
     {
         // Clear the 7-digit displays
         for (int i = 0; i < 12; i++)
-            this.output.sendCC (0x40 + i, 0x20);
+            this.outputQueue.queue (0xB0, 0x40 + i, 0x20);
     }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ package de.mossgrabers.controller.midimonitor;
 import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.configuration.IEnumSetting;
 import de.mossgrabers.framework.configuration.ISettingsUI;
+import de.mossgrabers.framework.configuration.IStringSetting;
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
 
@@ -19,9 +20,33 @@ import de.mossgrabers.framework.daw.IHost;
 public class MidiMonitorConfiguration extends AbstractConfiguration
 {
     /** Setting for filtering system realtime. */
-    public static final Integer FILTER_SYSTEM_REALTIME   = Integer.valueOf (50);
+    public static final Integer    FILTER_SYSTEM_REALTIME   = Integer.valueOf (50);
+    /** Setting for the console output. */
+    public static final Integer    CONSOLE_MODE             = Integer.valueOf (51);
+    /** Setting for logging the statistics. */
+    public static final Integer    SHOW_STATISTICS          = Integer.valueOf (52);
+    /** Setting for the capture file. */
+    public static final Integer    CAPTURE_FILE             = Integer.valueOf (53);
 
-    private boolean             isFilterSystemRealtimeOn = false;
+    /** Log all events to the console. */
+    public static final int        CONSOLE_ALL              = 0;
+    /** Log a limited number of events per second to the console. */
+    public static final int        CONSOLE_RATE_LIMITED     = 1;
+    /** Do not log events to the console. */
+    public static final int        CONSOLE_OFF              = 2;
+
+    private static final String [] CONSOLE_OPTIONS          =
+    {
+        "All",
+        "Max. 50 per second",
+        "Off"
+    };
+
+    private boolean                isFilterSystemRealtimeOn = false;
+    private volatile int           consoleMode              = CONSOLE_ALL;
+    private volatile boolean       showStatistics           = false;
+    private volatile String        captureFilename          = "";
+    private volatile boolean       isCaptureOn              = false;
 
 
     /**
@@ -45,6 +70,30 @@ public class MidiMonitorConfiguration extends AbstractConfiguration
             this.isFilterSystemRealtimeOn = "On".equals (value);
             this.notifyObservers (FILTER_SYSTEM_REALTIME);
         });
+
+        final IEnumSetting consoleModeSetting = globalSettings.getEnumSetting ("Events", "Console", CONSOLE_OPTIONS, CONSOLE_OPTIONS[0]);
+        consoleModeSetting.addValueObserver (value -> {
+            this.consoleMode = lookupIndex (CONSOLE_OPTIONS, value);
+            this.notifyObservers (CONSOLE_MODE);
+        });
+
+        final IEnumSetting showStatisticsSetting = globalSettings.getEnumSetting ("Statistics (every 5 seconds)", "Console", ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]);
+        showStatisticsSetting.addValueObserver (value -> {
+            this.showStatistics = "On".equals (value);
+            this.notifyObservers (SHOW_STATISTICS);
+        });
+
+        final IStringSetting captureFileSetting = globalSettings.getStringSetting ("Filename", "Capture", -1, "");
+        captureFileSetting.addValueObserver (value -> {
+            this.captureFilename = value.trim ();
+            this.notifyObservers (CAPTURE_FILE);
+        });
+
+        final IEnumSetting captureSetting = globalSettings.getEnumSetting ("Record", "Capture", ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]);
+        captureSetting.addValueObserver (value -> {
+            this.isCaptureOn = "On".equals (value);
+            this.notifyObservers (CAPTURE_FILE);
+        });
     }
 
 
@@ -57,4 +106,37 @@ public class MidiMonitorConfiguration extends AbstractConfiguration
     {
         return this.isFilterSystemRealtimeOn;
     }
+
+
+    /**
+     * Get the console output mode.
+     *
+     * @return CONSOLE_ALL, CONSOLE_RATE_LIMITED or CONSOLE_OFF
+     */
+    public int getConsoleMode ()
+    {
+        return this.consoleMode;
+    }
+
+
+    /**
+     * Should the statistics be logged to the console?
+     *
+     * @return True if enabled
+     */
+    public boolean isShowStatistics ()
+    {
+        return this.showStatistics;
+    }
+
+
+    /**
+     * Get the file to capture the received events to.
+     *
+     * @return The absolute filename or an empty string if capturing is off
+     */
+    public String getCaptureFilename ()
+    {
+        return this.isCaptureOn ? this.captureFilename : "";
+    }
 }
@@ -9,6 +9,7 @@ import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.controller.AbstractControllerSetup;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.ISetupFactory;
+import de.mossgrabers.framework.controller.StartupSignal;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiAccess;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
@@ -42,7 +43,7 @@ public class MidiMonitorSetup extends AbstractControllerSetup<IControlSurface<Mi
     @Override
     public void flush ()
     {
-        // Intentionally empty
+        this.startupOrchestrator.signal (StartupSignal.FIRST_FLUSH);
     }
 
 
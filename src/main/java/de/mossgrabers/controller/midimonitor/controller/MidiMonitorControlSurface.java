@@ -8,8 +8,6 @@ import de.mossgrabers.controller.midimonitor.MidiMonitorConfiguration;
 import de.mossgrabers.framework.controller.AbstractControlSurface;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
-import de.mossgrabers.framework.scale.Scales;
-import de.mossgrabers.framework.utils.StringUtils;
 
 
 /**
@@ -19,25 +17,7 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonitorConfiguration>
 {
-    private static final String [] SPACES    =
-    {
-        "",
-        " ",
-        "  ",
-        "   ",
-        "    ",
-        "     ",
-        "      ",
-        "       ",
-        "        ",
-        "         ",
-        "          ",
-        "           ",
-        "            ",
-        "             "
-    };
-
-    static final String []         CC_NAMES  =
+    static final String [] CC_NAMES  =
     {
         "Bank Select",
         "Modulation",
@@ -169,7 +149,7 @@ public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonito
         "Poly Mode"
     };
 
-    static final String []         MMC_NAMES = new String [128];
+    static final String [] MMC_NAMES = new String [128];
     static
     {
         MMC_NAMES[0x00] = "Reserved for extensions";
@@ -218,8 +198,7 @@ public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonito
         }
     }
 
-    private boolean printHeader      = true;
-    private boolean printSysexHeader = true;
+    private final MidiMonitorLogger logger;
 
 
     /**
@@ -233,137 +212,26 @@ public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonito
     {
         super (host, configuration, null, null, input, null);
 
-        this.input.setSysexCallback (this::handleSysEx);
+        this.logger = new MidiMonitorLogger (host, configuration);
+        this.input.setSysexCallback (this.logger::addSysex);
     }
 
 
     /** {@inheritDoc} */
     @Override
-    protected void handleMidi (final int status, final int data1, final int data2)
+    public void shutdown ()
     {
-        final int code = status & 0xF0;
-        final int channel = status & 0xF;
-
-        switch (code)
-        {
-            // Note off
-            case 0x80:
-                this.log (status, data1, data2, channel, "Note Off " + Scales.formatNoteAndOctave (data1, 0));
-                break;
-
-            // Note on
-            case 0x90:
-                this.log (status, data1, data2, channel, "Note On  " + Scales.formatNoteAndOctave (data1, 0));
-                break;
-
-            // Polyphonic Aftertouch
-            case 0xA0:
-                this.log (status, data1, data2, channel, "Polyphonic Key Pressure " + Scales.formatNoteAndOctave (data1, 0));
-                break;
-
-            // CC
-            case 0xB0:
-                this.log (status, data1, data2, channel, "CC " + CC_NAMES[data1]);
-                break;
-
-            // Program Change
-            case 0xC0:
-                this.log (status, data1, data2, channel, "Program Change");
-                break;
+        super.shutdown ();
 
-            // Channel Aftertouch
-            case 0xD0:
-                this.log (status, data1, data2, channel, "Channel Pressure (Aftertouch)");
-                break;
-
-            // Pitch Bend
-            case 0xE0:
-                this.log (status, data1, data2, channel, "Pitchbend");
-                break;
-
-            // System Realtime - Active Sense
-            case 0xF0:
-                if (!this.configuration.isFilterSystemRealtimeEnabled ())
-                {
-                    if (channel == 14)
-                        this.log (status, data1, data2, channel, "System Realtime - Active Sense");
-                    else
-                        this.log (status, data1, data2, channel, "System Realtime");
-                }
-                break;
-
-            default:
-                this.host.println ("Unhandled midi status: " + status);
-                break;
-        }
+        this.logger.shutdown ();
     }
 
 
-    private void handleSysEx (final String dataStr)
-    {
-        if (this.printSysexHeader)
-        {
-            this.printHeader = true;
-            this.printSysexHeader = false;
-            this.host.println ("");
-            this.host.println ("| SYSEX");
-            this.host.println ("|-----------------------------------------------------------------------");
-        }
-
-        final int [] data = StringUtils.fromHexStr (dataStr);
-        StringBuilder sb = new StringBuilder ("| ");
-        for (int i = 0; i < data.length; i++)
-        {
-            sb.append (String.format ("%02X", Integer.valueOf (data[i])));
-
-            if (i != 0 && (i + 1) % 16 == 0)
-            {
-                this.host.println (sb.toString ());
-                sb = new StringBuilder ("| ");
-            }
-            else
-                sb.append (' ');
-        }
-
-        if (sb.length () > 2)
-        {
-            if (data.length == 6 && data[0] == 0xF0 && data[1] == 0x7F && data[3] == 0x06 && data[5] == 0xF7)
-                sb.append (" - MMC ").append (MMC_NAMES[data[4]]);
-            this.host.println (sb.toString ());
-        }
-    }
-
-
-    private void log (final int status, final int data1, final int data2, final int channel, final String text)
-    {
-        if (this.printHeader)
-        {
-            this.printSysexHeader = true;
-            this.printHeader = false;
-            this.host.println ("");
-            this.host.println ("| STATUS | DATA 1 | DATA 2 | CHAN | EVENT");
-            this.host.println ("|--------|--------|--------|------|-------------------------------------");
-        }
-        this.host.println ("| " + padNumber (status, 2, true) + " " + padNumber (status, 3, false) + " | " + padNumber (data1, 2, true) + " " + padNumber (data1, 3, false) + " | " + padNumber (data2, 2, true) + " " + padNumber (data2, 3, false) + " | " + padNumber (channel + 1, 4, false) + " | " + text);
-    }
-
-
-    /**
-     * Format the given number as text and pad it so the string has the given length.
-     *
-     * @param number The number to format (as a hex number)
-     * @param length The maximum length
-     * @param asHex If true format as hex otherwise as decimal
-     * @return The padded text
-     */
-    private static String padNumber (final int number, final int length, final boolean asHex)
+    /** {@inheritDoc} */
+    @Override
+    protected void handleMidi (final int status, final int data1, final int data2)
     {
-        final String text = asHex ? String.format ("%02X", Integer.valueOf (number)) : Integer.toString (number);
-        final int diff = length - text.length ();
-        if (diff < 0)
-            return text.substring (0, length);
-        if (diff > 0)
-            return SPACES[diff] + text;
-        return text;
+        // Only queue the raw event, formatting is done in the background
+        this.logger.addShort (status, data1, data2);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,399 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.midimonitor.controller;
+
+import de.mossgrabers.controller.midimonitor.MidiMonitorConfiguration;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.midi.MidiCaptureWriter;
+import de.mossgrabers.framework.daw.midi.MidiEventHandler;
+import de.mossgrabers.framework.daw.midi.MidiEventRing;
+import de.mossgrabers.framework.scale.Scales;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Receives the raw midi events from the midi callbacks and queues them. A background thread drains
+ * the queue, updates the statistics, writes the optional capture file and formats the events for
+ * the console. Therefore, the midi callbacks only need to store the raw bytes.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiMonitorLogger implements MidiEventHandler
+{
+    private static final int               QUEUE_SIZE           = 16384;
+    private static final long              DRAIN_INTERVAL       = 10;
+    private static final int               MAX_LINES_PER_SECOND = 50;
+    private static final long              ONE_SECOND           = 1000000000L;
+    private static final long              STATISTICS_INTERVAL  = 5 * ONE_SECOND;
+
+    private static final String []         SPACES               =
+    {
+        "",
+        " ",
+        "  ",
+        "   "
+    };
+
+    private static final String []         HEX                  = new String [256];
+    private static final String []         DECIMAL              = new String [256];
+    private static final String []         NOTES                = new String [128];
+    static
+    {
+        final char [] digits = "0123456789ABCDEF".toCharArray ();
+        for (int i = 0; i < HEX.length; i++)
+        {
+            HEX[i] = new String (new char []
+            {
+                digits[i >> 4],
+                digits[i & 0xF]
+            });
+            final String text = Integer.toString (i);
+            DECIMAL[i] = SPACES[3 - text.length ()] + text;
+        }
+        for (int i = 0; i < NOTES.length; i++)
+            NOTES[i] = Scales.formatNoteAndOctave (i, 0);
+    }
+
+    private final IHost                    host;
+    private final MidiMonitorConfiguration configuration;
+    private final MidiEventRing            queue                = new MidiEventRing (QUEUE_SIZE);
+    private final MidiStatistics           statistics           = new MidiStatistics ();
+    private final StringBuilder            line                 = new StringBuilder ();
+    private final ScheduledExecutorService executor             = Executors.newSingleThreadScheduledExecutor (runnable -> {
+                                                                    final Thread thread = new Thread (runnable, "Midi Monitor");
+                                                                    thread.setDaemon (true);
+                                                                    return thread;
+                                                                });
+
+    private boolean                        printHeader          = true;
+    private boolean                        printSysexHeader     = true;
+    private long                           lineWindowStart;
+    private int                            linesInWindow;
+    private int                            suppressedLines;
+    private long                           lastStatistics       = System.nanoTime ();
+
+    private MidiCaptureWriter              captureWriter;
+    private String                         captureFilename      = "";
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param configuration The configuration
+     */
+    public MidiMonitorLogger (final IHost host, final MidiMonitorConfiguration configuration)
+    {
+        this.host = host;
+        this.configuration = configuration;
+
+        this.executor.scheduleWithFixedDelay (this::drain, DRAIN_INTERVAL, DRAIN_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+
+
+    /**
+     * Queue a received short message. Does not allocate any objects.
+     *
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     */
+    public void addShort (final int status, final int data1, final int data2)
+    {
+        this.queue.offerShort (System.nanoTime (), MidiEventRing.TYPE_SHORT_IN, status, data1, data2);
+    }
+
+
+    /**
+     * Queue a received sysex message.
+     *
+     * @param data The sysex formatted in hex
+     */
+    public void addSysex (final String data)
+    {
+        this.queue.offerSysex (System.nanoTime (), MidiEventRing.TYPE_SYSEX_IN, data);
+    }
+
+
+    /**
+     * Log the remaining events, close the capture file and stop the background thread.
+     */
+    public void shutdown ()
+    {
+        this.executor.execute ( () -> {
+            this.drain ();
+            this.closeCapture ();
+        });
+        this.executor.shutdown ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void handleShort (final long time, final int type, final int status, final int data1, final int data2)
+    {
+        if (status < 0x80)
+        {
+            this.host.println ("Unhandled midi status: " + status);
+            return;
+        }
+
+        this.statistics.addShort (status);
+
+        if (this.captureWriter != null)
+        {
+            try
+            {
+                this.captureWriter.writeShort (time, type, status, data1, data2);
+            }
+            catch (final IOException ex)
+            {
+                this.host.error ("Could not write midi capture file.", ex);
+                this.closeCapture ();
+            }
+        }
+
+        final int code = status & 0xF0;
+        if (code == 0xF0 && this.configuration.isFilterSystemRealtimeEnabled () || !this.isLineAllowed (time))
+            return;
+
+        if (this.printHeader)
+        {
+            this.printSysexHeader = true;
+            this.printHeader = false;
+            this.host.println ("");
+            this.host.println ("| STATUS | DATA 1 | DATA 2 | CHAN | EVENT");
+            this.host.println ("|--------|--------|--------|------|-------------------------------------");
+        }
+
+        final int channel = status & 0xF;
+        this.line.setLength (0);
+        this.line.append ("| ").append (HEX[status]).append (' ').append (DECIMAL[status]);
+        this.line.append (" | ").append (HEX[data1]).append (' ').append (DECIMAL[data1]);
+        this.line.append (" | ").append (HEX[data2]).append (' ').append (DECIMAL[data2]);
+        this.line.append (" | ").append (channel < 9 ? "   " : "  ").append (channel + 1).append (" | ");
+
+        switch (code)
+        {
+            // Note off
+            case 0x80:
+                this.line.append ("Note Off ").append (NOTES[data1]);
+                break;
+
+            // Note on
+            case 0x90:
+                this.line.append ("Note On  ").append (NOTES[data1]);
+                break;
+
+            // Polyphonic Aftertouch
+            case 0xA0:
+                this.line.append ("Polyphonic Key Pressure ").append (NOTES[data1]);
+                break;
+
+            // CC
+            case 0xB0:
+                this.line.append ("CC ").append (MidiMonitorControlSurface.CC_NAMES[data1]);
+                break;
+
+            // Program Change
+            case 0xC0:
+                this.line.append ("Program Change");
+                break;
+
+            // Channel Aftertouch
+            case 0xD0:
+                this.line.append ("Channel Pressure (Aftertouch)");
+                break;
+
+            // Pitch Bend
+            case 0xE0:
+                this.line.append ("Pitchbend");
+                break;
+
+            // System Realtime - Active Sense
+            default:
+                this.line.append (channel == 14 ? "System Realtime - Active Sense" : "System Realtime");
+                break;
+        }
+
+        this.host.println (this.line.toString ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void handleSysex (final long time, final int type, final String data)
+    {
+        this.statistics.addSysex (data.length () / 2);
+
+        if (this.captureWriter != null)
+        {
+            try
+            {
+                this.captureWriter.writeSysex (time, type, data);
+            }
+            catch (final IOException ex)
+            {
+                this.host.error ("Could not write midi capture file.", ex);
+                this.closeCapture ();
+            }
+        }
+
+        if (!this.isLineAllowed (time))
+            return;
+
+        if (this.printSysexHeader)
+        {
+            this.printHeader = true;
+            this.printSysexHeader = false;
+            this.host.println ("");
+            this.host.println ("| SYSEX");
+            this.host.println ("|-----------------------------------------------------------------------");
+        }
+
+        final int length = data.length () / 2;
+        this.line.setLength (0);
+        this.line.append ("| ");
+        for (int i = 0; i < length; i++)
+        {
+            this.line.append (HEX[Character.digit (data.charAt (2 * i), 16) << 4 | Character.digit (data.charAt (2 * i + 1), 16)]);
+
+            if (i != 0 && (i + 1) % 16 == 0)
+            {
+                this.host.println (this.line.toString ());
+                this.line.setLength (2);
+            }
+            else
+                this.line.append (' ');
+        }
+
+        if (this.line.length () > 2)
+        {
+            if (length == 6 && data.regionMatches (true, 0, "F07F", 0, 4) && data.regionMatches (6, "06", 0, 2) && data.regionMatches (true, 10, "F7", 0, 2))
+                this.line.append (" - MMC ").append (MidiMonitorControlSurface.MMC_NAMES[Integer.parseInt (data.substring (8, 10), 16) & 0x7F]);
+            this.host.println (this.line.toString ());
+        }
+    }
+
+
+    private void drain ()
+    {
+        try
+        {
+            this.updateCapture ();
+
+            this.queue.drain (this, this.queue.getCapacity ());
+
+            final long now = System.nanoTime ();
+            if (now - this.lastStatistics < STATISTICS_INTERVAL)
+                return;
+
+            if (this.suppressedLines > 0)
+            {
+                this.host.println ("| ... " + this.suppressedLines + " events not shown");
+                this.suppressedLines = 0;
+            }
+            final String report = this.statistics.createReport (now - this.lastStatistics, this.queue.getDropped ());
+            if (this.configuration.isShowStatistics ())
+                this.host.println (report);
+            this.lastStatistics = now;
+
+            if (this.captureWriter != null)
+                this.captureWriter.flush ();
+        }
+        catch (final IOException ex)
+        {
+            this.host.error ("Could not write midi capture file.", ex);
+            this.closeCapture ();
+        }
+        catch (final RuntimeException ex)
+        {
+            // Must not escape, otherwise the executor stops draining
+            this.host.error ("Crash in midi monitor.", ex);
+        }
+    }
+
+
+    /**
+     * Apply the console mode. Checks if another line can be printed to the console.
+     *
+     * @param time The timestamp of the event in nanoseconds
+     * @return True if the line should be printed
+     */
+    private boolean isLineAllowed (final long time)
+    {
+        switch (this.configuration.getConsoleMode ())
+        {
+            case MidiMonitorConfiguration.CONSOLE_ALL:
+                return true;
+
+            case MidiMonitorConfiguration.CONSOLE_RATE_LIMITED:
+                if (time - this.lineWindowStart >= ONE_SECOND)
+                {
+                    this.lineWindowStart = time;
+                    this.linesInWindow = 0;
+                }
+                if (this.linesInWindow < MAX_LINES_PER_SECOND)
+                {
+                    this.linesInWindow++;
+                    return true;
+                }
+                this.suppressedLines++;
+                return false;
+
+            default:
+                return false;
+        }
+    }
+
+
+    /**
+     * Opens or closes the capture file if the setting has changed.
+     */
+    private void updateCapture ()
+    {
+        final String filename = this.configuration.getCaptureFilename ();
+        if (filename.equals (this.captureFilename))
+            return;
+
+        this.closeCapture ();
+        this.captureFilename = filename;
+        if (filename.isEmpty ())
+            return;
+
+        try
+        {
+            this.captureWriter = new MidiCaptureWriter (new File (filename));
+            this.host.println ("Capturing midi to " + filename);
+        }
+        catch (final IOException ex)
+        {
+            this.host.error ("Could not create midi capture file.", ex);
+        }
+    }
+
+
+    private void closeCapture ()
+    {
+        if (this.captureWriter == null)
+            return;
+
+        try
+        {
+            this.captureWriter.close ();
+            this.host.println ("Captured " + this.captureWriter.getNumEvents () + " midi events to " + this.captureFilename);
+        }
+        catch (final IOException ex)
+        {
+            this.host.error ("Could not close midi capture file.", ex);
+        }
+        this.captureWriter = null;
+    }
+}
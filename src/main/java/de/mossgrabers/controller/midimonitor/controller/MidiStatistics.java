@@ -0,0 +1,115 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.midimonitor.controller;
+
+/**
+ * Counts the received midi events per type and per channel and formats the rates since the last
+ * report. Must only be used from one thread.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiStatistics
+{
+    private static final String [] TYPE_NAMES        =
+    {
+        "Note Off",
+        "Note On",
+        "Poly Pressure",
+        "CC",
+        "Program Change",
+        "Channel Pressure",
+        "Pitchbend",
+        "System",
+        "Sysex"
+    };
+
+    private static final int       SYSEX             = TYPE_NAMES.length - 1;
+
+    private final long []          typeCounts        = new long [TYPE_NAMES.length];
+    private final long []          channelCounts     = new long [16];
+    private final long []          lastTypeCounts    = new long [TYPE_NAMES.length];
+    private final long []          lastChannelCounts = new long [16];
+    private final StringBuilder    report            = new StringBuilder ();
+    private long                   sysexBytes;
+    private long                   lastSysexBytes;
+    private long                   lastDropped;
+
+
+    /**
+     * Count a short message.
+     *
+     * @param status The status byte
+     */
+    public void addShort (final int status)
+    {
+        this.typeCounts[(status >> 4) - 8]++;
+        if (status < 0xF0)
+            this.channelCounts[status & 0xF]++;
+    }
+
+
+    /**
+     * Count a sysex message.
+     *
+     * @param numBytes The number of bytes of the message
+     */
+    public void addSysex (final int numBytes)
+    {
+        this.typeCounts[SYSEX]++;
+        this.sysexBytes += numBytes;
+    }
+
+
+    /**
+     * Format the rates since the last call. Only types and channels which received events are
+     * listed.
+     *
+     * @param elapsedNanos The time since the last report in nanoseconds
+     * @param dropped The total number of events which could not be queued
+     * @return The report
+     */
+    public String createReport (final long elapsedNanos, final long dropped)
+    {
+        final double seconds = Math.max (elapsedNanos, 1) / 1000000000.0;
+
+        long total = 0;
+        for (int i = 0; i < this.typeCounts.length; i++)
+            total += this.typeCounts[i] - this.lastTypeCounts[i];
+
+        this.report.setLength (0);
+        this.report.append ("| STATISTICS ").append (Math.round (total / seconds)).append (" events/s");
+
+        for (int i = 0; i < this.typeCounts.length; i++)
+        {
+            final long count = this.typeCounts[i] - this.lastTypeCounts[i];
+            if (count > 0)
+                this.report.append (" | ").append (TYPE_NAMES[i]).append (' ').append (Math.round (count / seconds)).append ("/s");
+            this.lastTypeCounts[i] = this.typeCounts[i];
+        }
+
+        final long bytes = this.sysexBytes - this.lastSysexBytes;
+        if (bytes > 0)
+            this.report.append (" (").append (Math.round (bytes / seconds)).append (" bytes/s)");
+        this.lastSysexBytes = this.sysexBytes;
+
+        boolean isFirst = true;
+        for (int i = 0; i < this.channelCounts.length; i++)
+        {
+            final long count = this.channelCounts[i] - this.lastChannelCounts[i];
+            if (count > 0)
+            {
+                this.report.append (isFirst ? " | Channels " : ", ").append (i + 1).append (": ").append (Math.round (count / seconds)).append ("/s");
+                isFirst = false;
+            }
+            this.lastChannelCounts[i] = this.channelCounts[i];
+        }
+
+        if (dropped > this.lastDropped)
+            this.report.append (" | Dropped ").append (dropped - this.lastDropped);
+        this.lastDropped = dropped;
+
+        return this.report.toString ();
+    }
+}
@@ -119,6 +119,7 @@ import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.controller.AbstractControllerSetup;
 import de.mossgrabers.framework.controller.DefaultValueChanger;
 import de.mossgrabers.framework.controller.ISetupFactory;
+import de.mossgrabers.framework.controller.StartupSignal;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IHost;
@@ -136,6 +137,7 @@ import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.mode.ModeManager;
 import de.mossgrabers.framework.mode.Modes;
+import de.mossgrabers.framework.observer.ModelFacet;
 import de.mossgrabers.framework.view.AbstractSequencerView;
 import de.mossgrabers.framework.view.AbstractView;
 import de.mossgrabers.framework.view.SceneView;
@@ -352,6 +354,8 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
         surface.getModeManager ().addModeListener ( (oldMode, newMode) -> this.updateMode (newMode));
         surface.getViewManager ().addViewChangeListener ( (previousViewId, activeViewId) -> this.onViewChange ());
 
+        this.createSubscriptionManager (ModelFacet.ARRANGER, ModelFacet.MIXER, ModelFacet.GROOVE, ModelFacet.BROWSER, ModelFacet.MARKERS, ModelFacet.USER_PARAMETERS);
+
         this.configuration.addSettingObserver (PushConfiguration.RIBBON_MODE, this::updateRibbonMode);
         this.configuration.addSettingObserver (PushConfiguration.DEBUG_MODE, () -> {
             final ModeManager modeManager = surface.getModeManager ();
@@ -537,18 +541,28 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected void createStartupStages ()
+    {
+        // The device inquiry and the palette synchronization do not depend on the model but the
+        // device needs some time to get ready
+        final PushControlSurface surface = this.getSurface ();
+        this.startupOrchestrator.addTimedSignal (StartupSignal.DEVICE_SETTLED, 1000);
+        this.startupOrchestrator.addStage ("Device inquiry", () -> surface.getOutput ().sendSysex (DeviceInquiry.createQuery ()), StartupSignal.DEVICE_SETTLED);
+        if (this.isPush2)
+            this.startupOrchestrator.addStage ("Color palette", surface::updateColorPalette, StartupSignal.DEVICE_SETTLED);
+        this.startupOrchestrator.addStage ("Startup", this::startup, StartupSignal.FIRST_FLUSH);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void startup ()
     {
         final PushControlSurface surface = this.getSurface ();
         surface.getViewManager ().setActiveView (this.configuration.getDefaultNoteView ());
-
         surface.sendPressureMode (true);
-        surface.getOutput ().sendSysex (DeviceInquiry.createQuery ());
-
-        if (this.isPush2)
-            surface.updateColorPalette ();
     }
 
 
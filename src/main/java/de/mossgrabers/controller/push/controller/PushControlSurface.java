@@ -7,8 +7,10 @@ package de.mossgrabers.controller.push.controller;
 import de.mossgrabers.controller.push.PushConfiguration;
 import de.mossgrabers.framework.controller.AbstractControlSurface;
 import de.mossgrabers.framework.controller.ButtonID;
+import de.mossgrabers.framework.controller.StartupSignal;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
+import de.mossgrabers.framework.controller.velocity.VelocityTransform;
 import de.mossgrabers.framework.daw.DAWColors;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.DeviceInquiry;
@@ -1281,7 +1283,11 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
      */
     public void sendPadVelocityCurve ()
     {
-        final int [] velocities = generateVelocityCurve (this.configuration.getPadSensitivity (), this.configuration.getPadGain (), this.configuration.getPadDynamics ());
+        final int sensitivity = this.configuration.getPadSensitivity ();
+        final int gain = this.configuration.getPadGain ();
+        final int dynamics = this.configuration.getPadDynamics ();
+        final String key = "Push2:" + sensitivity + ":" + gain + ":" + dynamics;
+        final int [] velocities = VelocityTransform.getCustomTable (key, () -> generateVelocityCurve (sensitivity, gain, dynamics));
         for (int index = 0; index < velocities.length; index += PAD_VELOCITY_CURVE_CHUNK_SIZE)
         {
             final int [] args = new int [2 + PAD_VELOCITY_CURVE_CHUNK_SIZE];
@@ -1536,8 +1542,11 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
         index++;
 
         if (index == 128)
+        {
             // Re-apply the color palette
             this.output.sendSysex ("F0 00 21 1D 01 01 05 F7");
+            this.signalReadiness (StartupSignal.PALETTE_SYNCED);
+        }
         else
             this.sendColorPaletteRequest (index);
     }
@@ -1605,6 +1614,8 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
             this.serialNumber = 0;
             this.boardRevision = 0;
         }
+
+        this.signalReadiness (StartupSignal.DEVICE_INQUIRY);
     }
 
 
@@ -12,6 +12,7 @@ import de.mossgrabers.framework.daw.IArranger;
 import de.mossgrabers.framework.daw.IMixer;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.mode.AbstractMode;
+import de.mossgrabers.framework.observer.ModelFacet;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
 
@@ -107,22 +108,8 @@ public class FrameMode extends BaseMode
     public FrameMode (final PushControlSurface surface, final IModel model)
     {
         super ("Frame", surface, model);
-    }
-
 
-    /** {@inheritDoc} */
-    @Override
-    public void onActivate ()
-    {
-        this.setActive (true);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onDeactivate ()
-    {
-        this.setActive (false);
+        this.requireFacets (ModelFacet.ARRANGER, ModelFacet.MIXER);
     }
 
 
@@ -350,11 +337,4 @@ public class FrameMode extends BaseMode
 
         return -1;
     }
-
-
-    private void setActive (final boolean enable)
-    {
-        this.model.getArranger ().enableObservers (enable);
-        this.model.getMixer ().enableObservers (enable);
-    }
 }
@@ -9,9 +9,9 @@ import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.display.Format;
 import de.mossgrabers.framework.controller.display.IGraphicDisplay;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
-import de.mossgrabers.framework.daw.IGroove;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IParameter;
+import de.mossgrabers.framework.observer.ModelFacet;
 
 
 /**
@@ -30,6 +30,8 @@ public class GrooveMode extends BaseMode
     public GrooveMode (final PushControlSurface surface, final IModel model)
     {
         super ("Groove", surface, model);
+
+        this.requireFacets (ModelFacet.GROOVE);
     }
 
 
@@ -37,7 +39,7 @@ public class GrooveMode extends BaseMode
     @Override
     public void onActivate ()
     {
-        this.setActive (true);
+        this.model.getGroove ().setIndication (true);
     }
 
 
@@ -45,7 +47,7 @@ public class GrooveMode extends BaseMode
     @Override
     public void onDeactivate ()
     {
-        this.setActive (false);
+        this.model.getGroove ().setIndication (false);
     }
 
 
@@ -104,12 +106,4 @@ public class GrooveMode extends BaseMode
         for (int i = parameters.length; i < 6; i++)
             display.addEmptyElement ();
     }
-
-
-    private void setActive (final boolean enable)
-    {
-        final IGroove groove = this.model.getGroove ();
-        groove.enableObservers (enable);
-        groove.setIndication (enable);
-    }
 }
\ No newline at end of file
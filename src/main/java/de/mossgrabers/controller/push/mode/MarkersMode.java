@@ -12,6 +12,7 @@ import de.mossgrabers.framework.daw.IMarkerBank;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IMarker;
 import de.mossgrabers.framework.mode.AbstractMode;
+import de.mossgrabers.framework.observer.ModelFacet;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.StringUtils;
 
@@ -47,6 +48,8 @@ public class MarkersMode extends BaseMode
     public MarkersMode (final PushControlSurface surface, final IModel model)
     {
         super ("Marker", surface, model);
+
+        this.requireFacets (ModelFacet.MARKERS);
     }
 
 
@@ -15,6 +15,7 @@ import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IBrowserColumn;
 import de.mossgrabers.framework.daw.data.IBrowserColumnItem;
 import de.mossgrabers.framework.mode.AbstractMode;
+import de.mossgrabers.framework.observer.ModelFacet;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.StringUtils;
 
@@ -45,6 +46,7 @@ public class DeviceBrowserMode extends BaseMode
         super ("Browser", surface, model);
 
         this.isTemporary = false;
+        this.requireFacets (ModelFacet.BROWSER);
 
         this.selectionMode = SELECTION_OFF;
         this.filterColumn = -1;
@@ -25,6 +25,7 @@ import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.IDevice;
 import de.mossgrabers.framework.daw.data.IItem;
 import de.mossgrabers.framework.daw.data.IParameter;
+import de.mossgrabers.framework.graphics.display.ParameterElement;
 import de.mossgrabers.framework.mode.ModeManager;
 import de.mossgrabers.framework.mode.Modes;
 import de.mossgrabers.framework.utils.ButtonEvent;
@@ -39,7 +40,7 @@ import de.mossgrabers.framework.view.View;
  */
 public class DeviceParamsMode extends BaseMode
 {
-    private static final String [] MENU     =
+    private static final String []    MENU              =
     {
         "On",
         "Parameters",
@@ -51,8 +52,9 @@ public class DeviceParamsMode extends BaseMode
         "Up"
     };
 
-    protected final String []      hostMenu = new String [MENU.length];
-    protected boolean              showDevices;
+    protected final String []         hostMenu          = new String [MENU.length];
+    protected boolean                 showDevices;
+    private final ParameterElement [] parameterElements = new ParameterElement [8];
 
 
     /**
@@ -68,6 +70,9 @@ public class DeviceParamsMode extends BaseMode
         this.isTemporary = false;
         this.showDevices = true;
 
+        for (int i = 0; i < this.parameterElements.length; i++)
+            this.parameterElements[i] = new ParameterElement ();
+
         System.arraycopy (MENU, 0, this.hostMenu, 0, MENU.length);
         final IHost host = this.model.getHost ();
         if (!host.hasPinning ())
@@ -452,7 +457,11 @@ public class DeviceParamsMode extends BaseMode
             final boolean parameterIsActive = this.isKnobTouched[i];
             final int parameterModulatedValue = valueChanger.toDisplayValue (exists ? param.getModulatedValue () : -1);
 
-            display.addParameterElement (this.hostMenu[i], isTopMenuOn, bottomMenu, bottomMenuIcon, bottomMenuColor, isBottomMenuOn, parameterName, parameterValue, parameterValueStr, parameterIsActive, parameterModulatedValue);
+            final ParameterElement element = this.parameterElements[i];
+            element.setMenu (this.hostMenu[i], isTopMenuOn);
+            element.setFooter (bottomMenu, bottomMenuIcon, bottomMenuColor, isBottomMenuOn);
+            element.setParameter (parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive);
+            display.addElement (element);
         }
     }
 
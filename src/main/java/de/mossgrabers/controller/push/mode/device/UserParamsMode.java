@@ -19,6 +19,7 @@ import de.mossgrabers.framework.daw.IParameterBank;
 import de.mossgrabers.framework.daw.data.IItem;
 import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.mode.AbstractMode;
+import de.mossgrabers.framework.observer.ModelFacet;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.StringUtils;
 
@@ -41,6 +42,7 @@ public class UserParamsMode extends BaseMode
         super ("User Controls", surface, model);
 
         this.isTemporary = false;
+        this.requireFacets (ModelFacet.USER_PARAMETERS);
     }
 
 
@@ -16,6 +16,7 @@ import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ITrackBank;
 import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.graphics.display.ChannelElement;
 import de.mossgrabers.framework.mode.ModeManager;
 import de.mossgrabers.framework.mode.Modes;
 import de.mossgrabers.framework.utils.ButtonEvent;
@@ -33,7 +34,8 @@ import java.util.List;
  */
 public abstract class AbstractTrackMode extends BaseMode
 {
-    protected final List<Pair<String, Boolean>> menu = new ArrayList<> ();
+    protected final List<Pair<String, Boolean>> menu            = new ArrayList<> ();
+    private final ChannelElement []             channelElements = new ChannelElement [8];
 
 
     /**
@@ -49,7 +51,10 @@ public abstract class AbstractTrackMode extends BaseMode
         this.isTemporary = false;
 
         for (int i = 0; i < 8; i++)
+        {
             this.menu.add (new Pair<> (" ", Boolean.FALSE));
+            this.channelElements[i] = new ChannelElement ();
+        }
     }
 
 
@@ -359,7 +364,16 @@ public abstract class AbstractTrackMode extends BaseMode
             final boolean enableVUMeters = config.isEnableVUMeters ();
             final int vuR = valueChanger.toDisplayValue (enableVUMeters ? t.getVuRight () : 0);
             final int vuL = valueChanger.toDisplayValue (enableVUMeters ? t.getVuLeft () : 0);
-            display.addChannelElement (selectedMenu, topMenu, isTopMenuOn, t.doesExist () ? t.getName (12) : "", t.getType (), t.getColor (), t.isSelected (), valueChanger.toDisplayValue (t.getVolume ()), valueChanger.toDisplayValue (t.getModulatedVolume ()), isVolume && this.isKnobTouched[i] ? t.getVolumeStr (8) : "", valueChanger.toDisplayValue (t.getPan ()), valueChanger.toDisplayValue (t.getModulatedPan ()), isPan && this.isKnobTouched[i] ? t.getPanStr (8) : "", vuL, vuR, t.isMute (), t.isSolo (), t.isRecArm (), t.isActivated (), crossfadeMode);
+
+            final ChannelElement element = this.channelElements[i];
+            element.setEditType (selectedMenu);
+            element.setMenu (topMenu, isTopMenuOn);
+            element.setChannel (t.doesExist () ? t.getName (12) : "", t.getType (), t.getColor (), t.isSelected (), t.isActivated ());
+            element.setVolume (valueChanger.toDisplayValue (t.getVolume ()), valueChanger.toDisplayValue (t.getModulatedVolume ()), isVolume && this.isKnobTouched[i] ? t.getVolumeStr (8) : "");
+            element.setPan (valueChanger.toDisplayValue (t.getPan ()), valueChanger.toDisplayValue (t.getModulatedPan ()), isPan && this.isKnobTouched[i] ? t.getPanStr (8) : "");
+            element.setVu (vuL, vuR);
+            element.setStates (t.isMute (), t.isSolo (), t.isRecArm (), crossfadeMode);
+            display.addElement (element);
         }
     }
 
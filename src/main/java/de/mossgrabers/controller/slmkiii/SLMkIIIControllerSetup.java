@@ -42,6 +42,7 @@ import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.controller.AbstractControllerSetup;
 import de.mossgrabers.framework.controller.DefaultValueChanger;
 import de.mossgrabers.framework.controller.ISetupFactory;
+import de.mossgrabers.framework.controller.StartupSignal;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IBrowser;
 import de.mossgrabers.framework.daw.ICursorDevice;
@@ -301,6 +302,17 @@ public class SLMkIIIControllerSetup extends AbstractControllerSetup<SLMkIIIContr
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected void createStartupStages ()
+    {
+        // The device needs some time to get ready before it answers the device inquiry
+        this.startupOrchestrator.addTimedSignal (StartupSignal.DEVICE_SETTLED, 2000);
+        this.startupOrchestrator.addStage ("Device inquiry", () -> this.getSurface ().getOutput ().sendSysex (DeviceInquiry.createQuery ()), StartupSignal.DEVICE_SETTLED);
+        this.startupOrchestrator.addStage ("Startup", this::startup, StartupSignal.FIRST_FLUSH);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void startup ()
@@ -310,8 +322,6 @@ public class SLMkIIIControllerSetup extends AbstractControllerSetup<SLMkIIIContr
 
         final ModeManager modeManager = surface.getModeManager ();
         modeManager.setActiveMode (Modes.TRACK);
-
-        this.host.scheduleTask ( () -> surface.getOutput ().sendSysex (DeviceInquiry.createQuery ()), 1000);
     }
 
 
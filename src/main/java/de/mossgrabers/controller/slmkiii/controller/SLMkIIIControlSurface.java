@@ -7,6 +7,7 @@ package de.mossgrabers.controller.slmkiii.controller;
 import de.mossgrabers.controller.slmkiii.SLMkIIIConfiguration;
 import de.mossgrabers.framework.controller.AbstractControlSurface;
 import de.mossgrabers.framework.controller.ButtonID;
+import de.mossgrabers.framework.controller.StartupSignal;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.DeviceInquiry;
@@ -156,6 +157,8 @@ public class SLMkIIIControlSurface extends AbstractControlSurface<SLMkIIIConfigu
      */
     private void handleDeviceInquiryResponse (final DeviceInquiry deviceInquiry)
     {
+        this.signalReadiness (StartupSignal.DEVICE_INQUIRY);
+
         final int [] revisionLevel = deviceInquiry.getRevisionLevel ();
         if (revisionLevel.length == 4)
         {
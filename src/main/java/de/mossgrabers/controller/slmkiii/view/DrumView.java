@@ -8,11 +8,10 @@ import de.mossgrabers.controller.slmkiii.SLMkIIIConfiguration;
 import de.mossgrabers.controller.slmkiii.controller.SLMkIIIColors;
 import de.mossgrabers.controller.slmkiii.controller.SLMkIIIControlSurface;
 import de.mossgrabers.framework.controller.grid.PadGrid;
-import de.mossgrabers.framework.daw.DAWColors;
+import de.mossgrabers.framework.daw.DrumPadBankSnapshot;
 import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.INoteClip;
-import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.mode.ModeManager;
 import de.mossgrabers.framework.mode.Modes;
 import de.mossgrabers.framework.utils.ButtonEvent;
@@ -84,25 +83,14 @@ public class DrumView extends AbstractDrumView<SLMkIIIControlSurface, SLMkIIICon
         final ICursorDevice primary = this.model.getInstrumentDevice ();
         if (this.isPlayMode)
         {
-            final boolean hasDrumPads = primary.hasDrumPads ();
-            boolean isSoloed = false;
-            if (hasDrumPads)
-            {
-                for (int i = 0; i < 16; i++)
-                {
-                    if (primary.getDrumPadBank ().getItem (i).isSolo ())
-                    {
-                        isSoloed = true;
-                        break;
-                    }
-                }
-            }
+            final DrumPadBankSnapshot snapshot = primary.getDrumPadBank ().getSnapshot ();
+            final boolean isSoloed = primary.hasDrumPads () && snapshot.hasSolo (16);
             for (int y = 0; y < 2; y++)
             {
                 for (int x = 0; x < 8; x++)
                 {
                     final int index = 8 * y + x;
-                    padGrid.lightEx (x, 1 - y, this.getPadColor (index, primary, isSoloed, false));
+                    padGrid.lightEx (x, 1 - y, this.getPadColor (index, snapshot, isSoloed, false));
                 }
             }
             return;
@@ -141,11 +129,11 @@ public class DrumView extends AbstractDrumView<SLMkIIIControlSurface, SLMkIIICon
             return SLMkIIIColors.SLMKIII_BLUE;
 
         // Exists and active?
-        final IChannel drumPad = primary.getDrumPadBank ().getItem (this.selectedPad);
-        if (!drumPad.doesExist () || !drumPad.isActivated ())
+        final DrumPadBankSnapshot snapshot = primary.getDrumPadBank ().getSnapshot ();
+        if (!DrumPadBankSnapshot.isPlayable (snapshot.getFlags (this.selectedPad)))
             return SLMkIIIColors.SLMKIII_BLACK;
 
-        return this.model.getColorManager ().getColor (DAWColors.getColorIndex (drumPad.getColor ()));
+        return this.model.getColorManager ().getColor (snapshot.getColorID (this.selectedPad));
     }
 
 
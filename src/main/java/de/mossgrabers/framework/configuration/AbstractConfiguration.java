@@ -6,6 +6,8 @@ package de.mossgrabers.framework.configuration;
 
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.controller.velocity.VelocityCurveType;
+import de.mossgrabers.framework.controller.velocity.VelocityTransform;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.observer.SettingObserver;
 import de.mossgrabers.framework.scale.Scale;
@@ -88,6 +90,8 @@ public abstract class AbstractConfiguration implements Configuration
     public static final Integer    KNOB_SPEED_NORMAL                 = Integer.valueOf (29);
     /** The speed of a knob in slow mode. */
     public static final Integer    KNOB_SPEED_SLOW                   = Integer.valueOf (30);
+    /** The velocity curve of the pads. */
+    public static final Integer    PAD_VELOCITY_CURVE                = Integer.valueOf (31);
 
     // Implementation IDs start at 50
 
@@ -295,6 +299,9 @@ public abstract class AbstractConfiguration implements Configuration
     };
     private int                                      knobSpeedNormal             = 10;
     private int                                      knobSpeedSlow               = 1;
+    private VelocityCurveType                        velocityCurve               = VelocityCurveType.LINEAR;
+    private int                                      velocityGain                = 100;
+    private int                                      velocityDynamics            = 50;
 
 
     /**
@@ -657,6 +664,16 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int [] getVelocityTable ()
+    {
+        if (this.accentActive)
+            return VelocityTransform.getFixedTable (this.fixedAccentValue);
+        return VelocityTransform.getTable (this.velocityCurve, this.velocityGain, this.velocityDynamics, this.fixedAccentValue);
+    }
+
+
     /**
      * Activate the scale setting.
      *
@@ -1034,6 +1051,34 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /**
+     * Activate the velocity curve settings.
+     *
+     * @param settingsUI The settings
+     */
+    protected void activateVelocityCurveSettings (final ISettingsUI settingsUI)
+    {
+        final String [] curveNames = VelocityCurveType.getNames ();
+        final IEnumSetting velocityCurveSetting = settingsUI.getEnumSetting ("Velocity Curve", CATEGORY_PADS, curveNames, curveNames[0]);
+        velocityCurveSetting.addValueObserver (value -> {
+            this.velocityCurve = VelocityCurveType.lookup (value);
+            this.notifyObservers (AbstractConfiguration.PAD_VELOCITY_CURVE);
+        });
+
+        final IIntegerSetting velocityGainSetting = settingsUI.getRangeSetting ("Velocity Gain", CATEGORY_PADS, VelocityTransform.MIN_GAIN, VelocityTransform.MAX_GAIN, 1, "%", 100);
+        velocityGainSetting.addValueObserver (value -> {
+            this.velocityGain = value.intValue () + VelocityTransform.MIN_GAIN;
+            this.notifyObservers (AbstractConfiguration.PAD_VELOCITY_CURVE);
+        });
+
+        final IIntegerSetting velocityDynamicsSetting = settingsUI.getRangeSetting ("Velocity Curve Strength", CATEGORY_PADS, 0, VelocityTransform.MAX_DYNAMICS, 1, "%", 50);
+        velocityDynamicsSetting.addValueObserver (value -> {
+            this.velocityDynamics = value.intValue ();
+            this.notifyObservers (AbstractConfiguration.PAD_VELOCITY_CURVE);
+        });
+    }
+
+
     /**
      * Notify all observers about the change of a setting.
      *
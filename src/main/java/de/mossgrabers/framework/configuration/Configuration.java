@@ -283,4 +283,13 @@ public interface Configuration
      * @return The value in the range of 1-100%
      */
     int getKnobSpeedSlow ();
+
+
+    /**
+     * Get the velocity translation table for the pads. It combines the velocity curve settings and
+     * the fixed accent.
+     *
+     * @return The table with 128 entries, must not be modified
+     */
+    int [] getVelocityTable ();
 }
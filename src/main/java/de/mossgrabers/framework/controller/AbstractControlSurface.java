@@ -17,9 +17,12 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.daw.midi.INoteInput;
+import de.mossgrabers.framework.mode.Mode;
 import de.mossgrabers.framework.mode.ModeManager;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.ContinuousInfo;
+import de.mossgrabers.framework.utils.GestureListener;
+import de.mossgrabers.framework.utils.GestureTimer;
 import de.mossgrabers.framework.utils.LatestTaskExecutor;
 import de.mossgrabers.framework.utils.TriggerInfo;
 import de.mossgrabers.framework.view.View;
@@ -74,9 +77,13 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     private final ButtonEvent []                                    gridNoteStates;
     private final int []                                            gridNoteVelocities;
     private int []                                                  keyTranslationTable;
+    private int []                                                  velocityTranslationTable;
 
     private final LatestTaskExecutor                                flushExecutor         = new LatestTaskExecutor ();
+    private final GestureTimer                                      gestureTimer;
+    private final List<GestureListener>                             gestureListeners      = new ArrayList<> ();
     private final DummyDisplay                                      dummyDisplay;
+    private StartupOrchestrator                                     startupOrchestrator;
 
 
     /**
@@ -97,6 +104,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         this.pads = padGrid;
 
         this.dummyDisplay = new DummyDisplay (host);
+        this.gestureTimer = new GestureTimer (host, NUM_NOTES + 16 * NUM_INFOS, BUTTON_STATE_INTERVAL, this::handleGesture);
 
         this.output = output;
         this.input = input;
@@ -324,8 +332,9 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public void setKeyTranslationTable (final int [] table)
     {
+        final boolean hasChanged = !Arrays.equals (table, this.keyTranslationTable);
         this.keyTranslationTable = table;
-        if (this.input == null)
+        if (this.input == null || !hasChanged)
             return;
         final Integer [] t = new Integer [table.length];
         for (int i = 0; i < table.length; i++)
@@ -350,12 +359,20 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     {
         if (this.input == null)
             return;
+
+        // Several views apply the same (shared) table, only send it to the DAW if it has changed
+        if (table == this.velocityTranslationTable || Arrays.equals (table, this.velocityTranslationTable))
+            return;
+        this.velocityTranslationTable = table;
+
+        final INoteInput defaultNoteInput = this.input.getDefaultNoteInput ();
+        if (defaultNoteInput == null)
+            return;
+        // Integer.valueOf is cached for all velocity values, therefore only the array is created
         final Integer [] t = new Integer [table.length];
         for (int i = 0; i < table.length; i++)
             t[i] = Integer.valueOf (table[i]);
-        final INoteInput defaultNoteInput = this.input.getDefaultNoteInput ();
-        if (defaultNoteInput != null)
-            defaultNoteInput.setVelocityTranslationTable (t);
+        defaultNoteInput.setVelocityTranslationTable (t);
     }
 
 
@@ -709,6 +726,15 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public void flush ()
     {
+        try
+        {
+            this.captureSnapshots ();
+        }
+        catch (final RuntimeException ex)
+        {
+            this.host.error ("Crash during snapshot.", ex);
+        }
+
         this.flushExecutor.execute ( () -> {
             try
             {
@@ -732,7 +758,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         this.turnOffTriggers ();
 
         if (this.pads != null)
-            this.pads.turnOff ();
+            this.pads.shutdown ();
 
         this.textDisplays.forEach (IDisplay::shutdown);
         this.graphicsDisplays.forEach (IDisplay::shutdown);
@@ -882,6 +908,26 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void setStartupOrchestrator (final StartupOrchestrator startupOrchestrator)
+    {
+        this.startupOrchestrator = startupOrchestrator;
+    }
+
+
+    /**
+     * Send a readiness signal to the startup orchestrator.
+     *
+     * @param signal The signal
+     */
+    protected void signalReadiness (final StartupSignal signal)
+    {
+        if (this.startupOrchestrator != null)
+            this.startupOrchestrator.signal (signal);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void println (final String message)
@@ -919,8 +965,11 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         this.gridNoteStates[gridNote] = velocity > 0 ? ButtonEvent.DOWN : ButtonEvent.UP;
         if (velocity > 0)
             this.gridNoteVelocities[gridNote] = velocity;
+        final int gestureKey = getGridNoteGestureKey (gridNote);
         if (this.gridNoteStates[gridNote] == ButtonEvent.DOWN)
-            this.scheduleTask ( () -> this.checkGridNoteState (gridNote), AbstractControlSurface.BUTTON_STATE_INTERVAL);
+            this.gestureTimer.press (gestureKey);
+        else
+            this.gestureTimer.release (gestureKey);
 
         // If consumed flag is set ignore the UP event
         if (this.gridNoteStates[gridNote] == ButtonEvent.UP && this.gridNoteConsumed[gridNote])
@@ -948,6 +997,74 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     }
 
 
+    /**
+     * Register a listener which gets notified about long presses, double taps and repeats of
+     * buttons and grid pads.
+     *
+     * @param listener The listener
+     */
+    public void addGestureListener (final GestureListener listener)
+    {
+        this.gestureListeners.add (listener);
+    }
+
+
+    /**
+     * Enable repeated notifications while a button or grid pad is held after a long press.
+     *
+     * @param gestureKey The key of the button or grid pad, see getButtonGestureKey and
+     *            getGridNoteGestureKey
+     * @param interval The interval of the repeated notifications in milliseconds, 0 disables it
+     */
+    public void setGestureRepeatInterval (final int gestureKey, final int interval)
+    {
+        this.gestureTimer.setRepeatInterval (gestureKey, interval);
+    }
+
+
+    /**
+     * Get the gesture key of a grid pad.
+     *
+     * @param note The grid note
+     * @return The key
+     */
+    public static int getGridNoteGestureKey (final int note)
+    {
+        return note;
+    }
+
+
+    /**
+     * Get the gesture key of a button.
+     *
+     * @param channel The midi channel of the button
+     * @param cc The CC of the button
+     * @return The key
+     */
+    public static int getButtonGestureKey (final int channel, final int cc)
+    {
+        return NUM_NOTES + channel * NUM_INFOS + cc;
+    }
+
+
+    private void handleGesture (final int gestureKey, final ButtonEvent event)
+    {
+        if (event == ButtonEvent.LONG)
+        {
+            if (gestureKey < NUM_NOTES)
+                this.checkGridNoteState (gestureKey);
+            else
+            {
+                final int index = gestureKey - NUM_NOTES;
+                this.checkButtonState (index / NUM_INFOS, index % NUM_INFOS);
+            }
+        }
+
+        for (final GestureListener listener: this.gestureListeners)
+            listener.onGesture (gestureKey, event);
+    }
+
+
     /**
      * Set a grid note as consumed.
      *
@@ -997,11 +1114,12 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
             if (value > 0)
             {
                 this.triggerInfos[channel][cc].setState (ButtonEvent.DOWN);
-                this.scheduleTask ( () -> this.checkButtonState (channel, cc), AbstractControlSurface.BUTTON_STATE_INTERVAL);
+                this.gestureTimer.press (getButtonGestureKey (channel, cc));
             }
             else
             {
                 this.triggerInfos[channel][cc].setState (ButtonEvent.UP);
+                this.gestureTimer.release (getButtonGestureKey (channel, cc));
 
                 // If consumed flag is set ignore the UP event
                 if (this.triggerInfos[channel][cc].isConsumed ())
@@ -1073,6 +1191,22 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     }
 
 
+    /**
+     * Snapshot stage of the flush, runs on the host thread. The active view and mode copy the
+     * values of the model, which they read in the delayed flush, since the model must not be read
+     * from the flush thread while the host updates it.
+     */
+    protected void captureSnapshots ()
+    {
+        final View view = this.viewManager.getActiveView ();
+        if (view != null)
+            view.captureSnapshot ();
+        final Mode mode = this.modeManager.getActiveOrTempMode ();
+        if (mode != null)
+            mode.captureSnapshot ();
+    }
+
+
     /**
      * Delayed flush.
      */
@@ -15,11 +15,16 @@ import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.mode.Modes;
+import de.mossgrabers.framework.observer.FacetSubscriptionManager;
+import de.mossgrabers.framework.observer.ModelFacet;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.view.View;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 
 /**
@@ -32,18 +37,20 @@ import java.util.List;
  */
 public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C extends Configuration> implements IControllerSetup<S, C>
 {
-    protected final List<S>       surfaces    = new ArrayList<> ();
-    protected final IHost         host;
-    protected final ISettingsUI   globalSettings;
-    protected final ISettingsUI   documentSettings;
-    protected final ISetupFactory factory;
-
-    protected Scales              scales;
-    protected IModel              model;
-    protected C                   configuration;
-    protected ColorManager        colorManager;
-    protected IValueChanger       valueChanger;
-    protected Modes               currentMode = null;
+    protected final List<S>             surfaces    = new ArrayList<> ();
+    protected final IHost               host;
+    protected final ISettingsUI         globalSettings;
+    protected final ISettingsUI         documentSettings;
+    protected final ISetupFactory       factory;
+    protected final StartupOrchestrator startupOrchestrator;
+
+    protected Scales                    scales;
+    protected IModel                    model;
+    protected C                         configuration;
+    protected ColorManager              colorManager;
+    protected IValueChanger             valueChanger;
+    protected Modes                     currentMode = null;
+    protected FacetSubscriptionManager  subscriptionManager;
 
 
     /**
@@ -60,6 +67,7 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
         this.host = host;
         this.globalSettings = globalSettings;
         this.documentSettings = documentSettings;
+        this.startupOrchestrator = new StartupOrchestrator (host);
     }
 
 
@@ -95,6 +103,14 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public StartupOrchestrator getStartupOrchestrator ()
+    {
+        return this.startupOrchestrator;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void init ()
@@ -103,6 +119,8 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
         this.createScales ();
         this.createModel ();
         this.createSurface ();
+        for (final S surface: this.surfaces)
+            surface.setStartupOrchestrator (this.startupOrchestrator);
         this.createModes ();
         this.createObservers ();
         this.createViews ();
@@ -110,6 +128,7 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
         this.registerContinuousCommands ();
         if (this.model != null)
             this.model.ensureClip ();
+        this.createStartupStages ();
     }
 
 
@@ -120,6 +139,7 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
         this.configuration.clearSettingObservers ();
         for (final S surface: this.surfaces)
             surface.shutdown ();
+        this.factory.close ();
         this.host.println ("Exited.");
     }
 
@@ -128,6 +148,7 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     @Override
     public void flush ()
     {
+        this.startupOrchestrator.signal (StartupSignal.FIRST_FLUSH);
         this.flushSurfaces ();
         this.updateButtons ();
     }
@@ -209,6 +230,17 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     }
 
 
+    /**
+     * Add the startup stages to the startup orchestrator. By default the controller is started
+     * after the first flush. Overwrite to add stages which can run earlier or need to wait for
+     * further signals from the device.
+     */
+    protected void createStartupStages ()
+    {
+        this.startupOrchestrator.addStage ("Startup", this::startup, StartupSignal.FIRST_FLUSH);
+    }
+
+
     /**
      * Create and register the trigger commands.
      */
@@ -369,6 +401,47 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     }
 
 
+    /**
+     * Create a subscription manager for the given model facets and register all surfaces. The
+     * observers of these facets are only subscribed while an active mode or view requires them.
+     * Must be called after the surfaces are created.
+     *
+     * @param managedFacets The facets to subscribe on demand
+     */
+    protected void createSubscriptionManager (final ModelFacet... managedFacets)
+    {
+        final Set<ModelFacet> facets = EnumSet.noneOf (ModelFacet.class);
+        Collections.addAll (facets, managedFacets);
+        this.subscriptionManager = new FacetSubscriptionManager (this.model, this.host, facets);
+        for (final S surface: this.surfaces)
+            this.subscriptionManager.register (surface);
+    }
+
+
+    /**
+     * Create observers which apply the velocity table to all surfaces if the velocity curve or
+     * fixed accent settings change.
+     *
+     * @param conf The configuration
+     */
+    protected void createVelocityCurveObservers (final C conf)
+    {
+        conf.addSettingObserver (AbstractConfiguration.PAD_VELOCITY_CURVE, this::updateVelocityTable);
+        conf.addSettingObserver (AbstractConfiguration.ACTIVATE_FIXED_ACCENT, this::updateVelocityTable);
+        conf.addSettingObserver (AbstractConfiguration.FIXED_ACCENT_VALUE, this::updateVelocityTable);
+    }
+
+
+    /**
+     * Apply the velocity table of the configuration to all surfaces.
+     */
+    protected void updateVelocityTable ()
+    {
+        for (final S surface: this.surfaces)
+            surface.setVelocityTranslationTable (surface.getConfiguration ().getVelocityTable ());
+    }
+
+
     /**
      * Update the active views note mapping.
      */
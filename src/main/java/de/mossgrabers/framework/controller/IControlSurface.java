@@ -620,6 +620,14 @@ public interface IControlSurface<C extends Configuration>
     void scheduleTask (Runnable callback, long delay);
 
 
+    /**
+     * Set the startup orchestrator to which the surface sends its readiness signals.
+     *
+     * @param startupOrchestrator The startup orchestrator
+     */
+    void setStartupOrchestrator (StartupOrchestrator startupOrchestrator);
+
+
     /**
      * Send a midi message to the DAW (not to the midi output).
      *
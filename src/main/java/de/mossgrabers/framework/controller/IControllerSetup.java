@@ -25,7 +25,7 @@ public interface IControllerSetup<S extends IControlSurface<C>, C extends Config
 
 
     /**
-     * Startup the controller.
+     * Startup the controller. Called as a startup stage after the first flush.
      */
     void startup ();
 
@@ -73,4 +73,12 @@ public interface IControllerSetup<S extends IControlSurface<C>, C extends Config
      * @return The configuration
      */
     Configuration getConfiguration ();
+
+
+    /**
+     * Get the orchestrator which runs the startup stages of the controller.
+     *
+     * @return The startup orchestrator
+     */
+    StartupOrchestrator getStartupOrchestrator ();
 }
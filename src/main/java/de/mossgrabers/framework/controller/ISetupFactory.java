@@ -36,4 +36,11 @@ public interface ISetupFactory
      * @return The object
      */
     IMidiAccess createMidiAccess ();
+
+
+    /**
+     * Release all resources of the created objects, e.g. close open files. Called when the
+     * controller exits.
+     */
+    void close ();
 }
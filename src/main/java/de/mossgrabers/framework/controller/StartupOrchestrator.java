@@ -0,0 +1,234 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+
+/**
+ * Runs the startup stages of a controller as soon as the readiness signals they depend on were
+ * received. Stages without dependencies run immediately when the orchestrator is started, all
+ * other stages run independently from each other in the order of their signals. Devices which do
+ * not notify their readiness can use a timed signal which is sent after a delay. If a signal does
+ * not arrive in time, the waiting stages are started anyway after a timeout, which is at least as
+ * long as the longest delay. The timing of all signals and stages is logged to measure the time
+ * until the surface is usable.
+ *
+ * Must only be used from the host thread.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class StartupOrchestrator
+{
+    /** The time after which all waiting stages are started, even if signals are missing. */
+    public static final int          DEFAULT_TIMEOUT = 1000;
+
+    private final IHost              host;
+    private final List<Stage>        stages          = new ArrayList<> ();
+    private final Set<StartupSignal> signals         = EnumSet.noneOf (StartupSignal.class);
+    private final int []             signalDelays    = new int [StartupSignal.values ().length];
+    private long                     startTime;
+    private boolean                  isStarted;
+    private boolean                  isFinished;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     */
+    public StartupOrchestrator (final IHost host)
+    {
+        this.host = host;
+    }
+
+
+    /**
+     * Add a startup stage. Must be called before the orchestrator is started.
+     *
+     * @param name The name of the stage, used for logging
+     * @param action The code to execute
+     * @param dependencies The signals which need to be received before the stage can run
+     */
+    public void addStage (final String name, final Runnable action, final StartupSignal... dependencies)
+    {
+        this.stages.add (new Stage (name, action, dependencies));
+    }
+
+
+    /**
+     * Send a signal when the given time has passed since the start of the orchestrator. Must be
+     * called before the orchestrator is started.
+     *
+     * @param signal The signal
+     * @param delay The time in milliseconds after the start
+     */
+    public void addTimedSignal (final StartupSignal signal, final int delay)
+    {
+        this.signalDelays[signal.ordinal ()] = delay;
+    }
+
+
+    /**
+     * Start the orchestrator with the default timeout.
+     */
+    public void start ()
+    {
+        this.start (DEFAULT_TIMEOUT);
+    }
+
+
+    /**
+     * Start the orchestrator. Runs all stages whose dependencies are already met.
+     *
+     * @param timeout The time in milliseconds after which all waiting stages are started, is
+     *            extended to the longest delay of the timed signals
+     */
+    public void start (final int timeout)
+    {
+        if (this.isStarted)
+            return;
+        this.isStarted = true;
+        this.startTime = this.host.getCurrentTime ();
+
+        int maxTimeout = timeout;
+        for (final StartupSignal signal: StartupSignal.values ())
+        {
+            final int delay = this.signalDelays[signal.ordinal ()];
+            if (delay <= 0)
+                continue;
+            this.host.scheduleTask ( () -> this.signal (signal), delay);
+            maxTimeout = Math.max (maxTimeout, delay);
+        }
+
+        this.runReadyStages (false);
+        if (!this.isFinished)
+            this.host.scheduleTask ( () -> this.runReadyStages (true), maxTimeout);
+    }
+
+
+    /**
+     * Signal that a readiness condition is met. Runs all stages which were waiting for it. Calling
+     * it again for the same signal has no effect.
+     *
+     * @param signal The signal
+     */
+    public void signal (final StartupSignal signal)
+    {
+        if (!this.signals.add (signal))
+            return;
+        final long time = this.isStarted ? this.host.getCurrentTime () - this.startTime : 0;
+        this.host.println (String.format ("Startup: %s after %d ms.", signal, Long.valueOf (time)));
+        this.runReadyStages (false);
+    }
+
+
+    /**
+     * Check if a signal was received.
+     *
+     * @param signal The signal
+     * @return True if received
+     */
+    public boolean isSignalled (final StartupSignal signal)
+    {
+        return this.signals.contains (signal);
+    }
+
+
+    /**
+     * Check if all stages have been executed.
+     *
+     * @return True if all stages have been executed
+     */
+    public boolean isFinished ()
+    {
+        return this.isFinished;
+    }
+
+
+    private void runReadyStages (final boolean isTimeout)
+    {
+        if (!this.isStarted || this.isFinished)
+            return;
+
+        boolean allDone = true;
+        for (final Stage stage: this.stages)
+        {
+            if (stage.isDone)
+                continue;
+            final boolean isReady = this.signals.containsAll (stage.dependencies);
+            if (isReady || isTimeout)
+                this.run (stage, isReady);
+            else
+                allDone = false;
+        }
+
+        // A stage might have finished the startup by sending a signal
+        if (!allDone || this.isFinished)
+            return;
+        this.isFinished = true;
+        this.host.println (String.format ("Running. Startup took %d ms.", Long.valueOf (this.host.getCurrentTime () - this.startTime)));
+    }
+
+
+    private void run (final Stage stage, final boolean isReady)
+    {
+        stage.isDone = true;
+
+        final long begin = this.host.getCurrentTime ();
+        try
+        {
+            stage.action.run ();
+        }
+        catch (final RuntimeException ex)
+        {
+            this.host.error ("Startup stage '" + stage.name + "' failed.", ex);
+        }
+        final long end = this.host.getCurrentTime ();
+
+        final StringBuilder sb = new StringBuilder ();
+        sb.append ("Startup: '").append (stage.name).append ("' started after ").append (begin - this.startTime).append (" ms, took ").append (end - begin).append (" ms");
+        if (!isReady)
+        {
+            final Set<StartupSignal> missing = EnumSet.copyOf (stage.dependencies);
+            missing.removeAll (this.signals);
+            sb.append (", timeout waiting for ").append (missing);
+        }
+        this.host.println (sb.append ('.').toString ());
+    }
+
+
+    /**
+     * A startup stage and its dependencies.
+     */
+    private static class Stage
+    {
+        private final String             name;
+        private final Runnable           action;
+        private final Set<StartupSignal> dependencies = EnumSet.noneOf (StartupSignal.class);
+        private boolean                  isDone;
+
+
+        /**
+         * Constructor.
+         *
+         * @param name The name of the stage
+         * @param action The code to execute
+         * @param dependencies The signals which need to be received before the stage can run
+         */
+        public Stage (final String name, final Runnable action, final StartupSignal [] dependencies)
+        {
+            this.name = name;
+            this.action = action;
+            for (final StartupSignal signal: dependencies)
+                this.dependencies.add (signal);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+/**
+ * Readiness signals on which startup stages can depend.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public enum StartupSignal
+{
+    /** The first flush was received from the DAW, the model contains data. */
+    FIRST_FLUSH,
+    /** The device answered the device inquiry. */
+    DEVICE_INQUIRY,
+    /** The USB/HID connection to the device is open. */
+    USB_OPENED,
+    /** The color palette of the device is synchronized. */
+    PALETTE_SYNCED,
+    /** The handshake with the device (or its driver) succeeded. */
+    HANDSHAKE,
+    /** The device had time to get ready, for devices which do not notify their readiness. */
+    DEVICE_SETTLED
+}
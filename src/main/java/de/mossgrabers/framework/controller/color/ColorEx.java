@@ -5,35 +5,42 @@
 package de.mossgrabers.framework.controller.color;
 
 /**
- * Some helper constans for Color.
+ * Some helper constans for Color. Besides the double components each color carries its packed ARGB
+ * value, which is used for the equality checks. Colors created with the static factory methods are
+ * cached, therefore the render loop can look up colors from packed values without allocating.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class ColorEx
 {
+    /** The number of cached colors, must be a power of 2. */
+    private static final int        CACHE_SIZE = 4096;
+    private static final ColorEx [] CACHE      = new ColorEx [CACHE_SIZE];
+
     /** Color black. */
-    public static final ColorEx BLACK      = ColorEx.fromRGB (0, 0, 0);
+    public static final ColorEx     BLACK      = ColorEx.fromRGB (0, 0, 0);
     /** Color white. */
-    public static final ColorEx WHITE      = ColorEx.fromRGB (255, 255, 255);
+    public static final ColorEx     WHITE      = ColorEx.fromRGB (255, 255, 255);
     /** Color light gray. */
-    public static final ColorEx LIGHT_GRAY = ColorEx.fromRGB (182, 182, 182);
+    public static final ColorEx     LIGHT_GRAY = ColorEx.fromRGB (182, 182, 182);
     /** Color gray. */
-    public static final ColorEx GRAY       = ColorEx.fromRGB (128, 128, 128);
+    public static final ColorEx     GRAY       = ColorEx.fromRGB (128, 128, 128);
     /** Color dark gray. */
-    public static final ColorEx DARK_GRAY  = ColorEx.fromRGB (89, 89, 89);
+    public static final ColorEx     DARK_GRAY  = ColorEx.fromRGB (89, 89, 89);
     /** Color red. */
-    public static final ColorEx RED        = ColorEx.fromRGB (255, 0, 0);
+    public static final ColorEx     RED        = ColorEx.fromRGB (255, 0, 0);
     /** Color green. */
-    public static final ColorEx GREEN      = ColorEx.fromRGB (0, 255, 0);
+    public static final ColorEx     GREEN      = ColorEx.fromRGB (0, 255, 0);
     /** Color yellow. */
-    public static final ColorEx YELLOW     = ColorEx.fromRGB (255, 255, 0);
+    public static final ColorEx     YELLOW     = ColorEx.fromRGB (255, 255, 0);
 
-    private static final double FACTOR     = 0.7;
-    private static final double FACTOR2    = 0.4;
+    private static final double     FACTOR     = 0.7;
+    private static final double     FACTOR2    = 0.4;
 
-    private final double        redValue;
-    private final double        greenValue;
-    private final double        blueValue;
+    private final double            redValue;
+    private final double            greenValue;
+    private final double            blueValue;
+    private final int               argb;
 
 
     /**
@@ -59,20 +66,116 @@ public class ColorEx
         this.redValue = red;
         this.greenValue = green;
         this.blueValue = blue;
+        this.argb = toARGB (red, green, blue);
     }
 
 
     /**
-     * Create a new color instance from 255 ints.
+     * Get a color from 255 ints. The instance is cached.
      *
      * @param red The red component
      * @param green The green component
      * @param blue The blue component
-     * @return The new color
+     * @return The color
      */
     public static ColorEx fromRGB (final int red, final int green, final int blue)
     {
-        return new ColorEx (red / 255.0, green / 255.0, blue / 255.0);
+        return fromARGB (0xFF000000 | (red & 0xFF) << 16 | (green & 0xFF) << 8 | blue & 0xFF);
+    }
+
+
+    /**
+     * Get a color from red, green and blue components in the range of [0..1]. The instance is
+     * cached.
+     *
+     * @param color The red, gree and blue components
+     * @return The color
+     */
+    public static ColorEx fromRGB (final double [] color)
+    {
+        return fromARGB (toARGB (color[0], color[1], color[2]));
+    }
+
+
+    /**
+     * Get a color from a packed ARGB value. The alpha part is ignored. The instance is cached.
+     *
+     * @param argb The packed color
+     * @return The color
+     */
+    public static ColorEx fromARGB (final int argb)
+    {
+        final int value = 0xFF000000 | argb;
+        final int index = (value ^ value >>> 12) & CACHE_SIZE - 1;
+        // Racy but safe since colors are immutable, a lost update only creates a new instance
+        final ColorEx cached = CACHE[index];
+        if (cached != null && cached.argb == value)
+            return cached;
+        final ColorEx color = new ColorEx ((value >> 16 & 0xFF) / 255.0, (value >> 8 & 0xFF) / 255.0, (value & 0xFF) / 255.0);
+        CACHE[index] = color;
+        return color;
+    }
+
+
+    /**
+     * Pack a color into an opaque ARGB int.
+     *
+     * @param color The red, gree and blue components in the range of [0..1]
+     * @return The packed color
+     */
+    public static int toARGB (final double [] color)
+    {
+        return toARGB (color[0], color[1], color[2]);
+    }
+
+
+    /**
+     * Pack a color into an opaque ARGB int.
+     *
+     * @param red The red component in the range of [0..1]
+     * @param green The green component in the range of [0..1]
+     * @param blue The blue component in the range of [0..1]
+     * @return The packed color
+     */
+    public static int toARGB (final double red, final double green, final double blue)
+    {
+        return 0xFF000000 | toByte (red) << 16 | toByte (green) << 8 | toByte (blue);
+    }
+
+
+    /**
+     * Get the red component of a packed color.
+     *
+     * @param argb The packed color
+     * @return The red component in the range of [0..1]
+     */
+    public static double getRed (final int argb)
+    {
+        return (argb >> 16 & 0xFF) / 255.0;
+    }
+
+
+    /**
+     * Get the green component of a packed color.
+     *
+     * @param argb The packed color
+     * @return The green component in the range of [0..1]
+     */
+    public static double getGreen (final int argb)
+    {
+        return (argb >> 8 & 0xFF) / 255.0;
+    }
+
+
+    /**
+     * Get the blue component of a packed color.
+     *
+     * @param argb The packed color
+     * @return The blue component in the range of [0..1]
+     */
+    public static double getBlue (final int argb)
+    {
+        return (argb & 0xFF) / 255.0;
     }
 
 
@@ -96,7 +199,7 @@ public class ColorEx
         final double i = 1.0 / (1.0 - FACTOR) / 255.0;
 
         if (r == 0 && g == 0 && b == 0)
-            return new ColorEx (i, i, i);
+            return fromARGB (toARGB (i, i, i));
 
         if (r > 0 && r < i)
             r = i;
@@ -107,7 +210,7 @@ public class ColorEx
         if (b > 0 && b < i)
             b = i;
 
-        return new ColorEx (Math.min (r / FACTOR, 1.0), Math.min (g / FACTOR, 1.0), Math.min (b / FACTOR, 1.0));
+        return fromARGB (toARGB (Math.min (r / FACTOR, 1.0), Math.min (g / FACTOR, 1.0), Math.min (b / FACTOR, 1.0)));
     }
 
 
@@ -119,7 +222,7 @@ public class ColorEx
      */
     public static ColorEx darker (final ColorEx color)
     {
-        return new ColorEx (Math.max (color.getRed () * FACTOR, 0), Math.max (color.getGreen () * FACTOR, 0), Math.max (color.getBlue () * FACTOR, 0));
+        return fromARGB (toARGB (color.getRed () * FACTOR, color.getGreen () * FACTOR, color.getBlue () * FACTOR));
     }
 
 
@@ -131,7 +234,7 @@ public class ColorEx
      */
     public static ColorEx evenDarker (final ColorEx color)
     {
-        return new ColorEx (Math.max (color.getRed () * FACTOR2, 0), Math.max (color.getGreen () * FACTOR2, 0), Math.max (color.getBlue () * FACTOR2, 0));
+        return fromARGB (toARGB (color.getRed () * FACTOR2, color.getGreen () * FACTOR2, color.getBlue () * FACTOR2));
     }
 
 
@@ -149,8 +252,8 @@ public class ColorEx
 
         if (red != green || green != blue)
         {
-            final double v = (red + green + blue) / 3.0;
-            return ColorEx.evenDarker (new ColorEx (v, v, v));
+            final double v = (red + green + blue) / 3.0 * FACTOR2;
+            return fromARGB (toARGB (v, v, v));
         }
 
         return ColorEx.evenDarker (color);
@@ -221,38 +324,44 @@ public class ColorEx
     }
 
 
+    /**
+     * Get the color as a packed opaque ARGB value.
+     *
+     * @return The packed color
+     */
+    public int toARGB ()
+    {
+        return this.argb;
+    }
+
+
+    private static int toByte (final double value)
+    {
+        final int v = (int) Math.round (value * 255.0);
+        return v < 0 ? 0 : Math.min (v, 255);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int hashCode ()
     {
-        final int prime = 31;
-        int result = 1;
-        long temp;
-        temp = Double.doubleToLongBits (this.blueValue);
-        result = prime * result + (int) (temp ^ temp >>> 32);
-        temp = Double.doubleToLongBits (this.greenValue);
-        result = prime * result + (int) (temp ^ temp >>> 32);
-        temp = Double.doubleToLongBits (this.redValue);
-        result = prime * result + (int) (temp ^ temp >>> 32);
-        return result;
+        return this.argb;
     }
 
 
-    /** {@inheritDoc} */
+    /**
+     * Colors are equal if they look the same on a display with 8 bit per component.
+     *
+     * {@inheritDoc}
+     */
     @Override
     public boolean equals (final Object obj)
     {
         if (this == obj)
             return true;
-        if (obj == null)
-            return false;
-        if (this.getClass () != obj.getClass ())
-            return false;
-        final ColorEx other = (ColorEx) obj;
-        if (Double.doubleToLongBits (this.blueValue) != Double.doubleToLongBits (other.blueValue))
-            return false;
-        if (Double.doubleToLongBits (this.greenValue) != Double.doubleToLongBits (other.greenValue))
+        if (obj == null || this.getClass () != obj.getClass ())
             return false;
-        return Double.doubleToLongBits (this.redValue) == Double.doubleToLongBits (other.redValue);
+        return this.argb == ((ColorEx) obj).argb;
     }
 }
@@ -25,12 +25,14 @@ import de.mossgrabers.framework.graphics.canvas.component.IComponent;
 import de.mossgrabers.framework.graphics.canvas.component.LabelComponent.LabelLayout;
 import de.mossgrabers.framework.graphics.canvas.component.ListComponent;
 import de.mossgrabers.framework.graphics.canvas.component.MidiClipComponent;
+import de.mossgrabers.framework.graphics.canvas.component.MidiClipVisual;
 import de.mossgrabers.framework.graphics.canvas.component.OptionsComponent;
 import de.mossgrabers.framework.graphics.canvas.component.ParameterComponent;
 import de.mossgrabers.framework.graphics.canvas.component.SceneListGridElement;
 import de.mossgrabers.framework.graphics.canvas.component.SendsComponent;
 import de.mossgrabers.framework.graphics.canvas.utils.SendData;
 import de.mossgrabers.framework.graphics.display.ModelInfo;
+import de.mossgrabers.framework.graphics.display.RetainedComponent;
 import de.mossgrabers.framework.utils.Pair;
 
 import java.util.ArrayList;
@@ -85,6 +87,7 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     private final List<IComponent>         columns                         = new ArrayList<> (8);
     private final AtomicReference<String>  notificationMessage             = new AtomicReference<> ();
     private ModelInfo                      info                            = new ModelInfo (null, Collections.emptyList ());
+    private final MidiClipVisual           midiClipVisual;
 
     protected final IHost                  host;
     protected final IGraphicsConfiguration configuration;
@@ -107,6 +110,7 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
         this.dimensions = dimensions;
 
         ResourceHandler.init (host);
+        this.midiClipVisual = new MidiClipVisual (host);
 
         this.image = host.createBitmap (dimensions.getWidth (), dimensions.getHeight ());
         this.image.setDisplayWindowTitle (windowTitle);
@@ -135,6 +139,7 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     public void shutdown ()
     {
         this.executor.shutdown ();
+        ResourceHandler.release (this.host);
     }
 
 
@@ -145,13 +150,15 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
         if (this.executor.isShutdown ())
             return;
 
-        final ModelInfo newInfo = new ModelInfo (this.notificationMessage.get (), this.columns);
-
         // Only render image if there is a change in the data
-        if (!this.info.equals (newInfo))
+        final String notification = this.notificationMessage.get ();
+        if (!this.isUnchanged (notification))
         {
-            this.info = newInfo;
+            this.info = new ModelInfo (notification, this.columns);
             this.renderImage ();
+
+            // Load the remaining icons after the first frame
+            ResourceHandler.prefetch ();
         }
 
         this.columns.clear ();
@@ -181,7 +188,8 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void setMidiClipElement (final INoteClip clip, final int quartersPerMeasure)
     {
-        this.columns.add (new MidiClipComponent (clip, quartersPerMeasure));
+        final int version = this.midiClipVisual.update (clip, quartersPerMeasure);
+        this.columns.add (new MidiClipComponent (this.midiClipVisual, version, clip.getCurrentStep ()));
     }
 
 
@@ -207,7 +215,7 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void addChannelSelectorElement (final String topMenu, final boolean isTopMenuOn, final String bottomMenu, final ChannelType type, final double [] bottomMenuColor, final boolean isBottomMenuOn, final boolean isActive)
     {
-        this.columns.add (new ChannelSelectComponent (type, topMenu, isTopMenuOn, bottomMenu, new ColorEx (bottomMenuColor[0], bottomMenuColor[1], bottomMenuColor[2]), isBottomMenuOn, isActive));
+        this.columns.add (new ChannelSelectComponent (type, topMenu, isTopMenuOn, bottomMenu, ColorEx.fromRGB (bottomMenuColor), isBottomMenuOn, isActive));
     }
 
 
@@ -239,7 +247,7 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
                 editType = ChannelComponent.EDIT_TYPE_ALL;
                 break;
         }
-        this.columns.add (new ChannelComponent (editType, topMenu, isTopMenuOn, bottomMenu, new ColorEx (bottomMenuColor[0], bottomMenuColor[1], bottomMenuColor[2]), isBottomMenuOn, type, volume, modulatedVolume, volumeStr, pan, modulatedPan, panStr, vuLeft, vuRight, mute, solo, recarm, isActive, crossfadeMode));
+        this.columns.add (new ChannelComponent (editType, topMenu, isTopMenuOn, bottomMenu, ColorEx.fromRGB (bottomMenuColor), isBottomMenuOn, type, volume, modulatedVolume, volumeStr, pan, modulatedPan, panStr, vuLeft, vuRight, mute, solo, recarm, isActive, crossfadeMode));
     }
 
 
@@ -247,7 +255,7 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void addSendsElement (final String topMenu, final boolean isTopMenuOn, final String bottomMenu, final ChannelType type, final double [] bottomMenuColor, final boolean isBottomMenuOn, final SendData [] sendData, final boolean isTrackMode, final boolean isSendActive, final boolean isChannelLabelActive)
     {
-        this.columns.add (new SendsComponent (sendData, topMenu, isTopMenuOn, bottomMenu, new ColorEx (bottomMenuColor[0], bottomMenuColor[1], bottomMenuColor[2]), isBottomMenuOn, type, isTrackMode, isSendActive, isChannelLabelActive));
+        this.columns.add (new SendsComponent (sendData, topMenu, isTopMenuOn, bottomMenu, ColorEx.fromRGB (bottomMenuColor), isBottomMenuOn, type, isTrackMode, isSendActive, isChannelLabelActive));
     }
 
 
@@ -263,7 +271,7 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void addParameterElement (final String topMenu, final boolean isTopMenuOn, final String bottomMenu, final ChannelType type, final double [] bottomMenuColor, final boolean isBottomMenuOn, final String parameterName, final int parameterValue, final String parameterValueStr, final boolean parameterIsActive, final int parameterModulatedValue)
     {
-        final ColorEx bottomColor = bottomMenuColor == null ? null : new ColorEx (bottomMenuColor[0], bottomMenuColor[1], bottomMenuColor[2]);
+        final ColorEx bottomColor = bottomMenuColor == null ? null : ColorEx.fromRGB (bottomMenuColor);
         this.columns.add (new ParameterComponent (topMenu, isTopMenuOn, bottomMenu, type, bottomColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive));
     }
 
@@ -272,7 +280,7 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void addParameterElementWithPlainMenu (final String topMenu, final boolean isTopMenuOn, final String bottomMenu, final double [] bottomMenuColor, final boolean isBottomMenuOn, final String parameterName, final int parameterValue, final String parameterValueStr, final boolean parameterIsActive, final int parameterModulatedValue)
     {
-        final ColorEx bottomColor = bottomMenuColor == null ? null : new ColorEx (bottomMenuColor[0], bottomMenuColor[1], bottomMenuColor[2]);
+        final ColorEx bottomColor = bottomMenuColor == null ? null : ColorEx.fromRGB (bottomMenuColor);
         this.columns.add (new ParameterComponent (topMenu, isTopMenuOn, bottomMenu, null, bottomColor, isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive, LabelLayout.PLAIN));
     }
 
@@ -281,7 +289,7 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void addParameterElement (final String topMenu, final boolean isTopMenuOn, final String bottomMenu, final String deviceName, final double [] bottomMenuColor, final boolean isBottomMenuOn, final String parameterName, final int parameterValue, final String parameterValueStr, final boolean parameterIsActive, final int parameterModulatedValue)
     {
-        this.columns.add (new ParameterComponent (topMenu, isTopMenuOn, bottomMenu, deviceName, new ColorEx (bottomMenuColor[0], bottomMenuColor[1], bottomMenuColor[2]), isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive));
+        this.columns.add (new ParameterComponent (topMenu, isTopMenuOn, bottomMenu, deviceName, ColorEx.fromRGB (bottomMenuColor), isBottomMenuOn, parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive));
     }
 
 
@@ -352,6 +360,43 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void addElement (final RetainedComponent element)
+    {
+        this.columns.add (element.getComponent ());
+    }
+
+
+    /**
+     * Check if the current columns and notification are the same as the rendered ones. Unchanged
+     * retained elements return the identical component, which is cheap to check. Only if an
+     * instance differs the components are compared by their content.
+     *
+     * @param notification The current notification
+     * @return True if unchanged
+     */
+    private boolean isUnchanged (final String notification)
+    {
+        final String oldNotification = this.info.getNotification ();
+        if (oldNotification == null ? notification != null : !oldNotification.equals (notification))
+            return false;
+
+        final List<IComponent> oldColumns = this.info.getComponents ();
+        final int size = this.columns.size ();
+        if (oldColumns.size () != size)
+            return false;
+        for (int i = 0; i < size; i++)
+        {
+            final IComponent column = this.columns.get (i);
+            final IComponent oldColumn = oldColumns.get (i);
+            if (column != oldColumn && !column.equals (oldColumn))
+                return false;
+        }
+        return true;
+    }
+
+
     private void renderImage ()
     {
         this.image.render (gc -> {
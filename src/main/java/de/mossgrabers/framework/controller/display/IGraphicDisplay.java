@@ -10,6 +10,7 @@ import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.graphics.canvas.utils.SendData;
+import de.mossgrabers.framework.graphics.display.RetainedComponent;
 import de.mossgrabers.framework.utils.Pair;
 
 import java.util.List;
@@ -296,4 +297,14 @@ public interface IGraphicDisplay extends IDisplay
      * @param slots Must contain X number of slot items
      */
     void addSlotListElement (final List<Pair<ITrack, ISlot>> slots);
+
+
+    /**
+     * Add a retained element. The element is kept by the caller and updated on each flush. Its
+     * component is only re-created if a field changed, which allows to skip rendering if no element
+     * has changed.
+     *
+     * @param element The element
+     */
+    void addElement (final RetainedComponent element);
 }
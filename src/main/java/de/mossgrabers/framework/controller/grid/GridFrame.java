@@ -0,0 +1,98 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.grid;
+
+/**
+ * One complete frame of the pad states of a grid. The frame is filled when the grid is flushed and
+ * the differences to the previously sent states are sent.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class GridFrame
+{
+    private final int []     colors;
+    private final int []     blinkColors;
+    private final boolean [] blinkFast;
+    private final boolean [] forced;
+
+
+    /**
+     * Constructor.
+     *
+     * @param size The number of pads (notes) in the frame
+     */
+    public GridFrame (final int size)
+    {
+        this.colors = new int [size];
+        this.blinkColors = new int [size];
+        this.blinkFast = new boolean [size];
+        this.forced = new boolean [size];
+    }
+
+
+    /**
+     * Copy the given pad states into the frame.
+     *
+     * @param colors The colors
+     * @param blinkColors The blink colors
+     * @param blinkFast The blink speeds
+     * @param forced The pads which need to be sent even if they did not change
+     */
+    public void set (final int [] colors, final int [] blinkColors, final boolean [] blinkFast, final boolean [] forced)
+    {
+        System.arraycopy (colors, 0, this.colors, 0, this.colors.length);
+        System.arraycopy (blinkColors, 0, this.blinkColors, 0, this.blinkColors.length);
+        System.arraycopy (blinkFast, 0, this.blinkFast, 0, this.blinkFast.length);
+        System.arraycopy (forced, 0, this.forced, 0, this.forced.length);
+    }
+
+
+    /**
+     * Get the color of a pad.
+     *
+     * @param index The index of the pad (note)
+     * @return The color
+     */
+    public int getColor (final int index)
+    {
+        return this.colors[index];
+    }
+
+
+    /**
+     * Get the blink color of a pad.
+     *
+     * @param index The index of the pad (note)
+     * @return The blink color
+     */
+    public int getBlinkColor (final int index)
+    {
+        return this.blinkColors[index];
+    }
+
+
+    /**
+     * Get the blink speed of a pad.
+     *
+     * @param index The index of the pad (note)
+     * @return True if blinking fast
+     */
+    public boolean isBlinkFast (final int index)
+    {
+        return this.blinkFast[index];
+    }
+
+
+    /**
+     * Check if the pad needs to be sent even if it did not change.
+     *
+     * @param index The index of the pad (note)
+     * @return True if forced
+     */
+    public boolean isForced (final int index)
+    {
+        return this.forced[index];
+    }
+}
@@ -125,6 +125,12 @@ public interface PadGrid
     void turnOff ();
 
 
+    /**
+     * Turn off the lights of all pads in the grid and send the pad states immediately.
+     */
+    void shutdown ();
+
+
     /**
      * Plug for grids not sending notes in the range of 36-100.
      *
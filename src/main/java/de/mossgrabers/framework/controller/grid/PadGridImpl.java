@@ -11,7 +11,11 @@ import java.util.Arrays;
 
 
 /**
- * Implementation of a grid of pads.
+ * Implementation of a grid of pads. Views render into a back buffer. Flushing copies the back
+ * buffer into the front frame and sends the differences to the previously sent states, both under
+ * the same lock. The frame is sent from the thread which flushes the grid, which is the flush
+ * thread of the surface, therefore the pad updates are sent in order with all other updates of the
+ * surface.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
@@ -34,6 +38,10 @@ public class PadGridImpl implements PadGrid
     protected final int          startNote;
     protected final int          endNote;
 
+    private final boolean []     forcedNotes;
+    private final GridFrame      frame     = new GridFrame (NUM_NOTES);
+    private final Object         flushLock = new Object ();
+
 
     /**
      * Constructor.
@@ -74,6 +82,7 @@ public class PadGridImpl implements PadGrid
         this.blinkColors = new int [NUM_NOTES];
         this.currentBlinkFast = new boolean [NUM_NOTES];
         this.blinkFast = new boolean [NUM_NOTES];
+        this.forcedNotes = new boolean [NUM_NOTES];
 
         Arrays.fill (this.currentButtonColors, -1);
         Arrays.fill (this.buttonColors, -1);
@@ -177,9 +186,11 @@ public class PadGridImpl implements PadGrid
     @Override
     public void forceFlush (final int note)
     {
-        this.currentButtonColors[note] = -1;
-        this.currentBlinkColors[note] = -1;
-        this.flush ();
+        synchronized (this.flushLock)
+        {
+            this.forcedNotes[note] = true;
+            this.flush ();
+        }
     }
 
 
@@ -187,12 +198,11 @@ public class PadGridImpl implements PadGrid
     @Override
     public void forceFlush ()
     {
-        for (int i = this.startNote; i <= this.endNote; i++)
+        synchronized (this.flushLock)
         {
-            this.currentButtonColors[i] = -1;
-            this.currentBlinkColors[i] = -1;
+            Arrays.fill (this.forcedNotes, this.startNote, this.endNote + 1, true);
+            this.flush ();
         }
-        this.flush ();
     }
 
 
@@ -200,27 +210,49 @@ public class PadGridImpl implements PadGrid
     @Override
     public void flush ()
     {
+        synchronized (this.flushLock)
+        {
+            this.frame.set (this.buttonColors, this.blinkColors, this.blinkFast, this.forcedNotes);
+            Arrays.fill (this.forcedNotes, false);
+            this.transmit (this.frame);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void shutdown ()
+    {
+        this.turnOff ();
+    }
+
+
+    /**
+     * Send the differences of the given frame to the previously sent frame.
+     *
+     * @param frame The frame to send
+     */
+    protected void transmit (final GridFrame frame)
+    {
+        final int offColor = this.colorManager.getColor (GRID_OFF);
         for (int i = this.startNote; i <= this.endNote; i++)
         {
-            final int note = this.translateToController (i);
+            final int color = frame.getColor (i);
+            final int blinkColor = frame.getBlinkColor (i);
+            final boolean fast = frame.isBlinkFast (i);
 
-            boolean baseChanged = false;
-            if (this.currentButtonColors[i] != this.buttonColors[i])
-            {
-                this.currentButtonColors[i] = this.buttonColors[i];
-                this.sendNoteState (note, this.buttonColors[i]);
-                baseChanged = true;
-            }
-            // No "else" here: Blinking color needs a base color
-            if (baseChanged || this.currentBlinkColors[i] != this.blinkColors[i] || this.currentBlinkFast[i] != this.blinkFast[i])
-            {
-                this.currentBlinkColors[i] = this.blinkColors[i];
-                this.currentBlinkFast[i] = this.blinkFast[i];
-
-                this.sendNoteState (note, this.currentButtonColors[i]);
-                if (this.blinkColors[i] != this.colorManager.getColor (GRID_OFF))
-                    this.sendBlinkState (note, this.blinkColors[i], this.blinkFast[i]);
-            }
+            // Blinking color needs a base color, therefore always send both
+            if (!frame.isForced (i) && this.currentButtonColors[i] == color && this.currentBlinkColors[i] == blinkColor && this.currentBlinkFast[i] == fast)
+                continue;
+
+            this.currentButtonColors[i] = color;
+            this.currentBlinkColors[i] = blinkColor;
+            this.currentBlinkFast[i] = fast;
+
+            final int note = this.translateToController (i);
+            this.sendNoteState (note, color);
+            if (blinkColor != offColor)
+                this.sendBlinkState (note, blinkColor, fast);
         }
     }
 
@@ -0,0 +1,86 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.velocity;
+
+/**
+ * The families of velocity curves, which can be applied to the pads of a controller.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public enum VelocityCurveType
+{
+    /** The velocity is not shaped. */
+    LINEAR("Linear"),
+    /** Soft hits are boosted. */
+    LOG("Logarithmic"),
+    /** Soft hits are damped. */
+    EXP("Exponential"),
+    /** Soft and hard hits are pushed to the extremes. */
+    S_CURVE("S-Curve"),
+    /** All hits use the same velocity. */
+    FIXED("Fixed");
+
+
+    private static final String [] CURVE_NAMES;
+    static
+    {
+        final VelocityCurveType [] values = values ();
+        CURVE_NAMES = new String [values.length];
+        for (int i = 0; i < values.length; i++)
+            CURVE_NAMES[i] = values[i].name;
+    }
+
+    private final String name;
+
+
+    /**
+     * Constructor.
+     *
+     * @param name The name of the curve
+     */
+    VelocityCurveType (final String name)
+    {
+        this.name = name;
+    }
+
+
+    /**
+     * Get the name of the curve.
+     *
+     * @return The name
+     */
+    public String getName ()
+    {
+        return this.name;
+    }
+
+
+    /**
+     * Get the names of all curves.
+     *
+     * @return The names
+     */
+    public static String [] getNames ()
+    {
+        return CURVE_NAMES;
+    }
+
+
+    /**
+     * Lookup a curve by its name.
+     *
+     * @param name The name of the curve
+     * @return The curve or LINEAR if not found
+     */
+    public static VelocityCurveType lookup (final String name)
+    {
+        for (final VelocityCurveType type: values ())
+        {
+            if (type.name.equals (name))
+                return type;
+        }
+        return LINEAR;
+    }
+}
@@ -0,0 +1,154 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.velocity;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+
+/**
+ * Calculates velocity translation tables for the pads of a controller. The tables are calculated
+ * only once for each combination of parameters and shared afterwards. Therefore, the returned
+ * arrays must not be modified.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class VelocityTransform
+{
+    /** The number of entries of a velocity table. */
+    public static final int                     NUM_VELOCITIES = 128;
+    /** The minimum gain in percent. */
+    public static final int                     MIN_GAIN       = 50;
+    /** The maximum gain in percent. */
+    public static final int                     MAX_GAIN       = 200;
+    /** The maximum dynamics (strength of the curve) in percent. */
+    public static final int                     MAX_DYNAMICS   = 100;
+
+    private static final Map<Long, int []>      CURVE_TABLES   = new ConcurrentHashMap<> ();
+    private static final Map<String, int []>    CUSTOM_TABLES  = new ConcurrentHashMap<> ();
+    private static final int []                 IDENTITY       = new int [NUM_VELOCITIES];
+
+    static
+    {
+        for (int i = 0; i < NUM_VELOCITIES; i++)
+            IDENTITY[i] = i;
+    }
+
+
+    /**
+     * Constructor, private due to help class.
+     */
+    private VelocityTransform ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Get the table which does not change the velocity.
+     *
+     * @return The table
+     */
+    public static int [] getIdentityTable ()
+    {
+        return IDENTITY;
+    }
+
+
+    /**
+     * Get the velocity table for a curve.
+     *
+     * @param type The type of the curve
+     * @param gain The gain in percent (50-200), 100 does not change the output level
+     * @param dynamics The strength of the curve in percent (0-100), ignored by the linear and
+     *            fixed curve
+     * @param fixedValue The output velocity of the fixed curve (1-127), ignored by all others
+     * @return The table, must not be modified
+     */
+    public static int [] getTable (final VelocityCurveType type, final int gain, final int dynamics, final int fixedValue)
+    {
+        final int g = Math.max (MIN_GAIN, Math.min (MAX_GAIN, gain));
+        final int d = type == VelocityCurveType.LINEAR || type == VelocityCurveType.FIXED ? 0 : Math.max (0, Math.min (MAX_DYNAMICS, dynamics));
+        final int f = type == VelocityCurveType.FIXED ? Math.max (1, Math.min (127, fixedValue)) : 0;
+        if (type == VelocityCurveType.LINEAR && g == 100)
+            return IDENTITY;
+
+        final long key = (long) type.ordinal () << 24 | (long) g << 14 | (long) d << 7 | f;
+        return CURVE_TABLES.computeIfAbsent (Long.valueOf (key), k -> calculateTable (type, g, d, f));
+    }
+
+
+    /**
+     * Get the velocity table for a fixed velocity. Only note-offs keep a velocity of 0.
+     *
+     * @param fixedValue The output velocity (1-127)
+     * @return The table, must not be modified
+     */
+    public static int [] getFixedTable (final int fixedValue)
+    {
+        return getTable (VelocityCurveType.FIXED, 100, 0, fixedValue);
+    }
+
+
+    /**
+     * Get a table which is calculated by a controller specific algorithm. The table is calculated
+     * only on the first request for the key.
+     *
+     * @param key The key which identifies the algorithm and all of its parameters
+     * @param generator Calculates the table if it is not cached yet
+     * @return The table, must not be modified
+     */
+    public static int [] getCustomTable (final String key, final Supplier<int []> generator)
+    {
+        return CUSTOM_TABLES.computeIfAbsent (key, k -> generator.get ());
+    }
+
+
+    private static int [] calculateTable (final VelocityCurveType type, final int gain, final int dynamics, final int fixedValue)
+    {
+        final int [] table = new int [NUM_VELOCITIES];
+        for (int i = 1; i < NUM_VELOCITIES; i++)
+        {
+            if (type == VelocityCurveType.FIXED)
+            {
+                table[i] = fixedValue;
+                continue;
+            }
+            final double shaped = shape (type, i / 127.0, dynamics / (double) MAX_DYNAMICS);
+            table[i] = (int) Math.min (Math.max (Math.round (shaped * 127.0 * gain / 100.0), 1), 127);
+        }
+        return table;
+    }
+
+
+    /**
+     * Shape a normalized velocity.
+     *
+     * @param type The type of the curve
+     * @param x The normalized velocity (0-1)
+     * @param strength The normalized strength of the curve (0-1)
+     * @return The shaped velocity (0-1)
+     */
+    private static double shape (final VelocityCurveType type, final double x, final double strength)
+    {
+        final double k = 0.01 + 20.0 * strength;
+        switch (type)
+        {
+            case LOG:
+                return Math.log1p (k * x) / Math.log1p (k);
+
+            case EXP:
+                return Math.expm1 (k * x / 4.0) / Math.expm1 (k / 4.0);
+
+            case S_CURVE:
+                final double smooth = x * x * (3.0 - 2.0 * x);
+                return x + strength * (smooth - x);
+
+            default:
+                return x;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import java.util.Arrays;
+
+
+/**
+ * The states of the drum pads of the current page of a drum pad bank, kept in flat arrays. The
+ * states are updated by value observers of the DAW. Therefore, the views can draw all pads in one
+ * pass without querying every pad and quantizing its color on each flush. Since the observers and
+ * the flush run on different threads, the observers replace the arrays with changed copies and
+ * track the first soloed drum pad. Therefore, the views read the states without locking.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class DrumPadBankSnapshot
+{
+    /** Flag for an existing drum pad. */
+    public static final int    EXISTS    = 1;
+    /** Flag for an activated drum pad. */
+    public static final int    ACTIVATED = 2;
+    /** Flag for a muted drum pad. */
+    public static final int    MUTE      = 4;
+    /** Flag for a soloed drum pad. */
+    public static final int    SOLO      = 8;
+
+    private static final int   NO_SOLO   = Integer.MAX_VALUE;
+
+    private volatile int []    flags;
+    private volatile String [] colorIDs;
+    private volatile int       firstSolo = NO_SOLO;
+
+
+    /**
+     * Constructor.
+     *
+     * @param size The number of drum pads in a page
+     */
+    public DrumPadBankSnapshot (final int size)
+    {
+        final String [] ids = new String [size];
+        Arrays.fill (ids, DAWColors.COLOR_OFF);
+        this.flags = new int [size];
+        this.colorIDs = ids;
+    }
+
+
+    /**
+     * Set or clear a flag of a drum pad.
+     *
+     * @param index The index of the drum pad in the page
+     * @param flag The flag, e.g. MUTE
+     * @param isSet True to set the flag, false to clear it
+     */
+    public synchronized void setFlag (final int index, final int flag, final boolean isSet)
+    {
+        final int oldFlags = this.flags[index];
+        final int newFlags = isSet ? oldFlags | flag : oldFlags & ~flag;
+        if (newFlags == oldFlags)
+            return;
+
+        final int [] changed = this.flags.clone ();
+        changed[index] = newFlags;
+        this.flags = changed;
+
+        if ((flag & SOLO) == 0)
+            return;
+        if (isSet)
+            this.firstSolo = Math.min (this.firstSolo, index);
+        else if (index == this.firstSolo)
+            this.firstSolo = findSolo (changed, index + 1);
+    }
+
+
+    /**
+     * Set the color of a drum pad. The color is quantized to the closest DAW color.
+     *
+     * @param index The index of the drum pad in the page
+     * @param red The red part of the color
+     * @param green The green part of the color
+     * @param blue The blue part of the color
+     */
+    public void setColor (final int index, final double red, final double green, final double blue)
+    {
+        final String colorID = DAWColors.getColorIndex (red, green, blue);
+        synchronized (this)
+        {
+            if (colorID.equals (this.colorIDs[index]))
+                return;
+            final String [] changed = this.colorIDs.clone ();
+            changed[index] = colorID;
+            this.colorIDs = changed;
+        }
+    }
+
+
+    /**
+     * Get all flags of a drum pad.
+     *
+     * @param index The index of the drum pad in the page
+     * @return The flags
+     */
+    public int getFlags (final int index)
+    {
+        return this.flags[index];
+    }
+
+
+    /**
+     * Check if a drum pad exists and is activated.
+     *
+     * @param flags The flags of the drum pad
+     * @return True if it exists and is activated
+     */
+    public static boolean isPlayable (final int flags)
+    {
+        return (flags & (EXISTS | ACTIVATED)) == (EXISTS | ACTIVATED);
+    }
+
+
+    /**
+     * Check if a drum pad is muted or is not soloed while other drum pads are soloed.
+     *
+     * @param flags The flags of the drum pad
+     * @param hasSolo True if any drum pad is soloed
+     * @return True if it does not sound
+     */
+    public static boolean isMuted (final int flags, final boolean hasSolo)
+    {
+        return (flags & MUTE) != 0 || hasSolo && (flags & SOLO) == 0;
+    }
+
+
+    /**
+     * Get the color ID of the DAW color which is closest to the color of the drum pad.
+     *
+     * @param index The index of the drum pad in the page
+     * @return The color ID
+     */
+    public String getColorID (final int index)
+    {
+        return this.colorIDs[index];
+    }
+
+
+    /**
+     * Check if one of the first drum pads of the page is soloed.
+     *
+     * @param numPads The number of drum pads to check, starting with the first one of the page
+     * @return True if at least one of these drum pads is soloed
+     */
+    public boolean hasSolo (final int numPads)
+    {
+        return this.firstSolo < numPads;
+    }
+
+
+    /**
+     * Get the number of drum pads in a page.
+     *
+     * @return The number of drum pads
+     */
+    public int getSize ()
+    {
+        return this.flags.length;
+    }
+
+
+    /**
+     * Find the first soloed drum pad.
+     *
+     * @param flags The flags of all drum pads
+     * @param start The index of the drum pad to start with
+     * @return The index of the soloed drum pad or NO_SOLO if there is none
+     */
+    private static int findSolo (final int [] flags, final int start)
+    {
+        for (int i = start; i < flags.length; i++)
+        {
+            if ((flags[i] & SOLO) != 0)
+                return i;
+        }
+        return NO_SOLO;
+    }
+}
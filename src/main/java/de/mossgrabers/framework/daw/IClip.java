@@ -30,6 +30,14 @@ public interface IClip extends ObserverManagement
     double [] getColor ();
 
 
+    /**
+     * Get the color of the clip as a packed ARGB value. Does not allocate.
+     *
+     * @return The color
+     */
+    int getColorARGB ();
+
+
     /**
      * Set the color of the clip.
      *
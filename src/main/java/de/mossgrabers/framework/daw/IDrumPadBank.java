@@ -14,5 +14,10 @@ import de.mossgrabers.framework.daw.data.IDrumPad;
  */
 public interface IDrumPadBank extends IChannelBank<IDrumPad>
 {
-    // Intentionally empty
+    /**
+     * Get the states of the drum pads of the current page, which are updated by observers.
+     *
+     * @return The snapshot of the drum pad states
+     */
+    DrumPadBankSnapshot getSnapshot ();
 }
\ No newline at end of file
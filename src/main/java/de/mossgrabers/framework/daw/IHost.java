@@ -88,6 +88,15 @@ public interface IHost
     void scheduleTask (Runnable task, long delay);
 
 
+    /**
+     * Get the current time of the clock which is used for scheduling tasks. Only the difference
+     * between two values is meaningful.
+     *
+     * @return The time in milliseconds
+     */
+    long getCurrentTime ();
+
+
     /**
      * Print the error to the console.
      *
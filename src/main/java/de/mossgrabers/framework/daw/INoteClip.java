@@ -124,6 +124,15 @@ public interface INoteClip extends IClip
     int getUpperRowWithData ();
 
 
+    /**
+     * Get the version of the step data. It is incremented whenever the state of a step changes,
+     * which allows to cache information derived from the steps.
+     *
+     * @return The version
+     */
+    int getStepDataVersion ();
+
+
     /**
      * Scroll the clip view to the given page. Depends on the number of the steps of a page.
      *
@@ -0,0 +1,110 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import de.mossgrabers.framework.daw.data.ISlot;
+import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.daw.data.SlotSnapshot;
+
+
+/**
+ * A copy of the clip slots of the current page of a track bank, which is captured on the host
+ * thread and used for drawing the session grid on the flush thread. The slot snapshots are
+ * allocated once and reused when capturing again.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SessionSnapshot
+{
+    private SlotSnapshot [] [] slots     = new SlotSnapshot [0] [0];
+    private boolean []         recArms   = new boolean [0];
+    private int                numTracks;
+    private int                numSlots;
+
+
+    /**
+     * Copy the states of all slots of the current page of the track bank. Must be called from the
+     * host thread.
+     *
+     * @param trackBank The track bank
+     */
+    public void capture (final ITrackBank trackBank)
+    {
+        final int tracks = trackBank.getPageSize ();
+        final int scenes = tracks == 0 ? 0 : trackBank.getItem (0).getSlotBank ().getPageSize ();
+        if (tracks != this.numTracks || scenes != this.numSlots)
+            this.resize (tracks, scenes);
+
+        for (int t = 0; t < tracks; t++)
+        {
+            final ITrack track = trackBank.getItem (t);
+            this.recArms[t] = track.isRecArm ();
+            final ISlotBank slotBank = track.getSlotBank ();
+            for (int s = 0; s < scenes; s++)
+                this.slots[t][s].capture (slotBank.getItem (s));
+        }
+    }
+
+
+    /**
+     * Get a slot.
+     *
+     * @param track The index of the track in the page
+     * @param slot The index of the slot in the page
+     * @return The snapshot of the slot
+     */
+    public ISlot getSlot (final int track, final int slot)
+    {
+        return this.slots[track][slot];
+    }
+
+
+    /**
+     * Is the track armed for recording?
+     *
+     * @param track The index of the track in the page
+     * @return True if armed
+     */
+    public boolean isRecArm (final int track)
+    {
+        return this.recArms[track];
+    }
+
+
+    /**
+     * Get the number of captured tracks.
+     *
+     * @return The number of tracks
+     */
+    public int getNumTracks ()
+    {
+        return this.numTracks;
+    }
+
+
+    /**
+     * Get the number of captured slots per track.
+     *
+     * @return The number of slots
+     */
+    public int getNumSlots ()
+    {
+        return this.numSlots;
+    }
+
+
+    private void resize (final int tracks, final int scenes)
+    {
+        this.numTracks = tracks;
+        this.numSlots = scenes;
+        this.recArms = new boolean [tracks];
+        this.slots = new SlotSnapshot [tracks] [scenes];
+        for (int t = 0; t < tracks; t++)
+        {
+            for (int s = 0; s < scenes; s++)
+                this.slots[t][s] = new SlotSnapshot ();
+        }
+    }
+}
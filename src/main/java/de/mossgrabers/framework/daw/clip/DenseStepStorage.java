@@ -0,0 +1,76 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.clip;
+
+/**
+ * Stores the step states in a 2-dimensional array. Fast for small pages.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class DenseStepStorage implements IStepStorage
+{
+    private final int        numSteps;
+    private final int        numRows;
+    private final byte [] [] data;
+
+
+    /**
+     * Constructor.
+     *
+     * @param numSteps The number of steps
+     * @param numRows The number of rows
+     */
+    public DenseStepStorage (final int numSteps, final int numRows)
+    {
+        this.numSteps = numSteps;
+        this.numRows = numRows;
+        this.data = new byte [numSteps] [numRows];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getStep (final int step, final int row)
+    {
+        return this.data[step][row];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setStep (final int step, final int row, final int state)
+    {
+        this.data[step][row] = (byte) state;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasRowData (final int row)
+    {
+        for (int step = 0; step < this.numSteps; step++)
+        {
+            if (this.data[step][row] > 0)
+                return true;
+        }
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNumSteps ()
+    {
+        return this.numSteps;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNumRows ()
+    {
+        return this.numRows;
+    }
+}
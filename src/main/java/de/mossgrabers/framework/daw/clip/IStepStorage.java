@@ -0,0 +1,58 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.clip;
+
+/**
+ * Storage for the step states of a monitored note clip page.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public interface IStepStorage
+{
+    /**
+     * Get the state of a step.
+     *
+     * @param step The step
+     * @param row The row
+     * @return 0: not set, 1: note continues playing, 2: start of note, see the constants in
+     *         INoteClip
+     */
+    int getStep (int step, int row);
+
+
+    /**
+     * Set the state of a step.
+     *
+     * @param step The step
+     * @param row The row
+     * @param state 0: not set, 1: note continues playing, 2: start of note
+     */
+    void setStep (int step, int row, int state);
+
+
+    /**
+     * Check if a row contains a note.
+     *
+     * @param row The row to check
+     * @return True if there is at least one note in the row
+     */
+    boolean hasRowData (int row);
+
+
+    /**
+     * Get the number of monitored steps.
+     *
+     * @return The number of steps
+     */
+    int getNumSteps ();
+
+
+    /**
+     * Get the number of monitored rows.
+     *
+     * @return The number of rows
+     */
+    int getNumRows ();
+}
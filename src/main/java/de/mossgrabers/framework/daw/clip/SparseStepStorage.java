@@ -0,0 +1,110 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.clip;
+
+/**
+ * Stores the step states as 2 bit-sets per row (note start and note continue). The bit-sets of a
+ * row are only allocated when the first note arrives in that row. Intended for large pages (e.g.
+ * 128 steps over 128 rows) which are mostly empty.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SparseStepStorage implements IStepStorage
+{
+    private final int        numSteps;
+    private final int        numRows;
+    private final int        numWords;
+    private final long [] [] startBits;
+    private final long [] [] continueBits;
+    private final int []     rowCounts;
+
+
+    /**
+     * Constructor.
+     *
+     * @param numSteps The number of steps
+     * @param numRows The number of rows
+     */
+    public SparseStepStorage (final int numSteps, final int numRows)
+    {
+        this.numSteps = numSteps;
+        this.numRows = numRows;
+        this.numWords = (numSteps + 63) >>> 6;
+        this.startBits = new long [numRows] [];
+        this.continueBits = new long [numRows] [];
+        this.rowCounts = new int [numRows];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getStep (final int step, final int row)
+    {
+        final long [] starts = this.startBits[row];
+        if (starts == null)
+            return 0;
+        final int word = step >>> 6;
+        final long mask = 1L << step;
+        if ((starts[word] & mask) != 0)
+            return 2;
+        return (this.continueBits[row][word] & mask) != 0 ? 1 : 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setStep (final int step, final int row, final int state)
+    {
+        long [] starts = this.startBits[row];
+        if (starts == null)
+        {
+            if (state == 0)
+                return;
+            starts = new long [this.numWords];
+            this.startBits[row] = starts;
+            this.continueBits[row] = new long [this.numWords];
+        }
+
+        final long [] continues = this.continueBits[row];
+        final int word = step >>> 6;
+        final long mask = 1L << step;
+        final boolean wasSet = ((starts[word] | continues[word]) & mask) != 0;
+
+        starts[word] &= ~mask;
+        continues[word] &= ~mask;
+        if (state == 2)
+            starts[word] |= mask;
+        else if (state == 1)
+            continues[word] |= mask;
+
+        final boolean isSet = state > 0;
+        if (wasSet != isSet)
+            this.rowCounts[row] += isSet ? 1 : -1;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasRowData (final int row)
+    {
+        return this.rowCounts[row] > 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNumSteps ()
+    {
+        return this.numSteps;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNumRows ()
+    {
+        return this.numRows;
+    }
+}
@@ -0,0 +1,40 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.clip;
+
+/**
+ * Creates the step storage which fits best to the size of a monitored clip page.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class StepStorageFactory
+{
+    /** Pages with more cells (steps x rows) than this use the sparse storage. */
+    public static final int SPARSE_THRESHOLD = 32 * 128;
+
+
+    /**
+     * Constructor, private due to help class.
+     */
+    private StepStorageFactory ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Create a step storage.
+     *
+     * @param numSteps The number of steps
+     * @param numRows The number of rows
+     * @return The dense storage for small pages, the sparse storage for large pages
+     */
+    public static IStepStorage create (final int numSteps, final int numRows)
+    {
+        if (numSteps * numRows > SPARSE_THRESHOLD)
+            return new SparseStepStorage (numSteps, numRows);
+        return new DenseStepStorage (numSteps, numRows);
+    }
+}
@@ -195,6 +195,14 @@ public interface IChannel extends IItem
     double [] getColor ();
 
 
+    /**
+     * Get the color of the channel as a packed ARGB value. Does not allocate.
+     *
+     * @return The color
+     */
+    int getColorARGB ();
+
+
     /**
      * Set the color of the channel as a RGB value.
      *
@@ -19,6 +19,14 @@ public interface IScene extends IItem
     double [] getColor ();
 
 
+    /**
+     * Get the color of the scene as a packed ARGB value. Does not allocate.
+     *
+     * @return The color
+     */
+    int getColorARGB ();
+
+
     /**
      * Set the color of the scene as a RGB value.
      *
@@ -67,6 +67,14 @@ public interface ISlot extends IItem
     double [] getColor ();
 
 
+    /**
+     * Get the color of the slot as a packed ARGB value. Does not allocate.
+     *
+     * @return The color
+     */
+    int getColorARGB ();
+
+
     /**
      * Set the color of the clip.
      *
@@ -0,0 +1,278 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.data;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.observer.IValueObserver;
+import de.mossgrabers.framework.utils.StringUtils;
+
+
+/**
+ * A copy of the states of a slot, which can be read from any thread. The states are captured on
+ * the host thread and are not changed until the snapshot is captured again. All actions are
+ * forwarded to the slot from which the states were captured.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SlotSnapshot implements ISlot
+{
+    private static final int EXISTS           = 1;
+    private static final int SELECTED         = 2;
+    private static final int HAS_CONTENT      = 4;
+    private static final int RECORDING        = 8;
+    private static final int RECORDING_QUEUED = 16;
+    private static final int PLAYING          = 32;
+    private static final int PLAYING_QUEUED   = 64;
+    private static final int STOP_QUEUED      = 128;
+
+    private final double []  color            = new double [3];
+    private ISlot            slot;
+    private int              flags;
+    private int              colorARGB;
+    private int              index;
+    private int              position;
+    private String           name;
+
+
+    /**
+     * Copy the states of a slot. Must be called from the host thread.
+     *
+     * @param slot The slot
+     */
+    public void capture (final ISlot slot)
+    {
+        this.slot = slot;
+        this.index = slot.getIndex ();
+        this.name = slot.getName ();
+
+        final boolean exists = slot.doesExist ();
+        this.position = exists ? slot.getPosition () : -1;
+
+        int f = 0;
+        if (exists)
+            f |= EXISTS;
+        if (slot.isSelected ())
+            f |= SELECTED;
+        if (slot.hasContent ())
+            f |= HAS_CONTENT;
+        if (slot.isRecording ())
+            f |= RECORDING;
+        if (slot.isRecordingQueued ())
+            f |= RECORDING_QUEUED;
+        if (slot.isPlaying ())
+            f |= PLAYING;
+        if (slot.isPlayingQueued ())
+            f |= PLAYING_QUEUED;
+        if (slot.isStopQueued ())
+            f |= STOP_QUEUED;
+        this.flags = f;
+
+        final int argb = slot.getColorARGB ();
+        if (argb != this.colorARGB)
+        {
+            this.colorARGB = argb;
+            this.color[0] = ColorEx.getRed (argb);
+            this.color[1] = ColorEx.getGreen (argb);
+            this.color[2] = ColorEx.getBlue (argb);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean doesExist ()
+    {
+        return (this.flags & EXISTS) != 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getIndex ()
+    {
+        return this.index;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getPosition ()
+    {
+        return this.position;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSelected ()
+    {
+        return (this.flags & SELECTED) != 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setSelected (final boolean isSelected)
+    {
+        this.slot.setSelected (isSelected);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void select ()
+    {
+        this.slot.select ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName ()
+    {
+        return this.name;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName (final int limit)
+    {
+        return StringUtils.optimizeName (this.name, limit);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addNameObserver (final IValueObserver<String> observer)
+    {
+        this.slot.addNameObserver (observer);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        this.slot.enableObservers (enable);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasContent ()
+    {
+        return (this.flags & HAS_CONTENT) != 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isRecording ()
+    {
+        return (this.flags & RECORDING) != 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPlaying ()
+    {
+        return (this.flags & PLAYING) != 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPlayingQueued ()
+    {
+        return (this.flags & PLAYING_QUEUED) != 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isRecordingQueued ()
+    {
+        return (this.flags & RECORDING_QUEUED) != 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isStopQueued ()
+    {
+        return (this.flags & STOP_QUEUED) != 0;
+    }
+
+
+    /**
+     * Get the color of the slot. The returned array is owned by the snapshot and must not be
+     * changed.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public double [] getColor ()
+    {
+        return this.color;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColorARGB ()
+    {
+        return this.colorARGB;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setColor (final double red, final double green, final double blue)
+    {
+        this.slot.setColor (red, green, blue);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void launch ()
+    {
+        this.slot.launch ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void record ()
+    {
+        this.slot.record ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void create (final int length)
+    {
+        this.slot.create (length);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void remove ()
+    {
+        this.slot.remove ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void duplicate ()
+    {
+        this.slot.duplicate ();
+    }
+}
@@ -117,6 +117,14 @@ public class EmptyChannel extends EmptyItem implements IChannel
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getColorARGB ()
+    {
+        return COLOR_OFF_ARGB;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public boolean isMute ()
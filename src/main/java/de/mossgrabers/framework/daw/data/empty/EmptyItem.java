@@ -4,6 +4,7 @@
 
 package de.mossgrabers.framework.daw.data.empty;
 
+import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.data.IItem;
 import de.mossgrabers.framework.observer.IValueObserver;
 
@@ -15,12 +16,13 @@ import de.mossgrabers.framework.observer.IValueObserver;
  */
 public class EmptyItem implements IItem
 {
-    protected static final double [] COLOR_OFF =
+    protected static final double [] COLOR_OFF      =
     {
         0.0,
         0.0,
         0.0
     };
+    protected static final int       COLOR_OFF_ARGB = ColorEx.toARGB (COLOR_OFF);
 
 
     /** {@inheritDoc} */
@@ -35,6 +35,14 @@ public class EmptyScene extends EmptyItem implements IScene
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getColorARGB ()
+    {
+        return COLOR_OFF_ARGB;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setColor (final double red, final double green, final double blue)
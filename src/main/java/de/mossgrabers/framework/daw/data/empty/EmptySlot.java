@@ -83,6 +83,14 @@ public class EmptySlot extends EmptyItem implements ISlot
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getColorARGB ()
+    {
+        return COLOR_OFF_ARGB;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setColor (final double red, final double green, final double blue)
@@ -0,0 +1,61 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+/**
+ * Wraps the inputs and outputs of a midi access, to record all of their events.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class CapturingMidiAccess implements IMidiAccess
+{
+    private final MidiCaptureRecorder recorder;
+    private final IMidiAccess         midiAccess;
+
+
+    /**
+     * Constructor.
+     *
+     * @param recorder The recorder to send the events to
+     * @param midiAccess The midi access to wrap
+     */
+    public CapturingMidiAccess (final MidiCaptureRecorder recorder, final IMidiAccess midiAccess)
+    {
+        this.recorder = recorder;
+        this.midiAccess = midiAccess;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiOutput createOutput ()
+    {
+        return new CapturingMidiOutput (this.recorder, this.midiAccess.createOutput ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiOutput createOutput (final int index)
+    {
+        return new CapturingMidiOutput (this.recorder, this.midiAccess.createOutput (index));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiInput createInput (final String name, final String... filters)
+    {
+        return new CapturingMidiInput (this.recorder, this.midiAccess.createInput (name, filters));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiInput createInput (final int index, final String name, final String... filters)
+    {
+        return new CapturingMidiInput (this.recorder, this.midiAccess.createInput (index, name, filters));
+    }
+}
@@ -0,0 +1,78 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+/**
+ * A midi input which records all events received by its callbacks. Events which are routed
+ * directly into the DAW by note inputs are not recorded.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class CapturingMidiInput implements IMidiInput
+{
+    private final MidiCaptureRecorder recorder;
+    private final IMidiInput          input;
+    private final int                 port;
+
+
+    /**
+     * Constructor.
+     *
+     * @param recorder The recorder to send the events to
+     * @param input The input to wrap
+     */
+    public CapturingMidiInput (final MidiCaptureRecorder recorder, final IMidiInput input)
+    {
+        this.recorder = recorder;
+        this.input = input;
+        this.port = recorder.nextInputPort ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setMidiCallback (final MidiShortCallback callback)
+    {
+        this.input.setMidiCallback ( (status, data1, data2) -> {
+            this.recorder.recordShort (MidiEventRing.TYPE_SHORT_IN, this.port, status, data1, data2);
+            callback.handleMidi (status, data1, data2);
+        });
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setSysexCallback (final MidiSysExCallback callback)
+    {
+        this.input.setSysexCallback (data -> {
+            this.recorder.recordSysex (MidiEventRing.TYPE_SYSEX_IN, this.port, data);
+            callback.handleMidi (data);
+        });
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public INoteInput createNoteInput (final String name, final String... filters)
+    {
+        return this.input.createNoteInput (name, filters);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public INoteInput getDefaultNoteInput ()
+    {
+        return this.input.getDefaultNoteInput ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendRawMidiEvent (final int status, final int data1, final int data2)
+    {
+        this.input.sendRawMidiEvent (status, data1, data2);
+    }
+}
@@ -0,0 +1,85 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+/**
+ * A midi output which records all sent events and forwards them to the wrapped output.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class CapturingMidiOutput extends AbstractMidiOutputImpl
+{
+    private final MidiCaptureRecorder recorder;
+    private final IMidiOutput         output;
+    private final int                 port;
+
+
+    /**
+     * Constructor.
+     *
+     * @param recorder The recorder to send the events to
+     * @param output The output to wrap
+     */
+    public CapturingMidiOutput (final MidiCaptureRecorder recorder, final IMidiOutput output)
+    {
+        this.recorder = recorder;
+        this.output = output;
+        this.port = recorder.nextOutputPort ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final byte [] data)
+    {
+        this.recorder.recordSysex (MidiEventRing.TYPE_SYSEX_OUT, this.port, data);
+        this.output.sendSysex (data);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final String data)
+    {
+        this.recorder.recordSysex (MidiEventRing.TYPE_SYSEX_OUT, this.port, data);
+        this.output.sendSysex (data);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void sendMidiShort (final int status, final int data1, final int data2)
+    {
+        this.recorder.recordShort (MidiEventRing.TYPE_SHORT_OUT, this.port, status, data1, data2);
+
+        final int channel = status & 0xF;
+        switch (status & 0xF0)
+        {
+            case 0x90:
+                this.output.sendNoteEx (channel, data1, data2);
+                break;
+
+            case 0xA0:
+                this.output.sendPolyphonicAftertouch (channel, data1, data2);
+                break;
+
+            case 0xB0:
+                this.output.sendCCEx (channel, data1, data2);
+                break;
+
+            case 0xD0:
+                this.output.sendChannelAftertouch (channel, data1, data2);
+                break;
+
+            case 0xE0:
+                this.output.sendPitchbend (channel, data1, data2);
+                break;
+
+            default:
+                // Not created by AbstractMidiOutputImpl
+                break;
+        }
+    }
+}
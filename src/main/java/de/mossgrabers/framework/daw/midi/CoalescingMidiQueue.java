@@ -0,0 +1,219 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+
+/**
+ * A queue for the messages to one midi output. Messages which address the same control (e.g. the
+ * same fader or display line) replace each other while they are queued, only the latest one is
+ * sent. Each queue sends from its own thread with a minimum interval between two transmissions,
+ * therefore a slow output neither blocks the threads which fill the queue nor the queues of other
+ * outputs.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class CoalescingMidiQueue
+{
+    private static final int               NUM_KEYS         = 128 * 128;
+
+    private final IMidiOutput              output;
+    private final long                     minInterval;
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean            isDrainScheduled = new AtomicBoolean (false);
+    private volatile long                  lastDrain;
+
+    private final Object                   queueLock        = new Object ();
+    private final Object                   sendLock         = new Object ();
+    private final boolean []               isQueued         = new boolean [NUM_KEYS];
+    private final int []                   queuedMessages   = new int [NUM_KEYS];
+    private final int []                   queuedKeys       = new int [NUM_KEYS];
+    private int                            numQueued;
+    private final int []                   sendMessages     = new int [NUM_KEYS];
+    private final Map<Integer, byte []>    queuedSysex      = new LinkedHashMap<> ();
+    private final List<byte []>            sendSysex        = new ArrayList<> ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param output The midi output to send to
+     * @param name The name of the queue, used for the name of the thread
+     * @param minInterval The minimum time between two transmissions in milliseconds
+     */
+    public CoalescingMidiQueue (final IMidiOutput output, final String name, final long minInterval)
+    {
+        this.output = output;
+        this.minInterval = minInterval;
+        this.executor = Executors.newSingleThreadScheduledExecutor (runnable -> {
+            final Thread thread = new Thread (runnable, name);
+            thread.setDaemon (true);
+            return thread;
+        });
+    }
+
+
+    /**
+     * Queue a short message. Note, CC and polyphonic aftertouch messages replace queued messages
+     * with the same status and first data byte, all others the ones with the same status.
+     *
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     */
+    public void queue (final int status, final int data1, final int data2)
+    {
+        this.queue (status, data1, data2, (status & 0xF0) <= 0xB0 ? data1 : 0);
+    }
+
+
+    /**
+     * Queue a short message. Replaces a queued message with the same status and control.
+     *
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     * @param control Identifies the control which is addressed by the message (0-127)
+     */
+    public void queue (final int status, final int data1, final int data2, final int control)
+    {
+        final int key = (status & 0x7F) << 7 | control & 0x7F;
+        synchronized (this.queueLock)
+        {
+            this.queuedMessages[key] = (status & 0xFF) << 16 | (data1 & 0x7F) << 8 | data2 & 0x7F;
+            if (this.isQueued[key])
+                return;
+            this.isQueued[key] = true;
+            this.queuedKeys[this.numQueued++] = key;
+        }
+    }
+
+
+    /**
+     * Queue a system exclusive message. Replaces a queued message with the same key.
+     *
+     * @param key Identifies the control which is addressed by the message, e.g. a display line
+     * @param data The complete message including the start and end byte, must not be modified
+     *            afterwards
+     */
+    public void queueSysex (final int key, final byte [] data)
+    {
+        synchronized (this.queueLock)
+        {
+            this.queuedSysex.put (Integer.valueOf (key), data);
+        }
+    }
+
+
+    /**
+     * Schedule the transmission of the queued messages. Returns immediately, the messages are sent
+     * from the thread of the queue, at the earliest when the minimum interval since the last
+     * transmission has passed.
+     */
+    public void flush ()
+    {
+        if (!this.isDrainScheduled.compareAndSet (false, true))
+            return;
+        final long elapsed = TimeUnit.NANOSECONDS.toMillis (System.nanoTime () - this.lastDrain);
+        try
+        {
+            this.executor.schedule (this::drain, Math.max (0, this.minInterval - elapsed), TimeUnit.MILLISECONDS);
+        }
+        catch (final RejectedExecutionException ex)
+        {
+            // Queue has been shut down, messages are dropped
+        }
+    }
+
+
+    /**
+     * Stop the thread of the queue and send the queued messages synchronously.
+     */
+    public void shutdown ()
+    {
+        this.executor.shutdown ();
+        this.drain ();
+    }
+
+
+    /**
+     * Send all queued messages. Short messages are sent first, in the order in which their
+     * controls have been queued.
+     */
+    private void drain ()
+    {
+        // Reset first, messages queued from now on need a new transmission
+        this.isDrainScheduled.set (false);
+
+        synchronized (this.sendLock)
+        {
+            final int numToSend;
+            synchronized (this.queueLock)
+            {
+                numToSend = this.numQueued;
+                for (int i = 0; i < numToSend; i++)
+                {
+                    final int key = this.queuedKeys[i];
+                    this.sendMessages[i] = this.queuedMessages[key];
+                    this.isQueued[key] = false;
+                }
+                this.numQueued = 0;
+
+                this.sendSysex.addAll (this.queuedSysex.values ());
+                this.queuedSysex.clear ();
+            }
+
+            for (int i = 0; i < numToSend; i++)
+            {
+                final int message = this.sendMessages[i];
+                this.sendShort (message >> 16, message >> 8 & 0x7F, message & 0x7F);
+            }
+            for (final byte [] data: this.sendSysex)
+                this.output.sendSysex (data);
+            this.sendSysex.clear ();
+        }
+
+        this.lastDrain = System.nanoTime ();
+    }
+
+
+    private void sendShort (final int status, final int data1, final int data2)
+    {
+        final int channel = status & 0x0F;
+        switch (status & 0xF0)
+        {
+            case 0x80:
+                this.output.sendNoteEx (channel, data1, 0);
+                break;
+            case 0x90:
+                this.output.sendNoteEx (channel, data1, data2);
+                break;
+            case 0xA0:
+                this.output.sendPolyphonicAftertouch (channel, data1, data2);
+                break;
+            case 0xB0:
+                this.output.sendCCEx (channel, data1, data2);
+                break;
+            case 0xD0:
+                this.output.sendChannelAftertouch (channel, data1, data2);
+                break;
+            case 0xE0:
+                this.output.sendPitchbend (channel, data1, data2);
+                break;
+            default:
+                // Not supported by the output
+                break;
+        }
+    }
+}
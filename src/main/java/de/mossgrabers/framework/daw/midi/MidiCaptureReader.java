@@ -0,0 +1,215 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+
+/**
+ * Reads the events of a capture file written by the {@link MidiCaptureWriter} one by one. The
+ * timestamps are restored relative to the first event of the file.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiCaptureReader implements Closeable
+{
+    private static final char [] HEX_DIGITS = "0123456789abcdef".toCharArray ();
+
+    private final InputStream    in;
+    private final StringBuilder  sysexBuilder = new StringBuilder ();
+    private long                 time;
+    private int                  type;
+    private int                  status;
+    private int                  data1;
+    private int                  data2;
+    private String               sysex;
+
+
+    /**
+     * Constructor. Reads and checks the header.
+     *
+     * @param file The file to read
+     * @throws IOException Could not read the file or it is not a capture file
+     */
+    public MidiCaptureReader (final File file) throws IOException
+    {
+        this (new FileInputStream (file));
+    }
+
+
+    /**
+     * Constructor. Reads and checks the header.
+     *
+     * @param stream The stream to read from
+     * @throws IOException Could not read the stream or it does not contain a capture
+     */
+    public MidiCaptureReader (final InputStream stream) throws IOException
+    {
+        this.in = new BufferedInputStream (stream, 64 * 1024);
+
+        for (final byte b: MidiCaptureWriter.MAGIC)
+        {
+            if (this.in.read () != b)
+                throw new IOException ("Not a midi capture file.");
+        }
+        final int version = this.in.read ();
+        if (version != MidiCaptureWriter.VERSION)
+            throw new IOException ("Unsupported midi capture version: " + version);
+    }
+
+
+    /**
+     * Read the next event.
+     *
+     * @return False if the end of the capture is reached
+     * @throws IOException Could not read the event or the capture is corrupted
+     */
+    public boolean next () throws IOException
+    {
+        final int t = this.in.read ();
+        if (t < 0)
+            return false;
+
+        this.type = t;
+        this.time += this.readVarInt ();
+
+        final int baseType = t & MidiEventRing.TYPE_MASK;
+        if (baseType == MidiEventRing.TYPE_SHORT_IN || baseType == MidiEventRing.TYPE_SHORT_OUT)
+        {
+            this.status = this.readByte ();
+            this.data1 = this.readByte ();
+            this.data2 = this.readByte ();
+            this.sysex = null;
+            return true;
+        }
+
+        final long length = this.readVarInt ();
+        this.sysexBuilder.setLength (0);
+        for (long i = 0; i < length; i++)
+        {
+            final int value = this.readByte ();
+            this.sysexBuilder.append (HEX_DIGITS[value >> 4]).append (HEX_DIGITS[value & 0xF]);
+        }
+        this.sysex = this.sysexBuilder.toString ();
+        return true;
+    }
+
+
+    /**
+     * Hand the current event to the handler.
+     *
+     * @param handler The handler
+     */
+    public void dispatch (final MidiEventHandler handler)
+    {
+        if (this.sysex == null)
+            handler.handleShort (this.time, this.type, this.status, this.data1, this.data2);
+        else
+            handler.handleSysex (this.time, this.type, this.sysex);
+    }
+
+
+    /**
+     * Get the time of the current event.
+     *
+     * @return The time in nanoseconds relative to the first event
+     */
+    public long getTime ()
+    {
+        return this.time;
+    }
+
+
+    /**
+     * Get the type of the current event.
+     *
+     * @return The type including the port index, see MidiEventRing.TYPE_*
+     */
+    public int getType ()
+    {
+        return this.type;
+    }
+
+
+    /**
+     * Get the status byte of the current short message.
+     *
+     * @return The status byte
+     */
+    public int getStatus ()
+    {
+        return this.status;
+    }
+
+
+    /**
+     * Get the first data byte of the current short message.
+     *
+     * @return The data byte
+     */
+    public int getData1 ()
+    {
+        return this.data1;
+    }
+
+
+    /**
+     * Get the second data byte of the current short message.
+     *
+     * @return The data byte
+     */
+    public int getData2 ()
+    {
+        return this.data2;
+    }
+
+
+    /**
+     * Get the data of the current sysex message.
+     *
+     * @return The sysex formatted in hex or null if the current event is a short message
+     */
+    public String getSysex ()
+    {
+        return this.sysex;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void close () throws IOException
+    {
+        this.in.close ();
+    }
+
+
+    private int readByte () throws IOException
+    {
+        final int value = this.in.read ();
+        if (value < 0)
+            throw new EOFException ("Midi capture is truncated.");
+        return value;
+    }
+
+
+    private long readVarInt () throws IOException
+    {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7)
+        {
+            final int b = this.readByte ();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return value;
+        }
+        throw new IOException ("Corrupted variable length number in midi capture.");
+    }
+}
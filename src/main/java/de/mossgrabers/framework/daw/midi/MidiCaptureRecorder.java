@@ -0,0 +1,230 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Records all midi events of a controller into a capture file, which can be replayed with the
+ * MidiReplayer. Wrap the midi access of the controller with {@link #wrap(IMidiAccess)} to tee all
+ * received and sent events. The events are only queued in the midi callbacks, a background thread
+ * writes them to the file. The inputs and outputs are numbered in the order of their creation.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiCaptureRecorder implements MidiEventHandler
+{
+    private static final int               QUEUE_SIZE     = 65536;
+    private static final long              WRITE_INTERVAL = 50;
+    private static final char []           HEX_DIGITS     = "0123456789abcdef".toCharArray ();
+
+    private final IHost                    host;
+    private final MidiCaptureWriter        writer;
+    private final MidiEventRing            queue          = new MidiEventRing (QUEUE_SIZE);
+    private final AtomicInteger            numInputs      = new AtomicInteger ();
+    private final AtomicInteger            numOutputs     = new AtomicInteger ();
+    private final ScheduledExecutorService executor       = Executors.newSingleThreadScheduledExecutor (runnable -> {
+                                                              final Thread thread = new Thread (runnable, "Midi Capture");
+                                                              thread.setDaemon (true);
+                                                              return thread;
+                                                          });
+    private boolean                        hasFailed;
+
+
+    /**
+     * Constructor. Creates the capture file.
+     *
+     * @param host The host for logging errors
+     * @param file The file to write to, gets overwritten
+     * @throws IOException Could not create the file
+     */
+    public MidiCaptureRecorder (final IHost host, final File file) throws IOException
+    {
+        this.host = host;
+        this.writer = new MidiCaptureWriter (file);
+
+        this.executor.scheduleWithFixedDelay (this::write, WRITE_INTERVAL, WRITE_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+
+
+    /**
+     * Wrap a midi access. All inputs and outputs created with the returned access are recorded.
+     *
+     * @param midiAccess The midi access to wrap
+     * @return The recording midi access
+     */
+    public IMidiAccess wrap (final IMidiAccess midiAccess)
+    {
+        return new CapturingMidiAccess (this, midiAccess);
+    }
+
+
+    /**
+     * Write the remaining events and close the file.
+     */
+    public void close ()
+    {
+        this.executor.execute ( () -> {
+            this.write ();
+            try
+            {
+                this.writer.close ();
+            }
+            catch (final IOException ex)
+            {
+                this.host.error ("Could not close midi capture file.", ex);
+            }
+        });
+        this.executor.shutdown ();
+    }
+
+
+    /**
+     * Get the number of events which could not be recorded since the queue was full.
+     *
+     * @return The number of dropped events
+     */
+    public long getDropped ()
+    {
+        return this.queue.getDropped ();
+    }
+
+
+    /**
+     * Get the index for the next input port.
+     *
+     * @return The index
+     */
+    int nextInputPort ()
+    {
+        return this.numInputs.getAndIncrement ();
+    }
+
+
+    /**
+     * Get the index for the next output port.
+     *
+     * @return The index
+     */
+    int nextOutputPort ()
+    {
+        return this.numOutputs.getAndIncrement ();
+    }
+
+
+    /**
+     * Record a short message.
+     *
+     * @param type TYPE_SHORT_IN or TYPE_SHORT_OUT of MidiEventRing
+     * @param port The index of the port
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     */
+    void recordShort (final int type, final int port, final int status, final int data1, final int data2)
+    {
+        this.queue.offerShort (System.nanoTime (), MidiEventRing.toType (type, port), status, data1, data2);
+    }
+
+
+    /**
+     * Record a sysex message.
+     *
+     * @param type TYPE_SYSEX_IN or TYPE_SYSEX_OUT of MidiEventRing
+     * @param port The index of the port
+     * @param data The sysex formatted in hex
+     */
+    void recordSysex (final int type, final int port, final String data)
+    {
+        this.queue.offerSysex (System.nanoTime (), MidiEventRing.toType (type, port), data);
+    }
+
+
+    /**
+     * Record a sysex message.
+     *
+     * @param type TYPE_SYSEX_IN or TYPE_SYSEX_OUT of MidiEventRing
+     * @param port The index of the port
+     * @param data The sysex bytes
+     */
+    void recordSysex (final int type, final int port, final byte [] data)
+    {
+        final char [] hex = new char [data.length * 2];
+        for (int i = 0; i < data.length; i++)
+        {
+            hex[2 * i] = HEX_DIGITS[data[i] >> 4 & 0xF];
+            hex[2 * i + 1] = HEX_DIGITS[data[i] & 0xF];
+        }
+        this.recordSysex (type, port, new String (hex));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void handleShort (final long time, final int type, final int status, final int data1, final int data2)
+    {
+        try
+        {
+            this.writer.writeShort (time, type, status, data1, data2);
+        }
+        catch (final IOException ex)
+        {
+            this.fail (ex);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void handleSysex (final long time, final int type, final String data)
+    {
+        try
+        {
+            this.writer.writeSysex (time, type, data);
+        }
+        catch (final IOException ex)
+        {
+            this.fail (ex);
+        }
+    }
+
+
+    private void write ()
+    {
+        if (this.hasFailed)
+            return;
+
+        try
+        {
+            if (this.queue.drain (this, this.queue.getCapacity ()) > 0)
+                this.writer.flush ();
+        }
+        catch (final IOException ex)
+        {
+            this.fail (ex);
+        }
+        catch (final RuntimeException ex)
+        {
+            // Must not escape, otherwise the executor stops writing
+            this.host.error ("Crash in midi capture.", ex);
+        }
+    }
+
+
+    private void fail (final IOException ex)
+    {
+        if (!this.hasFailed)
+            this.host.error ("Could not write midi capture file.", ex);
+        this.hasFailed = true;
+    }
+}
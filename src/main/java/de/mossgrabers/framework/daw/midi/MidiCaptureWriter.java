@@ -0,0 +1,164 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+
+/**
+ * Writes midi events into a compact binary capture file, which can be read again with the
+ * {@link MidiCaptureReader}.
+ *
+ * The file starts with the 4 bytes "MIDC" followed by the version byte. Each event starts with its
+ * type byte (see MidiEventRing.TYPE_*, the upper bits contain the index of the midi port) followed
+ * by the time in nanoseconds since the previous event as a variable length number (7 bits per
+ * byte, least significant first, the highest bit signals that more bytes follow). Short messages are stored as the 3 bytes status, data1 and data2. Sysex
+ * messages are stored as their length (variable length number) followed by the bytes.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiCaptureWriter implements Closeable
+{
+    static final byte []       MAGIC    =
+    {
+        'M',
+        'I',
+        'D',
+        'C'
+    };
+
+    static final int           VERSION  = 1;
+
+    private final OutputStream out;
+    private byte []            buffer   = new byte [256];
+    private long               lastTime = Long.MIN_VALUE;
+    private long               numEvents;
+
+
+    /**
+     * Constructor. Creates the file and writes the header.
+     *
+     * @param file The file to write to, gets overwritten
+     * @throws IOException Could not create the file
+     */
+    public MidiCaptureWriter (final File file) throws IOException
+    {
+        this.out = new BufferedOutputStream (new FileOutputStream (file), 64 * 1024);
+        this.out.write (MAGIC);
+        this.out.write (VERSION);
+    }
+
+
+    /**
+     * Write a short message.
+     *
+     * @param time The timestamp in nanoseconds
+     * @param type The type of the event, see MidiEventRing.TYPE_*
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     * @throws IOException Could not write the event
+     */
+    public void writeShort (final long time, final int type, final int status, final int data1, final int data2) throws IOException
+    {
+        this.writeEventHeader (time, type);
+        this.out.write (status);
+        this.out.write (data1);
+        this.out.write (data2);
+    }
+
+
+    /**
+     * Write a sysex message.
+     *
+     * @param time The timestamp in nanoseconds
+     * @param type The type of the event, see MidiEventRing.TYPE_*
+     * @param data The sysex formatted in hex, whitespace is ignored
+     * @throws IOException Could not write the event
+     */
+    public void writeSysex (final long time, final int type, final String data) throws IOException
+    {
+        // Parse into the reused buffer
+        if (this.buffer.length < data.length () / 2)
+            this.buffer = new byte [data.length ()];
+        int length = 0;
+        int high = -1;
+        for (int i = 0; i < data.length (); i++)
+        {
+            final int digit = Character.digit (data.charAt (i), 16);
+            if (digit < 0)
+                continue;
+            if (high < 0)
+                high = digit;
+            else
+            {
+                this.buffer[length++] = (byte) (high << 4 | digit);
+                high = -1;
+            }
+        }
+
+        this.writeEventHeader (time, type);
+        this.writeVarInt (length);
+        this.out.write (this.buffer, 0, length);
+    }
+
+
+    /**
+     * Get the number of written events.
+     *
+     * @return The number of events
+     */
+    public long getNumEvents ()
+    {
+        return this.numEvents;
+    }
+
+
+    /**
+     * Write all buffered events to the file.
+     *
+     * @throws IOException Could not write the events
+     */
+    public void flush () throws IOException
+    {
+        this.out.flush ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void close () throws IOException
+    {
+        this.out.close ();
+    }
+
+
+    private void writeEventHeader (final long time, final int type) throws IOException
+    {
+        // Events from several threads might be slightly out of order
+        final long delta = this.lastTime == Long.MIN_VALUE ? 0 : Math.max (0, time - this.lastTime);
+        this.lastTime = Math.max (time, this.lastTime);
+        this.out.write (type);
+        this.writeVarInt (delta);
+        this.numEvents++;
+    }
+
+
+    private void writeVarInt (final long value) throws IOException
+    {
+        long v = value;
+        while (v >= 0x80)
+        {
+            this.out.write ((int) (v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        this.out.write ((int) v);
+    }
+}
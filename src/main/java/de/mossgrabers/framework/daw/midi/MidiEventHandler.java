@@ -0,0 +1,35 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+/**
+ * Receives timestamped midi events, e.g. from a {@link MidiEventRing} or a
+ * {@link MidiCaptureReader}.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public interface MidiEventHandler
+{
+    /**
+     * Handle a short midi message.
+     *
+     * @param time The timestamp of the event in nanoseconds
+     * @param type The type of the event, see MidiEventRing.TYPE_*
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     */
+    void handleShort (long time, int type, int status, int data1, int data2);
+
+
+    /**
+     * Handle a system exclusive message.
+     *
+     * @param time The timestamp of the event in nanoseconds
+     * @param type The type of the event, see MidiEventRing.TYPE_*
+     * @param data The sysex formatted in hex
+     */
+    void handleSysex (long time, int type, String data);
+}
@@ -0,0 +1,208 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * A bounded lock-free queue for raw midi events. Several threads may add events (e.g. the midi
+ * callback and the flush thread) but only one thread must drain it. The events are stored in
+ * primitive arrays which are allocated once, therefore adding a short message does not allocate
+ * any objects. If the queue is full the event is dropped and counted.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiEventRing
+{
+    /** A short message received from an input. */
+    public static final int       TYPE_SHORT_IN  = 0;
+    /** A sysex message received from an input. */
+    public static final int       TYPE_SYSEX_IN  = 1;
+    /** A short message sent to an output. */
+    public static final int       TYPE_SHORT_OUT = 2;
+    /** A sysex message sent to an output. */
+    public static final int       TYPE_SYSEX_OUT = 3;
+    /** Masks the type without the port index. */
+    public static final int       TYPE_MASK      = 3;
+
+    private final int             capacity;
+    private final int             mask;
+    private final long []         times;
+    private final int []          messages;
+    private final String []       sysex;
+    private final AtomicLongArray sequences;
+    private final AtomicLong      head           = new AtomicLong ();
+    private final AtomicLong      dropped        = new AtomicLong ();
+    private long                  tail;
+
+
+    /**
+     * Constructor.
+     *
+     * @param minCapacity The minimum number of events the queue can hold, is rounded up to the
+     *            next power of 2
+     */
+    public MidiEventRing (final int minCapacity)
+    {
+        int size = 1;
+        while (size < minCapacity)
+            size <<= 1;
+
+        this.capacity = size;
+        this.mask = size - 1;
+        this.times = new long [size];
+        this.messages = new int [size];
+        this.sysex = new String [size];
+        this.sequences = new AtomicLongArray (size);
+        for (int i = 0; i < size; i++)
+            this.sequences.set (i, i);
+    }
+
+
+    /**
+     * Add a short message.
+     *
+     * @param time The timestamp in nanoseconds
+     * @param type TYPE_SHORT_IN or TYPE_SHORT_OUT
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     * @return False if the queue was full and the event was dropped
+     */
+    public boolean offerShort (final long time, final int type, final int status, final int data1, final int data2)
+    {
+        return this.offer (time, type << 24 | (status & 0xFF) << 16 | (data1 & 0xFF) << 8 | data2 & 0xFF, null);
+    }
+
+
+    /**
+     * Add a sysex message.
+     *
+     * @param time The timestamp in nanoseconds
+     * @param type TYPE_SYSEX_IN or TYPE_SYSEX_OUT
+     * @param data The sysex formatted in hex
+     * @return False if the queue was full and the event was dropped
+     */
+    public boolean offerSysex (final long time, final int type, final String data)
+    {
+        return this.offer (time, type << 24, data);
+    }
+
+
+    /**
+     * Add the index of the midi port to a type. Allows to distinguish the events of several inputs
+     * and outputs, e.g. of a device with extenders.
+     *
+     * @param type One of the TYPE_* constants
+     * @param port The index of the port, 0-63
+     * @return The type including the port index
+     */
+    public static int toType (final int type, final int port)
+    {
+        return port << 2 | type;
+    }
+
+
+    /**
+     * Get the index of the midi port from a type.
+     *
+     * @param type The type including the port index
+     * @return The index of the port
+     */
+    public static int getPort (final int type)
+    {
+        return type >> 2;
+    }
+
+
+    /**
+     * Hand the queued events to the handler. Must only be called from one thread.
+     *
+     * @param handler The handler
+     * @param maxEvents The maximum number of events to drain
+     * @return The number of drained events
+     */
+    public int drain (final MidiEventHandler handler, final int maxEvents)
+    {
+        int count = 0;
+        while (count < maxEvents)
+        {
+            final int index = (int) (this.tail & this.mask);
+            // Not yet published by the producer
+            if (this.sequences.get (index) != this.tail + 1)
+                break;
+
+            final long time = this.times[index];
+            final int message = this.messages[index];
+            final String data = this.sysex[index];
+            this.sysex[index] = null;
+            this.sequences.lazySet (index, this.tail + this.capacity);
+            this.tail++;
+            count++;
+
+            final int type = message >>> 24;
+            if (data == null)
+                handler.handleShort (time, type, message >> 16 & 0xFF, message >> 8 & 0xFF, message & 0xFF);
+            else
+                handler.handleSysex (time, type, data);
+        }
+        return count;
+    }
+
+
+    /**
+     * Get the number of events which were dropped since the queue was full.
+     *
+     * @return The number of dropped events
+     */
+    public long getDropped ()
+    {
+        return this.dropped.get ();
+    }
+
+
+    /**
+     * Get the maximum number of events the queue can hold.
+     *
+     * @return The capacity
+     */
+    public int getCapacity ()
+    {
+        return this.capacity;
+    }
+
+
+    private boolean offer (final long time, final int message, final String data)
+    {
+        long position;
+        int index;
+        while (true)
+        {
+            position = this.head.get ();
+            index = (int) (position & this.mask);
+            final long difference = this.sequences.get (index) - position;
+            if (difference == 0)
+            {
+                if (this.head.compareAndSet (position, position + 1))
+                    break;
+            }
+            else if (difference < 0)
+            {
+                // The slot was not yet drained, the queue is full
+                this.dropped.incrementAndGet ();
+                return false;
+            }
+        }
+
+        this.times[index] = time;
+        this.messages[index] = message;
+        this.sysex[index] = data;
+        // Publish the event to the consumer
+        this.sequences.lazySet (index, position + 1);
+        return true;
+    }
+}
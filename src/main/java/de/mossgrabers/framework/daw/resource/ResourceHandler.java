@@ -4,84 +4,196 @@
 
 package de.mossgrabers.framework.daw.resource;
 
+import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IGraphicsContext;
 import de.mossgrabers.framework.graphics.IImage;
 
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 
 /**
- * Get and cache some resources like SVG images.
+ * Get and cache some resources like SVG images. The images are loaded lazily on first use and
+ * shared by all displays of all extensions. After the first frame was rendered, the remaining
+ * icons are prefetched in small steps by the host. Icons which are drawn with a mask color are
+ * pre-rendered once per color.
+ *
+ * Images are owned by the host which loaded them and are freed when its extension exits.
+ * Therefore, the images of a host are removed from the cache when it is released and are loaded
+ * again through one of the remaining hosts on the next use.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public final class ResourceHandler
 {
-    private static final Map<String, IImage> CACHE = new HashMap<> ();
-    private static IHost                     theHost;
+    /** The maximum number of pre-rendered mask colors per icon. */
+    private static final int                               MAX_MASK_COLORS = 16;
+
+    private static final String []                         ICONS           =
+    {
+        "channel/mute.svg",
+        "channel/record_arm.svg",
+        "channel/solo.svg",
+
+        "track/audio_track.svg",
+        "track/crossfade_a.svg",
+        "track/crossfade_ab.svg",
+        "track/crossfade_b.svg",
+        "track/group_track.svg",
+        "track/hybrid_track.svg",
+        "track/instrument_track.svg",
+        "track/master_track.svg",
+        "track/multi_layer.svg",
+        "track/return_track.svg",
+
+        "device/device_analysis.svg",
+        "device/device_audio.svg",
+        "device/device_container.svg",
+        "device/device_drum_machine.svg",
+        "device/device_drum_module.svg",
+        "device/device_generic.svg",
+        "device/device_instrument.svg",
+        "device/device_io.svg",
+        "device/device_note.svg",
+        "device/device_plugin.svg",
+
+        "user.svg"
+    };
+
+    private static final List<IHost>                       HOSTS           = new CopyOnWriteArrayList<> ();
+    private static final Map<String, CachedImage>          CACHE           = new ConcurrentHashMap<> ();
+    private static final Map<String, Map<ColorEx, IImage>> MASKED_CACHE    = new ConcurrentHashMap<> ();
+    private static final AtomicBoolean                     IS_PREFETCHING  = new AtomicBoolean ();
+    private static volatile IHost                          currentHost;
 
 
     /**
-     * Initialise the handler.
+     * Register a host, which can be used to load the images. Does not load any images.
      *
      * @param host The controller host
      */
     public static void init (final IHost host)
     {
-        theHost = host;
-
-        addSVGImage ("channel/mute.svg");
-        addSVGImage ("channel/record_arm.svg");
-        addSVGImage ("channel/solo.svg");
-        addSVGImage ("channel/solo.svg");
-
-        addSVGImage ("track/audio_track.svg");
-        addSVGImage ("track/crossfade_a.svg");
-        addSVGImage ("track/crossfade_ab.svg");
-        addSVGImage ("track/crossfade_b.svg");
-        addSVGImage ("track/group_track.svg");
-        addSVGImage ("track/hybrid_track.svg");
-        addSVGImage ("track/instrument_track.svg");
-        addSVGImage ("track/master_track.svg");
-        addSVGImage ("track/multi_layer.svg");
-        addSVGImage ("track/return_track.svg");
-
-        addSVGImage ("device/device_analysis.svg");
-        addSVGImage ("device/device_audio.svg");
-        addSVGImage ("device/device_container.svg");
-        addSVGImage ("device/device_drum_machine.svg");
-        addSVGImage ("device/device_drum_module.svg");
-        addSVGImage ("device/device_generic.svg");
-        addSVGImage ("device/device_instrument.svg");
-        addSVGImage ("device/device_io.svg");
-        addSVGImage ("device/device_note.svg");
-        addSVGImage ("device/device_plugin.svg");
-
-        addSVGImage ("user.svg");
+        if (!HOSTS.contains (host))
+            HOSTS.add (host);
+        currentHost = host;
     }
 
 
     /**
-     * Get a SVG image as an Image object.
+     * Unregister a host, e.g. when its extension exits. All images loaded by the host are removed
+     * from the cache.
+     *
+     * @param host The controller host
+     */
+    public static void release (final IHost host)
+    {
+        HOSTS.remove (host);
+        if (currentHost == host)
+            currentHost = HOSTS.isEmpty () ? null : HOSTS.get (0);
+        CACHE.values ().removeIf (cachedImage -> cachedImage.host == host);
+        MASKED_CACHE.clear ();
+        IS_PREFETCHING.set (false);
+    }
+
+
+    /**
+     * Load all icons which are not cached yet, one by one, each in a separate host task. Does
+     * nothing if a prefetch is already running or finished.
+     */
+    public static void prefetch ()
+    {
+        if (IS_PREFETCHING.compareAndSet (false, true))
+            prefetch (0);
+    }
+
+
+    /**
+     * Get a SVG image as an Image object. Loads the image if it is not cached yet.
      *
      * @param imageName The name of the image
-     * @return The buffered image
+     * @return The image
      */
     public static IImage getSVGImage (final String imageName)
     {
-        return CACHE.get (imageName);
+        return CACHE.computeIfAbsent (imageName, name -> {
+            final IHost host = getHost ();
+            return new CachedImage (host, host.loadSVG (name, 1));
+        }).image;
+    }
+
+
+    /**
+     * Draw a SVG image filled with the given color. The first time an image is drawn with a color,
+     * it is masked directly and a pre-rendered variant is created by the host in the background,
+     * which is drawn on later calls.
+     *
+     * @param gc The graphics context to draw into
+     * @param imageName The name of the image
+     * @param x The x position of the top left corner of the image
+     * @param y The y position of the top left corner of the image
+     * @param maskColor The color for the mask
+     */
+    public static void maskSVGImage (final IGraphicsContext gc, final String imageName, final double x, final double y, final ColorEx maskColor)
+    {
+        final Map<ColorEx, IImage> variants = MASKED_CACHE.computeIfAbsent (imageName, name -> new ConcurrentHashMap<> ());
+        final IImage masked = variants.get (maskColor);
+        if (masked != null)
+        {
+            gc.drawImage (masked, x, y);
+            return;
+        }
+
+        final IImage image = getSVGImage (imageName);
+        gc.maskImage (image, x, y, maskColor);
+
+        if (variants.size () < MAX_MASK_COLORS)
+            getHost ().scheduleTask ( () -> renderMaskedImage (variants, image, maskColor), 0);
     }
 
 
     /**
-     * Load and cache an image.
+     * Pre-render an image with a mask color. Runs outside of the rendering of a display.
      *
-     * @param imageName The name (absolute path) of the image
+     * @param variants The map to store the pre-rendered image
+     * @param image The image
+     * @param maskColor The mask color
      */
-    public static void addSVGImage (final String imageName)
+    private static void renderMaskedImage (final Map<ColorEx, IImage> variants, final IImage image, final ColorEx maskColor)
     {
-        CACHE.put (imageName, theHost.loadSVG (imageName, 1));
+        if (variants.containsKey (maskColor) || variants.size () >= MAX_MASK_COLORS)
+            return;
+        final IBitmap bitmap = getHost ().createBitmap ((int) Math.ceil (image.getWidth ()), image.getHeight ());
+        bitmap.render (gc -> gc.maskImage (image, 0, 0, maskColor));
+        variants.put (maskColor, bitmap);
+    }
+
+
+    private static void prefetch (final int index)
+    {
+        if (index >= ICONS.length || currentHost == null)
+            return;
+        getSVGImage (ICONS[index]);
+        getHost ().scheduleTask ( () -> prefetch (index + 1), 0);
+    }
+
+
+    /**
+     * Get the host to use for loading images.
+     *
+     * @return The host
+     */
+    private static IHost getHost ()
+    {
+        final IHost host = currentHost;
+        if (host == null)
+            throw new IllegalStateException ("ResourceHandler is not initialised.");
+        return host;
     }
 
 
@@ -92,4 +204,27 @@ public final class ResourceHandler
     {
         // Intentionally empty
     }
+
+
+    /**
+     * A cached image and the host which owns it.
+     */
+    private static class CachedImage
+    {
+        private final IHost  host;
+        private final IImage image;
+
+
+        /**
+         * Constructor.
+         *
+         * @param host The host which loaded the image
+         * @param image The image
+         */
+        public CachedImage (final IHost host, final IImage image)
+        {
+            this.host = host;
+            this.image = image;
+        }
+    }
 }
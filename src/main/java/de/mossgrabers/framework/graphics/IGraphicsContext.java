@@ -26,6 +26,18 @@ public interface IGraphicsContext
     void fillRectangle (double left, double top, double width, double height, ColorEx color);
 
 
+    /**
+     * Draw a filled rectangle.
+     *
+     * @param left The left position of the rectangle
+     * @param top The top position of the rectangle
+     * @param width The width of the rectangle
+     * @param height The height of the rectangle
+     * @param argb The color of the rectangle as a packed ARGB value
+     */
+    void fillRectangle (double left, double top, double width, double height, int argb);
+
+
     /**
      * Draw a rectangle.
      *
@@ -38,6 +50,18 @@ public interface IGraphicsContext
     void strokeRectangle (double left, double top, double width, double height, ColorEx color);
 
 
+    /**
+     * Draw a rectangle.
+     *
+     * @param left The left position of the rectangle
+     * @param top The top position of the rectangle
+     * @param width The width of the rectangle
+     * @param height The height of the rectangle
+     * @param argb The color of the border of the rectangle as a packed ARGB value
+     */
+    void strokeRectangle (double left, double top, double width, double height, int argb);
+
+
     /**
      * Draw a rectangle.
      *
@@ -0,0 +1,330 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics.canvas.component;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.INoteClip;
+import de.mossgrabers.framework.graphics.Align;
+import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IBounds;
+import de.mossgrabers.framework.graphics.IGraphicsContext;
+import de.mossgrabers.framework.graphics.IGraphicsInfo;
+import de.mossgrabers.framework.scale.Scales;
+import de.mossgrabers.framework.utils.StringUtils;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+
+/**
+ * The cached visual of a midi clip. The notes, the dividers and the measure labels are only
+ * collected again if the step data, the page, the step length, the loop or the play range of the
+ * clip have changed. They are rendered into a layer bitmap, which is copied to the display with a
+ * single call, therefore only the play cursor is drawn on each frame while the clip is playing.
+ *
+ * The layer bitmap is created on the host thread, until it is available the cached notes are drawn
+ * directly. All other methods must be called from the rendering thread.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiClipVisual
+{
+    private static final ColorEx DIVIDERS_COLOR    = ColorEx.fromRGB (50, 50, 50);
+    private static final ColorEx NOTE_BACKGROUND   = ColorEx.fromRGB (100, 100, 100);
+    private static final ColorEx LOOP_BACKGROUND   = ColorEx.fromRGB (84, 84, 84);
+    private static final ColorEx HEADER_BACKGROUND = ColorEx.fromRGB (140, 140, 140);
+
+    private static final int     HEADER_HEIGHT     = 14;
+
+    private final IHost          host;
+    private final AtomicBoolean  isLayerRequested  = new AtomicBoolean ();
+    private volatile IBitmap     layer;
+    private IBitmap              renderedLayer;
+    private int                  renderedVersion   = -1;
+
+    private int                  version;
+    private int                  stepDataVersion   = -1;
+    private int                  quartersPerMeasure;
+    private int                  numSteps;
+    private double               stepLength;
+    private int                  editPage;
+    private int                  colorARGB;
+    private boolean              isLoopEnabled;
+    private double               loopStart;
+    private double               loopLength;
+    private double               playStart;
+    private double               playEnd;
+
+    private String []            measureTexts      = new String [0];
+    private int                  lowerRowWithData  = -1;
+    private int                  range;
+    private int                  numNotes;
+    private int []               noteSteps         = new int [64];
+    private int []               noteRows          = new int [64];
+    private boolean []           noteStarts        = new boolean [64];
+    private String []            noteTexts         = new String [64];
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for creating the layer bitmap
+     */
+    public MidiClipVisual (final IHost host)
+    {
+        this.host = host;
+    }
+
+
+    /**
+     * Check if the data of the clip, which is shown in the layer, has changed. If so, the notes
+     * are collected again and the layer is rendered again on the next draw.
+     *
+     * @param clip The clip
+     * @param quartersPerMeasure The quarters of a measure
+     * @return The version of the cached visual, changes whenever the visual changes
+     */
+    public int update (final INoteClip clip, final int quartersPerMeasure)
+    {
+        final int newStepDataVersion = clip.getStepDataVersion ();
+        final int newNumSteps = clip.getNumSteps ();
+        final double newStepLength = clip.getStepLength ();
+        final int newEditPage = clip.getEditPage ();
+        final int newColorARGB = clip.getColorARGB ();
+        final boolean newIsLoopEnabled = clip.isLoopEnabled ();
+        final double newLoopStart = clip.getLoopStart ();
+        final double newLoopLength = clip.getLoopLength ();
+        final double newPlayStart = clip.getPlayStart ();
+        final double newPlayEnd = clip.getPlayEnd ();
+
+        if (newStepDataVersion == this.stepDataVersion && quartersPerMeasure == this.quartersPerMeasure && newNumSteps == this.numSteps && newStepLength == this.stepLength && newEditPage == this.editPage && newColorARGB == this.colorARGB && newIsLoopEnabled == this.isLoopEnabled && newLoopStart == this.loopStart && newLoopLength == this.loopLength && newPlayStart == this.playStart && newPlayEnd == this.playEnd)
+            return this.version;
+
+        final boolean isMeasureChange = quartersPerMeasure != this.quartersPerMeasure || newNumSteps != this.numSteps || newStepLength != this.stepLength || newEditPage != this.editPage;
+        final boolean isNoteChange = newStepDataVersion != this.stepDataVersion || newNumSteps != this.numSteps;
+
+        this.stepDataVersion = newStepDataVersion;
+        this.quartersPerMeasure = quartersPerMeasure;
+        this.numSteps = newNumSteps;
+        this.stepLength = newStepLength;
+        this.editPage = newEditPage;
+        this.colorARGB = newColorARGB;
+        this.isLoopEnabled = newIsLoopEnabled;
+        this.loopStart = newLoopStart;
+        this.loopLength = newLoopLength;
+        this.playStart = newPlayStart;
+        this.playEnd = newPlayEnd;
+
+        if (isMeasureChange)
+            this.collectMeasureTexts ();
+        if (isNoteChange)
+            this.collectNotes (clip);
+
+        this.version++;
+        return this.version;
+    }
+
+
+    /**
+     * Draw the clip.
+     *
+     * @param info The graphics info with the bounds of the clip
+     * @param playStep The step of the play cursor, -1 if the clip is not playing
+     */
+    public void draw (final IGraphicsInfo info, final int playStep)
+    {
+        final IGraphicsContext gc = info.getContext ();
+        final IBounds bounds = info.getBounds ();
+        final double left = bounds.getLeft ();
+        final double width = bounds.getWidth ();
+        final double height = bounds.getHeight ();
+
+        final IBitmap bitmap = this.getLayer ((int) Math.ceil (width), (int) Math.ceil (height));
+        if (bitmap == null)
+            this.drawLayer (gc, left, width, height);
+        else
+        {
+            if (bitmap != this.renderedLayer || this.renderedVersion != this.version)
+            {
+                final ColorEx borderColor = info.getConfiguration ().getColorBorder ();
+                bitmap.render (layerContext -> {
+                    layerContext.fillRectangle (0, 0, bitmap.getWidth (), bitmap.getHeight (), borderColor);
+                    this.drawLayer (layerContext, 0, width, height);
+                });
+                this.renderedLayer = bitmap;
+                this.renderedVersion = this.version;
+            }
+            gc.drawImage (bitmap, left, bounds.getTop ());
+        }
+
+        // Draw the play cursor
+        if (playStep >= 0)
+            gc.fillRectangle (left + playStep * width / this.numSteps - 1, 0, 3, height, ColorEx.WHITE);
+    }
+
+
+    /**
+     * Draw everything except the play cursor.
+     *
+     * @param gc The graphics context
+     * @param left The left position of the clip
+     * @param width The width of the clip
+     * @param height The height of the clip
+     */
+    private void drawLayer (final IGraphicsContext gc, final double left, final double width, final double height)
+    {
+        final int top = HEADER_HEIGHT;
+        final double noteAreaHeight = height - top;
+
+        // Draw the background
+        gc.fillRectangle (left, top, width, noteAreaHeight, HEADER_BACKGROUND);
+
+        // Draw the loop, if any and ...
+        final double pageLength = this.numSteps * this.stepLength;
+        final double startPos = this.editPage * pageLength;
+        final double endPos = (this.editPage + 1) * pageLength;
+        final int len = top - 1;
+        if (this.isLoopEnabled && this.loopStart < endPos && this.loopStart + this.loopLength > startPos)
+        {
+            // ... the loop is visible in the current page
+            final double start = Math.max (0, this.loopStart - startPos);
+            final double end = Math.min (endPos, this.loopStart + this.loopLength) - startPos;
+            final double x = left + width * start / pageLength;
+            final double w = width * end / pageLength - x + left;
+            // The header loop
+            gc.fillRectangle (x + 1, 0, w, len, LOOP_BACKGROUND);
+
+            // Background in note area
+            gc.fillRectangle (x + 1, top, w, noteAreaHeight, NOTE_BACKGROUND);
+        }
+
+        // Draw play start in header
+        final ColorEx lineColor = ColorEx.fromARGB (this.colorARGB);
+        if (this.playStart >= startPos && this.playStart <= endPos)
+        {
+            final double x = left + width * (this.playStart - startPos) / pageLength;
+            gc.fillTriangle (x + 1, 0, x + 1 + len, len / 2.0, x + 1, len, lineColor);
+        }
+        // Draw play end in header
+        if (this.playEnd >= startPos && this.playEnd <= endPos)
+        {
+            final double x = left + width * (this.playEnd - startPos) / pageLength;
+            gc.fillTriangle (x + 1, 0, x + 1, len, x + 1 - top, len / 2.0, lineColor);
+        }
+
+        // Draw dividers and measure texts
+        final double stepWidth = width / this.numSteps;
+        for (int step = 0; step <= this.numSteps; step++)
+        {
+            final double x = left + step * stepWidth;
+            gc.fillRectangle (x, top, 1, noteAreaHeight, DIVIDERS_COLOR);
+            if (step % 4 == 0)
+                gc.drawTextInHeight (this.measureTexts[step / 4], x, 0, top - 1.0, ColorEx.WHITE, top);
+        }
+
+        // Draw the notes
+        if (this.lowerRowWithData == -1)
+            return;
+        final double stepHeight = noteAreaHeight / this.range;
+        final double fontSize = gc.calculateFontSize (stepHeight, stepWidth);
+        final ColorEx textColor = ColorEx.calcContrastColor (lineColor);
+
+        for (int row = 0; row < this.range; row++)
+            gc.fillRectangle (left, top + (this.range - row - 1) * stepHeight, width, 1, DIVIDERS_COLOR);
+
+        for (int i = 0; i < this.numNotes; i++)
+        {
+            double x = left + this.noteSteps[i] * stepWidth - 1;
+            double w = stepWidth + 2;
+            final boolean isStart = this.noteStarts[i];
+            if (isStart)
+            {
+                x += 2;
+                w -= 2;
+            }
+
+            final double y = top + (this.range - this.noteRows[i] - 1) * stepHeight + 2;
+            gc.strokeRectangle (x, y, w, stepHeight - 2, ColorEx.BLACK);
+            gc.fillRectangle (x + (isStart ? 0 : -2), y, w - 1 + (isStart ? 0 : 2), stepHeight - 3, this.colorARGB);
+
+            if (isStart && fontSize > 0)
+                gc.drawTextInBounds (this.noteTexts[i], x, y, w - 1, stepHeight - 3, Align.CENTER, textColor, fontSize);
+        }
+    }
+
+
+    private void collectMeasureTexts ()
+    {
+        final double startPos = this.editPage * this.numSteps * this.stepLength;
+        this.measureTexts = new String [this.numSteps / 4 + 1];
+        for (int i = 0; i < this.measureTexts.length; i++)
+            this.measureTexts[i] = StringUtils.formatMeasures (this.quartersPerMeasure, startPos + i * 4 * this.stepLength, 1);
+    }
+
+
+    private void collectNotes (final INoteClip clip)
+    {
+        this.numNotes = 0;
+        this.lowerRowWithData = clip.getLowerRowWithData ();
+        if (this.lowerRowWithData == -1)
+            return;
+        this.range = 1 + clip.getUpperRowWithData () - this.lowerRowWithData;
+
+        for (int row = 0; row < this.range; row++)
+        {
+            final int note = this.lowerRowWithData + row;
+            for (int step = 0; step < this.numSteps; step++)
+            {
+                final int stepState = clip.getStep (step, note);
+                if (stepState != INoteClip.NOTE_OFF)
+                    this.addNote (step, row, note, stepState == INoteClip.NOTE_START);
+            }
+        }
+    }
+
+
+    private void addNote (final int step, final int row, final int note, final boolean isStart)
+    {
+        if (this.numNotes == this.noteSteps.length)
+        {
+            final int newSize = 2 * this.numNotes;
+            this.noteSteps = Arrays.copyOf (this.noteSteps, newSize);
+            this.noteRows = Arrays.copyOf (this.noteRows, newSize);
+            this.noteStarts = Arrays.copyOf (this.noteStarts, newSize);
+            this.noteTexts = Arrays.copyOf (this.noteTexts, newSize);
+        }
+        this.noteSteps[this.numNotes] = step;
+        this.noteRows[this.numNotes] = row;
+        this.noteStarts[this.numNotes] = isStart;
+        this.noteTexts[this.numNotes] = isStart ? Scales.formatDrumNote (note) : null;
+        this.numNotes++;
+    }
+
+
+    /**
+     * Get the layer bitmap. Requests a new one from the host if there is none or if it has a
+     * different size.
+     *
+     * @param width The required width
+     * @param height The required height
+     * @return The layer or null if not available yet
+     */
+    private IBitmap getLayer (final int width, final int height)
+    {
+        final IBitmap bitmap = this.layer;
+        if (bitmap != null && (int) bitmap.getWidth () == width && bitmap.getHeight () == height)
+            return bitmap;
+
+        if (!this.isLayerRequested.getAndSet (true))
+        {
+            this.host.scheduleTask ( () -> {
+                this.layer = this.host.createBitmap (width, height);
+                this.isLayerRequested.set (false);
+            }, 0);
+        }
+        return null;
+    }
+}
@@ -47,8 +47,8 @@ public class OptionsComponent implements IComponent
      */
     public OptionsComponent (final String headerTop, final String menuTopName, final boolean isMenuTopSelected, final double [] menuTopColor, final String headerBottom, final String menuBottomName, final boolean isMenuBottomSelected, final double [] menuBottomColor, final boolean useSmallTopMenu, final boolean isBottomHeaderSelected)
     {
-        final ColorEx topColor = menuTopColor == null ? null : new ColorEx (menuTopColor[0], menuTopColor[1], menuTopColor[2]);
-        final ColorEx bottomColor = menuBottomColor == null ? null : new ColorEx (menuBottomColor[0], menuBottomColor[1], menuBottomColor[2]);
+        final ColorEx topColor = menuTopColor == null ? null : ColorEx.fromRGB (menuTopColor);
+        final ColorEx bottomColor = menuBottomColor == null ? null : ColorEx.fromRGB (menuBottomColor);
 
         this.header = new LabelComponent (menuTopName, null, topColor, isMenuTopSelected, true, useSmallTopMenu ? LabelLayout.SMALL_HEADER : LabelLayout.PLAIN);
         this.footer = new LabelComponent (menuBottomName, null, bottomColor, isMenuBottomSelected, true, LabelLayout.PLAIN);
@@ -0,0 +1,205 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics.display;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.controller.display.AbstractGraphicDisplay;
+import de.mossgrabers.framework.daw.resource.ChannelType;
+import de.mossgrabers.framework.graphics.canvas.component.ChannelComponent;
+import de.mossgrabers.framework.graphics.canvas.component.IComponent;
+
+
+/**
+ * A retained channel element with volume, VU, panorama, mute, solo and arm.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ChannelElement extends RetainedComponent
+{
+    /** The edit type has changed. */
+    public static final int FIELD_EDIT_TYPE = 1;
+    /** The menu has changed. */
+    public static final int FIELD_MENU      = 2;
+    /** The channel name, type, color or selection state has changed. */
+    public static final int FIELD_CHANNEL   = 4;
+    /** The volume has changed. */
+    public static final int FIELD_VOLUME    = 8;
+    /** The panorama has changed. */
+    public static final int FIELD_PAN       = 16;
+    /** The VU meter has changed. */
+    public static final int FIELD_VU        = 32;
+    /** The mute, solo, arm or crossfader state has changed. */
+    public static final int FIELD_STATES    = 64;
+
+    private int             editType        = ChannelComponent.EDIT_TYPE_ALL;
+    private String          menuName;
+    private boolean         isMenuSelected;
+    private String          name;
+    private ChannelType     type;
+    private ColorEx         color;
+    private boolean         isSelected;
+    private boolean         isActive;
+    private int             volume;
+    private int             modulatedVolume;
+    private String          volumeText;
+    private int             pan;
+    private int             modulatedPan;
+    private String          panText;
+    private int             vuLeft;
+    private int             vuRight;
+    private boolean         isMute;
+    private boolean         isSolo;
+    private boolean         isArm;
+    private int             crossfadeMode;
+
+
+    /**
+     * Set what to edit.
+     *
+     * @param gridElementType One of the AbstractGraphicDisplay.GRID_ELEMENT_CHANNEL_* constants
+     */
+    public void setEditType (final int gridElementType)
+    {
+        final int et;
+        switch (gridElementType)
+        {
+            case AbstractGraphicDisplay.GRID_ELEMENT_CHANNEL_VOLUME:
+                et = ChannelComponent.EDIT_TYPE_VOLUME;
+                break;
+            case AbstractGraphicDisplay.GRID_ELEMENT_CHANNEL_PAN:
+                et = ChannelComponent.EDIT_TYPE_PAN;
+                break;
+            case AbstractGraphicDisplay.GRID_ELEMENT_CHANNEL_CROSSFADER:
+                et = ChannelComponent.EDIT_TYPE_CROSSFADER;
+                break;
+            default:
+                et = ChannelComponent.EDIT_TYPE_ALL;
+                break;
+        }
+        if (this.editType == et)
+            return;
+        this.editType = et;
+        this.markChanged (FIELD_EDIT_TYPE);
+    }
+
+
+    /**
+     * Set the top menu.
+     *
+     * @param menuName The text for the menu
+     * @param isMenuSelected True if the menu is selected
+     */
+    public void setMenu (final String menuName, final boolean isMenuSelected)
+    {
+        if (this.isMenuSelected == isMenuSelected && !isDifferent (this.menuName, menuName))
+            return;
+        this.menuName = menuName;
+        this.isMenuSelected = isMenuSelected;
+        this.markChanged (FIELD_MENU);
+    }
+
+
+    /**
+     * Set the channel information.
+     *
+     * @param name The name of the channel
+     * @param type The type of the channel
+     * @param rgb The color of the channel
+     * @param isSelected True if the channel is selected
+     * @param isActive True if the channel is activated
+     */
+    public void setChannel (final String name, final ChannelType type, final double [] rgb, final boolean isSelected, final boolean isActive)
+    {
+        final ColorEx c = updateColor (this.color, rgb);
+        if (this.color == c && this.type == type && this.isSelected == isSelected && this.isActive == isActive && !isDifferent (this.name, name))
+            return;
+        this.name = name;
+        this.type = type;
+        this.color = c;
+        this.isSelected = isSelected;
+        this.isActive = isActive;
+        this.markChanged (FIELD_CHANNEL);
+    }
+
+
+    /**
+     * Set the volume.
+     *
+     * @param volume The value of the volume
+     * @param modulatedVolume The modulated value of the volume, -1 if not modulated
+     * @param volumeText The textual form of the volumes value
+     */
+    public void setVolume (final int volume, final int modulatedVolume, final String volumeText)
+    {
+        if (this.volume == volume && this.modulatedVolume == modulatedVolume && !isDifferent (this.volumeText, volumeText))
+            return;
+        this.volume = volume;
+        this.modulatedVolume = modulatedVolume;
+        this.volumeText = volumeText;
+        this.markChanged (FIELD_VOLUME);
+    }
+
+
+    /**
+     * Set the panorama.
+     *
+     * @param pan The value of the panorama
+     * @param modulatedPan The modulated value of the panorama, -1 if not modulated
+     * @param panText The textual form of the panorama
+     */
+    public void setPan (final int pan, final int modulatedPan, final String panText)
+    {
+        if (this.pan == pan && this.modulatedPan == modulatedPan && !isDifferent (this.panText, panText))
+            return;
+        this.pan = pan;
+        this.modulatedPan = modulatedPan;
+        this.panText = panText;
+        this.markChanged (FIELD_PAN);
+    }
+
+
+    /**
+     * Set the VU meter values.
+     *
+     * @param vuLeft The value of the VU of the left channel
+     * @param vuRight The value of the VU of the right channel
+     */
+    public void setVu (final int vuLeft, final int vuRight)
+    {
+        if (this.vuLeft == vuLeft && this.vuRight == vuRight)
+            return;
+        this.vuLeft = vuLeft;
+        this.vuRight = vuRight;
+        this.markChanged (FIELD_VU);
+    }
+
+
+    /**
+     * Set the channel states.
+     *
+     * @param isMute True if muted
+     * @param isSolo True if soloed
+     * @param isArm True if recording is armed
+     * @param crossfadeMode The crossfader mode: 0 = A, 1 = AB, B = 2, -1 turns it off
+     */
+    public void setStates (final boolean isMute, final boolean isSolo, final boolean isArm, final int crossfadeMode)
+    {
+        if (this.isMute == isMute && this.isSolo == isSolo && this.isArm == isArm && this.crossfadeMode == crossfadeMode)
+            return;
+        this.isMute = isMute;
+        this.isSolo = isSolo;
+        this.isArm = isArm;
+        this.crossfadeMode = crossfadeMode;
+        this.markChanged (FIELD_STATES);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected IComponent createComponent ()
+    {
+        return new ChannelComponent (this.editType, this.menuName, this.isMenuSelected, this.name, this.color, this.isSelected, this.type, this.volume, this.modulatedVolume, this.volumeText, this.pan, this.modulatedPan, this.panText, this.vuLeft, this.vuRight, this.isMute, this.isSolo, this.isArm, this.isActive, this.crossfadeMode);
+    }
+}
@@ -0,0 +1,117 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics.display;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.graphics.canvas.component.IComponent;
+import de.mossgrabers.framework.graphics.canvas.component.ParameterComponent;
+
+
+/**
+ * A retained parameter element with a fader and text for the value and a device footer.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ParameterElement extends RetainedComponent
+{
+    /** The menu has changed. */
+    public static final int FIELD_MENU    = 1;
+    /** The footer has changed. */
+    public static final int FIELD_FOOTER  = 2;
+    /** The parameter name has changed. */
+    public static final int FIELD_NAME    = 4;
+    /** The parameter value has changed. */
+    public static final int FIELD_VALUE   = 8;
+    /** The touch state has changed. */
+    public static final int FIELD_TOUCHED = 16;
+
+    private String          menuName;
+    private boolean         isMenuSelected;
+    private String          footerName;
+    private String          deviceName;
+    private ColorEx         color;
+    private boolean         isSelected;
+    private String          parameterName;
+    private int             parameterValue;
+    private int             modulatedParameterValue;
+    private String          parameterValueText;
+    private boolean         isTouched;
+
+
+    /**
+     * Set the top menu.
+     *
+     * @param menuName The text for the menu
+     * @param isMenuSelected True if the menu is selected
+     */
+    public void setMenu (final String menuName, final boolean isMenuSelected)
+    {
+        if (this.isMenuSelected == isMenuSelected && !isDifferent (this.menuName, menuName))
+            return;
+        this.menuName = menuName;
+        this.isMenuSelected = isMenuSelected;
+        this.markChanged (FIELD_MENU);
+    }
+
+
+    /**
+     * Set the footer.
+     *
+     * @param footerName The text of the footer
+     * @param deviceName The name of the device, selects the icon
+     * @param rgb The color of the footer
+     * @param isSelected True if the footer is selected
+     */
+    public void setFooter (final String footerName, final String deviceName, final double [] rgb, final boolean isSelected)
+    {
+        final ColorEx c = updateColor (this.color, rgb);
+        if (this.color == c && this.isSelected == isSelected && !isDifferent (this.footerName, footerName) && !isDifferent (this.deviceName, deviceName))
+            return;
+        this.footerName = footerName;
+        this.deviceName = deviceName;
+        this.color = c;
+        this.isSelected = isSelected;
+        this.markChanged (FIELD_FOOTER);
+    }
+
+
+    /**
+     * Set the parameter.
+     *
+     * @param name The name of the parameter
+     * @param value The value of the fader
+     * @param modulatedValue The modulated value of the fader, -1 if not modulated
+     * @param valueText The textual form of the faders value
+     * @param isTouched True if touched
+     */
+    public void setParameter (final String name, final int value, final int modulatedValue, final String valueText, final boolean isTouched)
+    {
+        if (isDifferent (this.parameterName, name))
+        {
+            this.parameterName = name;
+            this.markChanged (FIELD_NAME);
+        }
+        if (this.parameterValue != value || this.modulatedParameterValue != modulatedValue || isDifferent (this.parameterValueText, valueText))
+        {
+            this.parameterValue = value;
+            this.modulatedParameterValue = modulatedValue;
+            this.parameterValueText = valueText;
+            this.markChanged (FIELD_VALUE);
+        }
+        if (this.isTouched != isTouched)
+        {
+            this.isTouched = isTouched;
+            this.markChanged (FIELD_TOUCHED);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected IComponent createComponent ()
+    {
+        return new ParameterComponent (this.menuName, this.isMenuSelected, this.footerName, this.deviceName, this.color, this.isSelected, this.parameterName, this.parameterValue, this.modulatedParameterValue, this.parameterValueText, this.isTouched);
+    }
+}
@@ -0,0 +1,102 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics.display;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.graphics.canvas.component.IComponent;
+
+
+/**
+ * Base class for a retained display element. A mode creates it once and updates its fields with
+ * typed setters on every flush. Setters only record a change if a value is different. The canvas
+ * component is only re-created if a field changed, otherwise the same component instance is
+ * returned, which allows the display to detect unchanged columns by identity.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public abstract class RetainedComponent
+{
+    private int        changedFields = -1;
+    private IComponent component;
+
+
+    /**
+     * Get the canvas component which represents the current state. Re-creates it if a field has
+     * changed since the last call.
+     *
+     * @return The component
+     */
+    public IComponent getComponent ()
+    {
+        if (this.component == null || this.changedFields != 0)
+        {
+            this.component = this.createComponent ();
+            this.changedFields = 0;
+        }
+        return this.component;
+    }
+
+
+    /**
+     * Get the fields which changed since the component was created the last time.
+     *
+     * @return The field flags, defined by the sub-class, 0 if nothing changed
+     */
+    public int getChangedFields ()
+    {
+        return this.changedFields;
+    }
+
+
+    /**
+     * Create the canvas component from the current state.
+     *
+     * @return The component
+     */
+    protected abstract IComponent createComponent ();
+
+
+    /**
+     * Mark a field as changed.
+     *
+     * @param field The flag of the field
+     */
+    protected void markChanged (final int field)
+    {
+        this.changedFields |= field;
+    }
+
+
+    /**
+     * Compare two texts.
+     *
+     * @param text1 The first text, may be null
+     * @param text2 The second text, may be null
+     * @return True if different
+     */
+    protected static boolean isDifferent (final String text1, final String text2)
+    {
+        return text1 == null ? text2 != null : !text1.equals (text2);
+    }
+
+
+    /**
+     * Get a color for the given RGB values. Returns the given color if it has the same values,
+     * otherwise the cached color instance.
+     *
+     * @param color The current color, may be null
+     * @param rgb The red, green and blue values (0..1), may be null
+     * @return The matching color, null if rgb is null
+     */
+    protected static ColorEx updateColor (final ColorEx color, final double [] rgb)
+    {
+        if (rgb == null)
+            return null;
+        final int argb = ColorEx.toARGB (rgb);
+        if (color != null && color.toARGB () == argb)
+            return color;
+        return ColorEx.fromARGB (argb);
+    }
+}
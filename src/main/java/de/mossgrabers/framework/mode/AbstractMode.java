@@ -9,8 +9,13 @@ import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.daw.IBank;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IItem;
+import de.mossgrabers.framework.observer.ModelFacet;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 
 /**
  * Abstract class for all modes.
@@ -23,21 +28,22 @@ import de.mossgrabers.framework.utils.ButtonEvent;
 public abstract class AbstractMode<S extends IControlSurface<C>, C extends Configuration> implements Mode
 {
     /** Color identifier for a mode button which is off. */
-    public static final String BUTTON_COLOR_OFF = "BUTTON_COLOR_OFF";
+    public static final String    BUTTON_COLOR_OFF = "BUTTON_COLOR_OFF";
     /** Color identifier for a mode button which is on. */
-    public static final String BUTTON_COLOR_ON  = "BUTTON_COLOR_ON";
+    public static final String    BUTTON_COLOR_ON  = "BUTTON_COLOR_ON";
     /** Color identifier for a mode button which is hilighted. */
-    public static final String BUTTON_COLOR_HI  = "BUTTON_COLOR_HI";
+    public static final String    BUTTON_COLOR_HI  = "BUTTON_COLOR_HI";
     /** Color identifier for a mode button which is on (second row). */
-    public static final String BUTTON_COLOR2_ON = "BUTTON_COLOR2_ON";
+    public static final String    BUTTON_COLOR2_ON = "BUTTON_COLOR2_ON";
     /** Color identifier for a mode button which is hilighted (second row). */
-    public static final String BUTTON_COLOR2_HI = "BUTTON_COLOR2_HI";
+    public static final String    BUTTON_COLOR2_HI = "BUTTON_COLOR2_HI";
 
-    private final String       name;
-    protected final S          surface;
-    protected final IModel     model;
-    protected boolean          isTemporary;
-    protected boolean          isAbsolute;
+    private final String          name;
+    protected final S             surface;
+    protected final IModel        model;
+    protected boolean             isTemporary;
+    protected boolean             isAbsolute;
+    private final Set<ModelFacet> requiredFacets   = EnumSet.noneOf (ModelFacet.class);
 
 
     /**
@@ -97,6 +103,25 @@ public abstract class AbstractMode<S extends IControlSurface<C>, C extends Confi
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<ModelFacet> getRequiredFacets ()
+    {
+        return this.requiredFacets;
+    }
+
+
+    /**
+     * Declare parts of the model which are read by this mode.
+     *
+     * @param facets The facets
+     */
+    protected void requireFacets (final ModelFacet... facets)
+    {
+        Collections.addAll (this.requiredFacets, facets);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void updateDisplay ()
@@ -105,6 +130,14 @@ public abstract class AbstractMode<S extends IControlSurface<C>, C extends Confi
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void captureSnapshot ()
+    {
+        // Intentionally empty
+    }
+
+
     /**
      * Get if absolute or relative value changing is enabled for the mode.
      *
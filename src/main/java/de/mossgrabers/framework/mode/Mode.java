@@ -4,8 +4,11 @@
 
 package de.mossgrabers.framework.mode;
 
+import de.mossgrabers.framework.observer.ModelFacet;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
+import java.util.Set;
+
 
 /**
  * Interface to a mode. A mode has a number of knobs, one or two rows of buttons to navigate it and
@@ -37,6 +40,15 @@ public interface Mode
     void onDeactivate ();
 
 
+    /**
+     * Get the parts of the model which are read by this mode. Their observers only need to be
+     * subscribed while the mode is active.
+     *
+     * @return The facets
+     */
+    Set<ModelFacet> getRequiredFacets ();
+
+
     /**
      * Get if this is a mode which is only temporarily displayed.
      *
@@ -45,6 +57,13 @@ public interface Mode
     boolean isTemporary ();
 
 
+    /**
+     * Copy the values of the model, which are required to update the display, into a snapshot.
+     * Called on the host thread before the flush is executed on the flush thread.
+     */
+    void captureSnapshot ();
+
+
     /**
      * Update the display.
      */
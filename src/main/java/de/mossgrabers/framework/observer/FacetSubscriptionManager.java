@@ -0,0 +1,166 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.observer;
+
+import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.mode.Mode;
+import de.mossgrabers.framework.mode.ModeManager;
+import de.mossgrabers.framework.view.View;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * Subscribes the observers of model facets only while an active mode or view of one of the
+ * registered surfaces requires them. Facets which are no longer required are unsubscribed after a
+ * grace period, which prevents re-subscribing when quickly switching back and forth between modes.
+ * Only the facets handed to the constructor are managed, all others stay subscribed.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class FacetSubscriptionManager
+{
+    /** The time after which a facet, which is no longer required, is unsubscribed. */
+    public static final int                 GRACE_PERIOD = 2000;
+
+    private final IModel                    model;
+    private final IHost                     host;
+    private final Set<ModelFacet>           managedFacets;
+    private final Set<ModelFacet>           subscribed   = EnumSet.noneOf (ModelFacet.class);
+    private final Map<ModelFacet, Integer>  releaseIDs   = new EnumMap<> (ModelFacet.class);
+    private final List<IControlSurface<?>>  surfaces     = new ArrayList<> ();
+
+
+    /**
+     * Constructor. All managed facets are expected to be subscribed, which is the default of the
+     * model.
+     *
+     * @param model The model
+     * @param host The host
+     * @param managedFacets The facets to subscribe only on demand
+     */
+    public FacetSubscriptionManager (final IModel model, final IHost host, final Set<ModelFacet> managedFacets)
+    {
+        this.model = model;
+        this.host = host;
+        this.managedFacets = EnumSet.copyOf (managedFacets);
+        this.subscribed.addAll (this.managedFacets);
+        for (final ModelFacet facet: this.managedFacets)
+            this.releaseIDs.put (facet, Integer.valueOf (0));
+    }
+
+
+    /**
+     * Register a surface. The required facets are updated whenever its active mode or view
+     * changes.
+     *
+     * @param surface The surface
+     */
+    public void register (final IControlSurface<?> surface)
+    {
+        this.surfaces.add (surface);
+        surface.getModeManager ().addModeListener ( (previousModeId, activeModeId) -> this.update ());
+        surface.getViewManager ().addViewChangeListener ( (previousViewId, activeViewId) -> this.update ());
+    }
+
+
+    /**
+     * Subscribe all facets which are required by the active modes and views. Release all other
+     * managed facets after the grace period.
+     */
+    public void update ()
+    {
+        final Set<ModelFacet> required = this.getRequiredFacets ();
+        for (final ModelFacet facet: this.managedFacets)
+        {
+            if (required.contains (facet))
+            {
+                // Cancel a pending release
+                this.releaseIDs.put (facet, Integer.valueOf (this.releaseIDs.get (facet).intValue () + 1));
+                this.setSubscribed (facet, true);
+            }
+            else if (this.subscribed.contains (facet))
+                this.scheduleRelease (facet);
+        }
+    }
+
+
+    /**
+     * Unsubscribe all managed facets, which are currently not required, without waiting for the
+     * grace period.
+     */
+    public void releaseUnused ()
+    {
+        final Set<ModelFacet> required = this.getRequiredFacets ();
+        for (final ModelFacet facet: this.managedFacets)
+        {
+            if (!required.contains (facet))
+                this.setSubscribed (facet, false);
+        }
+    }
+
+
+    /**
+     * Check if a facet is currently subscribed.
+     *
+     * @param facet The facet
+     * @return True if subscribed
+     */
+    public boolean isSubscribed (final ModelFacet facet)
+    {
+        return !this.managedFacets.contains (facet) || this.subscribed.contains (facet);
+    }
+
+
+    private void scheduleRelease (final ModelFacet facet)
+    {
+        final int releaseID = this.releaseIDs.get (facet).intValue () + 1;
+        this.releaseIDs.put (facet, Integer.valueOf (releaseID));
+        this.host.scheduleTask ( () -> {
+            // Only release if the facet was not required again in the meantime
+            if (this.releaseIDs.get (facet).intValue () == releaseID && !this.getRequiredFacets ().contains (facet))
+                this.setSubscribed (facet, false);
+        }, GRACE_PERIOD);
+    }
+
+
+    private void setSubscribed (final ModelFacet facet, final boolean enable)
+    {
+        if (this.subscribed.contains (facet) == enable)
+            return;
+        final ObserverManagement observerManagement = facet.getObserverManagement (this.model);
+        if (observerManagement == null)
+            return;
+        observerManagement.enableObservers (enable);
+        if (enable)
+            this.subscribed.add (facet);
+        else
+            this.subscribed.remove (facet);
+    }
+
+
+    private Set<ModelFacet> getRequiredFacets ()
+    {
+        final Set<ModelFacet> required = EnumSet.noneOf (ModelFacet.class);
+        for (final IControlSurface<?> surface: this.surfaces)
+        {
+            final ModeManager modeManager = surface.getModeManager ();
+            final Mode mode = modeManager.getMode (modeManager.getActiveOrTempModeId ());
+            if (mode != null)
+                required.addAll (mode.getRequiredFacets ());
+            final View view = surface.getViewManager ().getActiveView ();
+            if (view != null)
+                required.addAll (view.getRequiredFacets ());
+        }
+        return required;
+    }
+}
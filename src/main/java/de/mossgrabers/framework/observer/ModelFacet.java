@@ -0,0 +1,57 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.observer;
+
+import de.mossgrabers.framework.daw.IModel;
+
+
+/**
+ * Parts of the model which are only needed while a specific mode or view is active. Modes and views
+ * declare the facets they read, which allows to unsubscribe the observers of all other facets.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public enum ModelFacet
+{
+    /** The panel layout and options of the arranger. */
+    ARRANGER,
+    /** The panel layout and options of the mixer. */
+    MIXER,
+    /** The groove parameters. */
+    GROOVE,
+    /** The browser columns and results. */
+    BROWSER,
+    /** The markers of the arranger. */
+    MARKERS,
+    /** The user parameters. */
+    USER_PARAMETERS;
+
+
+    /**
+     * Get the part of the model which is represented by this facet.
+     *
+     * @param model The model
+     * @return The part of the model
+     */
+    public ObserverManagement getObserverManagement (final IModel model)
+    {
+        switch (this)
+        {
+            case ARRANGER:
+                return model.getArranger ();
+            case MIXER:
+                return model.getMixer ();
+            case GROOVE:
+                return model.getGroove ();
+            case BROWSER:
+                return model.getBrowser ();
+            case MARKERS:
+                return model.getMarkerBank ();
+            case USER_PARAMETERS:
+            default:
+                return model.getUserParameterBank ();
+        }
+    }
+}
@@ -0,0 +1,229 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.replay;
+
+import de.mossgrabers.framework.configuration.ISettingsUI;
+import de.mossgrabers.framework.controller.IControllerSetup;
+import de.mossgrabers.framework.controller.ISetupFactory;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.midi.MidiCaptureReader;
+import de.mossgrabers.framework.daw.midi.MidiEventRing;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.reflect.Constructor;
+import java.util.concurrent.locks.LockSupport;
+
+
+/**
+ * Replays a midi capture (see MidiCaptureRecorder) into a controller setup, which runs without a
+ * DAW. The input events of the capture are delivered to the inputs of the controller, each
+ * followed by a flush, like in the DAW. The output events of the capture are not replayed but their
+ * size is reported to compare it with the output of the replay. The scheduled tasks of the
+ * controller run on the virtual time of the capture, therefore long presses and timeouts behave
+ * the same at all replay speeds.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiReplayer
+{
+    /** Replay as fast as possible. */
+    public static final double     MAX_SPEED   = 0;
+
+    /** Run the tasks which are scheduled after the last event for this time, e.g. long presses. */
+    private static final long      TAIL_TIME   = 1000000000L;
+    /** Wait for the flush of the last event, which runs asynchronously. */
+    private static final long      SETTLE_TIME = 200;
+
+    private final SetupCreator     creator;
+    private final PrintStream      out;
+    private final boolean          isVerbose;
+    private final ReplaySettingsUI settings    = new ReplaySettingsUI ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param creator Creates the controller setup for each replay
+     * @param out Where to print the log of the controller to
+     * @param isVerbose If false only errors of the controller are printed
+     */
+    public MidiReplayer (final SetupCreator creator, final PrintStream out, final boolean isVerbose)
+    {
+        this.creator = creator;
+        this.out = out;
+        this.isVerbose = isVerbose;
+    }
+
+
+    /**
+     * Get the settings of the controller. Allows to set initial values before a replay.
+     *
+     * @return The settings
+     */
+    public ReplaySettingsUI getSettings ()
+    {
+        return this.settings;
+    }
+
+
+    /**
+     * Create a new instance of the controller setup and replay a capture into it.
+     *
+     * @param captureFile The capture
+     * @param speed The speed of the replay, 1 is realtime, 2 is twice as fast, MAX_SPEED replays
+     *            without waiting
+     * @return The report
+     * @throws IOException Could not read the capture
+     */
+    public ReplayReport replay (final File captureFile, final double speed) throws IOException
+    {
+        final ReplayHost host = new ReplayHost (this.out, this.isVerbose);
+        final ReplayMidiAccess midiAccess = new ReplayMidiAccess ();
+        final IControllerSetup<?, ?> setup = this.creator.create (host, new ReplaySetupFactory (host, midiAccess), this.settings, this.settings);
+
+        final ReplayReport report = new ReplayReport ();
+        try (final MidiCaptureReader reader = new MidiCaptureReader (captureFile))
+        {
+            try
+            {
+                setup.init ();
+            }
+            catch (final RuntimeException ex)
+            {
+                host.error ("Crash during initialization.", ex);
+            }
+            try
+            {
+                // Like in the DAW, the observers of the settings are notified after the initialization
+                this.settings.notifyObservers ();
+            }
+            catch (final RuntimeException ex)
+            {
+                host.error ("Crash during the notification of the settings.", ex);
+            }
+
+            try
+            {
+                setup.startup ();
+                setup.flush ();
+            }
+            catch (final RuntimeException ex)
+            {
+                host.error ("Crash during startup.", ex);
+            }
+            host.runTasks (0);
+
+            final long start = System.nanoTime ();
+            long lastTime = 0;
+            while (reader.next ())
+            {
+                final long time = reader.getTime ();
+                lastTime = time;
+
+                final int type = reader.getType ();
+                final int baseType = type & MidiEventRing.TYPE_MASK;
+                if (baseType == MidiEventRing.TYPE_SHORT_OUT || baseType == MidiEventRing.TYPE_SYSEX_OUT)
+                {
+                    report.addRecordedOutput (reader.getSysex ());
+                    continue;
+                }
+
+                if (speed > 0)
+                    waitUntil (start + (long) (time / speed));
+                host.runTasks (time);
+
+                final ReplayMidiInput input = midiAccess.getInput (MidiEventRing.getPort (type));
+                final long eventStart = System.nanoTime ();
+                try
+                {
+                    final boolean isHandled;
+                    if (input == null)
+                        isHandled = false;
+                    else if (baseType == MidiEventRing.TYPE_SHORT_IN)
+                        isHandled = input.deliverShort (reader.getStatus (), reader.getData1 (), reader.getData2 ());
+                    else
+                        isHandled = input.deliverSysex (reader.getSysex ());
+
+                    if (!isHandled)
+                    {
+                        report.addUnhandled ();
+                        continue;
+                    }
+                    setup.flush ();
+                }
+                catch (final RuntimeException ex)
+                {
+                    host.error ("Crash during replay.", ex);
+                }
+                report.addEvent (System.nanoTime () - eventStart);
+            }
+
+            host.runTasks (lastTime + TAIL_TIME);
+            report.setDuration (System.nanoTime () - start, lastTime);
+
+            Thread.sleep (SETTLE_TIME);
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread ().interrupt ();
+        }
+        finally
+        {
+            // Stops the threads of the controller
+            setup.exit ();
+        }
+
+        report.setResults (midiAccess.getOutputs (), host.getNumErrors (), host.getNumCrashes ());
+        return report;
+    }
+
+
+    private static void waitUntil (final long time)
+    {
+        long remaining = time - System.nanoTime ();
+        while (remaining > 0)
+        {
+            LockSupport.parkNanos (remaining);
+            remaining = time - System.nanoTime ();
+        }
+    }
+
+
+    /**
+     * Replay a capture from the command line. Parameters: the class name of the controller setup,
+     * the capture file, optionally the speed (default is MAX_SPEED) and -v to print the log of the
+     * controller. The setup class needs a constructor with the parameters IHost, ISetupFactory,
+     * ISettingsUI (global) and ISettingsUI (document).
+     *
+     * @param args The parameters
+     * @throws Exception Could not create the setup or read the capture
+     */
+    public static void main (final String [] args) throws Exception
+    {
+        if (args.length < 2)
+        {
+            System.out.println ("Parameters: <setup class> <capture file> [speed] [-v]");
+            return;
+        }
+
+        final Constructor<?> constructor = Class.forName (args[0]).getConstructor (IHost.class, ISetupFactory.class, ISettingsUI.class, ISettingsUI.class);
+        final double speed = args.length > 2 && !"-v".equals (args[2]) ? Double.parseDouble (args[2]) : MAX_SPEED;
+        final boolean isVerbose = "-v".equals (args[args.length - 1]);
+
+        final MidiReplayer replayer = new MidiReplayer ( (host, factory, globalSettings, documentSettings) -> {
+            try
+            {
+                return (IControllerSetup<?, ?>) constructor.newInstance (host, factory, globalSettings, documentSettings);
+            }
+            catch (final ReflectiveOperationException ex)
+            {
+                throw new IllegalArgumentException ("Could not create the controller setup.", ex);
+            }
+        }, System.out, isVerbose);
+        System.out.println (replayer.replay (new File (args[1]), speed));
+    }
+}
@@ -0,0 +1,102 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.replay;
+
+import de.mossgrabers.framework.daw.midi.AbstractMidiOutputImpl;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * A midi output which does not send anything but counts the sent messages and bytes. Used by the
+ * replayer instead of a hardware output to measure the MIDI load, e.g. the bytes sent when
+ * scrolling a page of the pad grid.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class RecordingMidiOutput extends AbstractMidiOutputImpl
+{
+    private final AtomicLong shortMessages = new AtomicLong ();
+    private final AtomicLong sysexMessages = new AtomicLong ();
+    private final AtomicLong bytes         = new AtomicLong ();
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final byte [] data)
+    {
+        this.sysexMessages.incrementAndGet ();
+        this.bytes.addAndGet (data.length);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final String data)
+    {
+        this.sysexMessages.incrementAndGet ();
+        // Hex string with 2 digits per byte, optionally separated by spaces
+        int digits = 0;
+        for (int i = 0; i < data.length (); i++)
+        {
+            if (!Character.isWhitespace (data.charAt (i)))
+                digits++;
+        }
+        this.bytes.addAndGet (digits / 2);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void sendMidiShort (final int status, final int data1, final int data2)
+    {
+        this.shortMessages.incrementAndGet ();
+        this.bytes.addAndGet (3);
+    }
+
+
+    /**
+     * Get the number of sent short messages.
+     *
+     * @return The number of messages
+     */
+    public long getShortMessageCount ()
+    {
+        return this.shortMessages.get ();
+    }
+
+
+    /**
+     * Get the number of sent system exclusive messages.
+     *
+     * @return The number of messages
+     */
+    public long getSysexMessageCount ()
+    {
+        return this.sysexMessages.get ();
+    }
+
+
+    /**
+     * Get the number of sent bytes.
+     *
+     * @return The number of bytes
+     */
+    public long getByteCount ()
+    {
+        return this.bytes.get ();
+    }
+
+
+    /**
+     * Reset all counters, e.g. before the next page scroll is measured.
+     */
+    public void reset ()
+    {
+        this.shortMessages.set (0);
+        this.sysexMessages.set (0);
+        this.bytes.set (0);
+    }
+}
@@ -0,0 +1,335 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.replay;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.IMemoryBlock;
+import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IImage;
+import de.mossgrabers.framework.osc.IOpenSoundControlCallback;
+import de.mossgrabers.framework.osc.IOpenSoundControlClient;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+import de.mossgrabers.framework.osc.IOpenSoundControlServer;
+import de.mossgrabers.framework.usb.IUsbDevice;
+import de.mossgrabers.framework.usb.UsbException;
+
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * A host which runs without a DAW. The scheduled tasks are executed by the replayer on a virtual
+ * clock, which is also returned as the current time. This makes a replay independent of the replay
+ * speed. USB devices are not available, bitmaps and images are stand-ins which do not draw
+ * anything.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ReplayHost implements IHost
+{
+    private static final int                   MAX_STACK_TRACES = 10;
+
+    private final PrintStream                  out;
+    private final boolean                      isVerbose;
+    private final PriorityQueue<ScheduledTask> tasks            = new PriorityQueue<> ();
+    private final AtomicLong                   numErrors        = new AtomicLong ();
+    private final AtomicLong                   numCrashes       = new AtomicLong ();
+    private long                               currentTime;
+    private long                               numScheduledTasks;
+
+
+    /**
+     * Constructor.
+     *
+     * @param out Where to print the log messages to
+     * @param isVerbose If false only errors are printed
+     */
+    public ReplayHost (final PrintStream out, final boolean isVerbose)
+    {
+        this.out = out;
+        this.isVerbose = isVerbose;
+    }
+
+
+    /**
+     * Execute all tasks which are due till the given time, including the ones which get scheduled
+     * by the executed tasks.
+     *
+     * @param time The virtual time in nanoseconds
+     */
+    public void runTasks (final long time)
+    {
+        while (true)
+        {
+            final ScheduledTask task;
+            synchronized (this.tasks)
+            {
+                final ScheduledTask next = this.tasks.peek ();
+                if (next == null || next.dueTime > time)
+                {
+                    this.currentTime = Math.max (this.currentTime, time);
+                    return;
+                }
+                task = this.tasks.poll ();
+                this.currentTime = Math.max (this.currentTime, task.dueTime);
+            }
+
+            try
+            {
+                task.runnable.run ();
+            }
+            catch (final RuntimeException ex)
+            {
+                this.error ("Crash in scheduled task.", ex);
+            }
+        }
+    }
+
+
+    /**
+     * Get the number of reported errors.
+     *
+     * @return The number of errors
+     */
+    public long getNumErrors ()
+    {
+        return this.numErrors.get ();
+    }
+
+
+    /**
+     * Get the number of reported errors, which were caused by an exception.
+     *
+     * @return The number of crashes
+     */
+    public long getNumCrashes ()
+    {
+        return this.numCrashes.get ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName ()
+    {
+        return "Replay";
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasPinning ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasCrossfader ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasDrumDevice ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasUserParameters ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasSlotChains ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canEditMarkers ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scheduleTask (final Runnable task, final long delay)
+    {
+        synchronized (this.tasks)
+        {
+            this.tasks.add (new ScheduledTask (this.currentTime + delay * 1000000L, this.numScheduledTasks++, task));
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getCurrentTime ()
+    {
+        synchronized (this.tasks)
+        {
+            return this.currentTime / 1000000L;
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void error (final String text)
+    {
+        this.numErrors.incrementAndGet ();
+        this.out.println ("ERROR: " + text);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void error (final String text, final Throwable ex)
+    {
+        this.numCrashes.incrementAndGet ();
+        this.out.println ("ERROR: " + text + " " + ex);
+        // Prevent flooding the log if the error happens on each event
+        if (this.numErrors.incrementAndGet () <= MAX_STACK_TRACES)
+            ex.printStackTrace (this.out);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void println (final String text)
+    {
+        if (this.isVerbose)
+            this.out.println (text);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void showNotification (final String message)
+    {
+        this.println ("Notification: " + message);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IOpenSoundControlClient connectToOSCServer (final String serverAddress, final int serverPort)
+    {
+        return StandIns.create (IOpenSoundControlClient.class);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IOpenSoundControlServer createOSCServer (final IOpenSoundControlCallback callback)
+    {
+        return StandIns.create (IOpenSoundControlServer.class);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IOpenSoundControlMessage createOSCMessage (final String address, final List<Object> values)
+    {
+        return StandIns.create (IOpenSoundControlMessage.class);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void releaseOSC ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IImage loadSVG (final String imageName, final int scale)
+    {
+        return StandIns.create (IImage.class);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IBitmap createBitmap (final int width, final int height)
+    {
+        return StandIns.create (IBitmap.class);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMemoryBlock createMemoryBlock (final int size)
+    {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect (size);
+        return buffer::duplicate;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IUsbDevice getUsbDevice (final int index) throws UsbException
+    {
+        throw new UsbException ("USB devices are not available in a replay.");
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void releaseUsbDevices ()
+    {
+        // Intentionally empty
+    }
+
+
+    private static class ScheduledTask implements Comparable<ScheduledTask>
+    {
+        private final long     dueTime;
+        private final long     sequence;
+        private final Runnable runnable;
+
+
+        /**
+         * Constructor.
+         *
+         * @param dueTime The virtual time at which the task is due in nanoseconds
+         * @param sequence Keeps the order of tasks which are due at the same time
+         * @param runnable The task
+         */
+        ScheduledTask (final long dueTime, final long sequence, final Runnable runnable)
+        {
+            this.dueTime = dueTime;
+            this.sequence = sequence;
+            this.runnable = runnable;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int compareTo (final ScheduledTask other)
+        {
+            final int result = Long.compare (this.dueTime, other.dueTime);
+            return result == 0 ? Long.compare (this.sequence, other.sequence) : result;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.replay;
+
+import de.mossgrabers.framework.daw.midi.IMidiAccess;
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Creates the midi inputs and outputs for a replay. The inputs and outputs are numbered in the order
+ * of their creation, like in the MidiCaptureRecorder. The outputs only count the sent messages.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ReplayMidiAccess implements IMidiAccess
+{
+    private final List<ReplayMidiInput>     inputs  = new ArrayList<> ();
+    private final List<RecordingMidiOutput> outputs = new ArrayList<> ();
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiOutput createOutput ()
+    {
+        final RecordingMidiOutput output = new RecordingMidiOutput ();
+        this.outputs.add (output);
+        return output;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiOutput createOutput (final int index)
+    {
+        return this.createOutput ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiInput createInput (final String name, final String... filters)
+    {
+        final ReplayMidiInput input = new ReplayMidiInput ();
+        this.inputs.add (input);
+        return input;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiInput createInput (final int index, final String name, final String... filters)
+    {
+        return this.createInput (name, filters);
+    }
+
+
+    /**
+     * Get an input.
+     *
+     * @param port The index of the input in the order of creation
+     * @return The input or null if there is no input with that index
+     */
+    public ReplayMidiInput getInput (final int port)
+    {
+        return port < this.inputs.size () ? this.inputs.get (port) : null;
+    }
+
+
+    /**
+     * Get all created outputs.
+     *
+     * @return The outputs
+     */
+    public List<RecordingMidiOutput> getOutputs ()
+    {
+        return this.outputs;
+    }
+}
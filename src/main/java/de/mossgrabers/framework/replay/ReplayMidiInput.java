@@ -0,0 +1,95 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.replay;
+
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.daw.midi.INoteInput;
+import de.mossgrabers.framework.daw.midi.MidiShortCallback;
+import de.mossgrabers.framework.daw.midi.MidiSysExCallback;
+
+
+/**
+ * A midi input which receives its events from a replay.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ReplayMidiInput implements IMidiInput
+{
+    private final INoteInput  noteInput = StandIns.create (INoteInput.class);
+    private MidiShortCallback midiCallback;
+    private MidiSysExCallback sysexCallback;
+
+
+    /**
+     * Hand a short message to the registered callback.
+     *
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     * @return False if no callback is registered
+     */
+    public boolean deliverShort (final int status, final int data1, final int data2)
+    {
+        if (this.midiCallback == null)
+            return false;
+        this.midiCallback.handleMidi (status, data1, data2);
+        return true;
+    }
+
+
+    /**
+     * Hand a sysex message to the registered callback.
+     *
+     * @param data The sysex formatted in hex
+     * @return False if no callback is registered
+     */
+    public boolean deliverSysex (final String data)
+    {
+        if (this.sysexCallback == null)
+            return false;
+        this.sysexCallback.handleMidi (data);
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setMidiCallback (final MidiShortCallback callback)
+    {
+        this.midiCallback = callback;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setSysexCallback (final MidiSysExCallback callback)
+    {
+        this.sysexCallback = callback;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public INoteInput createNoteInput (final String name, final String... filters)
+    {
+        return this.noteInput;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public INoteInput getDefaultNoteInput ()
+    {
+        return this.noteInput;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendRawMidiEvent (final int status, final int data1, final int data2)
+    {
+        // Intentionally empty
+    }
+}
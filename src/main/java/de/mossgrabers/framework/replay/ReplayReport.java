@@ -0,0 +1,192 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.replay;
+
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * The result of a replay: the throughput, the latencies of handling the input events and the
+ * amount of sent midi data.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ReplayReport
+{
+    private long [] latencies = new long [1024];
+    private int     numEvents;
+    private int     numUnhandled;
+    private long    wallTime;
+    private long    captureTime;
+    private long    numErrors;
+    private long    numCrashes;
+    private long    outputShortMessages;
+    private long    outputSysexMessages;
+    private long    outputBytes;
+    private long    recordedOutputBytes;
+    private boolean isSorted;
+
+
+    /**
+     * Add the latency of a handled input event.
+     *
+     * @param latency The time to handle the event and to trigger the flush in nanoseconds
+     */
+    public void addEvent (final long latency)
+    {
+        if (this.numEvents == this.latencies.length)
+            this.latencies = Arrays.copyOf (this.latencies, 2 * this.numEvents);
+        this.latencies[this.numEvents++] = latency;
+        this.isSorted = false;
+    }
+
+
+    /**
+     * Count an input event for which the controller did not register a callback.
+     */
+    public void addUnhandled ()
+    {
+        this.numUnhandled++;
+    }
+
+
+    /**
+     * Add the size of an output event, which was contained in the capture.
+     *
+     * @param sysex The sysex formatted in hex or null for a short message
+     */
+    public void addRecordedOutput (final String sysex)
+    {
+        this.recordedOutputBytes += sysex == null ? 3 : sysex.length () / 2;
+    }
+
+
+    /**
+     * Set the durations of the replay.
+     *
+     * @param wallTime The time the replay took in nanoseconds
+     * @param captureTime The duration of the capture in nanoseconds
+     */
+    public void setDuration (final long wallTime, final long captureTime)
+    {
+        this.wallTime = wallTime;
+        this.captureTime = captureTime;
+    }
+
+
+    /**
+     * Set the results which are available after the replay.
+     *
+     * @param outputs The outputs of the controller
+     * @param numErrors The number of reported errors
+     * @param numCrashes The number of reported errors, which were caused by an exception
+     */
+    public void setResults (final List<RecordingMidiOutput> outputs, final long numErrors, final long numCrashes)
+    {
+        this.numErrors = numErrors;
+        this.numCrashes = numCrashes;
+        for (final RecordingMidiOutput output: outputs)
+        {
+            this.outputShortMessages += output.getShortMessageCount ();
+            this.outputSysexMessages += output.getSysexMessageCount ();
+            this.outputBytes += output.getByteCount ();
+        }
+    }
+
+
+    /**
+     * Get the number of handled input events.
+     *
+     * @return The number of events
+     */
+    public int getNumEvents ()
+    {
+        return this.numEvents;
+    }
+
+
+    /**
+     * Get the number of handled input events per second.
+     *
+     * @return The throughput
+     */
+    public double getThroughput ()
+    {
+        return this.wallTime == 0 ? 0 : this.numEvents * 1000000000.0 / this.wallTime;
+    }
+
+
+    /**
+     * Get a percentile of the latencies.
+     *
+     * @param percentile The percentile, 0-100
+     * @return The latency in nanoseconds
+     */
+    public long getLatency (final double percentile)
+    {
+        if (this.numEvents == 0)
+            return 0;
+        if (!this.isSorted)
+        {
+            Arrays.sort (this.latencies, 0, this.numEvents);
+            this.isSorted = true;
+        }
+        final int index = (int) Math.ceil (percentile / 100.0 * this.numEvents) - 1;
+        return this.latencies[Math.max (0, Math.min (this.numEvents - 1, index))];
+    }
+
+
+    /**
+     * Get the number of bytes sent by the controller during the replay.
+     *
+     * @return The number of bytes
+     */
+    public long getOutputBytes ()
+    {
+        return this.outputBytes;
+    }
+
+
+    /**
+     * Get the number of reported errors.
+     *
+     * @return The number of errors
+     */
+    public long getNumErrors ()
+    {
+        return this.numErrors;
+    }
+
+
+    /**
+     * Get the number of reported errors, which were caused by an exception.
+     *
+     * @return The number of crashes
+     */
+    public long getNumCrashes ()
+    {
+        return this.numCrashes;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        final StringBuilder sb = new StringBuilder ();
+        sb.append ("Input events: ").append (this.numEvents).append (" (").append (this.numUnhandled).append (" without callback)\n");
+        sb.append ("Duration: ").append (this.wallTime / 1000000).append (" ms (capture: ").append (this.captureTime / 1000000).append (" ms)\n");
+        sb.append ("Throughput: ").append (Math.round (this.getThroughput ())).append (" events/s\n");
+        sb.append ("Latency (us): p50 ").append (this.getLatency (50) / 1000);
+        sb.append (", p90 ").append (this.getLatency (90) / 1000);
+        sb.append (", p99 ").append (this.getLatency (99) / 1000);
+        sb.append (", max ").append (this.getLatency (100) / 1000).append ('\n');
+        sb.append ("Output: ").append (this.outputShortMessages).append (" short, ").append (this.outputSysexMessages).append (" sysex, ").append (this.outputBytes).append (" bytes");
+        sb.append (" (capture: ").append (this.recordedOutputBytes).append (" bytes)\n");
+        sb.append ("Errors: ").append (this.numErrors).append (" (").append (this.numCrashes).append (" crashes)");
+        return sb.toString ();
+    }
+}
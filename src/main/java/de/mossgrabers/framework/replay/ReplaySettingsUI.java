@@ -0,0 +1,285 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.replay;
+
+import de.mossgrabers.framework.configuration.IBooleanSetting;
+import de.mossgrabers.framework.configuration.IColorSetting;
+import de.mossgrabers.framework.configuration.IDoubleSetting;
+import de.mossgrabers.framework.configuration.IEnumSetting;
+import de.mossgrabers.framework.configuration.IIntegerSetting;
+import de.mossgrabers.framework.configuration.ISetting;
+import de.mossgrabers.framework.configuration.ISettingsUI;
+import de.mossgrabers.framework.configuration.ISignalSetting;
+import de.mossgrabers.framework.configuration.IStringSetting;
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.observer.IValueObserver;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Settings which are only kept in memory. Like in the DAW, an observer is notified about the
+ * current value of its setting after the controller was initialized, see
+ * {@link #notifyObservers()}. The initial values can be overridden by their label before the
+ * controller is initialized, e.g. to replay with a specific configuration.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ReplaySettingsUI implements ISettingsUI
+{
+    private final Map<String, Object> initialValues        = new HashMap<> ();
+    private final List<Runnable>      pendingNotifications = new ArrayList<> ();
+
+
+    /**
+     * Override the initial value of a setting.
+     *
+     * @param label The label of the setting
+     * @param value The value, must match the type of the setting
+     */
+    public void setInitialValue (final String label, final Object value)
+    {
+        this.initialValues.put (label, value);
+    }
+
+
+    /**
+     * Notify the observers, which were added since the last call, about the current value of their
+     * settings.
+     */
+    public void notifyObservers ()
+    {
+        final List<Runnable> notifications = new ArrayList<> (this.pendingNotifications);
+        this.pendingNotifications.clear ();
+        notifications.forEach (Runnable::run);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IEnumSetting getEnumSetting (final String label, final String category, final String [] options, final String initialValue)
+    {
+        return new ReplayStringSetting ((String) this.initialValues.getOrDefault (label, initialValue));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IBooleanSetting getBooleanSetting (final String label, final String category, final boolean initialValue)
+    {
+        return new ReplayBooleanSetting ((Boolean) this.initialValues.getOrDefault (label, Boolean.valueOf (initialValue)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IStringSetting getStringSetting (final String label, final String category, final int numChars, final String initialText)
+    {
+        return new ReplayStringSetting ((String) this.initialValues.getOrDefault (label, initialText));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IIntegerSetting getRangeSetting (final String label, final String category, final int minValue, final int maxValue, final int stepResolution, final String unit, final int initialValue)
+    {
+        return new ReplayIntegerSetting ((Integer) this.initialValues.getOrDefault (label, Integer.valueOf (initialValue)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IDoubleSetting getNumberSetting (final String label, final String category, final double minValue, final double maxValue, final double stepResolution, final String unit, final double initialValue)
+    {
+        return new ReplayDoubleSetting ((Double) this.initialValues.getOrDefault (label, Double.valueOf (initialValue)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ISignalSetting getSignalSetting (final String label, final String category, final String title)
+    {
+        return new ReplaySignalSetting ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IColorSetting getColorSetting (final String label, final String category, final ColorEx defaultColor)
+    {
+        return new ReplayColorSetting ((double []) this.initialValues.getOrDefault (label, toRGB (defaultColor)));
+    }
+
+
+    private static double [] toRGB (final ColorEx color)
+    {
+        return new double []
+        {
+            color.getRed (),
+            color.getGreen (),
+            color.getBlue ()
+        };
+    }
+
+
+    private class ReplaySetting<T> implements ISetting<T>
+    {
+        private final List<IValueObserver<T>> observers = new ArrayList<> ();
+        private final boolean                 isNotifiedOnAdd;
+        private T                             value;
+
+
+        /**
+         * Constructor.
+         *
+         * @param value The initial value
+         * @param isNotifiedOnAdd True to notify an observer about the current value after it was
+         *            added
+         */
+        ReplaySetting (final T value, final boolean isNotifiedOnAdd)
+        {
+            this.value = value;
+            this.isNotifiedOnAdd = isNotifiedOnAdd;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void addValueObserver (final IValueObserver<T> observer)
+        {
+            this.observers.add (observer);
+            if (this.isNotifiedOnAdd)
+                ReplaySettingsUI.this.pendingNotifications.add ( () -> observer.update (this.value));
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void set (final T value)
+        {
+            this.value = value;
+            this.observers.forEach (observer -> observer.update (value));
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void setEnabled (final boolean enable)
+        {
+            // Intentionally empty
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void setVisible (final boolean visible)
+        {
+            // Intentionally empty
+        }
+    }
+
+
+    private class ReplayStringSetting extends ReplaySetting<String> implements IEnumSetting, IStringSetting
+    {
+        ReplayStringSetting (final String value)
+        {
+            super (value, true);
+        }
+    }
+
+
+    private class ReplayBooleanSetting extends ReplaySetting<Boolean> implements IBooleanSetting
+    {
+        ReplayBooleanSetting (final Boolean value)
+        {
+            super (value, true);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void set (final boolean value)
+        {
+            this.set (Boolean.valueOf (value));
+        }
+    }
+
+
+    private class ReplayIntegerSetting extends ReplaySetting<Integer> implements IIntegerSetting
+    {
+        ReplayIntegerSetting (final Integer value)
+        {
+            super (value, true);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void set (final int value)
+        {
+            this.set (Integer.valueOf (value));
+        }
+    }
+
+
+    private class ReplayDoubleSetting extends ReplaySetting<Double> implements IDoubleSetting
+    {
+        ReplayDoubleSetting (final Double value)
+        {
+            super (value, true);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void set (final double value)
+        {
+            this.set (Double.valueOf (value));
+        }
+    }
+
+
+    private class ReplayColorSetting extends ReplaySetting<double []> implements IColorSetting
+    {
+        ReplayColorSetting (final double [] value)
+        {
+            super (value, true);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void set (final double red, final double green, final double blue)
+        {
+            this.set (new double []
+            {
+                red,
+                green,
+                blue
+            });
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void set (final ColorEx color)
+        {
+            this.set (toRGB (color));
+        }
+    }
+
+
+    private class ReplaySignalSetting extends ReplaySetting<Void> implements ISignalSetting
+    {
+        ReplaySignalSetting ()
+        {
+            // A signal is only sent on request, not when adding an observer
+            super (null, false);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.replay;
+
+import de.mossgrabers.framework.controller.ISetupFactory;
+import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.daw.DrumPadBankSnapshot;
+import de.mossgrabers.framework.daw.IChannelBank;
+import de.mossgrabers.framework.daw.IDeviceBank;
+import de.mossgrabers.framework.daw.IDrumPadBank;
+import de.mossgrabers.framework.daw.IGroove;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.ILayerBank;
+import de.mossgrabers.framework.daw.IMarkerBank;
+import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.IParameterBank;
+import de.mossgrabers.framework.daw.IParameterPageBank;
+import de.mossgrabers.framework.daw.ISceneBank;
+import de.mossgrabers.framework.daw.ISendBank;
+import de.mossgrabers.framework.daw.ISlotBank;
+import de.mossgrabers.framework.daw.ITrackBank;
+import de.mossgrabers.framework.daw.ITransport;
+import de.mossgrabers.framework.daw.ModelSetup;
+import de.mossgrabers.framework.daw.data.IParameter;
+import de.mossgrabers.framework.daw.midi.IMidiAccess;
+import de.mossgrabers.framework.scale.Scales;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * Factory for running a controller without a DAW. The model is a stand-in, see {@link StandIns}.
+ * Like in the DAW, the banks of the model have the page sizes of the model setup. All midi
+ * accesses share the same inputs and outputs.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ReplaySetupFactory implements ISetupFactory
+{
+    /** Enabled, shuffle amount and rate, accent amount, rate and phase. */
+    private static final int       NUM_GROOVE_PARAMETERS = 6;
+    /** The play position of a new project, formatted like in the DAW. */
+    private static final String    POSITION_TEXT         = "001:01:01:00";
+
+    private final IHost            host;
+    private final ReplayMidiAccess midiAccess;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param midiAccess The midi access
+     */
+    public ReplaySetupFactory (final IHost host, final ReplayMidiAccess midiAccess)
+    {
+        this.host = host;
+        this.midiAccess = midiAccess;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IModel createModel (final ColorManager colorManager, final IValueChanger valueChanger, final Scales scales, final ModelSetup modelSetup)
+    {
+        final Map<String, Object> results = new HashMap<> ();
+        results.put ("getHost", this.host);
+        results.put ("getColorManager", colorManager);
+        results.put ("getValueChanger", valueChanger);
+        results.put ("getScales", scales);
+        final Map<Class<?>, Object> values = new HashMap<> ();
+        values.put (DrumPadBankSnapshot.class, new DrumPadBankSnapshot (modelSetup.getNumDrumPadLayers ()));
+
+        final Map<Class<?>, Map<String, Object>> defaults = new HashMap<> ();
+        addPageSize (defaults, ITrackBank.class, modelSetup.getNumTracks ());
+        addPageSize (defaults, ISceneBank.class, modelSetup.getNumScenes ());
+        addPageSize (defaults, ISlotBank.class, modelSetup.getNumScenes ());
+        addPageSize (defaults, ISendBank.class, modelSetup.getNumSends ());
+        addPageSize (defaults, IDeviceBank.class, modelSetup.getNumDevicesInBank ());
+        addPageSize (defaults, IParameterBank.class, modelSetup.getNumParams ());
+        addPageSize (defaults, IParameterPageBank.class, modelSetup.getNumParams ());
+        addPageSize (defaults, ILayerBank.class, modelSetup.getNumDeviceLayers ());
+        addPageSize (defaults, IChannelBank.class, modelSetup.getNumDeviceLayers ());
+        addPageSize (defaults, IDrumPadBank.class, modelSetup.getNumDrumPadLayers ());
+        addPageSize (defaults, IMarkerBank.class, modelSetup.getNumMarkers ());
+        defaults.put (ITransport.class, Collections.singletonMap ("getPositionText", POSITION_TEXT));
+
+        final IParameter [] grooveParameters = new IParameter [NUM_GROOVE_PARAMETERS];
+        for (int i = 0; i < grooveParameters.length; i++)
+            grooveParameters[i] = StandIns.create (IParameter.class, Collections.emptyMap (), values, defaults);
+        defaults.put (IGroove.class, Collections.singletonMap ("getParameters", grooveParameters));
+
+        return StandIns.create (IModel.class, results, values, defaults);
+    }
+
+
+    private static void addPageSize (final Map<Class<?>, Map<String, Object>> defaults, final Class<?> bankClass, final int pageSize)
+    {
+        defaults.put (bankClass, Collections.singletonMap ("getPageSize", Integer.valueOf (pageSize)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiAccess createMidiAccess ()
+    {
+        return this.midiAccess;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void close ()
+    {
+        // Intentionally empty
+    }
+}
@@ -0,0 +1,31 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.replay;
+
+import de.mossgrabers.framework.configuration.ISettingsUI;
+import de.mossgrabers.framework.controller.IControllerSetup;
+import de.mossgrabers.framework.controller.ISetupFactory;
+import de.mossgrabers.framework.daw.IHost;
+
+
+/**
+ * Creates the controller setup which is driven by a replay, e.g. a reference to the constructor of
+ * a setup class.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public interface SetupCreator
+{
+    /**
+     * Create the controller setup.
+     *
+     * @param host The host
+     * @param factory The factory
+     * @param globalSettings The global settings
+     * @param documentSettings The document (project) specific settings
+     * @return The setup
+     */
+    IControllerSetup<?, ?> create (IHost host, ISetupFactory factory, ISettingsUI globalSettings, ISettingsUI documentSettings);
+}
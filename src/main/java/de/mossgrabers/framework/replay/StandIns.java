@@ -0,0 +1,294 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.replay;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * Creates stand-ins for the interfaces of the DAW model, which allow to run a controller without a
+ * DAW. A stand-in does nothing and returns empty values: false, 0, empty strings, collections and
+ * arrays, black for colors and the first constant of enums. Methods which return one of the
+ * interfaces of the framework return a stand-in of this interface, which is created on the first
+ * call and returned again for the same parameters. Therefore, e.g. getting the same track twice
+ * from a track bank stand-in returns the same track stand-in. Instead of the empty values, the
+ * stand-ins of an interface can return default results, e.g. the page size of a bank. Classes of
+ * the framework, which are returned as values, have no empty value and must be provided when the
+ * stand-in is created. The creation fails if a method returns such a class which is not provided.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class StandIns
+{
+    private static final String FRAMEWORK_PACKAGE = "de.mossgrabers.";
+
+
+    /**
+     * Private due to utility class.
+     */
+    private StandIns ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Create a stand-in.
+     *
+     * @param type The interface to implement
+     * @param <T> The type of the interface
+     * @return The stand-in
+     */
+    public static <T> T create (final Class<T> type)
+    {
+        return create (type, Collections.emptyMap ());
+    }
+
+
+    /**
+     * Create a stand-in, which returns fixed results for some of its methods.
+     *
+     * @param type The interface to implement
+     * @param results The results of methods, mapped by the name of the method
+     * @param <T> The type of the interface
+     * @return The stand-in
+     */
+    public static <T> T create (final Class<T> type, final Map<String, Object> results)
+    {
+        return create (type, results, Collections.emptyMap ());
+    }
+
+
+    /**
+     * Create a stand-in, which returns fixed results for some of its methods and the given values
+     * for methods which return classes of the framework. The values are also returned by all
+     * stand-ins which are created from this stand-in.
+     *
+     * @param type The interface to implement
+     * @param results The results of methods, mapped by the name of the method
+     * @param values The values to return for classes of the framework, mapped by the class
+     * @param <T> The type of the interface
+     * @return The stand-in
+     * @throws IllegalArgumentException If a method of the interface returns a class of the
+     *             framework, which has no value
+     */
+    public static <T> T create (final Class<T> type, final Map<String, Object> results, final Map<Class<?>, Object> values)
+    {
+        return create (type, results, values, Collections.emptyMap ());
+    }
+
+
+    /**
+     * Create a stand-in, which returns fixed results for some of its methods and the given values
+     * for methods which return classes of the framework. The values and the default results are
+     * also used by all stand-ins which are created from this stand-in.
+     *
+     * @param type The interface to implement
+     * @param results The results of methods, mapped by the name of the method
+     * @param values The values to return for classes of the framework, mapped by the class
+     * @param defaults The default results of the stand-ins of an interface, mapped by the
+     *            interface and the name of the method
+     * @param <T> The type of the interface
+     * @return The stand-in
+     * @throws IllegalArgumentException If a method of the interface returns a class of the
+     *             framework, which has no value
+     */
+    public static <T> T create (final Class<T> type, final Map<String, Object> results, final Map<Class<?>, Object> values, final Map<Class<?>, Map<String, Object>> defaults)
+    {
+        return type.cast (Proxy.newProxyInstance (type.getClassLoader (), new Class<?> []
+        {
+            type
+        }, new StandInHandler (type, results, values, defaults)));
+    }
+
+
+    /**
+     * Get the empty value for a type.
+     *
+     * @param type The type
+     * @return The empty value, null if there is none
+     */
+    static Object getEmptyValue (final Class<?> type)
+    {
+        if (type == boolean.class)
+            return Boolean.FALSE;
+        if (type == int.class)
+            return Integer.valueOf (0);
+        if (type == long.class)
+            return Long.valueOf (0);
+        if (type == double.class)
+            return Double.valueOf (0);
+        if (type == float.class)
+            return Float.valueOf (0);
+        if (type == short.class)
+            return Short.valueOf ((short) 0);
+        if (type == byte.class)
+            return Byte.valueOf ((byte) 0);
+        if (type == char.class)
+            return Character.valueOf (' ');
+        if (type == String.class)
+            return "";
+        if (type == ColorEx.class)
+            return ColorEx.BLACK;
+        // Colors are RGB arrays
+        if (type == double [].class)
+            return new double [3];
+        if (type.isArray ())
+            return Array.newInstance (type.getComponentType (), 0);
+        if (type.isEnum ())
+            return type.getEnumConstants ()[0];
+        if (type == List.class)
+            return Collections.emptyList ();
+        if (type == Set.class)
+            return Collections.emptySet ();
+        if (type == Map.class)
+            return Collections.emptyMap ();
+        return null;
+    }
+
+
+    /**
+     * Resolve a type variable of a generic super interface, e.g. the item type T of IBank for
+     * ITrackBank.
+     *
+     * @param type The class or parameterized type to start from
+     * @param variable The type variable to resolve
+     * @return The actual type or null if it cannot be resolved
+     */
+    static Type resolveVariable (final Type type, final TypeVariable<?> variable)
+    {
+        final Class<?> raw = (Class<?>) (type instanceof ParameterizedType ? ((ParameterizedType) type).getRawType () : type);
+        final List<TypeVariable<?>> parameters = Arrays.asList (raw.getTypeParameters ());
+        if (variable.getGenericDeclaration () == raw)
+            return type instanceof ParameterizedType ? ((ParameterizedType) type).getActualTypeArguments ()[parameters.indexOf (variable)] : null;
+
+        for (final Type superType: raw.getGenericInterfaces ())
+        {
+            Type result = resolveVariable (superType, variable);
+            // The result might be a variable of this level, which is set by the parameterized type
+            if (result instanceof TypeVariable && ((TypeVariable<?>) result).getGenericDeclaration () == raw)
+                result = type instanceof ParameterizedType ? ((ParameterizedType) type).getActualTypeArguments ()[parameters.indexOf (result)] : null;
+            if (result != null)
+                return result;
+        }
+        return null;
+    }
+
+
+    private static class StandInHandler implements InvocationHandler
+    {
+        private final Class<?>                           type;
+        private final Map<String, Object>                results;
+        private final Map<Class<?>, Object>              values;
+        private final Map<Class<?>, Map<String, Object>> defaults;
+        private final Map<List<Object>, Object>          standIns = new HashMap<> ();
+
+
+        /**
+         * Constructor.
+         *
+         * @param type The implemented interface
+         * @param results The fixed results of methods, mapped by the name of the method
+         * @param values The values to return for classes of the framework, mapped by the class
+         * @param defaults The default results of the stand-ins of an interface, mapped by the
+         *            interface and the name of the method
+         */
+        StandInHandler (final Class<?> type, final Map<String, Object> results, final Map<Class<?>, Object> values, final Map<Class<?>, Map<String, Object>> defaults)
+        {
+            this.type = type;
+            this.results = results;
+            this.values = values;
+            this.defaults = defaults;
+
+            for (final Method method: type.getMethods ())
+            {
+                final Class<?> returnType = this.getReturnType (method);
+                if (isFrameworkValue (returnType) && !results.containsKey (method.getName ()) && !values.containsKey (returnType))
+                    throw new IllegalArgumentException ("No value for " + returnType.getSimpleName () + " returned by " + type.getSimpleName () + "." + method.getName ());
+            }
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public Object invoke (final Object proxy, final Method method, final Object [] args)
+        {
+            final String name = method.getName ();
+            if (method.getDeclaringClass () == Object.class)
+            {
+                switch (name)
+                {
+                    case "equals":
+                        return Boolean.valueOf (proxy == args[0]);
+                    case "hashCode":
+                        return Integer.valueOf (System.identityHashCode (proxy));
+                    default:
+                        return "Stand-in for " + this.type.getSimpleName ();
+                }
+            }
+
+            if (this.results.containsKey (name))
+                return this.results.get (name);
+
+            final Class<?> returnType = this.getReturnType (method);
+            if (this.values.containsKey (returnType))
+                return this.values.get (returnType);
+            if (!returnType.isInterface () || !returnType.getName ().startsWith (FRAMEWORK_PACKAGE))
+                return getEmptyValue (returnType);
+
+            final List<Object> key = new ArrayList<> ();
+            key.add (method);
+            if (args != null)
+                key.addAll (Arrays.asList (args));
+            synchronized (this.standIns)
+            {
+                return this.standIns.computeIfAbsent (key, k -> create (returnType, this.defaults.getOrDefault (returnType, Collections.emptyMap ()), this.values, this.defaults));
+            }
+        }
+
+
+        /**
+         * Test if a type is a class of the framework, which is returned as a value and therefore
+         * has no empty value.
+         *
+         * @param type The type to test
+         * @return True if it is a class of the framework
+         */
+        private static boolean isFrameworkValue (final Class<?> type)
+        {
+            return !type.isInterface () && !type.isEnum () && !type.isArray () && type != ColorEx.class && type.getName ().startsWith (FRAMEWORK_PACKAGE);
+        }
+
+
+        private Class<?> getReturnType (final Method method)
+        {
+            final Type genericType = method.getGenericReturnType ();
+            if (genericType instanceof TypeVariable)
+            {
+                final Type actual = resolveVariable (this.type, (TypeVariable<?>) genericType);
+                if (actual instanceof Class)
+                    return (Class<?>) actual;
+                if (actual instanceof ParameterizedType)
+                    return (Class<?>) ((ParameterizedType) actual).getRawType ();
+            }
+            return method.getReturnType ();
+        }
+    }
+}
@@ -16,5 +16,9 @@ public enum ButtonEvent
     /** Button is released. */
     UP,
     /** Button is long pressed. */
-    LONG;
+    LONG,
+    /** Button is pressed a second time shortly after the previous press. */
+    DOUBLE_TAP,
+    /** Button is still held after a long press, sent repeatedly. */
+    REPEAT;
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+/**
+ * Interface for notifications about button gestures.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@FunctionalInterface
+public interface GestureListener
+{
+    /**
+     * Called when a gesture was detected.
+     *
+     * @param key The key of the button or pad
+     * @param event The gesture, LONG, DOUBLE_TAP or REPEAT
+     */
+    void onGesture (int key, ButtonEvent event);
+}
@@ -0,0 +1,289 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.Arrays;
+
+
+/**
+ * Detects long presses, double taps and held buttons for a fixed number of keys (buttons or pads).
+ * The pending timeouts are stored in a hashed timing wheel. Only one host task is scheduled, for the
+ * earliest pending timeout, which advances the wheel and schedules the task for the next timeout.
+ * The time is taken from the host, therefore a replay on a virtual clock detects the same gestures.
+ * All states are stored in primitive arrays.
+ *
+ * Must only be used from the host thread.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class GestureTimer
+{
+    /** The resolution of the timer in milliseconds. */
+    public static final int       TICK                = 10;
+    /** The maximum time between two presses to be detected as a double tap in milliseconds. */
+    public static final int       DOUBLE_TAP_INTERVAL = 300;
+
+    private static final int      WHEEL_SIZE          = 64;
+    private static final int      WHEEL_MASK          = WHEEL_SIZE - 1;
+    private static final int      NONE                = -1;
+    private static final long     NOT_SCHEDULED       = Long.MAX_VALUE;
+
+    private final IHost           host;
+    private final GestureListener listener;
+    private final int             longPressDelay;
+    private final long            startTime;
+
+    private final int []          buckets             = new int [WHEEL_SIZE];
+    private final int []          next;
+    private final int []          previous;
+    private final long []         deadlineTicks;
+    private final long []         lastPressTimes;
+    private final int []          repeatIntervals;
+    private final boolean []      isDown;
+    private final boolean []      isHeld;
+    private final boolean []      isLinked;
+    private final int []          dueKeys;
+
+    private int                   numPending;
+    private long                  currentTick;
+    private long                  scheduledTick       = NOT_SCHEDULED;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for scheduling the ticks and reading the time
+     * @param numKeys The number of keys to track
+     * @param longPressDelay The time after which a held key is reported as long pressed in
+     *            milliseconds
+     * @param listener Gets notified about all gestures
+     */
+    public GestureTimer (final IHost host, final int numKeys, final int longPressDelay, final GestureListener listener)
+    {
+        this.host = host;
+        this.longPressDelay = longPressDelay;
+        this.listener = listener;
+        this.startTime = host.getCurrentTime ();
+
+        this.next = new int [numKeys];
+        this.previous = new int [numKeys];
+        this.deadlineTicks = new long [numKeys];
+        this.lastPressTimes = new long [numKeys];
+        this.repeatIntervals = new int [numKeys];
+        this.isDown = new boolean [numKeys];
+        this.isHeld = new boolean [numKeys];
+        this.isLinked = new boolean [numKeys];
+        this.dueKeys = new int [numKeys];
+
+        Arrays.fill (this.buckets, NONE);
+        Arrays.fill (this.lastPressTimes, Long.MIN_VALUE / 2);
+    }
+
+
+    /**
+     * Enable the repeated notification while a key is held after a long press.
+     *
+     * @param key The key
+     * @param interval The interval of the repeated notifications in milliseconds, 0 disables it
+     */
+    public void setRepeatInterval (final int key, final int interval)
+    {
+        this.repeatIntervals[key] = interval;
+    }
+
+
+    /**
+     * A key was pressed. Notifies a double tap immediately and starts the long press timeout.
+     *
+     * @param key The key
+     */
+    public void press (final int key)
+    {
+        final long now = this.host.getCurrentTime ();
+        this.isDown[key] = true;
+        this.isHeld[key] = false;
+
+        final boolean isDoubleTap = now - this.lastPressTimes[key] <= DOUBLE_TAP_INTERVAL;
+        // A triple tap is not a second double tap
+        this.lastPressTimes[key] = isDoubleTap ? Long.MIN_VALUE / 2 : now;
+
+        this.schedule (key, now, this.longPressDelay);
+
+        if (isDoubleTap)
+            this.notify (key, ButtonEvent.DOUBLE_TAP);
+    }
+
+
+    /**
+     * A key was released. Cancels a pending long press or repeat.
+     *
+     * @param key The key
+     */
+    public void release (final int key)
+    {
+        this.isDown[key] = false;
+        this.unlink (key);
+    }
+
+
+    /**
+     * Is the key currently pressed?
+     *
+     * @param key The key
+     * @return True if pressed
+     */
+    public boolean isPressed (final int key)
+    {
+        return this.isDown[key];
+    }
+
+
+    /**
+     * Advance the wheel till the current time and fire all due keys. Schedules the task for the
+     * next pending timeout.
+     *
+     * @param deadline The tick for which the task was scheduled
+     */
+    private void tick (final long deadline)
+    {
+        // The task has been replaced by one for an earlier timeout
+        if (deadline != this.scheduledTick)
+            return;
+
+        final long now = this.host.getCurrentTime ();
+        final long targetTick = Math.max (deadline, (now - this.startTime) / TICK);
+        while (this.currentTick < targetTick && this.numPending > 0)
+        {
+            this.currentTick++;
+
+            // Collect first, listeners might press or release keys
+            int numDue = 0;
+            int key = this.buckets[(int) (this.currentTick & WHEEL_MASK)];
+            while (key != NONE)
+            {
+                final int nextKey = this.next[key];
+                if (this.deadlineTicks[key] <= this.currentTick)
+                {
+                    this.unlink (key);
+                    this.dueKeys[numDue++] = key;
+                }
+                key = nextKey;
+            }
+
+            for (int i = 0; i < numDue; i++)
+                this.fire (this.dueKeys[i]);
+        }
+
+        this.scheduledTick = NOT_SCHEDULED;
+        this.scheduleTick (this.getNextDeadline (), now);
+    }
+
+
+    /**
+     * Schedule the task for the given tick, if there is no task for an earlier tick.
+     *
+     * @param deadline The tick, NOT_SCHEDULED if there is no pending timeout
+     * @param now The current time
+     */
+    private void scheduleTick (final long deadline, final long now)
+    {
+        if (deadline >= this.scheduledTick)
+            return;
+        this.scheduledTick = deadline;
+        this.host.scheduleTask ( () -> this.tick (deadline), Math.max (0, this.startTime + deadline * TICK - now));
+    }
+
+
+    /**
+     * Get the earliest tick of all pending timeouts.
+     *
+     * @return The tick or NOT_SCHEDULED if there are no pending timeouts
+     */
+    private long getNextDeadline ()
+    {
+        long deadline = NOT_SCHEDULED;
+        if (this.numPending == 0)
+            return deadline;
+        for (final int head: this.buckets)
+        {
+            for (int key = head; key != NONE; key = this.next[key])
+                deadline = Math.min (deadline, this.deadlineTicks[key]);
+        }
+        return deadline;
+    }
+
+
+    private void fire (final int key)
+    {
+        if (!this.isDown[key])
+            return;
+
+        final boolean isRepeat = this.isHeld[key];
+        this.isHeld[key] = true;
+        final int interval = this.repeatIntervals[key];
+        if (interval > 0)
+            this.schedule (key, this.host.getCurrentTime (), interval);
+        this.notify (key, isRepeat ? ButtonEvent.REPEAT : ButtonEvent.LONG);
+    }
+
+
+    private void notify (final int key, final ButtonEvent event)
+    {
+        try
+        {
+            this.listener.onGesture (key, event);
+        }
+        catch (final RuntimeException ex)
+        {
+            this.host.error ("Could not handle gesture.", ex);
+        }
+    }
+
+
+    private void schedule (final int key, final long now, final int delay)
+    {
+        this.unlink (key);
+
+        // The wheel is not advanced while there are no pending timeouts
+        if (this.numPending == 0)
+            this.currentTick = (now - this.startTime) / TICK;
+
+        final long deadline = Math.max (this.currentTick + 1, (now - this.startTime + delay + TICK - 1) / TICK);
+        this.deadlineTicks[key] = deadline;
+
+        final int bucket = (int) (deadline & WHEEL_MASK);
+        final int head = this.buckets[bucket];
+        this.next[key] = head;
+        this.previous[key] = NONE;
+        if (head != NONE)
+            this.previous[head] = key;
+        this.buckets[bucket] = key;
+        this.isLinked[key] = true;
+        this.numPending++;
+
+        this.scheduleTick (deadline, now);
+    }
+
+
+    private void unlink (final int key)
+    {
+        if (!this.isLinked[key])
+            return;
+
+        final int prev = this.previous[key];
+        final int nextKey = this.next[key];
+        if (prev == NONE)
+            this.buckets[(int) (this.deadlineTicks[key] & WHEEL_MASK)] = nextKey;
+        else
+            this.next[prev] = nextKey;
+        if (nextKey != NONE)
+            this.previous[nextKey] = prev;
+
+        this.isLinked[key] = false;
+        this.numPending--;
+    }
+}
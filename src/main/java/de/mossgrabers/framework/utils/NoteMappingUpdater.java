@@ -0,0 +1,78 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.scale.Scales;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+
+/**
+ * Coalesces note mapping updates of a view. All requests within a short window are collapsed into
+ * one update which calculates only the latest requested matrix and applies it to the key manager
+ * and the note input of the surface in one step. This prevents stuck notes from outdated
+ * intermediate mappings when scrolling fast through octaves or tracks.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class NoteMappingUpdater
+{
+    /** The time to wait for further requests before applying a new mapping in milliseconds. */
+    public static final int                         UPDATE_DELAY = 6;
+
+    private final IControlSurface<?>                surface;
+    private final KeyManager                        keyManager;
+    private final Scales                            scales;
+    private final AtomicReference<Supplier<int []>> pending     = new AtomicReference<> ();
+    private final AtomicBoolean                     isScheduled = new AtomicBoolean (false);
+
+
+    /**
+     * Constructor.
+     *
+     * @param surface The surface
+     * @param keyManager The key manager of the view
+     * @param scales The scales
+     */
+    public NoteMappingUpdater (final IControlSurface<?> surface, final KeyManager keyManager, final Scales scales)
+    {
+        this.surface = surface;
+        this.keyManager = keyManager;
+        this.scales = scales;
+    }
+
+
+    /**
+     * Request a new note mapping. Replaces a request which has not been applied yet.
+     *
+     * @param matrixSupplier Calculates the note matrix when the update is applied
+     */
+    public void update (final Supplier<int []> matrixSupplier)
+    {
+        this.pending.set (matrixSupplier);
+        if (this.isScheduled.compareAndSet (false, true))
+            this.surface.scheduleTask (this::apply, UPDATE_DELAY);
+    }
+
+
+    /**
+     * Apply the latest requested mapping.
+     */
+    private void apply ()
+    {
+        this.isScheduled.set (false);
+        final Supplier<int []> matrixSupplier = this.pending.getAndSet (null);
+        if (matrixSupplier == null)
+            return;
+
+        final int [] matrix = matrixSupplier.get ();
+        this.keyManager.setNoteMatrix (matrix);
+        if (matrix.length == 128)
+            this.surface.setKeyTranslationTable (this.scales.translateMatrixToGrid (matrix));
+    }
+}
@@ -0,0 +1,82 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+
+/**
+ * Hands snapshots from the host thread to a rendering thread. There are three pooled snapshots:
+ * one which is captured by the host, one which was published last and one which is read by the
+ * renderer. Publishing and taking swap the snapshots without locks and without allocating,
+ * therefore a published snapshot is never modified while it is read.
+ *
+ * @param <T> The type of the snapshots
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SnapshotBuffer<T>
+{
+    private static final int    INDEX_MASK  = 3;
+    private static final int    PUBLISHED   = 4;
+
+    private final Object []     snapshots   = new Object [3];
+    private final AtomicInteger latest      = new AtomicInteger (1);
+    private int                 captureIndex;
+    private int                 renderIndex = 2;
+    private boolean             hasRenderSnapshot;
+
+
+    /**
+     * Constructor.
+     *
+     * @param factory Creates the pooled snapshots
+     */
+    public SnapshotBuffer (final Supplier<T> factory)
+    {
+        for (int i = 0; i < this.snapshots.length; i++)
+            this.snapshots[i] = factory.get ();
+    }
+
+
+    /**
+     * Get the snapshot to capture into. Must only be called from the host thread.
+     *
+     * @return The snapshot
+     */
+    @SuppressWarnings("unchecked")
+    public T getCaptureSnapshot ()
+    {
+        return (T) this.snapshots[this.captureIndex];
+    }
+
+
+    /**
+     * Publish the captured snapshot. Must only be called from the host thread.
+     */
+    public void publish ()
+    {
+        this.captureIndex = this.latest.getAndSet (this.captureIndex | PUBLISHED) & INDEX_MASK;
+    }
+
+
+    /**
+     * Get the latest published snapshot. Must only be called from the rendering thread. The
+     * snapshot stays valid until the next call.
+     *
+     * @return The snapshot or null if none was published yet
+     */
+    @SuppressWarnings("unchecked")
+    public T take ()
+    {
+        if ((this.latest.get () & PUBLISHED) != 0)
+        {
+            this.renderIndex = this.latest.getAndSet (this.renderIndex) & INDEX_MASK;
+            this.hasRenderSnapshot = true;
+        }
+        return this.hasRenderSnapshot ? (T) this.snapshots[this.renderIndex] : null;
+    }
+}
@@ -8,13 +8,11 @@ import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.grid.PadGrid;
-import de.mossgrabers.framework.daw.DAWColors;
+import de.mossgrabers.framework.daw.DrumPadBankSnapshot;
 import de.mossgrabers.framework.daw.ICursorDevice;
-import de.mossgrabers.framework.daw.IDrumPadBank;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.INoteClip;
 import de.mossgrabers.framework.daw.ITrackBank;
-import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
@@ -198,27 +196,15 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
 
         // halfColumns x playLines Drum Pad Grid
         final ICursorDevice primary = this.model.getInstrumentDevice ();
-        final boolean hasDrumPads = primary.hasDrumPads ();
-        boolean isSoloed = false;
-        if (hasDrumPads)
-        {
-            final IDrumPadBank drumPadBank = primary.getDrumPadBank ();
-            for (int i = 0; i < this.halfColumns * this.playLines; i++)
-            {
-                if (drumPadBank.getItem (i).isSolo ())
-                {
-                    isSoloed = true;
-                    break;
-                }
-            }
-        }
+        final DrumPadBankSnapshot snapshot = primary.getDrumPadBank ().getSnapshot ();
+        final boolean isSoloed = primary.hasDrumPads () && snapshot.hasSolo (this.halfColumns * this.playLines);
         final boolean isRecording = this.model.hasRecordingState ();
         for (int y = 0; y < this.playLines; y++)
         {
             for (int x = 0; x < this.halfColumns; x++)
             {
                 final int index = this.halfColumns * y + x;
-                padGrid.lightEx (x, this.allLines - 1 - y, this.getPadColor (index, primary, isSoloed, isRecording));
+                padGrid.lightEx (x, this.allLines - 1 - y, this.getPadColor (index, snapshot, isSoloed, isRecording));
             }
         }
 
@@ -226,7 +212,7 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
     }
 
 
-    protected String getPadColor (final int index, final ICursorDevice primary, final boolean isSoloed, final boolean isRecording)
+    protected String getPadColor (final int index, final DrumPadBankSnapshot snapshot, final boolean isSoloed, final boolean isRecording)
     {
         final int offsetY = this.scales.getDrumOffset ();
 
@@ -237,19 +223,25 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
         if (this.selectedPad == index)
             return AbstractDrumView.COLOR_PAD_SELECTED;
         // Exists and active?
-        final IChannel drumPad = primary.getDrumPadBank ().getItem (index);
-        if (!drumPad.doesExist () || !drumPad.isActivated ())
+        final int flags = snapshot.getFlags (index);
+        if (!DrumPadBankSnapshot.isPlayable (flags))
             return this.surface.getConfiguration ().isTurnOffEmptyDrumPads () ? AbstractDrumView.COLOR_PAD_OFF : AbstractDrumView.COLOR_PAD_NO_CONTENT;
         // Muted or soloed?
-        if (drumPad.isMute () || isSoloed && !drumPad.isSolo ())
+        if (DrumPadBankSnapshot.isMuted (flags, isSoloed))
             return AbstractDrumView.COLOR_PAD_MUTED;
-        return this.getPadContentColor (drumPad);
+        return this.getPadContentColor (snapshot.getColorID (index));
     }
 
 
-    protected String getPadContentColor (final IChannel drumPad)
+    /**
+     * Get the color for a pad which has content.
+     *
+     * @param colorID The ID of the DAW color of the drum pad
+     * @return The color ID to use
+     */
+    protected String getPadContentColor (final String colorID)
     {
-        return DAWColors.getColorIndex (drumPad.getColor ());
+        return colorID;
     }
 
 
@@ -274,7 +266,7 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
     @Override
     public void updateNoteMapping ()
     {
-        this.delayedUpdateNoteMapping (this.canPadsBeTurnedOn () ? this.scales.getDrumMatrix () : EMPTY_TABLE);
+        this.delayedUpdateNoteMapping ( () -> this.canPadsBeTurnedOn () ? this.scales.getDrumMatrix () : EMPTY_TABLE);
     }
 
 
@@ -7,12 +7,12 @@ package de.mossgrabers.framework.view;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
-import de.mossgrabers.framework.daw.DAWColors;
+import de.mossgrabers.framework.controller.grid.PadGrid;
+import de.mossgrabers.framework.daw.DrumPadBankSnapshot;
 import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IDrumPadBank;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ITrackBank;
-import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.ButtonEvent;
@@ -146,31 +146,21 @@ public abstract class AbstractDrumView64<S extends IControlSurface<C>, C extends
 
         // halfColumns x playLines Drum Pad Grid
         final ICursorDevice drumDevice64 = this.model.getDrumDevice64 ();
-        final boolean hasDrumPads = drumDevice64.hasDrumPads ();
-        boolean isSoloed = false;
+        final DrumPadBankSnapshot snapshot = drumDevice64.getDrumPadBank ().getSnapshot ();
         final int numPads = this.rows * this.columns;
-        if (hasDrumPads)
-        {
-            for (int i = 0; i < numPads; i++)
-            {
-                if (drumDevice64.getDrumPadBank ().getItem (i).isSolo ())
-                {
-                    isSoloed = true;
-                    break;
-                }
-            }
-        }
+        final boolean isSoloed = drumDevice64.hasDrumPads () && snapshot.hasSolo (numPads);
         final boolean isRecording = this.model.hasRecordingState ();
+        final PadGrid padGrid = this.surface.getPadGrid ();
         for (int index = 0; index < numPads; index++)
         {
             final int x = index / 32 * 4 + index % 4;
             final int y = index / 4 % 8;
-            this.surface.getPadGrid ().lightEx (x, 7 - y, this.getPadColor (index, drumDevice64, isSoloed, isRecording));
+            padGrid.lightEx (x, 7 - y, this.getPadColor (index, snapshot, isSoloed, isRecording));
         }
     }
 
 
-    private String getPadColor (final int index, final ICursorDevice primary, final boolean isSoloed, final boolean isRecording)
+    private String getPadColor (final int index, final DrumPadBankSnapshot snapshot, final boolean isSoloed, final boolean isRecording)
     {
         // Playing note?
         if (this.pressedKeys[this.offsetY + index] > 0)
@@ -180,20 +170,26 @@ public abstract class AbstractDrumView64<S extends IControlSurface<C>, C extends
             return AbstractDrumView.COLOR_PAD_SELECTED;
 
         // Exists and active?
-        final IChannel drumPad = primary.getDrumPadBank ().getItem (index);
-        if (!drumPad.doesExist () || !drumPad.isActivated ())
+        final int flags = snapshot.getFlags (index);
+        if (!DrumPadBankSnapshot.isPlayable (flags))
             return this.surface.getConfiguration ().isTurnOffEmptyDrumPads () ? AbstractDrumView.COLOR_PAD_OFF : AbstractDrumView.COLOR_PAD_NO_CONTENT;
         // Muted or soloed?
-        if (drumPad.isMute () || isSoloed && !drumPad.isSolo ())
+        if (DrumPadBankSnapshot.isMuted (flags, isSoloed))
             return AbstractDrumView.COLOR_PAD_MUTED;
 
-        return this.getPadContentColor (drumPad);
+        return this.getPadContentColor (snapshot.getColorID (index));
     }
 
 
-    protected String getPadContentColor (final IChannel drumPad)
+    /**
+     * Get the color for a pad which has content.
+     *
+     * @param colorID The ID of the DAW color of the drum pad
+     * @return The color ID to use
+     */
+    protected String getPadContentColor (final String colorID)
     {
-        return DAWColors.getColorIndex (drumPad.getColor ());
+        return colorID;
     }
 
 
@@ -209,7 +205,7 @@ public abstract class AbstractDrumView64<S extends IControlSurface<C>, C extends
     public void updateNoteMapping ()
     {
         final boolean turnOn = this.model.canSelectedTrackHoldNotes () && !this.surface.isSelectPressed () && !this.surface.isDeletePressed () && !this.surface.isMutePressed () && !this.surface.isSoloPressed ();
-        this.delayedUpdateNoteMapping (turnOn ? this.getDrumMatrix () : EMPTY_TABLE);
+        this.delayedUpdateNoteMapping ( () -> turnOn ? this.getDrumMatrix () : EMPTY_TABLE);
     }
 
 
@@ -236,7 +236,7 @@ public abstract class AbstractNoteSequencerView<S extends IControlSurface<C>, C
 
     protected void updateScale ()
     {
-        this.delayedUpdateNoteMapping (this.model.canSelectedTrackHoldNotes () ? this.scales.getSequencerMatrix (8, this.offsetY) : EMPTY_TABLE);
+        this.delayedUpdateNoteMapping ( () -> this.model.canSelectedTrackHoldNotes () ? this.scales.getSequencerMatrix (8, this.offsetY) : EMPTY_TABLE);
     }
 
 
@@ -12,8 +12,6 @@ import de.mossgrabers.framework.daw.ITrackBank;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
-import java.util.Arrays;
-
 
 /**
  * Abstract implementation for a play grid.
@@ -32,7 +30,6 @@ public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends C
     /** ID of the color to use when a pad does not contain a note. */
     public static final String COLOR_OFF    = "PLAY_VIEW_COLOR_OFF";
 
-    protected final int []     defaultVelocity;
     protected final boolean    useTrackColor;
 
 
@@ -63,10 +60,6 @@ public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends C
 
         this.useTrackColor = useTrackColor;
 
-        this.defaultVelocity = new int [128];
-        for (int i = 0; i < 128; i++)
-            this.defaultVelocity[i] = i;
-
         final ITrackBank tb = model.getTrackBank ();
         tb.addSelectionObserver ( (index, isSelected) -> this.keyManager.clearPressedKeys ());
         tb.addNoteObserver (this.keyManager::call);
@@ -152,19 +145,15 @@ public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends C
     @Override
     public void updateNoteMapping ()
     {
-        this.delayedUpdateNoteMapping (this.model.canSelectedTrackHoldNotes () ? this.scales.getNoteMatrix () : EMPTY_TABLE);
+        this.delayedUpdateNoteMapping ( () -> this.model.canSelectedTrackHoldNotes () ? this.scales.getNoteMatrix () : EMPTY_TABLE);
     }
 
 
     /**
-     * Updates the velocity transition table based on the fixed accent value.
+     * Updates the velocity transition table based on the fixed accent value and the velocity curve.
      */
     protected void initMaxVelocity ()
     {
-        final int [] maxVelocity = new int [128];
-        final Configuration config = this.surface.getConfiguration ();
-        Arrays.fill (maxVelocity, config.getFixedAccentValue ());
-        maxVelocity[0] = 0;
-        this.surface.setVelocityTranslationTable (config.isAccentActive () ? maxVelocity : this.defaultVelocity);
+        this.surface.setVelocityTranslationTable (this.surface.getConfiguration ().getVelocityTable ());
     }
 }
\ No newline at end of file
@@ -12,13 +12,14 @@ import de.mossgrabers.framework.controller.grid.PadGrid;
 import de.mossgrabers.framework.daw.DAWColors;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ISceneBank;
-import de.mossgrabers.framework.daw.ISlotBank;
+import de.mossgrabers.framework.daw.SessionSnapshot;
 import de.mossgrabers.framework.daw.ITrackBank;
 import de.mossgrabers.framework.daw.data.IScene;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.Pair;
+import de.mossgrabers.framework.utils.SnapshotBuffer;
 
 
 /**
@@ -32,27 +33,29 @@ import de.mossgrabers.framework.utils.Pair;
 public abstract class AbstractSessionView<S extends IControlSurface<C>, C extends Configuration> extends AbstractView<S, C> implements SceneView
 {
     /** The color for a scene. */
-    public static final String COLOR_SCENE                = "COLOR_SCENE";
+    public static final String                    COLOR_SCENE                = "COLOR_SCENE";
     /** The color for a selected scene. */
-    public static final String COLOR_SELECTED_SCENE       = "COLOR_SELECTED_SCENE";
+    public static final String                    COLOR_SELECTED_SCENE       = "COLOR_SELECTED_SCENE";
     /** The color for no scene. */
-    public static final String COLOR_SCENE_OFF            = "COLOR_SELECTED_OFF";
+    public static final String                    COLOR_SCENE_OFF            = "COLOR_SELECTED_OFF";
 
     // Needs to be overwritten with device specific colors
-    protected SessionColor     clipColorIsRecording       = new SessionColor (0, -1, false);
-    protected SessionColor     clipColorIsRecordingQueued = new SessionColor (1, -1, false);
-    protected SessionColor     clipColorIsPlaying         = new SessionColor (2, -1, false);
-    protected SessionColor     clipColorIsPlayingQueued   = new SessionColor (3, -1, false);
-    protected SessionColor     clipColorHasContent        = new SessionColor (4, -1, false);
-    protected SessionColor     clipColorHasNoContent      = new SessionColor (5, -1, false);
-    protected SessionColor     clipColorIsRecArmed        = new SessionColor (6, -1, false);
+    protected SessionColor                        clipColorIsRecording       = new SessionColor (0, -1, false);
+    protected SessionColor                        clipColorIsRecordingQueued = new SessionColor (1, -1, false);
+    protected SessionColor                        clipColorIsPlaying         = new SessionColor (2, -1, false);
+    protected SessionColor                        clipColorIsPlayingQueued   = new SessionColor (3, -1, false);
+    protected SessionColor                        clipColorHasContent        = new SessionColor (4, -1, false);
+    protected SessionColor                        clipColorHasNoContent      = new SessionColor (5, -1, false);
+    protected SessionColor                        clipColorIsRecArmed        = new SessionColor (6, -1, false);
 
-    protected SessionColor     birdColorHasContent        = new SessionColor (4, -1, false);
-    protected SessionColor     birdColorSelected          = new SessionColor (2, -1, false);
+    protected SessionColor                        birdColorHasContent        = new SessionColor (4, -1, false);
+    protected SessionColor                        birdColorSelected          = new SessionColor (2, -1, false);
 
-    protected int              rows;
-    protected int              columns;
-    protected boolean          useClipColor;
+    protected int                                 rows;
+    protected int                                 columns;
+    protected boolean                             useClipColor;
+
+    private final SnapshotBuffer<SessionSnapshot> snapshots                  = new SnapshotBuffer<> (SessionSnapshot::new);
 
 
     /**
@@ -192,6 +195,15 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void captureSnapshot ()
+    {
+        this.snapshots.getCaptureSnapshot ().capture (this.model.getCurrentTrackBank ());
+        this.snapshots.publish ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void drawGrid ()
@@ -220,18 +232,32 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
      */
     protected void drawSessionGrid ()
     {
-        final ITrackBank tb = this.model.getCurrentTrackBank ();
+        final SessionSnapshot snapshot = this.getSessionSnapshot ();
+        if (snapshot == null)
+            return;
         final boolean flipSession = this.surface.getConfiguration ().isFlipSession ();
-        for (int x = 0; x < this.columns; x++)
+        final int numTracks = Math.min (this.columns, snapshot.getNumTracks ());
+        final int numSlots = Math.min (this.rows, snapshot.getNumSlots ());
+        for (int x = 0; x < numTracks; x++)
         {
-            final ITrack t = tb.getItem (x);
-            final ISlotBank slotBank = t.getSlotBank ();
-            for (int y = 0; y < this.rows; y++)
-                this.drawPad (slotBank.getItem (y), flipSession ? y : x, flipSession ? x : y, t.isRecArm ());
+            for (int y = 0; y < numSlots; y++)
+                this.drawPad (snapshot.getSlot (x, y), flipSession ? y : x, flipSession ? x : y, snapshot.isRecArm (x));
         }
     }
 
 
+    /**
+     * Get the latest snapshot of the clip slots, which was captured on the host thread. Only call
+     * it while drawing the grid.
+     *
+     * @return The snapshot or null if none was captured yet
+     */
+    protected SessionSnapshot getSessionSnapshot ()
+    {
+        return this.snapshots.take ();
+    }
+
+
     /**
      * Aggregate the content of 8 pads to 1 pads for quick navigation through the clip matrix.
      */
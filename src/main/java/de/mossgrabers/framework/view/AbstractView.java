@@ -16,12 +16,18 @@ import de.mossgrabers.framework.daw.DAWColors;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.mode.Mode;
+import de.mossgrabers.framework.observer.ModelFacet;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.KeyManager;
+import de.mossgrabers.framework.utils.NoteMappingUpdater;
 
+import java.util.Collections;
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 
 
 /**
@@ -42,6 +48,7 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     protected final IModel                                    model;
     protected final Scales                                    scales;
     protected final KeyManager                                keyManager;
+    private final NoteMappingUpdater                          noteMappingUpdater;
 
     private AftertouchCommand                                 aftertouchCommand;
     private PitchbendCommand                                  pitchbendCommand;
@@ -49,6 +56,7 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     private final Map<TriggerCommandID, TriggerCommand>       triggerCommands    = new EnumMap<> (TriggerCommandID.class);
     private final Map<TriggerCommandID, TriggerCommand>       noteCommands       = new EnumMap<> (TriggerCommandID.class);
     private final Map<ContinuousCommandID, ContinuousCommand> continuousCommands = new EnumMap<> (ContinuousCommandID.class);
+    private final Set<ModelFacet>                             requiredFacets     = EnumSet.noneOf (ModelFacet.class);
 
     protected boolean                                         canScrollLeft;
     protected boolean                                         canScrollRight;
@@ -70,6 +78,7 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
         this.model = model;
         this.scales = model.getScales ();
         this.keyManager = new KeyManager (model, surface.getPadGrid ());
+        this.noteMappingUpdater = new NoteMappingUpdater (surface, this.keyManager, this.scales);
 
         this.canScrollLeft = true;
         this.canScrollRight = true;
@@ -102,6 +111,33 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void captureSnapshot ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public Set<ModelFacet> getRequiredFacets ()
+    {
+        return this.requiredFacets;
+    }
+
+
+    /**
+     * Declare parts of the model which are read by this view.
+     *
+     * @param facets The facets
+     */
+    protected void requireFacets (final ModelFacet... facets)
+    {
+        Collections.addAll (this.requiredFacets, facets);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void selectTrack (final int index)
@@ -328,13 +364,26 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     }
 
 
+    /**
+     * Update the note mapping of the key manager and the note input after a short delay.
+     *
+     * @param matrix The note matrix to apply
+     */
     protected void delayedUpdateNoteMapping (final int [] matrix)
     {
-        this.surface.scheduleTask ( () -> {
-            this.keyManager.setNoteMatrix (matrix);
-            if (matrix.length == 128)
-                this.surface.setKeyTranslationTable (this.scales.translateMatrixToGrid (matrix));
-        }, 6);
+        this.noteMappingUpdater.update ( () -> matrix);
+    }
+
+
+    /**
+     * Update the note mapping of the key manager and the note input after a short delay. If there
+     * are several updates during the delay only the last matrix is calculated and applied.
+     *
+     * @param matrixSupplier Calculates the note matrix to apply
+     */
+    protected void delayedUpdateNoteMapping (final Supplier<int []> matrixSupplier)
+    {
+        this.noteMappingUpdater.update (matrixSupplier);
     }
 
 
@@ -10,8 +10,11 @@ import de.mossgrabers.framework.command.core.AftertouchCommand;
 import de.mossgrabers.framework.command.core.ContinuousCommand;
 import de.mossgrabers.framework.command.core.PitchbendCommand;
 import de.mossgrabers.framework.command.core.TriggerCommand;
+import de.mossgrabers.framework.observer.ModelFacet;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
+import java.util.Set;
+
 
 /**
  * Interface to a view. A view contains a grid of pads and a number of buttons to which commands can
@@ -41,6 +44,15 @@ public interface View
     void onDeactivate ();
 
 
+    /**
+     * Get the parts of the model which are read by this view. Their observers only need to be
+     * subscribed while the view is active.
+     *
+     * @return The facets
+     */
+    Set<ModelFacet> getRequiredFacets ();
+
+
     /**
      * Registers a command for this view.
      *
@@ -165,6 +177,13 @@ public interface View
     PitchbendCommand getPitchbendCommand ();
 
 
+    /**
+     * Copy the values of the model, which are required to draw the pad grid, into a snapshot.
+     * Called on the host thread before the flush is executed on the flush thread.
+     */
+    void captureSnapshot ();
+
+
     /**
      * Draw the pad grid.
      */
@@ -0,0 +1,384 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeFalse;
+
+import de.mossgrabers.controller.apc.APCControllerSetup;
+import de.mossgrabers.controller.apcmini.APCminiControllerSetup;
+import de.mossgrabers.controller.autocolor.AutoColorSetup;
+import de.mossgrabers.controller.beatstep.BeatstepControllerSetup;
+import de.mossgrabers.controller.generic.GenericFlexiControllerSetup;
+import de.mossgrabers.controller.hui.HUIControllerSetup;
+import de.mossgrabers.controller.kontrol.mkii.KontrolProtocolControllerSetup;
+import de.mossgrabers.controller.launchkey.LaunchkeyMiniMk3ControllerSetup;
+import de.mossgrabers.controller.launchpad.LaunchpadControllerSetup;
+import de.mossgrabers.controller.launchpad.definition.LaunchpadMiniMkIIIControllerDefinition;
+import de.mossgrabers.controller.launchpad.definition.LaunchpadMkIIControllerDefinition;
+import de.mossgrabers.controller.launchpad.definition.LaunchpadProControllerDefinition;
+import de.mossgrabers.controller.launchpad.definition.LaunchpadXControllerDefinition;
+import de.mossgrabers.controller.maschine.mikro.mk3.MaschineMikroMk3ControllerSetup;
+import de.mossgrabers.controller.mcu.MCUControllerSetup;
+import de.mossgrabers.controller.midimonitor.MidiMonitorSetup;
+import de.mossgrabers.controller.osc.OSCControllerSetup;
+import de.mossgrabers.controller.push.PushControllerSetup;
+import de.mossgrabers.controller.sl.SLControllerSetup;
+import de.mossgrabers.controller.slmkiii.SLMkIIIControllerSetup;
+import de.mossgrabers.framework.daw.midi.MidiCaptureWriter;
+import de.mossgrabers.framework.daw.midi.MidiEventRing;
+import de.mossgrabers.framework.replay.MidiReplayer;
+import de.mossgrabers.framework.replay.ReplayReport;
+import de.mossgrabers.framework.replay.SetupCreator;
+import de.mossgrabers.framework.utils.OperatingSystem;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+
+/**
+ * Replays a capture into each of the shipped midi controller setups, which run without a DAW. The
+ * capture presses and releases all notes and sets all CCs on the first midi channel. A setup must
+ * neither crash during initialization and startup nor while handling the events. Errors which
+ * report input that the controller does not send, e.g. an unregistered CC, are accepted.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ReplaySmokeTest
+{
+    /** The time between two events of the capture, 10ms. */
+    private static final long STEP = 10000000L;
+
+    private static File       captureFile;
+
+
+    /**
+     * Create the capture.
+     *
+     * @throws IOException Could not write the capture
+     */
+    @BeforeClass
+    public static void createCapture () throws IOException
+    {
+        captureFile = File.createTempFile ("smoke", ".midc");
+        try (final MidiCaptureWriter writer = new MidiCaptureWriter (captureFile))
+        {
+            long time = 0;
+            for (int i = 0; i < 128; i++)
+            {
+                writer.writeShort (time += STEP, MidiEventRing.TYPE_SHORT_IN, 0x90, i, 127);
+                writer.writeShort (time += STEP, MidiEventRing.TYPE_SHORT_IN, 0x80, i, 0);
+            }
+            for (int i = 0; i < 128; i++)
+            {
+                writer.writeShort (time += STEP, MidiEventRing.TYPE_SHORT_IN, 0xB0, i, 127);
+                writer.writeShort (time += STEP, MidiEventRing.TYPE_SHORT_IN, 0xB0, i, 0);
+            }
+            writer.writeShort (time += STEP, MidiEventRing.TYPE_SHORT_IN, 0xE0, 0, 127);
+            writer.writeShort (time + STEP, MidiEventRing.TYPE_SHORT_IN, 0xE0, 0, 64);
+        }
+    }
+
+
+    /**
+     * Delete the capture.
+     */
+    @AfterClass
+    public static void deleteCapture ()
+    {
+        if (captureFile != null && !captureFile.delete ())
+            captureFile.deleteOnExit ();
+    }
+
+
+    /**
+     * Replay into the APC40.
+     *
+     * @throws IOException Could not read the capture
+     */
+    @Test
+    public void testAPC40 () throws IOException
+    {
+        assertReplay ( (host, factory, globalSettings, documentSettings) -> new APCControllerSetup (host, factory, globalSettings, documentSettings, false));
+    }
+
+
+    /**
+     * Replay into the APC40 mkII.
+     *
+     * @throws IOException Could not read the capture
+     */
+    @Test
+    public void testAPC40mkII () throws IOException
+    {
+        assertReplay ( (host, factory, globalSettings, documentSettings) -> new APCControllerSetup (host, factory, globalSettings, documentSettings, true));
+    }
+
+
+    /**
+     * Replay into the APCmini.
+     *
+     * @throws IOException Could not read the capture
+     */
+    @Test
+    public void testAPCmini () throws IOException
+    {
+        assertReplay (APCminiControllerSetup::new);
+    }
+
+
+    /**
+     * Replay into the auto color extension.
+     *
+     * @throws IOException Could not read the capture
+     */
+    @Test
+    public void testAutoColor () throws IOException
+    {
+        assertReplay (AutoColorSetup::new);
+    }
+
+
+    /**
+     * Replay into the Beatstep.
+     *
+     * @throws IOException Could not read the capture
+     */
+    @Test
+    public void testBeatstep () throws IOException
+    {
+        assertReplay ( (host, factory, globalSettings, documentSettings) -> new BeatstepControllerSetup (host, factory, globalSettings, documentSettings, false));
+    }
+
+
+    /**
+     * Replay into the Beatstep Pro.
+     *
+     * @throws IOException Could not read the capture
+     */
+    @Test
+    public void testBeatstepPro () throws IOException
+    {
+        assertReplay ( (host, factory, globalSettings, documentSettings) -> new BeatstepControllerSetup (host, factory, globalSettings, documentSettings, true));
+    }
+
+
+    /**
+     * Replay into the Generic Flexi.
+     *
+     * @throws IOException Could not read the capture
+     */
+    @Test
+    public void testGenericFlexi () throws IOException
+    {
+        assertReplay (GenericFlexiControllerSetup::new);
+    }
+
+
+    /**
+     * Replay into the HUI.
+     *
+     * @throws IOException Could not read the capture
+     */
+    @Test
+    public void testHUI () throws IOException
+    {
+        assertReplay (HUIControllerSetup::new);
+    }
+
+
+    /**
+     * Replay into the Komplete Kontrol mkII protocol. Not available on Linux since there is no
+     * Native Instruments DAW Integration Host.
+     *
+     * @throws IOException Could not read the capture
+     */
+    @Test
+    public void testKontrolProtocol () throws IOException
+    {
+        assumeFalse (OperatingSystem.get () == OperatingSystem.LINUX);
+        assertReplay ( (host, factory, globalSettings, documentSettings) -> new KontrolProtocolControllerSetup (host, factory, globalSettings, documentSettings, 1));
+    }
+
+
+    /**
+     * Replay into the Launchkey Mini Mk3.
+     *
+     * @throws IOException Could not read the capture
+     */
+    @Test
+    public void testLaunchkeyMiniMk3 () throws IOException
+    {
+        assertReplay (LaunchkeyMiniMk3ControllerSetup::new);
+    }
+
+
+    /**
+     * Replay into the Launchpad MkII.
+     *
+     * @throws IOException Could not read the capture
+     */
+    @Test
+    public void testLaunchpadMkII () throws IOException
+    {
+        assertReplay ( (host, factory, globalSettings, documentSettings) -> new LaunchpadControllerSetup (host, factory, globalSettings, documentSettings, new LaunchpadMkIIControllerDefinition ()));
+    }
+
+
+    /**
+     * Replay into the Launchpad Mini MkIII.
+     *
+     * @throws IOException Could not read the capture
+     */
+    @Test
+    public void testLaunchpadMiniMkIII () throws IOException
+    {
+        assertReplay ( (host, factory, globalSettings, documentSettings) -> new LaunchpadControllerSetup (host, factory, globalSettings, documentSettings, new LaunchpadMiniMkIIIControllerDefinition ()));
+    }
+
+
+    /**
+     * Replay into the Launchpad Pro.
+     *
+     * @throws IOException Could not read the capture
+     */
+    @Test
+    public void testLaunchpadPro () throws IOException
+    {
+        assertReplay ( (host, factory, globalSettings, documentSettings) -> new LaunchpadControllerSetup (host, factory, globalSettings, documentSettings, new LaunchpadProControllerDefinition ()));
+    }
+
+
+    /**
+     * Replay into the Launchpad X.
+     *
+     * @throws IOException Could not read the capture
+     */
+    @Test
+    public void testLaunchpadX () throws IOException
+    {
+        assertReplay ( (host, factory, globalSettings, documentSettings) -> new LaunchpadControllerSetup (host, factory, globalSettings, documentSettings, new LaunchpadXControllerDefinition ()));
+    }
+
+
+    /**
+     * Replay into the Maschine Mikro Mk3.
+     *
+     * @throws IOException Could not read the capture
+     */
+    @Test
+    public void testMaschineMikroMk3 () throws IOException
+    {
+        assertReplay (MaschineMikroMk3ControllerSetup::new);
+    }
+
+
+    /**
+     * Replay into the MCU.
+     *
+     * @throws IOException Could not read the capture
+     */
+    @Test
+    public void testMCU () throws IOException
+    {
+        assertReplay ( (host, factory, globalSettings, documentSettings) -> new MCUControllerSetup (host, factory, globalSettings, documentSettings, 1));
+    }
+
+
+    /**
+     * Replay into the midi monitor.
+     *
+     * @throws IOException Could not read the capture
+     */
+    @Test
+    public void testMidiMonitor () throws IOException
+    {
+        assertReplay (MidiMonitorSetup::new);
+    }
+
+
+    /**
+     * Replay into the OSC extension.
+     *
+     * @throws IOException Could not read the capture
+     */
+    @Test
+    public void testOSC () throws IOException
+    {
+        assertReplay (OSCControllerSetup::new);
+    }
+
+
+    /**
+     * Replay into the Push 1.
+     *
+     * @throws IOException Could not read the capture
+     */
+    @Test
+    public void testPush1 () throws IOException
+    {
+        assertReplay ( (host, factory, globalSettings, documentSettings) -> new PushControllerSetup (host, factory, globalSettings, documentSettings, false));
+    }
+
+
+    /**
+     * Replay into the Push 2.
+     *
+     * @throws IOException Could not read the capture
+     */
+    @Test
+    public void testPush2 () throws IOException
+    {
+        assertReplay ( (host, factory, globalSettings, documentSettings) -> new PushControllerSetup (host, factory, globalSettings, documentSettings, true));
+    }
+
+
+    /**
+     * Replay into the SL MkI.
+     *
+     * @throws IOException Could not read the capture
+     */
+    @Test
+    public void testSLMkI () throws IOException
+    {
+        assertReplay ( (host, factory, globalSettings, documentSettings) -> new SLControllerSetup (host, factory, globalSettings, documentSettings, false));
+    }
+
+
+    /**
+     * Replay into the SL MkII.
+     *
+     * @throws IOException Could not read the capture
+     */
+    @Test
+    public void testSLMkII () throws IOException
+    {
+        assertReplay ( (host, factory, globalSettings, documentSettings) -> new SLControllerSetup (host, factory, globalSettings, documentSettings, true));
+    }
+
+
+    /**
+     * Replay into the SL MkIII.
+     *
+     * @throws IOException Could not read the capture
+     */
+    @Test
+    public void testSLMkIII () throws IOException
+    {
+        assertReplay (SLMkIIIControllerSetup::new);
+    }
+
+
+    private static void assertReplay (final SetupCreator creator) throws IOException
+    {
+        final MidiReplayer replayer = new MidiReplayer (creator, System.out, false);
+        final ReplayReport report = replayer.replay (captureFile, MidiReplayer.MAX_SPEED);
+        assertEquals ("Crashes during the replay.", 0, report.getNumCrashes ());
+    }
+}
@@ -0,0 +1,314 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.kontrol.mki.controller;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Feeds the recorded UI input reports of the Komplete Kontrol 1 through the decoder and compares
+ * the delivered events with the expected ones.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class Kontrol1InputDecoderTest
+{
+    private static final String     REPORTS      = "kontrol1-ui-reports.txt";
+
+    private static final int []     TEST_BITS    =
+    {
+        0x01,
+        0x02,
+        0x04,
+        0x08,
+        0x10,
+        0x20,
+        0x40,
+        0x80
+    };
+
+    private static final int [] [] BUTTON_BYTES =
+    {
+        {
+            Kontrol1ControlSurface.BUTTON_MAIN_ENCODER,
+            Kontrol1ControlSurface.BUTTON_PRESET_UP,
+            Kontrol1ControlSurface.BUTTON_ENTER,
+            Kontrol1ControlSurface.BUTTON_PRESET_DOWN,
+            Kontrol1ControlSurface.BUTTON_BROWSE,
+            Kontrol1ControlSurface.BUTTON_INSTANCE,
+            Kontrol1ControlSurface.BUTTON_OCTAVE_DOWN,
+            Kontrol1ControlSurface.BUTTON_OCTAVE_UP
+        },
+        {
+            Kontrol1ControlSurface.BUTTON_STOP,
+            Kontrol1ControlSurface.BUTTON_REC,
+            Kontrol1ControlSurface.BUTTON_PLAY,
+            Kontrol1ControlSurface.BUTTON_NAVIGATE_RIGHT,
+            Kontrol1ControlSurface.BUTTON_NAVIGATE_DOWN,
+            Kontrol1ControlSurface.BUTTON_NAVIGATE_LEFT,
+            Kontrol1ControlSurface.BUTTON_BACK,
+            Kontrol1ControlSurface.BUTTON_NAVIGATE_UP
+        },
+        {
+            Kontrol1ControlSurface.BUTTON_SHIFT,
+            Kontrol1ControlSurface.BUTTON_SCALE,
+            Kontrol1ControlSurface.BUTTON_ARP,
+            Kontrol1ControlSurface.BUTTON_LOOP,
+            Kontrol1ControlSurface.BUTTON_PAGE_RIGHT,
+            Kontrol1ControlSurface.BUTTON_PAGE_LEFT,
+            Kontrol1ControlSurface.BUTTON_RWD,
+            Kontrol1ControlSurface.BUTTON_FWD
+        },
+        {
+            Kontrol1ControlSurface.TOUCH_ENCODER_1,
+            Kontrol1ControlSurface.TOUCH_ENCODER_2,
+            Kontrol1ControlSurface.TOUCH_ENCODER_3,
+            Kontrol1ControlSurface.TOUCH_ENCODER_4,
+            Kontrol1ControlSurface.TOUCH_ENCODER_5,
+            Kontrol1ControlSurface.TOUCH_ENCODER_6,
+            Kontrol1ControlSurface.TOUCH_ENCODER_7,
+            Kontrol1ControlSurface.TOUCH_ENCODER_8
+        },
+        {
+            Kontrol1ControlSurface.TOUCH_ENCODER_MAIN
+        }
+    };
+
+    private Kontrol1ReportFixture   fixture;
+
+
+    /**
+     * Load the recorded reports.
+     *
+     * @throws IOException Could not load the reports
+     */
+    @Before
+    public void setUp () throws IOException
+    {
+        this.fixture = Kontrol1ReportFixture.load (REPORTS);
+    }
+
+
+    /**
+     * The batched events must be the expected ones.
+     */
+    @Test
+    public void testBatchedEvents ()
+    {
+        final EventLog log = new EventLog ();
+        this.fixture.replay (log, true);
+
+        final String [] expected =
+        {
+            button (Kontrol1ControlSurface.BUTTON_SHIFT, true),
+            button (Kontrol1ControlSurface.BUTTON_PLAY, true),
+            button (Kontrol1ControlSurface.BUTTON_PLAY, false),
+            button (Kontrol1ControlSurface.BUTTON_SHIFT, false),
+            button (Kontrol1ControlSurface.BUTTON_STOP, true),
+            button (Kontrol1ControlSurface.BUTTON_REC, true),
+            button (Kontrol1ControlSurface.BUTTON_STOP, false),
+            button (Kontrol1ControlSurface.BUTTON_REC, false),
+            button (Kontrol1ControlSurface.TOUCH_ENCODER_1, true),
+            encoder (0, true),
+            button (Kontrol1ControlSurface.TOUCH_ENCODER_1, false),
+            encoder (0, false),
+            encoder (1, false),
+            encoder (1, false),
+            encoder (1, true),
+            mainEncoder (true),
+            mainEncoder (true),
+            mainEncoder (true),
+            mainEncoder (false),
+            button (Kontrol1ControlSurface.BUTTON_OCTAVE_UP, true),
+            button (Kontrol1ControlSurface.TOUCH_ENCODER_MAIN, true),
+            button (Kontrol1ControlSurface.BUTTON_OCTAVE_UP, false),
+            keyboard (60),
+            button (Kontrol1ControlSurface.TOUCH_ENCODER_MAIN, false)
+        };
+        assertEquals (Arrays.asList (expected), log.events);
+    }
+
+
+    /**
+     * The batched events must be the state changes of the events which were sent for each report
+     * before the reports were decoded by changes.
+     */
+    @Test
+    public void testBatchedEventsMatchReference ()
+    {
+        final EventLog log = new EventLog ();
+        this.fixture.replay (log, true);
+
+        final ReferenceDecoder reference = new ReferenceDecoder ();
+        for (final byte [] data: this.fixture.getReports ())
+            reference.decode (data);
+
+        assertEquals (reference.events, log.events);
+    }
+
+
+    /**
+     * Delivering the events after each report must give the same events as delivering them
+     * batched.
+     */
+    @Test
+    public void testSingleEventsMatchBatched ()
+    {
+        final EventLog batched = new EventLog ();
+        this.fixture.replay (batched, true);
+        final EventLog single = new EventLog ();
+        this.fixture.replay (single, false);
+
+        assertEquals (batched.events, single.events);
+    }
+
+
+    private static String button (final int buttonID, final boolean isPressed)
+    {
+        return "button " + buttonID + " " + isPressed;
+    }
+
+
+    private static String mainEncoder (final boolean valueIncreased)
+    {
+        return "main " + valueIncreased;
+    }
+
+
+    private static String encoder (final int encIndex, final boolean valueIncreased)
+    {
+        return "encoder " + encIndex + " " + valueIncreased;
+    }
+
+
+    private static String keyboard (final int firstNote)
+    {
+        return "keyboard " + firstNote;
+    }
+
+
+    /**
+     * Records the events as text.
+     */
+    private static class EventLog implements UIChangeCallback
+    {
+        final List<String> events = new ArrayList<> ();
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void buttonChange (final int buttonID, final boolean isPressed)
+        {
+            this.events.add (button (buttonID, isPressed));
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void mainEncoderChanged (final boolean valueIncreased)
+        {
+            this.events.add (mainEncoder (valueIncreased));
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void encoderChanged (final int encIndex, final boolean valueIncreased)
+        {
+            this.events.add (encoder (encIndex, valueIncreased));
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void keyboardChanged (final int firstNote)
+        {
+            this.events.add (keyboard (firstNote));
+        }
+    }
+
+
+    /**
+     * The former decoding, which sent the state of all buttons with each report. Only the state
+     * changes of the buttons are logged.
+     */
+    private static class ReferenceDecoder
+    {
+        final List<String>                  events          = new ArrayList<> ();
+        private final Map<Integer, Boolean> buttonStates    = new HashMap<> ();
+        private final int []                encoderValues   = new int [8];
+        private int                         mainEncoderValue;
+        private int                         firstNote       = 48;
+        private boolean                     isFirstStateMsg = true;
+
+
+        void decode (final byte [] data)
+        {
+            boolean encoderChange = false;
+
+            final int currentEncoderValue = Byte.toUnsignedInt (data[5]);
+            if (currentEncoderValue != this.mainEncoderValue)
+            {
+                final boolean valueIncreased = (this.mainEncoderValue < currentEncoderValue || this.mainEncoderValue == 0x0F && currentEncoderValue == 0) && !(this.mainEncoderValue == 0 && currentEncoderValue == 0x0F);
+                this.mainEncoderValue = currentEncoderValue;
+                if (!this.isFirstStateMsg)
+                    this.events.add (mainEncoder (valueIncreased));
+                encoderChange = true;
+            }
+
+            for (int encIndex = 0; encIndex < 8; encIndex++)
+            {
+                final int pos = 6 + 2 * encIndex;
+                final int value = Byte.toUnsignedInt (data[pos]) | Byte.toUnsignedInt (data[pos + 1]) << 8;
+                final int hValue = Byte.toUnsignedInt (data[pos + 1]);
+                if (this.encoderValues[encIndex] != value)
+                {
+                    final int prevHValue = (this.encoderValues[encIndex] & 0xF00) >> 8;
+                    final boolean valueIncreased = (this.encoderValues[encIndex] < value || prevHValue == 3 && hValue == 0) && !(prevHValue == 0 && hValue == 3);
+                    this.encoderValues[encIndex] = value;
+                    if (!this.isFirstStateMsg)
+                        this.events.add (encoder (encIndex, valueIncreased));
+                    encoderChange = true;
+                }
+            }
+
+            this.isFirstStateMsg = false;
+
+            final int numButtonBytes = encoderChange ? 3 : BUTTON_BYTES.length;
+            for (int i = 0; i < numButtonBytes; i++)
+                this.testByteForButtons (data[i], BUTTON_BYTES[i]);
+
+            if (this.firstNote != data[36])
+            {
+                this.firstNote = data[36];
+                this.events.add (keyboard (this.firstNote));
+            }
+        }
+
+
+        private void testByteForButtons (final byte b, final int [] buttons)
+        {
+            final int t = Byte.toUnsignedInt (b);
+            for (int i = 0; i < buttons.length; i++)
+            {
+                final int buttonID = buttons[i];
+                final boolean isPressed = (t & TEST_BITS[i]) > 0;
+                final Boolean previous = this.buttonStates.put (Integer.valueOf (buttonID), Boolean.valueOf (isPressed));
+                if (isPressed != (previous != null && previous.booleanValue ()))
+                    this.events.add (button (buttonID, isPressed));
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.kontrol.mki.controller;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Records UI input reports of the Komplete Kontrol 1 and replays them through a new decoder. This
+ * allows to check that the events are the same if reports are delivered one by one or batched.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class Kontrol1ReportFixture
+{
+    private final List<byte []> reports = new ArrayList<> ();
+
+
+    /**
+     * Load reports from a resource. Each line contains one report as hex bytes separated by
+     * spaces. Empty lines and lines starting with '#' are ignored.
+     *
+     * @param resource The name of the resource, relative to this class
+     * @return The fixture with the loaded reports
+     * @throws IOException Could not read the resource
+     */
+    public static Kontrol1ReportFixture load (final String resource) throws IOException
+    {
+        final Kontrol1ReportFixture fixture = new Kontrol1ReportFixture ();
+        final InputStream in = Kontrol1ReportFixture.class.getResourceAsStream (resource);
+        if (in == null)
+            throw new IOException ("Resource not found: " + resource);
+        try (final BufferedReader reader = new BufferedReader (new InputStreamReader (in, StandardCharsets.UTF_8)))
+        {
+            String line;
+            while ((line = reader.readLine ()) != null)
+            {
+                line = line.trim ();
+                if (line.isEmpty () || line.startsWith ("#"))
+                    continue;
+                final String [] parts = line.split ("\\s+");
+                final byte [] data = new byte [parts.length];
+                for (int i = 0; i < parts.length; i++)
+                    data[i] = (byte) Integer.parseInt (parts[i], 16);
+                fixture.add (data);
+            }
+        }
+        return fixture;
+    }
+
+
+    /**
+     * Get a copy of the recorded reports.
+     *
+     * @return The reports
+     */
+    public synchronized List<byte []> getReports ()
+    {
+        return new ArrayList<> (this.reports);
+    }
+
+
+    /**
+     * Record a report.
+     *
+     * @param data The data of the report, gets copied
+     */
+    public synchronized void record (final byte [] data)
+    {
+        this.reports.add (data.clone ());
+    }
+
+
+    /**
+     * Add a report, e.g. one which was captured before.
+     *
+     * @param data The data of the report
+     */
+    public synchronized void add (final byte [] data)
+    {
+        this.reports.add (data);
+    }
+
+
+    /**
+     * Get the number of recorded reports.
+     *
+     * @return The number of reports
+     */
+    public synchronized int size ()
+    {
+        return this.reports.size ();
+    }
+
+
+    /**
+     * Remove all recorded reports.
+     */
+    public synchronized void clear ()
+    {
+        this.reports.clear ();
+    }
+
+
+    /**
+     * Replay all reports through a new decoder.
+     *
+     * @param callback The callback which receives the events
+     * @param isBatched If true, all reports are decoded first and the events are delivered at once,
+     *            otherwise the events are delivered after each report
+     */
+    public synchronized void replay (final UIChangeCallback callback, final boolean isBatched)
+    {
+        final Kontrol1InputDecoder decoder = new Kontrol1InputDecoder ();
+        for (final byte [] data: this.reports)
+        {
+            decoder.decode (data);
+            if (!isBatched)
+                decoder.dispatch (callback);
+        }
+        decoder.dispatch (callback);
+    }
+}